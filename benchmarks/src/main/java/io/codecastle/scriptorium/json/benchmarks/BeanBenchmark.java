@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonBeanWriter;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonName;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link JsonBeanWriter} with hand-written {@link JsonScribe} calls for the same
+ * bean.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanBenchmark {
+	
+	private static final JsonName ACTIVE = new JsonName("active");
+	private static final JsonName CREATED = new JsonName("created");
+	private static final JsonName ID = new JsonName("id");
+	private static final JsonName NAME = new JsonName("name");
+	private static final JsonName NOTE = new JsonName("note");
+	private static final JsonName SCORE = new JsonName("score");
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	private JsonBeanWriter<Bean> writer;
+	private Bean[] beans;
+	
+	@Setup
+	public void setup() {
+		builder = new StringBuilder(4096);
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		writer = JsonBeanWriter.forClass(Bean.class);
+		beans = new Bean[10];
+		for (int i = 0; i < beans.length; i++) {
+			beans[i] = new Bean(i);
+		}
+	}
+	
+	@Benchmark
+	public StringBuilder beanWriter() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (final Bean bean : beans) {
+			writer.write(scribe, bean);
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder handWritten() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (final Bean bean : beans) {
+			scribe.pushObject()
+					.key(ACTIVE).value(bean.isActive())
+					.key(CREATED).value(bean.getCreated())
+					.key(ID).value(bean.getId())
+					.key(NAME).value(bean.getName())
+					.key(NOTE).value(bean.getNote())
+					.key(SCORE).value(bean.getScore())
+			.pop();
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+	/**
+	 * The fields of {@link Records}' record, as a bean.
+	 */
+	public static final class Bean {
+		
+		private final int id;
+		
+		Bean(final int id) {
+			this.id = id;
+		}
+		
+		public boolean isActive() {
+			return true;
+		}
+		
+		public long getCreated() {
+			return 1541300000000L + id;
+		}
+		
+		public int getId() {
+			return id;
+		}
+		
+		public String getName() {
+			return Records.NAME;
+		}
+		
+		public String getNote() {
+			return Records.NOTE;
+		}
+		
+		public double getScore() {
+			return id * 0.25;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures string literal escaping through {@link JsonEscaper} for plain ASCII,
+ * escape-heavy, and non-ASCII strings of several lengths.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EscaperBenchmark {
+	
+	@Param({ "ascii", "escapes", "unicode" })
+	public String content;
+	
+	@Param({ "16", "256", "4096" })
+	public int length;
+	
+	private String string;
+	private StringBuilder builder;
+	private JsonAppender appender;
+	
+	@Setup
+	public void setup() {
+		final String pattern;
+		switch (content) {
+			case "ascii":
+				pattern = "The quick brown fox jumps over the lazy dog. ";
+				break;
+			case "escapes":
+				pattern = "a\"b\\c\nd\te\u0001";
+				break;
+			default:
+				pattern = "Gr\u00f6\u00dfe \u03a9\u03bc\u03ad\u03b3\u03b1 \u6771\u4eac ";
+		}
+		final StringBuilder generated = new StringBuilder(length);
+		while (generated.length() < length) {
+			generated.append(pattern);
+		}
+		string = generated.substring(0, length);
+		builder = new StringBuilder(length * 6);
+		appender = new JsonAppender(builder, new JsonEscaper());
+	}
+	
+	@Benchmark
+	public StringBuilder escape() throws IOException {
+		builder.setLength(0);
+		appender.escape(string);
+		return builder;
+	}
+	
+}
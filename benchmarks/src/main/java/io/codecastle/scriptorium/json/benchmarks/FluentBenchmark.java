@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.Json;
+import io.codecastle.scriptorium.json.JsonArrayDocument;
+import io.codecastle.scriptorium.json.JsonWriterPool;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares fluent {@link io.codecastle.scriptorium.json.JsonObject} chains with the
+ * equivalent raw {@link JsonScribe} calls, for a new document per operation, a pooled
+ * document, and a reused scribe.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FluentBenchmark {
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	private JsonWriterPool pool;
+	
+	@Setup
+	public void setup() {
+		builder = new StringBuilder(4096);
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		pool = new JsonWriterPool();
+	}
+	
+	@Benchmark
+	public StringBuilder fluent() throws IOException {
+		builder.setLength(0);
+		try (final JsonArrayDocument document = Json.array(builder)) {
+			for (int i = 0; i < 10; i++) {
+				Records.write(document.object(), i).then();
+			}
+		}
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder fluentPooled() throws IOException {
+		builder.setLength(0);
+		try (final JsonArrayDocument document = pool.array(builder)) {
+			for (int i = 0; i < 10; i++) {
+				Records.write(document.object(), i).then();
+			}
+		}
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder scribe() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (int i = 0; i < 10; i++) {
+			Records.write(scribe, i);
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.Json;
+import io.codecastle.scriptorium.json.JsonArray;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures deeply nested documents, alternating objects and arrays, through the raw
+ * scribe API and the fluent API.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NestingBenchmark {
+	
+	@Param({ "8", "64", "512" })
+	public int depth;
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	
+	@Setup
+	public void setup() {
+		builder = new StringBuilder(depth * 16);
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+	}
+	
+	@Benchmark
+	public StringBuilder scribe() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (int i = 0; i < depth; i++) {
+			scribe.pushObject().key("child").pushArray().value(i);
+		}
+		scribe.close();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder fluent() throws IOException {
+		builder.setLength(0);
+		nest(Json.array(builder), 0).close();
+		return builder;
+	}
+	
+	private <A extends JsonArray<A>> A nest(final A array, final int level) throws IOException {
+		if (level == depth) return array;
+		nest(array.object().key("child").array().with(level), level + 1).then().then();
+		return array;
+	}
+	
+}
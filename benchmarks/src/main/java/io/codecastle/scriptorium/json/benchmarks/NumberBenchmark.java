@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures arrays of 1024 ints, longs, floats, and doubles, written one value at a time
+ * and in bulk.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberBenchmark {
+	
+	private static final int SIZE = 1024;
+	
+	private final int[] ints = new int[SIZE];
+	private final long[] longs = new long[SIZE];
+	private final float[] floats = new float[SIZE];
+	private final double[] doubles = new double[SIZE];
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < SIZE; i++) {
+			ints[i] = random.nextInt();
+			longs[i] = random.nextLong();
+			floats[i] = random.nextFloat() * 1000;
+			doubles[i] = random.nextDouble() * Math.pow(10, random.nextInt(20) - 10);
+		}
+		builder = new StringBuilder(SIZE * 32);
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+	}
+	
+	@Benchmark
+	public StringBuilder ints() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (final int value : ints) {
+			scribe.value(value);
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder longs() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (final long value : longs) {
+			scribe.value(value);
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder floats() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (final float value : floats) {
+			scribe.value(value);
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder doubles() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray();
+		for (final double value : doubles) {
+			scribe.value(value);
+		}
+		scribe.pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder intsBulk() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray().values(ints, 0, SIZE).pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder longsBulk() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray().values(longs, 0, SIZE).pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder floatsBulk() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray().values(floats, 0, SIZE).pop();
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder doublesBulk() throws IOException {
+		builder.setLength(0);
+		scribe.reset().pushArray().values(doubles, 0, SIZE).pop();
+		return builder;
+	}
+	
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import io.codecastle.scriptorium.json.JsonObject;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+
+/**
+ * A representative record, written the same way through the raw scribe API and the
+ * fluent API, and sinks that discard their output.
+ *
+ * @author Doug Valenta
+ */
+final class Records {
+	
+	static final String NAME = "Ada Lovelace";
+	static final String NOTE = "Line one\nLine \"two\"\tend";
+	static final String[] TAGS = { "alpha", "beta", "gamma", "delta" };
+	
+	/**
+	 * An {@link OutputStream} that discards everything written to it.
+	 */
+	static final OutputStream NULL_STREAM = new OutputStream() {
+		@Override
+		public void write(final int b) {}
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) {}
+	};
+	
+	/**
+	 * A {@link Writer} that discards everything written to it.
+	 */
+	static final Writer NULL_WRITER = new Writer() {
+		@Override
+		public void write(final char[] chars, final int offset, final int length) {}
+		@Override
+		public void write(final String string, final int offset, final int length) {}
+		@Override
+		public void write(final int c) {}
+		@Override
+		public void flush() {}
+		@Override
+		public void close() {}
+	};
+	
+	/**
+	 * Writes a record as the next value of the provided scribe.
+	 */
+	static void write(final JsonScribe scribe, final int id) throws IOException {
+		scribe.pushObject()
+				.key("id").value(id)
+				.key("name").value(NAME)
+				.key("active").value(true)
+				.key("score").value(id * 0.25)
+				.key("created").value(1541300000000L + id)
+				.key("note").value(NOTE)
+				.key("tags").pushArray();
+		for (final String tag : TAGS) {
+			scribe.value(tag);
+		}
+		scribe.pop()
+				.key("address").pushObject()
+						.key("street").value("12 Analytical Way")
+						.key("zip").value(12345)
+				.pop()
+		.pop();
+	}
+	
+	/**
+	 * Writes the same record as {@link #write(JsonScribe, int)} through the fluent API.
+	 */
+	static <O extends JsonObject<O>> O write(final O object, final int id) throws IOException {
+		return object
+				.with("id", id)
+				.with("name", NAME)
+				.with("active", true)
+				.with("score", id * 0.25)
+				.with("created", 1541300000000L + id)
+				.with("note", NOTE)
+				.key("tags").array().withAll((Object[]) TAGS).then()
+				.key("address").object()
+						.with("street", "12 Analytical Way")
+						.with("zip", 12345)
+				.then();
+	}
+	
+	private Records() {}
+	
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.SafeJsonScribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link FastJsonScribe} and {@link SafeJsonScribe} writing the same records
+ * to a reused {@link StringBuilder}.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScribeBenchmark {
+	
+	@Param({ "fast", "safe" })
+	public String scribe;
+	
+	private StringBuilder builder;
+	private JsonScribe json;
+	
+	@Setup
+	public void setup() {
+		builder = new StringBuilder(4096);
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		json = "fast".equals(scribe) ? new FastJsonScribe(appender) : new SafeJsonScribe(appender);
+	}
+	
+	@Benchmark
+	public StringBuilder records() throws IOException {
+		builder.setLength(0);
+		json.reset().pushArray();
+		for (int i = 0; i < 10; i++) {
+			Records.write(json, i);
+		}
+		json.pop();
+		return builder;
+	}
+	
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.Json;
+import io.codecastle.scriptorium.json.JsonArrayDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the same document written to each kind of destination. Writers and streams
+ * discard their output, so only the cost of getting it to them is measured.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SinkBenchmark {
+	
+	@Param({ "StringBuilder", "BufferedWriter", "PrintStream", "OutputStream" })
+	public String sink;
+	
+	private StringBuilder builder;
+	private BufferedWriter writer;
+	private PrintStream printStream;
+	
+	@Setup
+	public void setup() {
+		builder = new StringBuilder(4096);
+		writer = new BufferedWriter(Records.NULL_WRITER, 8192);
+		printStream = new PrintStream(Records.NULL_STREAM, false);
+	}
+	
+	@Benchmark
+	public Object records() throws IOException {
+		final JsonArrayDocument document;
+		switch (sink) {
+			case "StringBuilder":
+				builder.setLength(0);
+				document = Json.array(builder);
+				break;
+			case "BufferedWriter":
+				document = Json.array(writer);
+				break;
+			case "PrintStream":
+				document = Json.array(printStream);
+				break;
+			default:
+				document = Json.array(Records.NULL_STREAM);
+		}
+		for (int i = 0; i < 10; i++) {
+			Records.write(document.object(), i).then();
+		}
+		document.close();
+		return document;
+	}
+	
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.benchmarks;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.Json;
+import io.codecastle.scriptorium.json.JsonArrayDocument;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonName;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link JsonTable} with an object per row written through the fluent API, for
+ * 1024 rows of three columns.
+ *
+ * @author Doug Valenta
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableBenchmark {
+	
+	private static final int SIZE = 1024;
+	
+	private static final JsonName TS = new JsonName("ts");
+	private static final JsonName VALUE = new JsonName("value");
+	private static final JsonName HOST = new JsonName("host");
+	
+	private final long[] ts = new long[SIZE];
+	private final double[] values = new double[SIZE];
+	private final String[] hosts = new String[SIZE];
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	private JsonTable table;
+	
+	@Setup
+	public void setup() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < SIZE; i++) {
+			ts[i] = 1541300000000L + i * 1000L;
+			values[i] = random.nextDouble() * 100;
+			hosts[i] = "host-" + random.nextInt(16);
+		}
+		builder = new StringBuilder(SIZE * 64);
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		table = new JsonTable();
+	}
+	
+	@Benchmark
+	public StringBuilder objects() throws IOException {
+		builder.setLength(0);
+		table.clear().withColumn(TS, ts).withColumn(VALUE, values).withColumn(HOST, hosts);
+		table.writeObjects(scribe.reset());
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder columns() throws IOException {
+		builder.setLength(0);
+		table.clear().withColumn(TS, ts).withColumn(VALUE, values).withColumn(HOST, hosts);
+		table.writeColumns(scribe.reset());
+		return builder;
+	}
+	
+	@Benchmark
+	public StringBuilder fluent() throws IOException {
+		builder.setLength(0);
+		try (final JsonArrayDocument document = Json.array(builder)) {
+			for (int i = 0; i < SIZE; i++) {
+				document.object().with(TS, ts[i]).with(VALUE, values[i]).with(HOST, hosts[i]).then();
+			}
+		}
+		return builder;
+	}
+	
+}
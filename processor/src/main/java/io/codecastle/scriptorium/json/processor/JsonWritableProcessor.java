@@ -0,0 +1,500 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Generates a {@code JsonValueWriter} for each class annotated with
+ * {@code io.codecastle.scriptorium.json.JsonWritable}.
+ *
+ * <p>
+ * The generated writer calls the class's getters directly and outputs each property with
+ * {@code JsonScribe.key(JsonName)}, using a {@code JsonName} constant for its key, and the
+ * {@code JsonScribe.value} overload for its type, so primitives are never boxed. No
+ * reflection is used at runtime.
+ *
+ * @author Doug Valenta
+ */
+public class JsonWritableProcessor extends AbstractProcessor {
+
+	static final String ANNOTATION = "io.codecastle.scriptorium.json.JsonWritable";
+	static final String SUFFIX = "JsonWriter";
+
+	private static final String SCRIBE = "io.codecastle.scriptorium.json.scribe.JsonScribe";
+	private static final String NAME = "io.codecastle.scriptorium.json.scribe.JsonName";
+	private static final String WRITER = "io.codecastle.scriptorium.json.scribe.JsonValueWriter";
+
+	private Elements elements;
+	private Types types;
+	private Messager messager;
+
+	@Override
+	public synchronized void init(final ProcessingEnvironment environment) {
+		super.init(environment);
+		elements = environment.getElementUtils();
+		types = environment.getTypeUtils();
+		messager = environment.getMessager();
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(ANNOTATION);
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment round) {
+		final TypeElement annotation = elements.getTypeElement(ANNOTATION);
+		if (annotation == null) return false;
+		for (final Element element : round.getElementsAnnotatedWith(annotation)) {
+			if (!element.getKind().isClass() && !element.getKind().isInterface() || element.getKind() == ElementKind.ENUM) {
+				messager.printMessage(javax.tools.Diagnostic.Kind.ERROR, "@JsonWritable only applies to classes and interfaces", element);
+				continue;
+			}
+			final TypeElement type = (TypeElement) element;
+			if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)
+					&& type.getKind() == ElementKind.CLASS) {
+				messager.printMessage(javax.tools.Diagnostic.Kind.ERROR, "@JsonWritable inner classes must be static", element);
+				continue;
+			}
+			if (type.getModifiers().contains(Modifier.PRIVATE)) {
+				messager.printMessage(javax.tools.Diagnostic.Kind.ERROR, "@JsonWritable classes must not be private", element);
+				continue;
+			}
+			try {
+				generate(type);
+			} catch (final UnsupportedTypeException e) {
+				messager.printMessage(javax.tools.Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+			} catch (final IOException e) {
+				messager.printMessage(javax.tools.Diagnostic.Kind.ERROR, "Cannot write " + writerName(type) + ": " + e.getMessage(), element);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the simple name of the writer generated for the provided class.
+	 */
+	static String writerName(final TypeElement type) {
+		final StringBuilder name = new StringBuilder(type.getSimpleName());
+		for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+			name.insert(0, '_').insert(0, enclosing.getSimpleName());
+		}
+		return name.append(SUFFIX).toString();
+	}
+
+	private void generate(final TypeElement type) throws IOException {
+		final String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+		final String writerName = writerName(type);
+		final String typeName = typeName(type);
+		final Map<String, ExecutableElement> properties = properties(type);
+
+		final Source source = new Source();
+		final Map<String, String> constants = new LinkedHashMap<>();
+		for (final Map.Entry<String, ExecutableElement> property : properties.entrySet()) {
+			final String constant = constantName(property.getKey(), constants.size());
+			constants.put(property.getKey(), constant);
+			source.line(2, "final " + typeName(property.getValue().getReturnType()) + " " + constant.toLowerCase()
+					+ " = value." + property.getValue().getSimpleName() + "();");
+			property(source, property.getValue(), property.getValue().getReturnType(), constant, constant.toLowerCase());
+		}
+
+		final StringBuilder out = new StringBuilder();
+		if (!packageName.isEmpty()) out.append("package ").append(packageName).append(";\n\n");
+		out.append("/**\n * Writes {@link ").append(typeName).append("} as a JSON object.\n *\n")
+				.append(" * <p>\n * Generated by ").append(JsonWritableProcessor.class.getName()).append(".\n */\n");
+		if (type.getModifiers().contains(Modifier.PUBLIC)) out.append("public ");
+		out.append("final class ").append(writerName).append(" implements ").append(WRITER)
+				.append('<').append(typeName).append("> {\n\n");
+		out.append("\tpublic static final ").append(writerName).append(" INSTANCE = new ").append(writerName).append("();\n\n");
+		for (final Map.Entry<String, String> constant : constants.entrySet()) {
+			out.append("\tprivate static final ").append(NAME).append(' ').append(constant.getValue())
+					.append(" = new ").append(NAME).append("(\"").append(escape(constant.getKey())).append("\");\n");
+		}
+		if (!constants.isEmpty()) out.append('\n');
+		out.append("\tprivate ").append(writerName).append("() {\n\t}\n\n");
+		out.append("\t@Override\n\tpublic void write(final ").append(SCRIBE).append(" scribe, final ").append(typeName)
+				.append(" value) throws java.io.IOException {\n");
+		out.append("\t\tif (value == null) {\n\t\t\tscribe.nullValue();\n\t\t\treturn;\n\t\t}\n");
+		out.append("\t\tscribe.pushObject();\n");
+		out.append(source);
+		out.append("\t\tscribe.pop();\n\t}\n\n}\n");
+
+		try (final Writer writer = processingEnv.getFiler().createSourceFile(
+				packageName.isEmpty() ? writerName : packageName + "." + writerName, type).openWriter()) {
+			writer.write(out.toString());
+		}
+	}
+
+	/**
+	 * Returns the bean properties of the provided class, in declaration order, starting
+	 * with those declared by its superclasses.
+	 */
+	private Map<String, ExecutableElement> properties(final TypeElement type) {
+		final List<TypeElement> hierarchy = new ArrayList<>();
+		for (TypeElement current = type; current != null; current = superclass(current)) {
+			if (current.getQualifiedName().contentEquals("java.lang.Object")) break;
+			hierarchy.add(0, current);
+		}
+		final Map<String, ExecutableElement> properties = new LinkedHashMap<>();
+		for (final TypeElement current : hierarchy) {
+			for (final ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+				final String property = propertyName(method);
+				if (property == null) continue;
+				// An override keeps its superclass's position, but is called as declared here
+				properties.put(property, method);
+			}
+		}
+		return properties;
+	}
+
+	private TypeElement superclass(final TypeElement type) {
+		final TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) return null;
+		return (TypeElement) types.asElement(superclass);
+	}
+
+	/**
+	 * Returns the name of the bean property the provided method reads, or null if it is
+	 * not a getter.
+	 */
+	private static String propertyName(final ExecutableElement method) {
+		final Set<Modifier> modifiers = method.getModifiers();
+		if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.PRIVATE)) return null;
+		if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) return null;
+		final String name = method.getSimpleName().toString();
+		final TypeKind kind = method.getReturnType().getKind();
+		final int prefix;
+		if (name.startsWith("get") && kind != TypeKind.VOID) {
+			prefix = 3;
+		} else if (name.startsWith("is") && kind == TypeKind.BOOLEAN) {
+			prefix = 2;
+		} else {
+			return null;
+		}
+		if (name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) return null;
+		return decapitalize(name.substring(prefix));
+	}
+
+	/**
+	 * Decapitalizes a property name as {@code java.beans.Introspector} does, leaving names
+	 * that start with two capitals, such as {@code URL}, unchanged.
+	 */
+	static String decapitalize(final String name) {
+		if (name.length() > 1 && Character.isUpperCase(name.charAt(1))) return name;
+		return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+	}
+
+	private static String constantName(final String property, final int index) {
+		final StringBuilder constant = new StringBuilder();
+		for (int i = 0; i < property.length(); i++) {
+			final char c = property.charAt(i);
+			if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(property.charAt(i - 1))) constant.append('_');
+			constant.append(Character.toUpperCase(c));
+		}
+		return constant.append('_').append(index).toString();
+	}
+
+	/**
+	 * Outputs a property, already read into the provided local, leaving it out if it is
+	 * null or an empty Optional.
+	 */
+	private void property(final Source source, final Element property, final TypeMirror type, final String constant,
+			final String local) {
+		final TypeMirror unboxed = unboxed(type);
+		if (type.getKind().isPrimitive()) {
+			source.line(2, "scribe.key(" + constant + ").value(" + local + ");");
+		} else if (unboxed != null) {
+			source.line(2, "if (" + local + " != null) scribe.key(" + constant + ").value((" + unboxed + ") " + local + ");");
+		} else if (isOptional(type)) {
+			source.line(2, "if (" + local + " != null && " + local + ".isPresent()) {");
+			source.line(3, "scribe.key(" + constant + ");");
+			optional(source, property, type, local, 3);
+			source.line(2, "}");
+		} else {
+			source.line(2, "if (" + local + " != null) {");
+			source.line(3, "scribe.key(" + constant + ");");
+			value(source, property, type, local, 3);
+			source.line(2, "}");
+		}
+	}
+
+	/**
+	 * Outputs a value that may be null as an element of an array or object, writing
+	 * {@code null} in its place if it is.
+	 */
+	private void element(final Source source, final Element property, final TypeMirror type, final String local,
+			final int depth) {
+		if (type.getKind().isPrimitive()) {
+			value(source, property, type, local, depth);
+			return;
+		}
+		source.line(depth, "if (" + local + " == null) {");
+		source.line(depth + 1, "scribe.nullValue();");
+		if (isOptional(type)) {
+			source.line(depth, "} else if (!" + local + ".isPresent()) {");
+			source.line(depth + 1, "scribe.nullValue();");
+			source.line(depth, "} else {");
+			optional(source, property, type, local, depth + 1);
+		} else {
+			source.line(depth, "} else {");
+			value(source, property, type, local, depth + 1);
+		}
+		source.line(depth, "}");
+	}
+
+	/**
+	 * Outputs the contents of a present Optional.
+	 */
+	private void optional(final Source source, final Element property, final TypeMirror type, final String local,
+			final int depth) {
+		final String name = qualifiedName(type);
+		if (name.equals("java.util.OptionalInt")) {
+			source.line(depth, "scribe.value(" + local + ".getAsInt());");
+		} else if (name.equals("java.util.OptionalLong")) {
+			source.line(depth, "scribe.value(" + local + ".getAsLong());");
+		} else if (name.equals("java.util.OptionalDouble")) {
+			source.line(depth, "scribe.value(" + local + ".getAsDouble());");
+		} else {
+			final TypeMirror content = typeArgument(property, type);
+			final String next = source.local();
+			source.line(depth, "final " + typeName(content) + " " + next + " = " + local + ".get();");
+			value(source, property, content, next, depth);
+		}
+	}
+
+	/**
+	 * Outputs a value that is known not to be null.
+	 */
+	private void value(final Source source, final Element property, final TypeMirror type, final String local,
+			final int depth) {
+		final TypeMirror unboxed = unboxed(type);
+		if (type.getKind().isPrimitive()) {
+			source.line(depth, "scribe.value(" + local + ");");
+		} else if (unboxed != null) {
+			source.line(depth, "scribe.value((" + unboxed + ") " + local + ");");
+		} else if (type.getKind() == TypeKind.ARRAY) {
+			final TypeMirror component = ((ArrayType) type).getComponentType();
+			final String next = source.local();
+			source.line(depth, "scribe.pushArray();");
+			source.line(depth, "for (final " + typeName(component) + " " + next + " : " + local + ") {");
+			element(source, property, component, next, depth + 1);
+			source.line(depth, "}");
+			source.line(depth, "scribe.pop();");
+		} else if (type.getKind() != TypeKind.DECLARED) {
+			throw new UnsupportedTypeException(property, type);
+		} else if (isSubtype(type, "java.lang.CharSequence") || isSubtype(type, "java.math.BigInteger")
+				|| isSubtype(type, "java.math.BigDecimal")) {
+			source.line(depth, "scribe.value(" + local + ");");
+		} else if (types.asElement(type).getKind() == ElementKind.ENUM) {
+			source.line(depth, "scribe.value(" + local + ".name());");
+		} else if (isWritable(type)) {
+			final TypeElement element = (TypeElement) types.asElement(type);
+			final String packageName = elements.getPackageOf(element).getQualifiedName().toString();
+			source.line(depth, (packageName.isEmpty() ? "" : packageName + ".") + writerName(element) + ".INSTANCE.write(scribe, " + local + ");");
+		} else if (isOptional(type)) {
+			source.line(depth, "if (" + local + ".isPresent()) {");
+			optional(source, property, type, local, depth + 1);
+			source.line(depth, "} else {");
+			source.line(depth + 1, "scribe.nullValue();");
+			source.line(depth, "}");
+		} else if (isSubtype(type, "java.util.Map")) {
+			final DeclaredType map = supertype((DeclaredType) type, "java.util.Map");
+			if (map == null || map.getTypeArguments().size() != 2) throw new UnsupportedTypeException(property, type);
+			final TypeMirror key = bound(map.getTypeArguments().get(0));
+			if (!isSubtype(key, "java.lang.CharSequence")) throw new UnsupportedTypeException(property, type);
+			final TypeMirror content = bound(map.getTypeArguments().get(1));
+			final String entry = source.local();
+			final String next = source.local();
+			source.line(depth, "scribe.pushObject();");
+			source.line(depth, "for (final java.util.Map.Entry<" + typeName(key) + ", " + typeName(content) + "> "
+					+ entry + " : " + local + ".entrySet()) {");
+			source.line(depth + 1, "if (" + entry + ".getKey() == null) continue;");
+			source.line(depth + 1, "scribe.key(" + entry + ".getKey());");
+			source.line(depth + 1, "final " + typeName(content) + " " + next + " = " + entry + ".getValue();");
+			element(source, property, content, next, depth + 1);
+			source.line(depth, "}");
+			source.line(depth, "scribe.pop();");
+		} else if (isSubtype(type, "java.lang.Iterable")) {
+			final TypeMirror content = typeArgument(property, supertype((DeclaredType) type, "java.lang.Iterable"));
+			final String next = source.local();
+			source.line(depth, "scribe.pushArray();");
+			source.line(depth, "for (final " + typeName(content) + " " + next + " : " + local + ") {");
+			element(source, property, content, next, depth + 1);
+			source.line(depth, "}");
+			source.line(depth, "scribe.pop();");
+		} else {
+			throw new UnsupportedTypeException(property, type);
+		}
+	}
+
+	/**
+	 * Returns the primitive type of a wrapper type, or null if the type is not a wrapper.
+	 */
+	private TypeMirror unboxed(final TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) return null;
+		try {
+			return types.unboxedType(type);
+		} catch (final IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private boolean isOptional(final TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) return false;
+		final String name = qualifiedName(type);
+		return name.equals("java.util.Optional") || name.equals("java.util.OptionalInt")
+				|| name.equals("java.util.OptionalLong") || name.equals("java.util.OptionalDouble");
+	}
+
+	private boolean isWritable(final TypeMirror type) {
+		final TypeElement annotation = elements.getTypeElement(ANNOTATION);
+		final Element element = types.asElement(type);
+		return element.getAnnotationMirrors().stream()
+				.anyMatch(mirror -> types.isSameType(mirror.getAnnotationType(), annotation.asType()));
+	}
+
+	private boolean isSubtype(final TypeMirror type, final String name) {
+		final TypeElement element = elements.getTypeElement(name);
+		return element != null && types.isSubtype(types.erasure(type), types.erasure(element.asType()));
+	}
+
+	/**
+	 * Returns the provided type's parameterization of the named supertype.
+	 */
+	private DeclaredType supertype(final DeclaredType type, final String name) {
+		if (qualifiedName(type).equals(name)) return type;
+		for (final TypeMirror supertype : types.directSupertypes(type)) {
+			if (supertype.getKind() == TypeKind.DECLARED && isSubtype(supertype, name)) {
+				final DeclaredType found = supertype((DeclaredType) supertype, name);
+				if (found != null) return found;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the single type argument of the provided Optional or Iterable type.
+	 */
+	private TypeMirror typeArgument(final Element property, final TypeMirror type) {
+		if (type == null || type.getKind() != TypeKind.DECLARED) throw new UnsupportedTypeException(property, type);
+		final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+		if (arguments.size() != 1) throw new UnsupportedTypeException(property, type);
+		return bound(arguments.get(0));
+	}
+
+	/**
+	 * Returns the upper bound of a wildcard, or the provided type if it is not one.
+	 */
+	private TypeMirror bound(final TypeMirror type) {
+		if (type.getKind() != TypeKind.WILDCARD) return type;
+		final TypeMirror bound = ((WildcardType) type).getExtendsBound();
+		return bound == null ? elements.getTypeElement("java.lang.Object").asType() : bound;
+	}
+
+	private String qualifiedName(final TypeMirror type) {
+		return ((TypeElement) types.asElement(type)).getQualifiedName().toString();
+	}
+
+	/**
+	 * Returns the name of the provided class, with a wildcard for each type parameter.
+	 */
+	private static String typeName(final TypeElement type) {
+		final StringBuilder name = new StringBuilder(type.getQualifiedName());
+		if (!type.getTypeParameters().isEmpty()) {
+			name.append('<');
+			for (int i = 0; i < type.getTypeParameters().size(); i++) {
+				if (i > 0) name.append(", ");
+				name.append('?');
+			}
+			name.append('>');
+		}
+		return name.toString();
+	}
+
+	private String typeName(final TypeMirror type) {
+		if (type.getKind() == TypeKind.TYPEVAR) return types.erasure(type).toString();
+		return type.toString();
+	}
+
+	private static String escape(final String text) {
+		final StringBuilder escaped = new StringBuilder();
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			if (c == '"' || c == '\\') escaped.append('\\');
+			escaped.append(c);
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * The body of a generated write method.
+	 */
+	private static final class Source {
+
+		private final StringBuilder builder = new StringBuilder();
+		private int locals;
+
+		void line(final int depth, final String line) {
+			for (int i = 0; i < depth; i++) {
+				builder.append('\t');
+			}
+			builder.append(line).append('\n');
+		}
+
+		String local() {
+			return "v" + locals++;
+		}
+
+		@Override
+		public String toString() {
+			return builder.toString();
+		}
+
+	}
+
+	private static final class UnsupportedTypeException extends RuntimeException {
+
+		final Element element;
+
+		UnsupportedTypeException(final Element element, final TypeMirror type) {
+			super("Unsupported type " + type + " for @JsonWritable property " + element.getSimpleName());
+			this.element = element;
+		}
+
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import io.codecastle.scriptorium.FluentNode;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonValueWriter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonWritableProcessorTest {
+
+	private static final String EVENT = String.join("\n",
+			"package test;",
+			"import io.codecastle.scriptorium.json.JsonWritable;",
+			"import java.math.BigDecimal;",
+			"import java.util.*;",
+			"@JsonWritable",
+			"public class Event extends Base {",
+			"  public enum Level { LOW, HIGH }",
+			"  @JsonWritable",
+			"  public static class Tag {",
+			"    public String getName() { return \"t\\\"1\"; }",
+			"  }",
+			"  public int getCount() { return 3; }",
+			"  public boolean isActive() { return true; }",
+			"  public Boolean isIgnored() { return true; }",
+			"  public Double getScore() { return null; }",
+			"  public Long getTotal() { return 7L; }",
+			"  public String getName() { return \"Ada\\n\"; }",
+			"  public BigDecimal getAmount() { return new BigDecimal(\"1.50\"); }",
+			"  public Level getLevel() { return Level.HIGH; }",
+			"  public String getURL() { return \"u\"; }",
+			"  public int[] getCounts() { return new int[] {1, 2}; }",
+			"  public List<String> getLabels() { return Arrays.asList(\"a\", null); }",
+			"  public Optional<String> getNickname() { return Optional.empty(); }",
+			"  public OptionalInt getAge() { return OptionalInt.of(36); }",
+			"  public Set<? extends Tag> getTags() { return Collections.singleton(new Tag()); }",
+			"  public Map<String, Integer> getSizes() { return Collections.singletonMap(\"s\", 1); }",
+			"  public Tag getMain() { return null; }",
+			"  public static int getStatic() { return 0; }",
+			"  private int getHidden() { return 0; }",
+			"  public int getWithArgument(int i) { return i; }",
+			"  public void getNothing() { }",
+			"}",
+			"class Base {",
+			"  public long getId() { return 42L; }",
+			"  public String getName() { return \"base\"; }",
+			"}");
+
+	private File output;
+
+	@Before
+	public void setUp() throws IOException {
+		output = Files.createTempDirectory("processor").toFile();
+	}
+
+	@Test
+	public void testGeneratedWriter() throws Exception {
+		final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Event", EVENT);
+		Assert.assertEquals(diagnostics.toString(), 0, errors(diagnostics));
+		Assert.assertTrue(new File(output, "test/EventJsonWriter.java").isFile());
+		Assert.assertTrue(new File(output, "test/Event_TagJsonWriter.java").isFile());
+		try (final URLClassLoader loader = new URLClassLoader(new URL[] {output.toURI().toURL()}, getClass().getClassLoader())) {
+			final Class<?> event = loader.loadClass("test.Event");
+			final JsonValueWriter<Object> writer = (JsonValueWriter<Object>) loader.loadClass("test.EventJsonWriter").getField("INSTANCE").get(null);
+			final StringBuilder builder = new StringBuilder();
+			final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+			scribe.pushArray();
+			writer.write(scribe, event.newInstance());
+			writer.write(scribe, null);
+			scribe.pop();
+			Assert.assertEquals("[{\"id\":42,\"name\":\"Ada\\n\",\"count\":3,\"active\":true,\"total\":7,"
+					+ "\"amount\":1.50,\"level\":\"HIGH\",\"URL\":\"u\",\"counts\":[1,2],\"labels\":[\"a\",null],"
+					+ "\"age\":36,\"tags\":[{\"name\":\"t\\\"1\"}],\"sizes\":{\"s\":1}},null]", builder.toString());
+		}
+	}
+
+	@Test
+	public void testUnsupportedType() throws IOException {
+		final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Broken", String.join("\n",
+				"package test;",
+				"@io.codecastle.scriptorium.json.JsonWritable",
+				"public class Broken {",
+				"  public Thread getThread() { return null; }",
+				"}"));
+		Assert.assertEquals(1, errors(diagnostics));
+		Assert.assertTrue(diagnostics.toString(), diagnostics.toString().contains("Unsupported type java.lang.Thread"));
+	}
+
+	@Test
+	public void testInnerClass() throws IOException {
+		final List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("test.Outer", String.join("\n",
+				"package test;",
+				"public class Outer {",
+				"  @io.codecastle.scriptorium.json.JsonWritable",
+				"  public class Inner { }",
+				"}"));
+		Assert.assertEquals(1, errors(diagnostics));
+		Assert.assertTrue(diagnostics.toString(), diagnostics.toString().contains("must be static"));
+	}
+
+	@Test
+	public void testDecapitalize() {
+		Assert.assertEquals("name", JsonWritableProcessor.decapitalize("Name"));
+		Assert.assertEquals("URL", JsonWritableProcessor.decapitalize("URL"));
+		Assert.assertEquals("x", JsonWritableProcessor.decapitalize("X"));
+	}
+
+	private List<Diagnostic<? extends JavaFileObject>> compile(final String name, final String code) throws IOException {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		final List<String> options = new ArrayList<>(Arrays.asList("-d", output.getPath(), "-s", output.getPath(),
+				"-classpath", classpath(JsonScribe.class, FluentNode.class)));
+		final JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"),
+				JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+				return code;
+			}
+		};
+		final JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+				Collections.singletonList(source));
+		task.setProcessors(Collections.singletonList(new JsonWritableProcessor()));
+		task.call();
+		return diagnostics.getDiagnostics();
+	}
+
+	private static long errors(final List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+		return diagnostics.stream().filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR).count();
+	}
+
+	private static String classpath(final Class<?>... types) {
+		final StringBuilder classpath = new StringBuilder();
+		for (final Class<?> type : types) {
+			if (classpath.length() > 0) classpath.append(File.pathSeparatorChar);
+			try {
+				classpath.append(new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath());
+			} catch (final Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return classpath.toString();
+	}
+
+}
@@ -19,6 +19,8 @@ class AbstractJsonAppendable<THIS extends AbstractJsonAppendable<THIS>> implemen
 	
 	final JsonScribe scribe;
 	
+	private InscribedJsonAppendable inscribed;
+	
 	AbstractJsonAppendable(final JsonScribe scribe) {
 		this.scribe = scribe;
 	}
@@ -44,16 +46,22 @@ class AbstractJsonAppendable<THIS extends AbstractJsonAppendable<THIS>> implemen
 
 	@Override
 	public THIS with(final IOConsumer<? super JsonAppendable<?>> consumer) throws IOException {
-		consumer.accept(new InscribedJsonAppendable(scribe));
+		consumer.accept(inscribed());
 		return (THIS) this;
 	}
 
 	@Override
 	public <T> THIS with(final T element, final IOBiConsumer<? super T, ? super JsonAppendable<?>> biConsumer) throws IOException {
-		biConsumer.accept(element, new InscribedJsonAppendable(scribe));
+		biConsumer.accept(element, inscribed());
 		return (THIS) this;
 	}
 	
+	private InscribedJsonAppendable inscribed() {
+		// An InscribedJsonAppendable holds no state of its own, so one can always be reused
+		if (inscribed == null) inscribed = new InscribedJsonAppendable(scribe);
+		return inscribed;
+	}
+	
 	@Override
 	public <T extends FluentNode<THIS>> T inscribe(final IOFunction<? super THIS, T> function) throws IOException {
 		final T inscription = function.apply((THIS) this);
@@ -5,8 +5,23 @@
 package io.codecastle.scriptorium.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.PrimitiveIterator;
+import java.util.UUID;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import io.codecastle.scriptorium.FluentNode;
 import io.codecastle.scriptorium.function.IOBiConsumer;
 import io.codecastle.scriptorium.function.IOConsumer;
@@ -19,9 +34,20 @@ import io.codecastle.scriptorium.json.scribe.JsonScribe;
  */
 abstract class AbstractJsonArray<THIS extends AbstractJsonArray<THIS>> implements JsonArray<THIS> {
 
+	/**
+	 * The number of elements copied at a time from buffers without an accessible array,
+	 * and from streams.
+	 */
+	static final int CHUNK_LENGTH = 512;
+
 	final JsonScribe scribe;
 	int cursor;
 	
+	private JsonValue<THIS> valueNode;
+	private JsonArrayNode<THIS> arrayNode;
+	private JsonObjectNode<THIS> objectNode;
+	private InscribedJsonArray inscribed;
+	
 	AbstractJsonArray(final JsonScribe scribe) {
 		this.scribe = scribe;
 		this.cursor = scribe.getCursor();
@@ -72,6 +98,132 @@ abstract class AbstractJsonArray<THIS extends AbstractJsonArray<THIS>> implement
 		return (THIS) this;
 	}
 
+	@Override
+	public THIS with(final Instant element) throws IOException {
+		if (element == null) return withNull();
+		scribe.value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final OffsetDateTime element) throws IOException {
+		if (element == null) return withNull();
+		scribe.value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final LocalDate element) throws IOException {
+		if (element == null) return withNull();
+		scribe.value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final UUID element) throws IOException {
+		if (element == null) return withNull();
+		scribe.value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final Enum<?> element) throws IOException {
+		if (element == null) return withNull();
+		scribe.value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withTimestamp(final long epochMillis) throws IOException {
+		scribe.timestampValue(epochMillis);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final Reader element) throws IOException {
+		if (element == null) return withNull();
+		scribe.value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final InputStream element, final Charset charset) throws IOException {
+		if (charset == null) throw new IllegalArgumentException("Missing charset");
+		if (element == null) return withNull();
+		scribe.value(element, charset);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withBase64(final byte[] element) throws IOException {
+		if (element == null) return withNull();
+		scribe.base64Value(element, 0, element.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withBase64(final ByteBuffer element) throws IOException {
+		if (element == null) return withNull();
+		scribe.base64Value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withBase64(final InputStream element) throws IOException {
+		if (element == null) return withNull();
+		scribe.base64Value(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withHex(final byte[] element) throws IOException {
+		if (element == null) return withNull();
+		scribe.hexValue(element, 0, element.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withHex(final ByteBuffer element) throws IOException {
+		if (element == null) return withNull();
+		scribe.hexValue(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withHex(final InputStream element) throws IOException {
+		if (element == null) return withNull();
+		scribe.hexValue(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final CharSequence element) throws IOException {
+		if (element == null) return withNull();
+		scribe.rawValue(element);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final char[] element) throws IOException {
+		if (element == null) return withNull();
+		scribe.rawValue(element, 0, element.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final byte[] element) throws IOException {
+		if (element == null) return withNull();
+		scribe.rawValue(element, 0, element.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final ByteBuffer element) throws IOException {
+		if (element == null) return withNull();
+		scribe.rawValue(element);
+		return (THIS) this;
+	}
+
 	@Override
 	public THIS with(final int element) throws IOException {
 		scribe.value(element);
@@ -120,6 +272,135 @@ abstract class AbstractJsonArray<THIS extends AbstractJsonArray<THIS>> implement
 		return (THIS) this;
 	}
 
+	@Override
+	public THIS withAll(final int[] elements) throws IOException {
+		if (elements != null) scribe.values(elements, 0, elements.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final long[] elements) throws IOException {
+		if (elements != null) scribe.values(elements, 0, elements.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final float[] elements) throws IOException {
+		if (elements != null) scribe.values(elements, 0, elements.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final double[] elements) throws IOException {
+		if (elements != null) scribe.values(elements, 0, elements.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final boolean[] elements) throws IOException {
+		if (elements != null) scribe.values(elements, 0, elements.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final IntBuffer elements) throws IOException {
+		if (elements == null || !elements.hasRemaining()) return (THIS) this;
+		if (elements.hasArray()) {
+			final int offset = elements.arrayOffset();
+			scribe.values(elements.array(), offset + elements.position(), offset + elements.limit());
+			return (THIS) this;
+		}
+		final IntBuffer source = elements.duplicate();
+		final int[] chunk = new int[Math.min(CHUNK_LENGTH, source.remaining())];
+		while (source.hasRemaining()) {
+			final int length = Math.min(chunk.length, source.remaining());
+			source.get(chunk, 0, length);
+			scribe.values(chunk, 0, length);
+		}
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final LongBuffer elements) throws IOException {
+		if (elements == null || !elements.hasRemaining()) return (THIS) this;
+		if (elements.hasArray()) {
+			final int offset = elements.arrayOffset();
+			scribe.values(elements.array(), offset + elements.position(), offset + elements.limit());
+			return (THIS) this;
+		}
+		final LongBuffer source = elements.duplicate();
+		final long[] chunk = new long[Math.min(CHUNK_LENGTH, source.remaining())];
+		while (source.hasRemaining()) {
+			final int length = Math.min(chunk.length, source.remaining());
+			source.get(chunk, 0, length);
+			scribe.values(chunk, 0, length);
+		}
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final DoubleBuffer elements) throws IOException {
+		if (elements == null || !elements.hasRemaining()) return (THIS) this;
+		if (elements.hasArray()) {
+			final int offset = elements.arrayOffset();
+			scribe.values(elements.array(), offset + elements.position(), offset + elements.limit());
+			return (THIS) this;
+		}
+		final DoubleBuffer source = elements.duplicate();
+		final double[] chunk = new double[Math.min(CHUNK_LENGTH, source.remaining())];
+		while (source.hasRemaining()) {
+			final int length = Math.min(chunk.length, source.remaining());
+			source.get(chunk, 0, length);
+			scribe.values(chunk, 0, length);
+		}
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final IntStream elements) throws IOException {
+		if (elements == null) return (THIS) this;
+		final PrimitiveIterator.OfInt iterator = elements.iterator();
+		final int[] chunk = new int[CHUNK_LENGTH];
+		while (iterator.hasNext()) {
+			int length = 0;
+			while (length < CHUNK_LENGTH && iterator.hasNext()) {
+				chunk[length++] = iterator.nextInt();
+			}
+			scribe.values(chunk, 0, length);
+		}
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final LongStream elements) throws IOException {
+		if (elements == null) return (THIS) this;
+		final PrimitiveIterator.OfLong iterator = elements.iterator();
+		final long[] chunk = new long[CHUNK_LENGTH];
+		while (iterator.hasNext()) {
+			int length = 0;
+			while (length < CHUNK_LENGTH && iterator.hasNext()) {
+				chunk[length++] = iterator.nextLong();
+			}
+			scribe.values(chunk, 0, length);
+		}
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withAll(final DoubleStream elements) throws IOException {
+		if (elements == null) return (THIS) this;
+		final PrimitiveIterator.OfDouble iterator = elements.iterator();
+		final double[] chunk = new double[CHUNK_LENGTH];
+		while (iterator.hasNext()) {
+			int length = 0;
+			while (length < CHUNK_LENGTH && iterator.hasNext()) {
+				chunk[length++] = iterator.nextDouble();
+			}
+			scribe.values(chunk, 0, length);
+		}
+		return (THIS) this;
+	}
+
 	@Override
 	public THIS withEmptyArray() throws IOException {
 		scribe.emptyArray();
@@ -135,48 +416,83 @@ abstract class AbstractJsonArray<THIS extends AbstractJsonArray<THIS>> implement
 	@Override
 	public JsonValue<THIS> element() throws IOException {
 		scribe.pushValue();
-		return new JsonValue<>(scribe, (THIS) this);
+		return valueNode();
 	}
 
 	@Override
 	public JsonValue<THIS> element(final CharSequence element) throws IOException {
 		scribe.pushValue();
 		if (element != null) scribe.append(element);
-		return new JsonValue<>(scribe, (THIS) this);
+		return valueNode();
 	}
 
 	@Override
 	public JsonValue<THIS> element(final char element) throws IOException {
 		scribe.pushValue().append(element);
-		return new JsonValue<>(scribe, (THIS) this);
+		return valueNode();
 	}
 
 	@Override
 	public JsonArrayNode<THIS> array() throws IOException {
 		scribe.pushArray();
-		return new JsonArrayNode<>(scribe, (THIS) this);
+		if (arrayNode == null || !arrayNode.isReleased()) return arrayNode = new JsonArrayNode<>(scribe, (THIS) this);
+		return arrayNode.reopen();
 	}
 
 	@Override
 	public JsonObjectNode<THIS> object() throws IOException {
 		scribe.pushObject();
-		return new JsonObjectNode<>(scribe, (THIS) this);
+		if (objectNode == null || !objectNode.isReleased()) return objectNode = new JsonObjectNode<>(scribe, (THIS) this);
+		return objectNode.reopen();
 	}
 
 	@Override
 	public THIS with(final IOConsumer<? super JsonArray<?>> consumer) throws IOException {
-		consumer.accept(new InscribedJsonArray(scribe));
+		final InscribedJsonArray inscription = takeInscribed();
+		consumer.accept(inscription);
+		inscribed = inscription;
 		scribe.pop(cursor);
 		return (THIS) this;
 	}
 
 	@Override
 	public <T> THIS with(final T element, final IOBiConsumer<? super T, ? super JsonArray<?>> biConsumer) throws IOException {
-		biConsumer.accept(element, new InscribedJsonArray(scribe));
+		final InscribedJsonArray inscription = takeInscribed();
+		biConsumer.accept(element, inscription);
+		inscribed = inscription;
 		scribe.pop(cursor);
 		return (THIS) this;
 	}
 	
+	private JsonValue<THIS> valueNode() {
+		if (valueNode == null || !valueNode.isReleased()) return valueNode = new JsonValue<>(scribe, (THIS) this);
+		return valueNode.reopen();
+	}
+	
+	/**
+	 * Releases the nodes this array has returned, and the nodes they returned in turn,
+	 * so that they may be reused. Only a pooled document that is being reused calls this,
+	 * since until then a caller may still hold any of them.
+	 */
+	void release() {
+		if (valueNode != null) valueNode.release();
+		if (arrayNode != null) arrayNode.release();
+		if (objectNode != null) objectNode.release();
+		if (inscribed != null) inscribed.release();
+	}
+	
+	/**
+	 * Takes the cached InscribedJsonArray, if any, out of the cache until the callback
+	 * using it returns, so that a nested callback on this array cannot reset it.
+	 */
+	private InscribedJsonArray takeInscribed() {
+		final InscribedJsonArray inscription = inscribed;
+		if (inscription == null) return new InscribedJsonArray(scribe);
+		inscribed = null;
+		inscription.cursor = scribe.getCursor();
+		return inscription;
+	}
+	
 	@Override
 	public <T extends FluentNode<THIS>> T inscribe(final IOFunction<? super THIS, T> function) throws IOException {
 		final T inscription = function.apply((THIS) this);
@@ -5,9 +5,17 @@
 package io.codecastle.scriptorium.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.UUID;
 import io.codecastle.scriptorium.FluentNode;
 import io.codecastle.scriptorium.function.IOBiConsumer;
 import io.codecastle.scriptorium.function.IOConsumer;
@@ -23,6 +31,9 @@ class AbstractJsonObject<THIS extends AbstractJsonObject<THIS>> implements JsonO
 	final JsonScribe scribe;
 	int cursor;
 	
+	private JsonKey<THIS> keyNode;
+	private InscribedJsonObject inscribed;
+	
 	AbstractJsonObject(final JsonScribe scribe) {
 		this.scribe = scribe;
 		this.cursor = scribe.getCursor();
@@ -103,6 +114,132 @@ class AbstractJsonObject<THIS extends AbstractJsonObject<THIS>> implements JsonO
 		return (THIS) this;
 	}
 
+	@Override
+	public THIS with(final CharSequence key, final Instant value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final CharSequence key, final OffsetDateTime value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final CharSequence key, final LocalDate value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final CharSequence key, final UUID value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final CharSequence key, final Enum<?> value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withTimestamp(final CharSequence key, final long epochMillis) throws IOException {
+		if (key != null) scribe.key(key).timestampValue(epochMillis);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final CharSequence key, final Reader value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS with(final CharSequence key, final InputStream value, final Charset charset) throws IOException {
+		if (charset == null) throw new IllegalArgumentException("Missing charset");
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).value(value, charset);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withBase64(final CharSequence key, final byte[] value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).base64Value(value, 0, value.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withBase64(final CharSequence key, final ByteBuffer value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).base64Value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withBase64(final CharSequence key, final InputStream value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).base64Value(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withHex(final CharSequence key, final byte[] value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).hexValue(value, 0, value.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withHex(final CharSequence key, final ByteBuffer value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).hexValue(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withHex(final CharSequence key, final InputStream value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).hexValue(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final CharSequence key, final CharSequence value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).rawValue(value);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final CharSequence key, final char[] value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).rawValue(value, 0, value.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final CharSequence key, final byte[] value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).rawValue(value, 0, value.length);
+		return (THIS) this;
+	}
+
+	@Override
+	public THIS withRaw(final CharSequence key, final ByteBuffer value) throws IOException {
+		if (value == null) return withNull(key);
+		if (key != null) scribe.key(key).rawValue(value);
+		return (THIS) this;
+	}
+
 	@Override
 	public THIS withEmptyObject(final CharSequence key) throws IOException {
 		if (key != null) scribe.key(key).emptyObject();
@@ -118,36 +255,67 @@ class AbstractJsonObject<THIS extends AbstractJsonObject<THIS>> implements JsonO
 	@Override
 	public JsonKey<THIS> key() throws IOException {
 		scribe.pushKey();
-		return new JsonKey<>(scribe, (THIS) this);
+		return keyNode();
 	}
 
 	@Override
 	public JsonKey<THIS> key(final char key) throws IOException {
 		scribe.pushKey().append(key);
-		return new JsonKey<>(scribe, (THIS) this);
+		return keyNode();
 	}
 
 	@Override
 	public JsonKey<THIS> key(final CharSequence key) throws IOException {
 		scribe.pushKey();
 		if (key != null) scribe.append(key);
-		return new JsonKey<>(scribe, (THIS) this);
+		return keyNode();
 	}
 
 	@Override
 	public THIS with(final IOConsumer<? super JsonObject<?>> consumer) throws IOException {
-		consumer.accept(new InscribedJsonObject(scribe));
+		final InscribedJsonObject inscription = takeInscribed();
+		consumer.accept(inscription);
+		inscribed = inscription;
 		scribe.pop(cursor);
 		return (THIS) this;
 	}
 
 	@Override
 	public <T> THIS with(T element, IOBiConsumer<? super T, ? super JsonObject<?>> biConsumer) throws IOException {
-		biConsumer.accept(element, new InscribedJsonObject(scribe));
+		final InscribedJsonObject inscription = takeInscribed();
+		biConsumer.accept(element, inscription);
+		inscribed = inscription;
 		scribe.pop(cursor);
 		return (THIS) this;
 	}
 	
+	private JsonKey<THIS> keyNode() {
+		// A JsonKey holds no state of its own, so one can always be reused
+		if (keyNode == null) keyNode = new JsonKey<>(scribe, (THIS) this);
+		return keyNode;
+	}
+	
+	/**
+	 * Releases the nodes returned by this object's keys, and the nodes they returned in
+	 * turn, so that they may be reused, like {@link AbstractJsonArray#release()}.
+	 */
+	void release() {
+		if (keyNode != null) keyNode.release();
+		if (inscribed != null) inscribed.release();
+	}
+	
+	/**
+	 * Takes the cached InscribedJsonObject, if any, out of the cache until the callback
+	 * using it returns, so that a nested callback on this object cannot reset it.
+	 */
+	private InscribedJsonObject takeInscribed() {
+		final InscribedJsonObject inscription = inscribed;
+		if (inscription == null) return new InscribedJsonObject(scribe);
+		inscribed = null;
+		inscription.cursor = scribe.getCursor();
+		return inscription;
+	}
+	
 	@Override
 	public <T extends FluentNode<THIS>> T inscribe(final IOFunction<? super THIS, T> function) throws IOException {
 		final T inscription = function.apply((THIS) this);
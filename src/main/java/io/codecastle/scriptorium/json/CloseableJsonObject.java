@@ -14,6 +14,10 @@ import io.codecastle.scriptorium.json.scribe.JsonScribe;
  */
 abstract class CloseableJsonObject<THIS extends CloseableJsonObject<THIS>> extends AbstractJsonObject<THIS> implements Closeable {
 
+	// the cursor of an object released by its document, which no caller may still hold,
+	// so that its parent may reuse it
+	private static final int RELEASED = Integer.MIN_VALUE;
+	
 	public CloseableJsonObject(final JsonScribe scribe) {
 		super(scribe);
 	}
@@ -35,4 +39,26 @@ abstract class CloseableJsonObject<THIS extends CloseableJsonObject<THIS>> exten
 		}
 	}
 	
+	/**
+	 * Returns true if this object has been released by its document, so that its parent
+	 * may reuse it.
+	 */
+	boolean isReleased() {
+		return cursor == RELEASED;
+	}
+	
+	/**
+	 * Reuses this object to represent a JSON object just pushed on its scribe.
+	 */
+	THIS reopen() {
+		cursor = scribe.getCursor();
+		return (THIS) this;
+	}
+	
+	@Override
+	void release() {
+		cursor = RELEASED;
+		super.release();
+	}
+	
 }
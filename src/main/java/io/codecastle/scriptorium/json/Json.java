@@ -5,10 +5,13 @@
 package io.codecastle.scriptorium.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
 import io.codecastle.scriptorium.json.scribe.JsonAppender;
 import io.codecastle.scriptorium.json.scribe.JsonEscaper;
 import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.Utf8JsonAppender;
 
 /**
  * Factory methods for creating new JSON documents and JSON document fragments.
@@ -17,6 +20,11 @@ import io.codecastle.scriptorium.json.scribe.JsonScribe;
  */
 public final class Json {
 	
+	/**
+	 * A {@link JsonEscaper} holds no state, so one is shared by every document.
+	 */
+	static final JsonEscaper ESCAPER = new JsonEscaper();
+	
 	/**
 	 * Returns a {@link JsonObjectDocument} representing the top-level JSON object of 
 	 * a JSON document.
@@ -37,7 +45,51 @@ public final class Json {
 	 */
 	public static JsonObjectDocument object(final Appendable appendable) throws IOException {
 		if (appendable == null) throw new IllegalArgumentException("Missing appendable");
-		return new JsonObjectDocument(new FastJsonScribe(new JsonAppender(appendable, new JsonEscaper())).pushObject());
+		return new JsonObjectDocument(new FastJsonScribe(new JsonAppender(appendable, ESCAPER)).pushObject());
+	}
+	
+	/**
+	 * Returns a {@link JsonObjectDocument} representing the top-level JSON object of 
+	 * a JSON document, encoded as UTF-8.
+	 * 
+	 * <p>
+	 * Output is buffered by a {@link Utf8JsonAppender}, so there is no need to wrap the
+	 * provided stream in a {@link java.io.Writer} or a buffer. The buffered output is
+	 * written to the provided stream, and the stream flushed, when the returned
+	 * document is closed. The stream itself is not closed.
+	 * 
+	 * <p>
+	 * The {@link JsonObjectDocument} returned by this method will use a 
+	 * {@link FastJsonScribe}.
+	 * 
+	 * @param stream an {@link OutputStream} to output the JSON document to
+	 * @return a {@link JsonObjectDocument} representing the top-level JSON object of a 
+	 * JSON document
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 */
+	public static JsonObjectDocument object(final OutputStream stream) throws IOException {
+		if (stream == null) throw new IllegalArgumentException("Missing stream");
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, ESCAPER);
+		return new JsonObjectDocument(new FastJsonScribe(appender).pushObject(), document -> appender.flush());
+	}
+	
+	/**
+	 * Returns a {@link JsonObjectDocument} representing the top-level JSON object of 
+	 * a JSON document.
+	 * 
+	 * <p>
+	 * This method treats the provided {@link PrintStream} as an {@link Appendable}, and is 
+	 * equivalent to {@link #object(Appendable)}. The stream's own character encoding is used.
+	 * 
+	 * @param stream a {@link PrintStream} to output the JSON document to
+	 * @return a {@link JsonObjectDocument} representing the top-level JSON object of a 
+	 * JSON document
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 */
+	public static JsonObjectDocument object(final PrintStream stream) throws IOException {
+		return object((Appendable) stream);
 	}
 	
 	/**
@@ -79,7 +131,51 @@ public final class Json {
 	 */
 	public static JsonArrayDocument array(final Appendable appendable) throws IOException {
 		if (appendable == null) throw new IllegalArgumentException("Missing appendable");
-		return new JsonArrayDocument(new FastJsonScribe(new JsonAppender(appendable, new JsonEscaper())).pushArray());
+		return new JsonArrayDocument(new FastJsonScribe(new JsonAppender(appendable, ESCAPER)).pushArray());
+	}
+	
+	/**
+	 * Returns a {@link JsonArrayDocument} representing the top-level JSON array of a 
+	 * JSON document fragment, encoded as UTF-8.
+	 * 
+	 * <p>
+	 * Output is buffered by a {@link Utf8JsonAppender}, so there is no need to wrap the
+	 * provided stream in a {@link java.io.Writer} or a buffer. The buffered output is
+	 * written to the provided stream, and the stream flushed, when the returned
+	 * document is closed. The stream itself is not closed.
+	 * 
+	 * <p>
+	 * The {@link JsonArrayDocument} returned by this method will use a 
+	 * {@link FastJsonScribe}.
+	 * 
+	 * @param stream an {@link OutputStream} to output the JSON document to
+	 * @return a {@link JsonArrayDocument} representing the top-level JSON array of a JSON 
+	 * document fragment
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 */
+	public static JsonArrayDocument array(final OutputStream stream) throws IOException {
+		if (stream == null) throw new IllegalArgumentException("Missing stream");
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, ESCAPER);
+		return new JsonArrayDocument(new FastJsonScribe(appender).pushArray(), document -> appender.flush());
+	}
+	
+	/**
+	 * Returns a {@link JsonArrayDocument} representing the top-level JSON array of a 
+	 * JSON document fragment.
+	 * 
+	 * <p>
+	 * This method treats the provided {@link PrintStream} as an {@link Appendable}, and is 
+	 * equivalent to {@link #array(Appendable)}. The stream's own character encoding is used.
+	 * 
+	 * @param stream a {@link PrintStream} to output the JSON document to
+	 * @return a {@link JsonArrayDocument} representing the top-level JSON array of a JSON 
+	 * document fragment
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 */
+	public static JsonArrayDocument array(final PrintStream stream) throws IOException {
+		return array((Appendable) stream);
 	}
 	
 	/**
@@ -5,8 +5,22 @@
 package io.codecastle.scriptorium.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import io.codecastle.scriptorium.Inscribable;
 
 /**
@@ -333,6 +347,280 @@ public interface JsonArray<THIS extends JsonArray<THIS>> extends Inscribable<Jso
 		return with((boolean) element);
 	}
 	
+	/**
+	 * Appends a string literal element containing the provided timestamp in ISO-8601, in
+	 * UTC, such as {@code "2018-11-04T01:02:03.250Z"}, and returns this object.
+	 * 
+	 * <p>
+	 * The element is formatted directly into the output and needs no escaping. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(Instant element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the provided timestamp in ISO-8601, with
+	 * its offset, such as {@code "2018-11-04T01:02:03-05:00"}, and returns this object.
+	 * 
+	 * <p>
+	 * The element is formatted directly into the output and needs no escaping. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(OffsetDateTime element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the provided date in ISO-8601, such as
+	 * {@code "2018-11-04"}, and returns this object.
+	 * 
+	 * <p>
+	 * The element is formatted directly into the output and needs no escaping. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(LocalDate element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the provided UUID, and returns this
+	 * object.
+	 * 
+	 * <p>
+	 * The element is formatted directly into the output and needs no escaping. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(UUID element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the name of the provided enum constant,
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * The element is formatted directly into the output and needs no escaping. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(Enum<?> element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the instant the provided number of
+	 * milliseconds after 1970-01-01T00:00:00Z in ISO-8601, in UTC, and returns this object.
+	 * 
+	 * @param epochMillis the timestamp to append, in milliseconds since the epoch
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #with(Instant)
+	 * @see #with(long)
+	 */
+	public THIS withTimestamp(long epochMillis) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the characters of the provided
+	 * {@link Reader}, read to its end, and returns this object. The Reader is not closed.
+	 * 
+	 * <p>
+	 * The contents of the element will be double-quoted and escaped. It is read and
+	 * escaped through a fixed-size buffer, so it is never held in memory in full. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the Reader whose characters to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the Reader
+	 */
+	public THIS with(Reader element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the characters of the provided stream,
+	 * read to its end and decoded with the provided {@link Charset}, and returns this
+	 * object. The stream is not closed.
+	 * 
+	 * <p>
+	 * The contents of the element will be double-quoted and escaped. Characters whose
+	 * encoding straddles two reads are decoded whole. If the provided element is null, a
+	 * {@code null} literal element will be appended.
+	 * 
+	 * @param element the stream whose characters to append to the array
+	 * @param charset the {@link Charset} the characters are encoded in
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @throws IllegalArgumentException if {@code charset} is null
+	 * @see #with(Reader)
+	 */
+	public THIS with(InputStream element, Charset charset) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the provided bytes in Base64, and
+	 * returns this object.
+	 * 
+	 * <p>
+	 * The bytes are encoded with the basic alphabet of RFC 4648, with padding, directly
+	 * into the output a chunk at a time, and need no escaping. If the provided element is
+	 * null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the bytes to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withBase64(byte[] element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the remaining bytes of the provided
+	 * buffer, from its position to its limit, in Base64, and returns this object. The
+	 * position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the buffer whose remaining bytes to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withBase64(byte[])
+	 */
+	public THIS withBase64(ByteBuffer element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the bytes of the provided stream, read
+	 * to its end, in Base64, and returns this object. The stream is not closed.
+	 * 
+	 * <p>
+	 * The stream is read and encoded a chunk at a time, so it is never held in memory in
+	 * full. If the provided element is null, a {@code null} literal element will be
+	 * appended.
+	 * 
+	 * @param element the stream whose bytes to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #withBase64(byte[])
+	 */
+	public THIS withBase64(InputStream element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the provided bytes in hexadecimal, with
+	 * two lowercase digits for every byte, and returns this object.
+	 * 
+	 * <p>
+	 * The bytes are encoded directly into the output a chunk at a time, and need no
+	 * escaping. If the provided element is null, a {@code null} literal element will be
+	 * appended.
+	 * 
+	 * @param element the bytes to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withHex(byte[] element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the remaining bytes of the provided
+	 * buffer, from its position to its limit, in hexadecimal, and returns this object. The
+	 * position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the buffer whose remaining bytes to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withHex(byte[])
+	 */
+	public THIS withHex(ByteBuffer element) throws IOException;
+	
+	/**
+	 * Appends a string literal element containing the bytes of the provided stream, read
+	 * to its end, in hexadecimal, and returns this object. The stream is not closed.
+	 * 
+	 * <p>
+	 * If the provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the stream whose bytes to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #withHex(byte[])
+	 */
+	public THIS withHex(InputStream element) throws IOException;
+	
+	/**
+	 * Appends the provided serialized JSON value to the array, as it is, and returns this
+	 * object.
+	 * 
+	 * <p>
+	 * The element is not quoted or escaped, so it must contain exactly one JSON value,
+	 * such as a fragment cached from an earlier document. Whether it is checked depends on
+	 * the {@link io.codecastle.scriptorium.json.scribe.JsonScribe}: a
+	 * {@link io.codecastle.scriptorium.json.scribe.SafeJsonScribe} checks it and throws
+	 * an {@link IllegalArgumentException} if it is not well-formed, and a
+	 * {@link io.codecastle.scriptorium.json.scribe.FastJsonScribe} outputs it unchecked.
+	 * If the provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the serialized JSON value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the element is checked and is not well-formed
+	 */
+	public THIS withRaw(CharSequence element) throws IOException;
+	
+	/**
+	 * Appends the provided characters, which are a serialized JSON value, to the array as
+	 * they are, and returns this object.
+	 * 
+	 * <p>
+	 * If the provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the serialized JSON value to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the element is checked and is not well-formed
+	 * @see #withRaw(CharSequence)
+	 */
+	public THIS withRaw(char[] element) throws IOException;
+	
+	/**
+	 * Appends the provided UTF-8 bytes, which are a serialized JSON value, to the array as
+	 * they are, and returns this object.
+	 * 
+	 * <p>
+	 * When the output is UTF-8, the bytes are copied to it without being decoded. If the
+	 * provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the serialized JSON value to append to the array, encoded in UTF-8
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the element is checked and is not well-formed
+	 * @see #withRaw(CharSequence)
+	 */
+	public THIS withRaw(byte[] element) throws IOException;
+	
+	/**
+	 * Appends the remaining UTF-8 bytes of the provided buffer, from its position to its
+	 * limit, which are a serialized JSON value, to the array as they are, and returns this
+	 * object. The position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided element is null, a {@code null} literal element will be appended.
+	 * 
+	 * @param element the buffer whose remaining bytes to append to the array, encoded in
+	 * UTF-8
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the element is checked and is not well-formed
+	 * @see #withRaw(byte[])
+	 */
+	public THIS withRaw(ByteBuffer element) throws IOException;
+	
 	/**
 	 * Appends the provided elements to the array and returns this object.
 	 * 
@@ -399,6 +687,192 @@ public interface JsonArray<THIS extends JsonArray<THIS>> extends Inscribable<Jso
 	 */
 	public THIS withAll(Iterable<?> elements) throws IOException;
 	
+	/**
+	 * Appends the provided ints to the array as numeric literals and returns this object.
+	 * 
+	 * <p>
+	 * The elements are output together, with a single call to the underlying
+	 * {@link io.codecastle.scriptorium.json.scribe.JsonScribe}, rather than boxed and
+	 * appended one at a time.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withAll(int[] elements) throws IOException;
+	
+	/**
+	 * Appends the provided longs to the array as numeric literals and returns this object.
+	 * 
+	 * <p>
+	 * The elements are output together, with a single call to the underlying
+	 * {@link io.codecastle.scriptorium.json.scribe.JsonScribe}, rather than boxed and
+	 * appended one at a time.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withAll(long[] elements) throws IOException;
+	
+	/**
+	 * Appends the provided floats to the array as numeric literals and returns this object.
+	 * 
+	 * <p>
+	 * NaN and infinite elements are appended as {@code null} literals.
+	 * 
+	 * <p>
+	 * The elements are output together, with a single call to the underlying
+	 * {@link io.codecastle.scriptorium.json.scribe.JsonScribe}, rather than boxed and
+	 * appended one at a time.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withAll(float[] elements) throws IOException;
+	
+	/**
+	 * Appends the provided doubles to the array as numeric literals and returns this object.
+	 * 
+	 * <p>
+	 * NaN and infinite elements are appended as {@code null} literals.
+	 * 
+	 * <p>
+	 * The elements are output together, with a single call to the underlying
+	 * {@link io.codecastle.scriptorium.json.scribe.JsonScribe}, rather than boxed and
+	 * appended one at a time.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withAll(double[] elements) throws IOException;
+	
+	/**
+	 * Appends the provided booleans to the array as Boolean value literals and returns this object.
+	 * 
+	 * <p>
+	 * The elements are output together, with a single call to the underlying
+	 * {@link io.codecastle.scriptorium.json.scribe.JsonScribe}, rather than boxed and
+	 * appended one at a time.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withAll(boolean[] elements) throws IOException;
+	
+	/**
+	 * Appends the remaining elements of the provided buffer, from its position to its
+	 * limit, to the array as numeric literals and returns this object. The position of
+	 * the buffer is not changed.
+	 * 
+	 * <p>
+	 * The elements of buffers backed by an accessible array, such as those created by
+	 * {@link IntBuffer#wrap(int[])}, are output directly from the array. Other buffers, such as
+	 * views of a direct or memory-mapped {@link java.nio.ByteBuffer}, are copied in
+	 * chunks into a small array and output a chunk at a time.
+	 * If {@code elements} is null or has no remaining elements, this method has no effect.
+	 * 
+	 * @param elements the buffer whose remaining elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withAll(int[])
+	 */
+	public THIS withAll(IntBuffer elements) throws IOException;
+	
+	/**
+	 * Appends the remaining elements of the provided buffer, from its position to its
+	 * limit, to the array as numeric literals and returns this object. The position of
+	 * the buffer is not changed.
+	 * 
+	 * <p>
+	 * The elements of buffers backed by an accessible array, such as those created by
+	 * {@link LongBuffer#wrap(long[])}, are output directly from the array. Other buffers, such as
+	 * views of a direct or memory-mapped {@link java.nio.ByteBuffer}, are copied in
+	 * chunks into a small array and output a chunk at a time.
+	 * If {@code elements} is null or has no remaining elements, this method has no effect.
+	 * 
+	 * @param elements the buffer whose remaining elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withAll(long[])
+	 */
+	public THIS withAll(LongBuffer elements) throws IOException;
+	
+	/**
+	 * Appends the remaining elements of the provided buffer, from its position to its
+	 * limit, to the array as numeric literals and returns this object. The position of
+	 * the buffer is not changed. NaN and infinite elements are appended as {@code null} literals.
+	 * 
+	 * <p>
+	 * The elements of buffers backed by an accessible array, such as those created by
+	 * {@link DoubleBuffer#wrap(double[])}, are output directly from the array. Other buffers, such as
+	 * views of a direct or memory-mapped {@link java.nio.ByteBuffer}, are copied in
+	 * chunks into a small array and output a chunk at a time.
+	 * If {@code elements} is null or has no remaining elements, this method has no effect.
+	 * 
+	 * @param elements the buffer whose remaining elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withAll(double[])
+	 */
+	public THIS withAll(DoubleBuffer elements) throws IOException;
+	
+	/**
+	 * Appends the elements of the provided stream to the array as numeric literals and
+	 * returns this object. This is a terminal operation on the stream.
+	 * 
+	 * <p>
+	 * The elements are collected in chunks into a small array and output a chunk at a
+	 * time, without boxing.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements the stream of elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withAll(int[])
+	 */
+	public THIS withAll(IntStream elements) throws IOException;
+	
+	/**
+	 * Appends the elements of the provided stream to the array as numeric literals and
+	 * returns this object. This is a terminal operation on the stream.
+	 * 
+	 * <p>
+	 * The elements are collected in chunks into a small array and output a chunk at a
+	 * time, without boxing.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements the stream of elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withAll(long[])
+	 */
+	public THIS withAll(LongStream elements) throws IOException;
+	
+	/**
+	 * Appends the elements of the provided stream to the array as numeric literals and
+	 * returns this object. NaN and infinite elements are appended as {@code null} literals. This is a terminal operation on the stream.
+	 * 
+	 * <p>
+	 * The elements are collected in chunks into a small array and output a chunk at a
+	 * time, without boxing.
+	 * If {@code elements} is null or empty, this method has no effect.
+	 * 
+	 * @param elements the stream of elements to append to the array
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withAll(double[])
+	 */
+	public THIS withAll(DoubleStream elements) throws IOException;
+	
 	/**
 	 * Appends an empty JSON array as an element of this array and returns this object.
 	 * 
@@ -4,6 +4,8 @@
  */
 package io.codecastle.scriptorium.json;
 
+import java.io.IOException;
+import io.codecastle.scriptorium.function.IOConsumer;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
 
 /**
@@ -11,12 +13,53 @@ import io.codecastle.scriptorium.json.scribe.JsonScribe;
  * 
  * @author Doug Valenta
  * @see Json#array(Appendable)
+ * @see Json#array(java.io.OutputStream)
+ * @see JsonWriterPool#array(Appendable)
  */
 public final class JsonArrayDocument extends CloseableJsonArray<JsonArrayDocument> {
 	
+	private final IOConsumer<? super JsonArrayDocument> onClose;
 	
 	JsonArrayDocument(final JsonScribe scribe) {
+		this(scribe, null);
+	}
+	
+	JsonArrayDocument(final JsonScribe scribe, final IOConsumer<? super JsonArrayDocument> onClose) {
 		super(scribe);
+		this.onClose = onClose;
+	}
+	
+	/**
+	 * Starts a new top-level JSON array on this document's scribe, which must have been
+	 * reset, so that a closed document can be reused. The nodes returned while the
+	 * document was last open are released for reuse, since they may no longer be used.
+	 */
+	JsonArrayDocument open() throws IOException {
+		release();
+		scribe.pushArray();
+		return reopen();
+	}
+	
+	/**
+	 * Closes this JSON array and any nested arrays, objects, or values that remain open.
+	 * 
+	 * <p>
+	 * If this document buffers its own output, the buffered output is written to the
+	 * underlying destination and flushed. If this document was obtained from a
+	 * {@link JsonWriterPool}, it is returned to the pool and must not be used again.
+	 * 
+	 * <p>
+	 * Subsequent calls to this method after the first on the same object have no
+	 * effect.
+	 * 
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		if (cursor > 0) {
+			super.close();
+			if (onClose != null) onClose.accept(this);
+		}
 	}
 	
 }
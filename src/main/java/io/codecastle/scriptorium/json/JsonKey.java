@@ -5,8 +5,16 @@
 package io.codecastle.scriptorium.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
 
 /**
@@ -20,6 +28,10 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 
 	private final P parent;
 	
+	private JsonValue<P> valueNode;
+	private JsonArrayNode<P> arrayNode;
+	private JsonObjectNode<P> objectNode;
+	
 	JsonKey(final JsonScribe scribe, final P parent) {
 		super(scribe);
 		this.parent = parent;
@@ -50,7 +62,7 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 	 */
 	public JsonValue<P> value() throws IOException {
 		scribe.pop().pushValue();
-		return new JsonValue(scribe, parent);
+		return valueNode();
 	}
 	
 	/**
@@ -83,7 +95,7 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 	 */
 	public JsonValue<P> value(final char value) throws IOException {
 		scribe.pop().pushValue().append(value);
-		return new JsonValue(scribe, parent);
+		return valueNode();
 	}
 	
 	/**
@@ -152,7 +164,7 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 	public JsonValue<P> value(final CharSequence value) throws IOException {
 		scribe.pop().pushValue();
 		if (value != null) scribe.append(value);
-		return new JsonValue(scribe, parent);
+		return valueNode();
 	}
 	
 	/**
@@ -500,6 +512,360 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 		return then((boolean) value);
 	}
 	
+	/**
+	 * Assigns this key a string literal value containing the provided timestamp in
+	 * ISO-8601, in UTC, such as {@code "2018-11-04T01:02:03.250Z"}, and returns the
+	 * containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#value(Instant)
+	 */
+	public P then(final Instant value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the provided timestamp in
+	 * ISO-8601, with its offset, such as {@code "2018-11-04T01:02:03-05:00"}, and returns
+	 * the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#value(OffsetDateTime)
+	 */
+	public P then(final OffsetDateTime value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the provided date in ISO-8601,
+	 * such as {@code "2018-11-04"}, and returns the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#value(LocalDate)
+	 */
+	public P then(final LocalDate value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the provided UUID, and returns
+	 * the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#value(UUID)
+	 */
+	public P then(final UUID value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the name of the provided enum
+	 * constant, and returns the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#value(Enum)
+	 */
+	public P then(final Enum<?> value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the instant the provided number
+	 * of milliseconds after 1970-01-01T00:00:00Z in ISO-8601, in UTC, and returns the
+	 * containing {@link JsonObject}.
+	 * 
+	 * @param epochMillis the timestamp to assign, in milliseconds since the epoch
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 */
+	public P thenTimestamp(final long epochMillis) throws IOException {
+		scribe.pop().timestampValue(epochMillis);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the characters of the provided
+	 * {@link Reader}, read to its end, and returns the containing {@link JsonObject}. The
+	 * Reader is not closed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the Reader whose characters to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#value(Reader)
+	 */
+	public P then(final Reader value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the characters of the provided
+	 * stream, read to its end and decoded with the provided {@link Charset}, and returns
+	 * the containing {@link JsonObject}. The stream is not closed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the stream whose characters to assign
+	 * @param charset the {@link Charset} the characters are encoded in
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code charset} is null
+	 * @see JsonScribe#value(InputStream, Charset)
+	 */
+	public P then(final InputStream value, final Charset charset) throws IOException {
+		if (charset == null) throw new IllegalArgumentException("Missing charset");
+		if (value == null) return thenNull();
+		scribe.pop().value(value, charset);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the provided bytes in Base64, and
+	 * returns the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the bytes to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#base64Value(byte[], int, int)
+	 */
+	public P thenBase64(final byte[] value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().base64Value(value, 0, value.length);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the remaining bytes of the
+	 * provided buffer in Base64, and returns the containing {@link JsonObject}. The
+	 * position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the buffer whose remaining bytes to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#base64Value(ByteBuffer)
+	 */
+	public P thenBase64(final ByteBuffer value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().base64Value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the bytes of the provided stream,
+	 * read to its end, in Base64, and returns the containing {@link JsonObject}. The
+	 * stream is not closed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the stream whose bytes to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#base64Value(InputStream)
+	 */
+	public P thenBase64(final InputStream value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().base64Value(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the provided bytes in
+	 * hexadecimal, and returns the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the bytes to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#hexValue(byte[], int, int)
+	 */
+	public P thenHex(final byte[] value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().hexValue(value, 0, value.length);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the remaining bytes of the
+	 * provided buffer in hexadecimal, and returns the containing {@link JsonObject}. The
+	 * position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the buffer whose remaining bytes to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#hexValue(ByteBuffer)
+	 */
+	public P thenHex(final ByteBuffer value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().hexValue(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key a string literal value containing the bytes of the provided stream,
+	 * read to its end, in hexadecimal, and returns the containing {@link JsonObject}. The
+	 * stream is not closed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the stream whose bytes to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @see JsonScribe#hexValue(InputStream)
+	 */
+	public P thenHex(final InputStream value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().hexValue(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key the provided serialized JSON value, as it is, and returns the
+	 * containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * The value is not quoted or escaped, so it must contain exactly one JSON value.
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the serialized JSON value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see JsonScribe#rawValue(CharSequence)
+	 */
+	public P thenRaw(final CharSequence value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().rawValue(value);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key the provided characters, which are a serialized JSON value, as
+	 * they are, and returns the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the serialized JSON value to assign
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see JsonScribe#rawValue(char[], int, int)
+	 */
+	public P thenRaw(final char[] value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().rawValue(value, 0, value.length);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key the provided UTF-8 bytes, which are a serialized JSON value, as
+	 * they are, and returns the containing {@link JsonObject}.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the serialized JSON value to assign, encoded in UTF-8
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see JsonScribe#rawValue(byte[], int, int)
+	 */
+	public P thenRaw(final byte[] value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().rawValue(value, 0, value.length);
+		return parent;
+	}
+	
+	/**
+	 * Assigns this key the remaining UTF-8 bytes of the provided buffer, which are a
+	 * serialized JSON value, as they are, and returns the containing {@link JsonObject}.
+	 * The position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value
+	 * will be assigned.
+	 * 
+	 * @param value the buffer whose remaining bytes to assign, encoded in UTF-8
+	 * @return the containing {@link JsonObject}
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see JsonScribe#rawValue(ByteBuffer)
+	 */
+	public P thenRaw(final ByteBuffer value) throws IOException {
+		if (value == null) return thenNull();
+		scribe.pop().rawValue(value);
+		return parent;
+	}
+	
 	/**
 	 * Begins a new JSON object value assigned to this key and returns a 
 	 * {@link JsonObjectNode} that can be used to append key-value pairs to it.
@@ -518,7 +884,8 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 	 */
 	public JsonObjectNode<P> object() throws IOException {
 		scribe.pop().pushObject();
-		return new JsonObjectNode(scribe, parent);
+		if (objectNode == null || !objectNode.isReleased()) return objectNode = new JsonObjectNode<>(scribe, parent);
+		return objectNode.reopen();
 	}
 	
 	/**
@@ -539,7 +906,22 @@ public final class JsonKey<P> extends AbstractJsonAppendable<JsonKey<P>> {
 	 */
 	public JsonArrayNode<P> array() throws IOException {
 		scribe.pop().pushArray();
-		return new JsonArrayNode(scribe, parent);
+		if (arrayNode == null || !arrayNode.isReleased()) return arrayNode = new JsonArrayNode<>(scribe, parent);
+		return arrayNode.reopen();
+	}
+	
+	private JsonValue<P> valueNode() {
+		if (valueNode == null || !valueNode.isReleased()) return valueNode = new JsonValue<>(scribe, parent);
+		return valueNode.reopen();
+	}
+	
+	/**
+	 * Releases the nodes this key has returned, like {@link AbstractJsonArray#release()}.
+	 */
+	void release() {
+		if (valueNode != null) valueNode.release();
+		if (arrayNode != null) arrayNode.release();
+		if (objectNode != null) objectNode.release();
 	}
 	
 }
@@ -5,9 +5,17 @@
 package io.codecastle.scriptorium.json;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.UUID;
 import io.codecastle.scriptorium.Inscribable;
 
 /**
@@ -482,6 +490,394 @@ public interface JsonObject<THIS extends JsonObject<THIS>> extends Inscribable<J
 	 */
 	public THIS with(CharSequence key, boolean value) throws IOException;
 	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the provided
+	 * timestamp in ISO-8601, in UTC, such as {@code "2018-11-04T01:02:03.250Z"}, and
+	 * returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The value is
+	 * formatted directly into the output and needs no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(CharSequence key, Instant value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the provided
+	 * timestamp in ISO-8601, with its offset, such as {@code "2018-11-04T01:02:03-05:00"},
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The value is
+	 * formatted directly into the output and needs no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(CharSequence key, OffsetDateTime value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the provided
+	 * date in ISO-8601, such as {@code "2018-11-04"}, and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The value is
+	 * formatted directly into the output and needs no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(CharSequence key, LocalDate value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the provided
+	 * UUID, and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The value is
+	 * formatted directly into the output and needs no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(CharSequence key, UUID value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the name of
+	 * the provided enum constant, and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The value is
+	 * formatted directly into the output and needs no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS with(CharSequence key, Enum<?> value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the instant
+	 * the provided number of milliseconds after 1970-01-01T00:00:00Z in ISO-8601, in UTC,
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * @param key the key to append
+	 * @param epochMillis the timestamp to append, in milliseconds since the epoch
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #with(CharSequence, Instant)
+	 * @see #with(CharSequence, long)
+	 */
+	public THIS withTimestamp(CharSequence key, long epochMillis) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the
+	 * characters of the provided {@link Reader}, read to its end, and returns this object.
+	 * The Reader is not closed.
+	 * 
+	 * <p>
+	 * The contents of the provided key and value will be double-quoted and escaped. The
+	 * value is read and escaped through a fixed-size buffer, so it is never held in memory
+	 * in full.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect, and the Reader is not read.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the Reader whose characters to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the Reader
+	 */
+	public THIS with(CharSequence key, Reader value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the
+	 * characters of the provided stream, read to its end and decoded with the provided
+	 * {@link Charset}, and returns this object. The stream is not closed.
+	 * 
+	 * <p>
+	 * The contents of the provided key and value will be double-quoted and escaped. The
+	 * value is decoded and escaped through fixed-size buffers, so it is never held in
+	 * memory in full. Characters whose encoding straddles two reads are decoded whole.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect, and the stream is not read.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the stream whose characters to append
+	 * @param charset the {@link Charset} the characters are encoded in
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @throws IllegalArgumentException if {@code charset} is null
+	 * @see #with(CharSequence, Reader)
+	 */
+	public THIS with(CharSequence key, InputStream value, Charset charset) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the provided
+	 * bytes in Base64, and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The bytes are
+	 * encoded with the basic alphabet of RFC 4648, with padding, directly into the output
+	 * a chunk at a time, and need no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withBase64(CharSequence key, byte[] value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the remaining
+	 * bytes of the provided buffer, from its position to its limit, in Base64, and returns
+	 * this object. The position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the buffer whose remaining bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withBase64(CharSequence, byte[])
+	 */
+	public THIS withBase64(CharSequence key, ByteBuffer value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the bytes of
+	 * the provided stream, read to its end, in Base64, and returns this object. The stream
+	 * is not closed.
+	 * 
+	 * <p>
+	 * The stream is read and encoded a chunk at a time, so it is never held in memory in
+	 * full.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect, and the stream is not read.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the stream whose bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #withBase64(CharSequence, byte[])
+	 */
+	public THIS withBase64(CharSequence key, InputStream value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the provided
+	 * bytes in hexadecimal, with two lowercase digits for every byte, and returns this
+	 * object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The bytes are
+	 * encoded directly into the output a chunk at a time, and need no escaping.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public THIS withHex(CharSequence key, byte[] value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the remaining
+	 * bytes of the provided buffer, from its position to its limit, in hexadecimal, and
+	 * returns this object. The position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the buffer whose remaining bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #withHex(CharSequence, byte[])
+	 */
+	public THIS withHex(CharSequence key, ByteBuffer value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with a string literal value containing the bytes of
+	 * the provided stream, read to its end, in hexadecimal, and returns this object. The
+	 * stream is not closed.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect, and the stream is not read.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the stream whose bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #withHex(CharSequence, byte[])
+	 */
+	public THIS withHex(CharSequence key, InputStream value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with the provided serialized JSON value, as it is,
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * The contents of the provided key will be double-quoted and escaped. The value is not
+	 * quoted or escaped, so it must contain exactly one JSON value, such as a fragment
+	 * cached from an earlier document. Whether it is checked depends on the
+	 * {@link io.codecastle.scriptorium.json.scribe.JsonScribe}: a
+	 * {@link io.codecastle.scriptorium.json.scribe.SafeJsonScribe} checks it and throws
+	 * an {@link IllegalArgumentException} if it is not well-formed, and a
+	 * {@link io.codecastle.scriptorium.json.scribe.FastJsonScribe} outputs it unchecked.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the serialized JSON value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 */
+	public THIS withRaw(CharSequence key, CharSequence value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with the provided characters, which are a
+	 * serialized JSON value, as they are, and returns this object.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the serialized JSON value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see #withRaw(CharSequence, CharSequence)
+	 */
+	public THIS withRaw(CharSequence key, char[] value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with the provided UTF-8 bytes, which are a
+	 * serialized JSON value, as they are, and returns this object.
+	 * 
+	 * <p>
+	 * When the output is UTF-8, the bytes are copied to it without being decoded.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the serialized JSON value to append, encoded in UTF-8
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see #withRaw(CharSequence, CharSequence)
+	 */
+	public THIS withRaw(CharSequence key, byte[] value) throws IOException;
+	
+	/**
+	 * Appends a key to the JSON object with the remaining UTF-8 bytes of the provided
+	 * buffer, from its position to its limit, which are a serialized JSON value, as they
+	 * are, and returns this object. The position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * If the provided key is null, this method has no effect.
+	 * 
+	 * <p>
+	 * If the provided value is null, a {@code null} literal value will be appended.
+	 * 
+	 * @param key the key to append
+	 * @param value the buffer whose remaining bytes to append, encoded in UTF-8
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the value is checked and is not well-formed
+	 * @see #withRaw(CharSequence, byte[])
+	 */
+	public THIS withRaw(CharSequence key, ByteBuffer value) throws IOException;
+	
 	/**
 	 * Appends a key to the JSON object with a string literal value only if the provided
 	 * value is not null, and returns this object.
@@ -61,4 +61,29 @@ public final class JsonValue<P> extends AbstractJsonAppendable<JsonValue<P>> imp
 		}
 	}
 	
+	// true once this object has been released by its document, which no caller may still
+	// hold, so that its parent may reuse it
+	private boolean released = false;
+	
+	/**
+	 * Returns true if this object has been released by its document, so that its parent
+	 * may reuse it.
+	 */
+	boolean isReleased() {
+		return released;
+	}
+	
+	/**
+	 * Reuses this object to represent a JSON string literal just pushed on its scribe.
+	 */
+	JsonValue<P> reopen() {
+		closed = false;
+		released = false;
+		return this;
+	}
+	
+	void release() {
+		released = true;
+	}
+	
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class for which the {@code scriptorium-json-processor} annotation processor
+ * generates a {@link io.codecastle.scriptorium.json.scribe.JsonValueWriter} at compile
+ * time.
+ * 
+ * <p>
+ * The generated writer is named after the class, with {@code JsonWriter} appended (and
+ * the names of any enclosing classes prepended, separated by underscores), is placed in
+ * the same package, and is available as its {@code INSTANCE} constant. It outputs a JSON
+ * object with a key for each of the class's bean properties, in declaration order: each
+ * non-private, non-static, no-argument {@code getX()} method, or {@code isX()} method
+ * returning a boolean. Properties are written as {@link JsonObject}'s {@code withIfNotNull}
+ * methods would: a property whose value is null is left out.
+ * 
+ * <pre>
+ * &#64;JsonWritable
+ * public class Event { ... }
+ * ...
+ * EventJsonWriter.INSTANCE.write(scribe, event);
+ * </pre>
+ * 
+ * <p>
+ * Properties may be primitives and their wrappers, {@link CharSequence}s,
+ * {@link java.math.BigInteger}s, {@link java.math.BigDecimal}s, enums (written by name),
+ * other {@code JsonWritable} classes, {@link java.util.Optional}s, arrays and
+ * {@link Iterable}s of any of those, and {@link java.util.Map}s from CharSequence keys
+ * to any of those. Any other type is a compile-time error.
+ * 
+ * @author Doug Valenta
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface JsonWritable {
+	
+}
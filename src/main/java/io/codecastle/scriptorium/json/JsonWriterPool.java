@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import io.codecastle.scriptorium.function.IOConsumer;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.Utf8JsonAppender;
+
+/**
+ * A thread-safe pool of reusable JSON documents, for applications that write many small
+ * documents and would rather not create a new appender, scribe, and document for each.
+ *
+ * <p>
+ * The documents returned by this pool behave like those returned by the corresponding
+ * methods of {@link Json}, except that closing a document returns it, along with its
+ * scribe and appender, to the pool. A document must not be used after it is closed, and
+ * neither may any array, object, key or value obtained from it, since they are reused
+ * along with it. A document that is never closed is simply not returned to the pool.
+ *
+ * <p>
+ * Documents for {@link Appendable} and {@link OutputStream} destinations are pooled
+ * separately, and up to the pool's capacity of each are kept for reuse. When none are
+ * available, new ones are created. A closed document no longer refers to its destination,
+ * so the pool does not keep it from being collected.
+ *
+ * @author Doug Valenta
+ * @see Json
+ */
+public final class JsonWriterPool {
+
+	/**
+	 * The capacity used by {@link #JsonWriterPool()}.
+	 */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	// idle entries output here, so that they do not keep the last document's destination
+	// reachable
+	private static final Appendable DETACHED_APPENDABLE = new Appendable() {
+		@Override
+		public Appendable append(final CharSequence sequence) {
+			return this;
+		}
+
+		@Override
+		public Appendable append(final CharSequence sequence, final int start, final int end) {
+			return this;
+		}
+
+		@Override
+		public Appendable append(final char character) {
+			return this;
+		}
+	};
+	private static final OutputStream DETACHED_STREAM = new OutputStream() {
+		@Override
+		public void write(final int b) {
+		}
+
+		@Override
+		public void write(final byte[] bytes, final int start, final int length) {
+		}
+	};
+
+	private final Stack appendables;
+	private final Stack streams;
+	private final int bufferSize;
+
+	/**
+	 * Creates a new JsonWriterPool that keeps up to {@link #DEFAULT_CAPACITY} documents of
+	 * each kind, and buffers {@link OutputStream} output in blocks of
+	 * {@link Utf8JsonAppender#DEFAULT_BUFFER_SIZE} bytes.
+	 */
+	public JsonWriterPool() {
+		this(DEFAULT_CAPACITY, Utf8JsonAppender.DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new JsonWriterPool that keeps up to the provided number of documents of
+	 * each kind, and buffers {@link OutputStream} output in blocks of the provided size.
+	 *
+	 * @param capacity the number of documents of each kind to keep for reuse
+	 * @param bufferSize the size of the buffer used for {@link OutputStream} output, in
+	 * bytes
+	 * @throws IllegalArgumentException if {@code capacity} is less than 1 or
+	 * {@code bufferSize} is less than {@link Utf8JsonAppender#MINIMUM_BUFFER_SIZE}
+	 */
+	public JsonWriterPool(final int capacity, final int bufferSize) {
+		if (capacity < 1) throw new IllegalArgumentException("Capacity " + capacity);
+		if (bufferSize < Utf8JsonAppender.MINIMUM_BUFFER_SIZE) throw new IllegalArgumentException("Buffer size " + bufferSize);
+		this.appendables = new Stack(capacity);
+		this.streams = new Stack(capacity);
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Returns a {@link JsonObjectDocument} representing the top-level JSON object of
+	 * a JSON document, which will be returned to this pool when it is closed.
+	 *
+	 * @param appendable an {@link Appendable} to output the JSON document to
+	 * @return a {@link JsonObjectDocument} representing the top-level JSON object of a
+	 * JSON document
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code appendable} is null
+	 * @see Json#object(Appendable)
+	 */
+	public JsonObjectDocument object(final Appendable appendable) throws IOException {
+		if (appendable == null) throw new IllegalArgumentException("Missing appendable");
+		final Entry entry = acquire(appendable);
+		entry.scribe.reset();
+		return entry.object.open();
+	}
+
+	/**
+	 * Returns a {@link JsonObjectDocument} representing the top-level JSON object of
+	 * a JSON document encoded as UTF-8, which will be returned to this pool when it is
+	 * closed.
+	 *
+	 * @param stream an {@link OutputStream} to output the JSON document to
+	 * @return a {@link JsonObjectDocument} representing the top-level JSON object of a
+	 * JSON document
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 * @see Json#object(OutputStream)
+	 */
+	public JsonObjectDocument object(final OutputStream stream) throws IOException {
+		if (stream == null) throw new IllegalArgumentException("Missing stream");
+		final Entry entry = acquire(stream);
+		entry.scribe.reset();
+		return entry.object.open();
+	}
+
+	/**
+	 * Returns a {@link JsonArrayDocument} representing the top-level JSON array of
+	 * a JSON document fragment, which will be returned to this pool when it is closed.
+	 *
+	 * @param appendable an {@link Appendable} to output the JSON document to
+	 * @return a {@link JsonArrayDocument} representing the top-level JSON array of a JSON
+	 * document fragment
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code appendable} is null
+	 * @see Json#array(Appendable)
+	 */
+	public JsonArrayDocument array(final Appendable appendable) throws IOException {
+		if (appendable == null) throw new IllegalArgumentException("Missing appendable");
+		final Entry entry = acquire(appendable);
+		entry.scribe.reset();
+		return entry.array.open();
+	}
+
+	/**
+	 * Returns a {@link JsonArrayDocument} representing the top-level JSON array of
+	 * a JSON document fragment encoded as UTF-8, which will be returned to this pool when
+	 * it is closed.
+	 *
+	 * @param stream an {@link OutputStream} to output the JSON document to
+	 * @return a {@link JsonArrayDocument} representing the top-level JSON array of a JSON
+	 * document fragment
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 * @see Json#array(OutputStream)
+	 */
+	public JsonArrayDocument array(final OutputStream stream) throws IOException {
+		if (stream == null) throw new IllegalArgumentException("Missing stream");
+		final Entry entry = acquire(stream);
+		entry.scribe.reset();
+		return entry.array.open();
+	}
+
+	private Entry acquire(final Appendable appendable) {
+		final Entry entry = appendables.pop();
+		if (entry == null) return new Entry(new JsonAppender(appendable, Json.ESCAPER), appendables, null);
+		entry.appender.reset(appendable);
+		return entry;
+	}
+
+	private Entry acquire(final OutputStream stream) {
+		final Entry entry = streams.pop();
+		if (entry == null) {
+			final Utf8JsonAppender appender = new Utf8JsonAppender(stream, Json.ESCAPER, bufferSize);
+			return new Entry(appender, streams, appender);
+		}
+		((Utf8JsonAppender) entry.appender).reset(stream);
+		return entry;
+	}
+
+	/**
+	 * An appender, scribe, and pair of documents that are reused together.
+	 */
+	private static final class Entry {
+
+		final JsonAppender appender;
+		final JsonScribe scribe;
+		final JsonObjectDocument object;
+		final JsonArrayDocument array;
+
+		Entry(final JsonAppender appender, final Stack stack, final Utf8JsonAppender flushable) {
+			this.appender = appender;
+			this.scribe = new FastJsonScribe(appender);
+			final IOConsumer<Object> release = document -> {
+				try {
+					if (flushable != null) flushable.flush();
+				} finally {
+					if (flushable != null) {
+						flushable.reset(DETACHED_STREAM);
+					} else {
+						appender.reset(DETACHED_APPENDABLE);
+					}
+					stack.push(this);
+				}
+			};
+			this.object = new JsonObjectDocument(scribe, release);
+			this.array = new JsonArrayDocument(scribe, release);
+		}
+
+	}
+
+	/**
+	 * A fixed-capacity stack of entries available for reuse.
+	 */
+	private static final class Stack {
+
+		private final Entry[] entries;
+		private int size;
+
+		Stack(final int capacity) {
+			this.entries = new Entry[capacity];
+		}
+
+		synchronized Entry pop() {
+			if (size == 0) return null;
+			final Entry entry = entries[--size];
+			entries[size] = null;
+			return entry;
+		}
+
+		synchronized void push(final Entry entry) {
+			if (size < entries.length) entries[size++] = entry;
+		}
+
+	}
+
+}
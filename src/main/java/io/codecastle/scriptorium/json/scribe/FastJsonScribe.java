@@ -5,34 +5,54 @@
 package io.codecastle.scriptorium.json.scribe;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 import io.codecastle.scriptorium.FluentNode;
 
 /**
  * A {@link JsonScribe} that produces invalid or unexpected output and throws
  * unchecked exceptions rather than checking for misuse of stack semantics.
  * 
+ * <p>
+ * Raw values are output as they are, without being checked.
+ * 
  * @author Doug Valenta
  */
 public final class FastJsonScribe implements JsonScribe {
 	
-	private enum State {
-		OBJECT,
-		ARRAY,
-		KEY,
-		VALUE
-	}
+	private static final byte OBJECT = 0;
+	private static final byte ARRAY = 1;
+	private static final byte KEY = 2;
+	private static final byte VALUE = 3;
 	
 	private final JsonAppender appender;
-	private final Deque<State> state = new LinkedList<>();
+	private final StateStack state;
 	
 	private boolean comma;
 	
 	public FastJsonScribe(final JsonAppender appender) {
+		this(appender, StateStack.DEFAULT_DEPTH);
+	}
+	
+	/**
+	 * Creates a new FastJsonScribe that outputs to the provided {@link JsonAppender}, with room
+	 * for the provided nesting depth before its state stack needs to grow.
+	 * 
+	 * @param appender the {@link JsonAppender} the new FastJsonScribe will output to
+	 * @param depth the initial capacity of the state stack
+	 * @throws IllegalArgumentException if {@code depth} is less than 1
+	 */
+	public FastJsonScribe(final JsonAppender appender, final int depth) {
 		this.appender = appender;
+		this.state = new StateStack(depth);
 	}
 	
 	@Override
@@ -46,7 +66,7 @@ public final class FastJsonScribe implements JsonScribe {
 	@Override
 	public JsonScribe pushObject() throws IOException {
 		if (comma) appender.appendComma();
-		state.push(State.OBJECT);
+		state.push(OBJECT);
 		appender.appendOpenBrace();
 		comma = false;
 		return this;
@@ -54,16 +74,24 @@ public final class FastJsonScribe implements JsonScribe {
 	
 	@Override
 	public JsonScribe key(final CharSequence key) throws IOException {
+		if (key instanceof JsonName) return key((JsonName) key);
 		if (comma) appender.appendComma();
 		appender.appendQuote().escape(key).appendCloseKey();
 		comma = false;
 		return this;
 	}
 	
+	@Override
+	public JsonScribe key(final JsonName key) throws IOException {
+		appender.appendName(key, comma);
+		comma = false;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe pushKey() throws IOException {
 		if (comma) appender.appendComma();
-		state.push(State.KEY);
+		state.push(KEY);
 		appender.appendQuote();
 		comma = false;
 		return this;
@@ -80,7 +108,7 @@ public final class FastJsonScribe implements JsonScribe {
 	@Override
 	public JsonScribe pushArray() throws IOException {
 		if (comma) appender.appendComma();
-		state.push(State.ARRAY);
+		state.push(ARRAY);
 		appender.appendOpenBracket();
 		comma = false;
 		return this;
@@ -88,12 +116,36 @@ public final class FastJsonScribe implements JsonScribe {
 	
 	@Override
 	public JsonScribe value(final CharSequence value) throws IOException {
+		if (value instanceof JsonConstant) return value((JsonConstant) value);
 		if (comma) appender.appendComma();
 		appender.appendQuote().escape(value).appendQuote();
 		comma = true;
 		return this;
 	}
 	
+	@Override
+	public JsonScribe value(final Reader value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendQuote().escape(value).appendQuote();
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final InputStream value, final Charset charset) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendQuote().escape(value, charset).appendQuote();
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final JsonConstant value) throws IOException {
+		appender.appendConstant(value, comma);
+		comma = true;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe value(final char value) throws IOException {
 		if (comma) appender.appendComma();
@@ -118,6 +170,126 @@ public final class FastJsonScribe implements JsonScribe {
 		return this;
 	}
 	
+	@Override
+	public JsonScribe value(final Instant value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendTimestamp(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final OffsetDateTime value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendTimestamp(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe timestampValue(final long value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendTimestamp(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final LocalDate value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendDate(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final UUID value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendUuid(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe base64Value(final byte[] value, final int start, final int end) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendBase64(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe base64Value(final ByteBuffer value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendBase64(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe base64Value(final InputStream value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendBase64(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe hexValue(final byte[] value, final int start, final int end) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendHex(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe hexValue(final ByteBuffer value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendHex(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe hexValue(final InputStream value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendHex(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final CharSequence value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendRaw(value, 0, value.length());
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final char[] value, final int start, final int end) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendRaw(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final byte[] value, final int start, final int end) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendRaw(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final ByteBuffer value) throws IOException {
+		if (comma) appender.appendComma();
+		appender.appendRaw(value);
+		comma = true;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe value(final int value) throws IOException {
 		if (comma) appender.appendComma();
@@ -160,6 +332,51 @@ public final class FastJsonScribe implements JsonScribe {
 		return this;
 	}
 	
+	@Override
+	public JsonScribe values(final int[] values, final int start, final int end) throws IOException {
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final long[] values, final int start, final int end) throws IOException {
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final float[] values, final int start, final int end) throws IOException {
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final double[] values, final int start, final int end) throws IOException {
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final boolean[] values, final int start, final int end) throws IOException {
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendBooleans(values, start, end);
+		comma = true;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe nullValue() throws IOException {
 		if (comma) appender.appendComma();
@@ -187,7 +404,7 @@ public final class FastJsonScribe implements JsonScribe {
 	@Override
 	public JsonScribe pushValue() throws IOException {
 		if (comma) appender.appendComma();
-		state.push(State.VALUE);
+		state.push(VALUE);
 		appender.appendQuote();
 		return this;
 	}
@@ -263,4 +480,12 @@ public final class FastJsonScribe implements JsonScribe {
 		return this;
 	}
 	
+	@Override
+	public JsonScribe reset() {
+		state.clear();
+		comma = false;
+		inscription = null;
+		return this;
+	}
+	
 }
@@ -5,32 +5,123 @@
 package io.codecastle.scriptorium.json.scribe;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
 import io.codecastle.scriptorium.scribe.Escaper;
 
 /**
  * Outputs JSON tokens, including escaped string literals, to an underlying {@link Appendable}.
  * 
+ * <p>
+ * When the provided {@link Escaper} is a plain {@link JsonEscaper}, runs of characters
+ * that need no escaping are output with a single call to the underlying Appendable (or,
+ * for a {@link Writer} and a {@link String}, to {@link Writer#write(String, int, int)}).
+ * Other escapers, including subclasses of JsonEscaper, are called once for every
+ * character.
+ * 
+ * <p>
+ * When the underlying Appendable is a {@link StringBuilder}, a {@link String} is escaped
+ * by copying it into a scratch buffer in chunks with
+ * {@link String#getChars(int, int, char[], int)}, and escaping each chunk as an array
+ * of characters. This turns plain ASCII strings into bulk copies. A Writer already
+ * copies strings in bulk, so strings are passed to it directly.
+ * 
+ * <p>
+ * Numbers other than BigIntegers and BigDecimals are formatted into a scratch buffer
+ * owned by the JsonAppender rather than into a new String, and the buffer is output with a single call to the underlying
+ * Appendable (or, for a {@link Writer} or a {@link StringBuilder}, as a char array).
+ * Floats and doubles are output as the shortest decimal that rounds back to the same
+ * value, in the format of {@link Double#toString(double)}, unless another
+ * {@link JsonDecimalFormat} is provided. Dates, timestamps and UUIDs are formatted into
+ * the same buffer, quotes included, and need no escaping.
+ * 
+ * <p>
+ * Binary values are encoded as Base64 or hexadecimal into the scratch buffer a chunk at
+ * a time, so their encoded form is never held in full. Buffers without an accessible
+ * array, and streams, are first read into a byte array of {@link #BINARY_CHUNK_LENGTH}
+ * bytes owned by the JsonAppender.
+ * 
+ * <p>
+ * Text from a {@link Reader} or an {@link InputStream} is read or decoded into the scratch
+ * buffer and escaped a chunk at a time, in the same way as a String.
+ * 
+ * <p>
+ * Raw values, which are already serialized, are output as they are. Raw UTF-8 bytes are
+ * decoded into the scratch buffer a chunk at a time.
+ * 
  * @author Doug Valenta
  */
 public class JsonAppender {
 
-	private static final char COMMA = ',';
-	private static final char OPEN_BRACE = '{';
-	private static final char CLOSE_BRACE = '}';
-	private static final char OPEN_BRACKET = '[';
-	private static final char CLOSE_BRACKET = ']';
-	private static final char QUOTE = '"';
-	private static final String CLOSE_KEY = "\":";
-	private static final String NULL = "null";
-	private static final String TRUE = "true";
-	private static final String FALSE = "false";
-	private static final String EMPTY_OBJECT = "{}";
-	private static final String EMPTY_ARRAY = "[]";
-	
-	private final Appendable appendable;
+	static final char COMMA = ',';
+	static final char OPEN_BRACE = '{';
+	static final char CLOSE_BRACE = '}';
+	static final char OPEN_BRACKET = '[';
+	static final char CLOSE_BRACKET = ']';
+	static final char QUOTE = '"';
+	static final String CLOSE_KEY = "\":";
+	static final String NULL = "null";
+	static final String TRUE = "true";
+	static final String FALSE = "false";
+	static final String EMPTY_OBJECT = "{}";
+	static final String EMPTY_ARRAY = "[]";
+	
+	/**
+	 * The length of the scratch buffer, which holds formatted numbers and chunks of
+	 * strings being escaped.
+	 */
+	static final int SCRATCH_LENGTH = 128;
+	
+	/**
+	 * The smallest {@link BigInteger#bitLength()} of BigIntegers that are output in chunks
+	 * rather than converted to a String.
+	 */
+	static final int STREAMED_BIG_INTEGER_BITS = 4096;
+	
+	/**
+	 * The number of bytes read at a time from streams, and from buffers without an
+	 * accessible array, when they are output as binary values. A multiple of three, so
+	 * that only the last chunk of a Base64 value is padded.
+	 */
+	static final int BINARY_CHUNK_LENGTH = 3072;
+	
+	private static final int BASE64_RUN_LENGTH = SCRATCH_LENGTH / 4 * 3;
+	private static final int HEX_RUN_LENGTH = SCRATCH_LENGTH / 2;
+	
 	private final Escaper escaper;
+	// the escaper if it is a plain JsonEscaper, whose runs of characters that need no
+	// escaping may be found in bulk, or null; also used by Utf8JsonAppender
+	final JsonEscaper plainEscaper;
+	final JsonDecimalFormat format;
+	private Appendable appendable;
+	private Writer writer;
+	private StringBuilder builder;
+	// also used by Utf8JsonAppender to format floats and doubles
+	final char[] scratch = new char[SCRATCH_LENGTH];
+	final JsonDecimal decimal = new JsonDecimal();
+	// created on first use, so documents without dates do not pay for its cache
+	private JsonDateTime dateTime;
+	// created on first use, like dateTime
+	private byte[] binary;
+	// created on first use, like dateTime
+	private RawDecoder rawDecoder;
+	private final CharBuffer scratchSequence = CharBuffer.wrap(scratch);
 	
 	/**
 	 * Creates a new JsonAppender that outputs to the provided {@link Appendable},
@@ -41,8 +132,56 @@ public class JsonAppender {
 	 * string literals
 	 */
 	public JsonAppender(final Appendable appendable, final Escaper escaper) {
-		this.appendable = appendable;
+		this(appendable, escaper, JsonDecimalFormat.SHORTEST);
+	}
+	
+	/**
+	 * Creates a new JsonAppender that outputs to the provided {@link Appendable},
+	 * escapes string literals using the provided {@link Escaper}, and outputs floats and
+	 * doubles in the provided {@link JsonDecimalFormat}.
+	 * 
+	 * @param appendable the {@link Appendable} the new JsonAppender will output to
+	 * @param escaper the {@link Escaper} the new JsonAppender will use to escape
+	 * string literals
+	 * @param format the format of floats and doubles
+	 * @throws IllegalArgumentException if {@code format} is null
+	 */
+	public JsonAppender(final Appendable appendable, final Escaper escaper, final JsonDecimalFormat format) {
+		if (format == null) throw new IllegalArgumentException("Missing format");
 		this.escaper = escaper;
+		this.plainEscaper = JsonEscaper.isStandard(escaper) ? (JsonEscaper) escaper : null;
+		this.format = format;
+		target(appendable);
+	}
+	
+	/**
+	 * Returns the format this JsonAppender outputs floats and doubles in.
+	 * 
+	 * @return the format of floats and doubles
+	 */
+	public JsonDecimalFormat getDecimalFormat() {
+		return format;
+	}
+	
+	/**
+	 * Redirects all further output to the provided {@link Appendable}, and returns this
+	 * object. This allows a JsonAppender, and the scribe that uses it, to be reused for
+	 * another document rather than created again.
+	 * 
+	 * @param appendable the {@link Appendable} this JsonAppender will output to
+	 * @return this object
+	 * @throws UnsupportedOperationException if this JsonAppender does not output to an
+	 * {@link Appendable}
+	 */
+	public JsonAppender reset(final Appendable appendable) {
+		target(appendable);
+		return this;
+	}
+	
+	private void target(final Appendable appendable) {
+		this.appendable = appendable;
+		this.writer = appendable instanceof Writer ? (Writer) appendable : null;
+		this.builder = appendable instanceof StringBuilder ? (StringBuilder) appendable : null;
 	}
 	
 	/**
@@ -209,6 +348,12 @@ public class JsonAppender {
 	 * this object.
 	 * 
 	 * <p>
+	 * BigIntegers that fit in a long are formatted without allocating. BigIntegers of
+	 * {@link #STREAMED_BIG_INTEGER_BITS} bits or more are converted by repeatedly halving
+	 * them with cached powers of ten, and their digits are output as they are produced
+	 * rather than collected into a String.
+	 * 
+	 * <p>
 	 * Behavior is undefined when the provided BigInteger is null.
 	 * 
 	 * @return this object
@@ -216,7 +361,22 @@ public class JsonAppender {
 	 * {@link Appendable} 
 	 */
 	public JsonAppender appendNumber(final BigInteger value) throws IOException {
-		appendable.append(value.toString());
+		final int bits = value.bitLength();
+		if (bits < Long.SIZE) {
+			appendAscii(scratch, JsonNumbers.getChars(value.longValue(), scratch, SCRATCH_LENGTH), SCRATCH_LENGTH);
+		} else if (bits < STREAMED_BIG_INTEGER_BITS) {
+			appendAscii(value.toString());
+		} else {
+			int position = 0;
+			if (value.signum() < 0) scratch[position++] = '-';
+			final BigInteger magnitude = value.abs();
+			int k = 0;
+			while (JsonNumbers.chunkPower(k).compareTo(magnitude) <= 0) {
+				k++;
+			}
+			position = appendChunks(magnitude, k - 1, false, position);
+			appendAscii(scratch, 0, position);
+		}
 		return this;
 	}
 	
@@ -225,6 +385,11 @@ public class JsonAppender {
 	 * this object.
 	 * 
 	 * <p>
+	 * The BigDecimal is output in the {@link JsonDecimalFormat.Notation} of the
+	 * {@link JsonDecimalFormat} of this JsonAppender. BigDecimals with at most 18 digits
+	 * are formatted from their unscaled value into the scratch buffer.
+	 * 
+	 * <p>
 	 * Behavior is undefined when the provided BigDecimal is null.
 	 * 
 	 * @return this object
@@ -232,7 +397,12 @@ public class JsonAppender {
 	 * {@link Appendable} 
 	 */
 	public JsonAppender appendNumber(final BigDecimal value) throws IOException {
-		appendable.append(value.toString());
+		final int end = format.getChars(value, scratch, 0);
+		if (end < 0) {
+			appendAscii(format.toString(value));
+		} else {
+			appendAscii(scratch, 0, end);
+		}
 		return this;
 	}
 	
@@ -245,7 +415,7 @@ public class JsonAppender {
 	 * {@link Appendable} 
 	 */
 	public JsonAppender appendNumber(final int value) throws IOException {
-		appendable.append(String.valueOf(value));
+		appendScratch(JsonNumbers.getChars(value, scratch, scratch.length), scratch.length);
 		return this;
 	}
 	
@@ -258,7 +428,11 @@ public class JsonAppender {
 	 * {@link Appendable} 
 	 */
 	public JsonAppender appendNumber(final float value) throws IOException {
-		appendable.append(String.valueOf(value));
+		if (decimal.set(value)) {
+			appendScratch(0, format.getChars(decimal, scratch, 0));
+		} else {
+			appendable.append(Float.toString(value));
+		}
 		return this;
 	}
 	
@@ -271,7 +445,7 @@ public class JsonAppender {
 	 * {@link Appendable} 
 	 */
 	public JsonAppender appendNumber(final long value) throws IOException {
-		appendable.append(String.valueOf(value));
+		appendScratch(JsonNumbers.getChars(value, scratch, scratch.length), scratch.length);
 		return this;
 	}
 	
@@ -284,7 +458,393 @@ public class JsonAppender {
 	 * {@link Appendable} 
 	 */
 	public JsonAppender appendNumber(final double value) throws IOException {
-		appendable.append(String.valueOf(value));
+		if (decimal.set(value)) {
+			appendScratch(0, format.getChars(decimal, scratch, 0));
+		} else {
+			appendable.append(Double.toString(value));
+		}
+		return this;
+	}
+	
+	/**
+	 * Outputs the encoded form of the provided {@link JsonName}, preceded by a comma if the
+	 * provided condition is true, and returns this object.
+	 * 
+	 * <p>
+	 * Behavior is undefined when the provided JsonName is null.
+	 * 
+	 * @param name the key to output
+	 * @param comma true if the key should be preceded by a comma
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendName(final JsonName name, final boolean comma) throws IOException {
+		appendEncoded(name.encoded, name.chars, comma ? 0 : 1);
+		return this;
+	}
+	
+	/**
+	 * Outputs the encoded form of the provided {@link JsonConstant}, preceded by a comma if
+	 * the provided condition is true, and returns this object.
+	 * 
+	 * <p>
+	 * Behavior is undefined when the provided JsonConstant is null.
+	 * 
+	 * @param constant the string literal to output
+	 * @param comma true if the string literal should be preceded by a comma
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendConstant(final JsonConstant constant, final boolean comma) throws IOException {
+		appendEncoded(constant.encoded, constant.chars, comma ? 0 : 1);
+		return this;
+	}
+	
+	/**
+	 * Outputs the provided {@link Instant} as a string literal in ISO-8601, in UTC, such
+	 * as {@code "2018-11-04T01:02:03.250Z"}, and returns this object.
+	 * 
+	 * <p>
+	 * The output matches {@link Instant#toString()}. For years from 0 to 9999, it is
+	 * formatted into the scratch buffer, and the date is reused from the last timestamp
+	 * or date output if it falls on the same day. Behavior is undefined when the provided
+	 * Instant is null.
+	 * 
+	 * @param value the timestamp to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendTimestamp(final Instant value) throws IOException {
+		final int end = dateTime().getChars(value.getEpochSecond(), value.getNano(), null, scratch, 1);
+		if (end < 0) return appendQuoted(value.toString());
+		return appendQuoted(end);
+	}
+	
+	/**
+	 * Outputs the instant the provided number of milliseconds after 1970-01-01T00:00:00Z
+	 * as a string literal in ISO-8601, in UTC, and returns this object.
+	 * 
+	 * @param epochMillis the timestamp to output, in milliseconds since the epoch
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 * @see #appendTimestamp(Instant)
+	 */
+	public JsonAppender appendTimestamp(final long epochMillis) throws IOException {
+		final long epochSecond = Math.floorDiv(epochMillis, 1000L);
+		final int nanos = (int) Math.floorMod(epochMillis, 1000L) * 1000000;
+		final int end = dateTime().getChars(epochSecond, nanos, null, scratch, 1);
+		if (end < 0) return appendQuoted(Instant.ofEpochMilli(epochMillis).toString());
+		return appendQuoted(end);
+	}
+	
+	/**
+	 * Outputs the provided {@link OffsetDateTime} as a string literal in ISO-8601, with
+	 * its offset, such as {@code "2018-11-04T01:02:03-05:00"}, and returns this object.
+	 * 
+	 * <p>
+	 * Unlike {@link OffsetDateTime#toString()}, seconds are always output, and fractional
+	 * seconds are output in groups of three digits, as by {@link #appendTimestamp(Instant)}.
+	 * Behavior is undefined when the provided OffsetDateTime is null.
+	 * 
+	 * @param value the timestamp to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendTimestamp(final OffsetDateTime value) throws IOException {
+		final int end = dateTime().getChars(value.toEpochSecond(), value.getNano(), value.getOffset(), scratch, 1);
+		if (end < 0) return appendQuoted(JsonDateTime.toString(value));
+		return appendQuoted(end);
+	}
+	
+	/**
+	 * Outputs the provided {@link LocalDate} as a string literal in ISO-8601, such as
+	 * {@code "2018-11-04"}, and returns this object.
+	 * 
+	 * <p>
+	 * The output matches {@link LocalDate#toString()}. Behavior is undefined when the
+	 * provided LocalDate is null.
+	 * 
+	 * @param value the date to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendDate(final LocalDate value) throws IOException {
+		final int end = dateTime().getDateChars(value.toEpochDay(), scratch, 1);
+		if (end < 0) return appendQuoted(value.toString());
+		return appendQuoted(end);
+	}
+	
+	/**
+	 * Outputs the provided {@link UUID} as a string literal, such as
+	 * {@code "123e4567-e89b-12d3-a456-426655440000"}, and returns this object.
+	 * 
+	 * <p>
+	 * The output matches {@link UUID#toString()}. Behavior is undefined when the provided
+	 * UUID is null.
+	 * 
+	 * @param value the UUID to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendUuid(final UUID value) throws IOException {
+		return appendQuoted(JsonNumbers.getUuidChars(value.getMostSignificantBits(),
+				value.getLeastSignificantBits(), scratch, 1));
+	}
+	
+	/**
+	 * Outputs the specified range of the provided bytes as a string literal in Base64,
+	 * such as {@code "AQID"}, and returns this object.
+	 * 
+	 * <p>
+	 * The bytes are encoded with the basic alphabet of RFC 4648, with padding, as by
+	 * {@link java.util.Base64#getEncoder()}, into the scratch buffer a chunk at a time.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 * 
+	 * @param bytes the bytes to output
+	 * @param start the index of the first byte to output
+	 * @param end the index after the last byte to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendBase64(final byte[] bytes, final int start, final int end) throws IOException {
+		appendQuote();
+		appendBase64Run(bytes, start, end);
+		return appendQuote();
+	}
+	
+	/**
+	 * Outputs the remaining bytes of the provided buffer, from its position to its limit,
+	 * as a string literal in Base64, and returns this object. The position of the buffer
+	 * is not changed.
+	 * 
+	 * <p>
+	 * Buffers backed by an accessible array are encoded directly from the array. Other
+	 * buffers, such as direct or memory-mapped buffers, are copied
+	 * {@link #BINARY_CHUNK_LENGTH} bytes at a time. Behavior is undefined when the
+	 * provided buffer is null.
+	 * 
+	 * @param bytes the buffer whose remaining bytes to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 * @see #appendBase64(byte[], int, int)
+	 */
+	public JsonAppender appendBase64(final ByteBuffer bytes) throws IOException {
+		if (bytes.hasArray()) {
+			final int offset = bytes.arrayOffset();
+			return appendBase64(bytes.array(), offset + bytes.position(), offset + bytes.limit());
+		}
+		appendQuote();
+		final ByteBuffer source = bytes.duplicate();
+		final byte[] chunk = binary();
+		while (source.hasRemaining()) {
+			final int length = Math.min(chunk.length, source.remaining());
+			source.get(chunk, 0, length);
+			appendBase64Run(chunk, 0, length);
+		}
+		return appendQuote();
+	}
+	
+	/**
+	 * Reads the provided stream to its end and outputs its bytes as a string literal in
+	 * Base64, and returns this object. The stream is not closed.
+	 * 
+	 * <p>
+	 * The stream is read {@link #BINARY_CHUNK_LENGTH} bytes at a time, and each chunk is
+	 * output before the next is read, so the size of the stream does not affect the
+	 * memory used. Behavior is undefined when the provided stream is null.
+	 * 
+	 * @param bytes the stream whose bytes to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while reading from the stream, or while
+	 * appending to the underlying {@link Appendable} 
+	 * @see #appendBase64(byte[], int, int)
+	 */
+	public JsonAppender appendBase64(final InputStream bytes) throws IOException {
+		appendQuote();
+		final byte[] chunk = binary();
+		int length;
+		do {
+			length = JsonBinary.fill(bytes, chunk);
+			appendBase64Run(chunk, 0, length);
+		} while (length == chunk.length);
+		return appendQuote();
+	}
+	
+	/**
+	 * Outputs the specified range of the provided bytes as a string literal in
+	 * hexadecimal, with two lowercase digits for every byte, such as {@code "0a1b2c"},
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 * 
+	 * @param bytes the bytes to output
+	 * @param start the index of the first byte to output
+	 * @param end the index after the last byte to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender appendHex(final byte[] bytes, final int start, final int end) throws IOException {
+		appendQuote();
+		appendHexRun(bytes, start, end);
+		return appendQuote();
+	}
+	
+	/**
+	 * Outputs the remaining bytes of the provided buffer, from its position to its limit,
+	 * as a string literal in hexadecimal, and returns this object. The position of the
+	 * buffer is not changed.
+	 * 
+	 * <p>
+	 * Behavior is undefined when the provided buffer is null.
+	 * 
+	 * @param bytes the buffer whose remaining bytes to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 * @see #appendBase64(ByteBuffer)
+	 */
+	public JsonAppender appendHex(final ByteBuffer bytes) throws IOException {
+		if (bytes.hasArray()) {
+			final int offset = bytes.arrayOffset();
+			return appendHex(bytes.array(), offset + bytes.position(), offset + bytes.limit());
+		}
+		appendQuote();
+		final ByteBuffer source = bytes.duplicate();
+		final byte[] chunk = binary();
+		while (source.hasRemaining()) {
+			final int length = Math.min(chunk.length, source.remaining());
+			source.get(chunk, 0, length);
+			appendHexRun(chunk, 0, length);
+		}
+		return appendQuote();
+	}
+	
+	/**
+	 * Reads the provided stream to its end and outputs its bytes as a string literal in
+	 * hexadecimal, and returns this object. The stream is not closed.
+	 * 
+	 * <p>
+	 * Behavior is undefined when the provided stream is null.
+	 * 
+	 * @param bytes the stream whose bytes to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while reading from the stream, or while
+	 * appending to the underlying {@link Appendable} 
+	 * @see #appendBase64(InputStream)
+	 */
+	public JsonAppender appendHex(final InputStream bytes) throws IOException {
+		appendQuote();
+		final byte[] chunk = binary();
+		int length;
+		do {
+			length = JsonBinary.fill(bytes, chunk);
+			appendHexRun(chunk, 0, length);
+		} while (length == chunk.length);
+		return appendQuote();
+	}
+	
+	/**
+	 * Outputs the specified range of the provided sequence as it is, without quoting or
+	 * escaping it, and returns this object.
+	 *
+	 * <p>
+	 * The sequence is expected to be serialized JSON, such as a fragment cached from an
+	 * earlier document, and is not checked. Behavior is undefined when the provided
+	 * sequence is null or the range is out of bounds.
+	 *
+	 * @param sequence the serialized JSON to output
+	 * @param start the index of the first character to output
+	 * @param end the index after the last character to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see JsonValidator
+	 */
+	public JsonAppender appendRaw(final CharSequence sequence, final int start, final int end) throws IOException {
+		appendRun(sequence, start, end);
+		return this;
+	}
+	
+	/**
+	 * Outputs the specified range of the provided characters as they are, without quoting
+	 * or escaping them, and returns this object.
+	 *
+	 * <p>
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param chars the serialized JSON to output
+	 * @param start the index of the first character to output
+	 * @param end the index after the last character to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendRaw(CharSequence, int, int)
+	 */
+	public JsonAppender appendRaw(final char[] chars, final int start, final int end) throws IOException {
+		if (writer != null) {
+			writer.write(chars, start, end - start);
+		} else if (builder != null) {
+			builder.append(chars, start, end - start);
+		} else {
+			appendable.append(chars == scratch ? scratchSequence : CharBuffer.wrap(chars), start, end);
+		}
+		return this;
+	}
+	
+	/**
+	 * Outputs the specified range of the provided UTF-8 bytes as they are, without
+	 * quoting or escaping them, and returns this object.
+	 *
+	 * <p>
+	 * The bytes are decoded into the scratch buffer a chunk at a time, and malformed input
+	 * is replaced with U+FFFD. A {@link Utf8JsonAppender} copies the bytes to
+	 * its output without decoding them. Behavior is undefined when the provided array is
+	 * null or the range is out of bounds.
+	 *
+	 * @param bytes the serialized JSON to output, encoded in UTF-8
+	 * @param start the index of the first byte to output
+	 * @param end the index after the last byte to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendRaw(CharSequence, int, int)
+	 */
+	public JsonAppender appendRaw(final byte[] bytes, final int start, final int end) throws IOException {
+		decodeRaw(bytes, null, start, end);
+		return this;
+	}
+	
+	/**
+	 * Outputs the remaining UTF-8 bytes of the provided buffer, from its position to its
+	 * limit, as they are, without quoting or escaping them, and returns this object. The
+	 * position of the buffer is not changed.
+	 *
+	 * <p>
+	 * Behavior is undefined when the provided buffer is null.
+	 *
+	 * @param bytes the buffer whose remaining bytes to output, encoded in UTF-8
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendRaw(byte[], int, int)
+	 */
+	public JsonAppender appendRaw(final ByteBuffer bytes) throws IOException {
+		if (bytes.hasArray()) {
+			final int offset = bytes.arrayOffset();
+			return appendRaw(bytes.array(), offset + bytes.position(), offset + bytes.limit());
+		}
+		decodeRaw(null, bytes, bytes.position(), bytes.limit());
 		return this;
 	}
 	
@@ -300,6 +860,164 @@ public class JsonAppender {
 		appendable.append(value ? TRUE : FALSE);
 		return this;
 	}
+
+	/**
+	 * Outputs the specified range of the provided ints as JSON numeric literals separated
+	 * by commas, and returns this object.
+	 *
+	 * <p>
+	 * The values are formatted into the scratch buffer one after another, and the buffer
+	 * is output whenever it fills, rather than once for every value.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param values the values to output
+	 * @param start the index of the first value to output
+	 * @param end the index after the last value to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 */
+	public JsonAppender appendNumbers(final int[] values, final int start, final int end) throws IOException {
+		int position = 0;
+		for (int i = start; i < end; i++) {
+			if (position > SCRATCH_LENGTH - JsonNumbers.MAX_LONG_LENGTH - 1) {
+				appendScratch(0, position);
+				position = 0;
+			}
+			if (i > start) scratch[position++] = COMMA;
+			position += JsonNumbers.length(values[i]);
+			JsonNumbers.getChars(values[i], scratch, position);
+		}
+		appendScratch(0, position);
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided longs as JSON numeric literals separated
+	 * by commas, and returns this object.
+	 *
+	 * <p>
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param values the values to output
+	 * @param start the index of the first value to output
+	 * @param end the index after the last value to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendNumbers(int[], int, int)
+	 */
+	public JsonAppender appendNumbers(final long[] values, final int start, final int end) throws IOException {
+		int position = 0;
+		for (int i = start; i < end; i++) {
+			if (position > SCRATCH_LENGTH - JsonNumbers.MAX_LONG_LENGTH - 1) {
+				appendScratch(0, position);
+				position = 0;
+			}
+			if (i > start) scratch[position++] = COMMA;
+			position += JsonNumbers.length(values[i]);
+			JsonNumbers.getChars(values[i], scratch, position);
+		}
+		appendScratch(0, position);
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided floats as JSON numeric literals
+	 * separated by commas, and returns this object. NaN and infinite values are output
+	 * as {@code null} literals.
+	 *
+	 * <p>
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param values the values to output
+	 * @param start the index of the first value to output
+	 * @param end the index after the last value to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendNumbers(int[], int, int)
+	 */
+	public JsonAppender appendNumbers(final float[] values, final int start, final int end) throws IOException {
+		int position = 0;
+		for (int i = start; i < end; i++) {
+			if (position > SCRATCH_LENGTH - JsonDecimal.MAX_LENGTH - 1) {
+				appendScratch(0, position);
+				position = 0;
+			}
+			if (i > start) scratch[position++] = COMMA;
+			if (decimal.set(values[i])) {
+				position = format.getChars(decimal, scratch, position);
+			} else {
+				position = copyToScratch(NULL, position);
+			}
+		}
+		appendScratch(0, position);
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided doubles as JSON numeric literals
+	 * separated by commas, and returns this object. NaN and infinite values are output
+	 * as {@code null} literals.
+	 *
+	 * <p>
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param values the values to output
+	 * @param start the index of the first value to output
+	 * @param end the index after the last value to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendNumbers(int[], int, int)
+	 */
+	public JsonAppender appendNumbers(final double[] values, final int start, final int end) throws IOException {
+		int position = 0;
+		for (int i = start; i < end; i++) {
+			if (position > SCRATCH_LENGTH - JsonDecimal.MAX_LENGTH - 1) {
+				appendScratch(0, position);
+				position = 0;
+			}
+			if (i > start) scratch[position++] = COMMA;
+			if (decimal.set(values[i])) {
+				position = format.getChars(decimal, scratch, position);
+			} else {
+				position = copyToScratch(NULL, position);
+			}
+		}
+		appendScratch(0, position);
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided booleans as Boolean value literals
+	 * separated by commas, and returns this object.
+	 *
+	 * <p>
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param values the values to output
+	 * @param start the index of the first value to output
+	 * @param end the index after the last value to output
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 * @see #appendNumbers(int[], int, int)
+	 */
+	public JsonAppender appendBooleans(final boolean[] values, final int start, final int end) throws IOException {
+		int position = 0;
+		for (int i = start; i < end; i++) {
+			if (position > SCRATCH_LENGTH - FALSE.length() - 1) {
+				appendScratch(0, position);
+				position = 0;
+			}
+			if (i > start) scratch[position++] = COMMA;
+			position = copyToScratch(values[i] ? TRUE : FALSE, position);
+		}
+		appendScratch(0, position);
+		return this;
+	}
 	
 	/**
 	 * Outputs the provided character or its escape sequence, using the provided
@@ -331,9 +1049,23 @@ public class JsonAppender {
 	 * @throws IOException if an exception occurs while appending to the underlying 
 	 * {@link Appendable} 
 	 */
-	public JsonAppender escape(final CharSequence sequence, int start, int end) throws IOException {
-		for (int i = start; i < end; i++) {
-			escaper.escape(sequence.charAt(i), appendable);
+	public JsonAppender escape(final CharSequence sequence, final int start, final int end) throws IOException {
+		if (plainEscaper == null) {
+			for (int i = start; i < end; i++) {
+				escaper.escape(sequence.charAt(i), appendable);
+			}
+			return this;
+		}
+		if (sequence instanceof String && builder != null) {
+			return escapeChunks((String) sequence, start, end);
+		}
+		int i = start;
+		while (i < end) {
+			final int escaped = plainEscaper.indexOfEscaped(sequence, i, end);
+			if (escaped > i) appendRun(sequence, i, escaped);
+			if (escaped == end) break;
+			plainEscaper.escape(sequence.charAt(escaped), appendable);
+			i = escaped + 1;
 		}
 		return this;
 	}
@@ -355,4 +1087,341 @@ public class JsonAppender {
 		return escape(sequence, 0, sequence.length());
 	}
 	
+	/**
+	 * Outputs the specified range of the provided array of characters or their escape
+	 * sequences, using the provided {@link io.codecastle.scriptorium.scribe.Escaper},
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * When the escaper is a plain {@link JsonEscaper}, the characters are searched for escapes
+	 * four at a time with {@link JsonEscaper#indexOfEscaped(char[], int, int)}.
+	 * 
+	 * <p>
+	 * Behavior is undefined if the provided array is null.
+	 * 
+	 * @param chars the array containing characters to output or escape
+	 * @param start the index of the first character in {@code chars} to output or escape
+	 * @param end the index of the first character in {@code chars} after the last character
+	 * that will be output or escaped
+	 * @return this object
+	 * @throws IOException if an exception occurs while appending to the underlying 
+	 * {@link Appendable} 
+	 */
+	public JsonAppender escape(final char[] chars, final int start, final int end) throws IOException {
+		if (plainEscaper == null) {
+			for (int i = start; i < end; i++) {
+				escaper.escape(chars[i], appendable);
+			}
+			return this;
+		}
+		CharBuffer sequence = null;
+		int i = start;
+		while (i < end) {
+			final int escaped = plainEscaper.indexOfEscaped(chars, i, end);
+			if (escaped > i) {
+				if (writer != null) {
+					writer.write(chars, i, escaped - i);
+				} else if (builder != null) {
+					builder.append(chars, i, escaped - i);
+				} else {
+					if (sequence == null) sequence = chars == scratch ? scratchSequence : CharBuffer.wrap(chars);
+					appendable.append(sequence, i, escaped);
+				}
+			}
+			if (escaped == end) break;
+			plainEscaper.escape(chars[escaped], appendable);
+			i = escaped + 1;
+		}
+		return this;
+	}
+	
+	/**
+	 * Reads the provided {@link Reader} to its end and outputs its characters or their
+	 * escape sequences, using the provided {@link io.codecastle.scriptorium.scribe.Escaper},
+	 * and returns this object. The Reader is not closed.
+	 * 
+	 * <p>
+	 * The characters are read into the scratch buffer and escaped with
+	 * {@link #escape(char[], int, int)} a chunk at a time, so the length of the text does
+	 * not affect the memory used. Behavior is undefined if the provided Reader is null.
+	 * 
+	 * @param reader the {@link Reader} containing characters to output or escape
+	 * @return this object
+	 * @throws IOException if an exception occurs while reading from the Reader, or while
+	 * appending to the underlying {@link Appendable} 
+	 */
+	public JsonAppender escape(final Reader reader) throws IOException {
+		int length;
+		while ((length = reader.read(scratch, 0, SCRATCH_LENGTH)) >= 0) {
+			escape(scratch, 0, length);
+		}
+		return this;
+	}
+	
+	/**
+	 * Reads the provided {@link InputStream} to its end, decodes it with the provided
+	 * {@link Charset}, and outputs its characters or their escape sequences, using the
+	 * provided {@link io.codecastle.scriptorium.scribe.Escaper}, and returns this object.
+	 * The stream is not closed.
+	 * 
+	 * <p>
+	 * The stream is read {@link #BINARY_CHUNK_LENGTH} bytes at a time and decoded into
+	 * the scratch buffer, which is escaped with {@link #escape(char[], int, int)} whenever
+	 * it fills. A character whose encoding is split between two chunks is decoded once the
+	 * rest of it is read. Malformed and unmappable input is replaced with the replacement
+	 * character of the Charset, as by {@link java.io.InputStreamReader}. Behavior is
+	 * undefined if the provided stream or Charset is null.
+	 * 
+	 * @param stream the {@link InputStream} containing the encoded characters to output or
+	 * escape
+	 * @param charset the {@link Charset} the characters are encoded in
+	 * @return this object
+	 * @throws IOException if an exception occurs while reading from the stream, or while
+	 * appending to the underlying {@link Appendable} 
+	 */
+	public JsonAppender escape(final InputStream stream, final Charset charset) throws IOException {
+		final CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		final byte[] bytes = binary();
+		final ByteBuffer in = ByteBuffer.wrap(bytes);
+		final CharBuffer out = CharBuffer.wrap(scratch);
+		// positions are set through Buffer, whose methods Java 9 overrides with covariant
+		// returns that do not exist on Java 8
+		((Buffer) in).limit(0);
+		boolean ended = false;
+		while (!ended) {
+			// keeps the start of a character split between chunks
+			in.compact();
+			final int read = stream.read(bytes, in.position(), in.remaining());
+			if (read < 0) {
+				ended = true;
+			} else {
+				((Buffer) in).position(in.position() + read);
+			}
+			((Buffer) in).flip();
+			CoderResult result;
+			do {
+				result = decoder.decode(in, out, ended);
+				escape(scratch, 0, out.position());
+				((Buffer) out).clear();
+			} while (result.isOverflow());
+		}
+		CoderResult result;
+		do {
+			result = decoder.flush(out);
+			escape(scratch, 0, out.position());
+			((Buffer) out).clear();
+		} while (result.isOverflow());
+		return this;
+	}
+	
+	/**
+	 * Escapes the specified range of the provided string by copying it into the scratch
+	 * buffer in chunks, and escaping each chunk with {@link #escape(char[], int, int)}.
+	 */
+	JsonAppender escapeChunks(final String string, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i += SCRATCH_LENGTH) {
+			final int length = Math.min(SCRATCH_LENGTH, end - i);
+			string.getChars(i, i + length, scratch, 0);
+			escape(scratch, 0, length);
+		}
+		return this;
+	}
+	
+	private void appendRun(final CharSequence sequence, final int start, final int end) throws IOException {
+		if (writer != null && sequence instanceof String) {
+			writer.write((String) sequence, start, end - start);
+		} else {
+			appendable.append(sequence, start, end);
+		}
+	}
+	
+	private void appendEncoded(final String encoded, final char[] chars, final int start) throws IOException {
+		if (writer != null) {
+			writer.write(chars, start, chars.length - start);
+		} else if (builder != null) {
+			builder.append(chars, start, chars.length - start);
+		} else {
+			appendable.append(encoded, start, chars.length);
+		}
+	}
+	
+	/**
+	 * Outputs the digits of the provided value, which is less than 10 to the power of
+	 * {@link JsonNumbers#CHUNK_DIGITS}&middot;2<sup>k+1</sup>, through the scratch buffer
+	 * starting at the provided position, and returns the position after the last digit in
+	 * the buffer. Leading zeros are output only if {@code pad} is true.
+	 */
+	private int appendChunks(final BigInteger value, final int k, final boolean pad, int position)
+			throws IOException {
+		if (k < 0) {
+			if (position > SCRATCH_LENGTH - JsonNumbers.CHUNK_DIGITS) {
+				appendAscii(scratch, 0, position);
+				position = 0;
+			}
+			final long chunk = value.longValue();
+			final int end = position + (pad ? JsonNumbers.CHUNK_DIGITS : JsonNumbers.length(chunk));
+			Arrays.fill(scratch, position, JsonNumbers.getChars(chunk, scratch, end), '0');
+			return end;
+		}
+		final BigInteger[] halves = value.divideAndRemainder(JsonNumbers.chunkPower(k));
+		if (pad || halves[0].signum() > 0) {
+			position = appendChunks(halves[0], k - 1, pad, position);
+			return appendChunks(halves[1], k - 1, true, position);
+		}
+		return appendChunks(halves[1], k - 1, false, position);
+	}
+	
+	private JsonDateTime dateTime() {
+		if (dateTime == null) dateTime = new JsonDateTime();
+		return dateTime;
+	}
+	
+	private byte[] binary() {
+		if (binary == null) binary = new byte[BINARY_CHUNK_LENGTH];
+		return binary;
+	}
+	
+	/**
+	 * Decodes the specified range of UTF-8 bytes, from either the provided array or the
+	 * provided buffer, and outputs the characters as they are. The bytes are copied into
+	 * {@link #binary} a chunk at a time, and decoded into the scratch buffer, so nothing is
+	 * allocated after the first call. The buffer is read with absolute gets, so its
+	 * position is not changed.
+	 */
+	private void decodeRaw(final byte[] array, final ByteBuffer buffer, final int start, final int end)
+			throws IOException {
+		if (rawDecoder == null) rawDecoder = new RawDecoder(binary());
+		final CharsetDecoder decoder = rawDecoder.decoder.reset();
+		final ByteBuffer in = rawDecoder.in;
+		((Buffer) in).clear();
+		((Buffer) in).limit(0);
+		int i = start;
+		boolean ended;
+		do {
+			// keeps the start of a character split between chunks
+			in.compact();
+			final int position = in.position();
+			final int length = Math.min(end - i, in.remaining());
+			if (array != null) {
+				System.arraycopy(array, i, binary, position, length);
+			} else {
+				for (int j = 0; j < length; j++) {
+					binary[position + j] = buffer.get(i + j);
+				}
+			}
+			i += length;
+			ended = i == end;
+			((Buffer) in).position(position + length);
+			((Buffer) in).flip();
+			CoderResult result;
+			do {
+				result = decoder.decode(in, scratchSequence, ended);
+				appendDecoded();
+			} while (result.isOverflow());
+		} while (!ended);
+		CoderResult result;
+		do {
+			result = decoder.flush(scratchSequence);
+			appendDecoded();
+		} while (result.isOverflow());
+	}
+	
+	/**
+	 * Outputs the characters decoded into the scratch buffer, and clears it for the next
+	 * chunk. The scratch sequence is cleared first, since it is also output from position 0.
+	 */
+	private void appendDecoded() throws IOException {
+		final int length = scratchSequence.position();
+		((Buffer) scratchSequence).clear();
+		appendScratch(0, length);
+	}
+	
+	/**
+	 * Encodes the specified range of the provided bytes as Base64 into the scratch buffer,
+	 * and outputs it whenever it fills. Only the last group of the range is padded.
+	 */
+	private void appendBase64Run(final byte[] bytes, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i += BASE64_RUN_LENGTH) {
+			appendAscii(scratch, 0,
+					JsonBinary.getBase64Chars(bytes, i, Math.min(end, i + BASE64_RUN_LENGTH), scratch, 0));
+		}
+	}
+	
+	private void appendHexRun(final byte[] bytes, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i += HEX_RUN_LENGTH) {
+			appendAscii(scratch, 0, JsonBinary.getHexChars(bytes, i, Math.min(end, i + HEX_RUN_LENGTH), scratch, 0));
+		}
+	}
+	
+	/**
+	 * Quotes the ASCII characters in the scratch buffer from index 1 up to the provided
+	 * index, and outputs them.
+	 */
+	private JsonAppender appendQuoted(final int end) throws IOException {
+		scratch[0] = QUOTE;
+		scratch[end] = QUOTE;
+		appendAscii(scratch, 0, end + 1);
+		return this;
+	}
+	
+	private JsonAppender appendQuoted(final String ascii) throws IOException {
+		appendQuote();
+		appendAscii(ascii);
+		return appendQuote();
+	}
+	
+	/**
+	 * Outputs the specified range of the provided characters, which are all ASCII. This
+	 * lets a subclass that encodes its output skip encoding formatted numbers.
+	 */
+	void appendAscii(final char[] chars, final int start, final int end) throws IOException {
+		if (writer != null) {
+			writer.write(chars, start, end - start);
+		} else if (builder != null) {
+			builder.append(chars, start, end - start);
+		} else {
+			appendable.append(chars == scratch ? scratchSequence : CharBuffer.wrap(chars), start, end);
+		}
+	}
+	
+	/**
+	 * Outputs the provided string, which is all ASCII.
+	 */
+	void appendAscii(final String string) throws IOException {
+		appendable.append(string);
+	}
+	
+	private int copyToScratch(final String literal, final int position) {
+		literal.getChars(0, literal.length(), scratch, position);
+		return position + literal.length();
+	}
+
+	private void appendScratch(final int start, final int end) throws IOException {
+		if (writer != null) {
+			writer.write(scratch, start, end - start);
+		} else if (builder != null) {
+			builder.append(scratch, start, end - start);
+		} else {
+			appendable.append(scratchSequence, start, end);
+		}
+	}
+	
+	/**
+	 * A UTF-8 decoder for raw values, and the buffer it reads from, which wraps
+	 * {@link JsonAppender#binary}. Kept in one object, so that appenders that never
+	 * decode raw values are only a field larger.
+	 */
+	private static final class RawDecoder {
+		
+		private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		private final ByteBuffer in;
+		
+		private RawDecoder(final byte[] binary) {
+			this.in = ByteBuffer.wrap(binary);
+		}
+		
+	}
+	
 }
@@ -0,0 +1,544 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link JsonValueWriter} that outputs a JSON object with a key for each bean property
+ * of a class, for classes that cannot be annotated with
+ * {@link io.codecastle.scriptorium.json.JsonWritable}.
+ *
+ * <p>
+ * A class is introspected once, the first time {@link #forClass(Class)} is called for it,
+ * and its writer is cached for the lifetime of the class. Each property's getter is
+ * compiled to a lambda with {@link LambdaMetafactory}, so that steady-state output calls
+ * getters directly, and primitive getters are output without boxing. Getters that cannot
+ * be compiled to a lambda, such as those of classes this writer's class loader cannot see,
+ * are called through a {@link MethodHandle} instead.
+ *
+ * <p>
+ * The properties of a class are its public, non-static, no-argument {@code getX()}
+ * methods, and {@code isX()} methods returning a boolean, other than {@code getClass()}.
+ * Properties declared by superclasses are output first, and the properties declared by
+ * each class are output in alphabetical order. Properties whose value is null, or an
+ * empty {@link Optional}, are left out, as {@link io.codecastle.scriptorium.json.JsonObject}'s
+ * {@code withIfNotNull} methods would.
+ *
+ * <p>
+ * Property values that the default {@link JsonValueWriterRegistry} has a writer for are
+ * output with that writer.
+ * Enums are output by name, {@link Optional}s as their content, arrays and
+ * {@link Iterable}s as JSON arrays, and {@link Map}s as JSON objects keyed by their keys'
+ * string values. Values of any other type are output with the JsonBeanWriter for their
+ * class. Object graphs with cycles are not supported.
+ *
+ * @param <T> the type of bean this writer outputs
+ * @author Doug Valenta
+ */
+public final class JsonBeanWriter<T> implements JsonValueWriter<T> {
+
+	private static final ClassValue<JsonBeanWriter<?>> WRITERS = new ClassValue<JsonBeanWriter<?>>() {
+		@Override
+		protected JsonBeanWriter<?> computeValue(final Class<?> type) {
+			return new JsonBeanWriter<>(type);
+		}
+	};
+
+	private static final JsonValueWriter<Object> DYNAMIC = JsonBeanWriter::writeValue;
+
+	private final Property[] properties;
+
+	private JsonBeanWriter(final Class<?> type) {
+		final List<Class<?>> hierarchy = new ArrayList<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			hierarchy.add(0, current);
+		}
+		final Map<String, Method> getters = new LinkedHashMap<>();
+		for (final Class<?> current : hierarchy) {
+			final Map<String, Method> declared = new TreeMap<>();
+			for (final Method method : current.getDeclaredMethods()) {
+				final String name = propertyName(method);
+				if (name != null) declared.put(name, method);
+			}
+			// An override keeps its superclass's position
+			getters.putAll(declared);
+		}
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+		final boolean visible = isVisible(type);
+		final List<Property> list = new ArrayList<>(getters.size());
+		for (final Map.Entry<String, Method> getter : getters.entrySet()) {
+			list.add(property(lookup, new JsonName(getter.getKey()), getter.getValue(), visible));
+		}
+		this.properties = list.toArray(new Property[list.size()]);
+	}
+
+	/**
+	 * Returns the JsonBeanWriter for the provided class, introspecting it if this is the
+	 * first time it has been requested.
+	 *
+	 * @param <T> the type of bean
+	 * @param type the class of bean to output
+	 * @return the JsonBeanWriter for the class
+	 * @throws IllegalArgumentException if {@code type} is null, or is a primitive,
+	 * array, or interface type
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JsonBeanWriter<T> forClass(final Class<T> type) {
+		if (type == null) throw new IllegalArgumentException("Missing type");
+		if (type.isPrimitive() || type.isArray() || type.isInterface()) {
+			throw new IllegalArgumentException("Not a bean class: " + type.getName());
+		}
+		return (JsonBeanWriter<T>) WRITERS.get(type);
+	}
+
+	@Override
+	public void write(final JsonScribe scribe, final T value) throws IOException {
+		if (value == null) {
+			scribe.nullValue();
+			return;
+		}
+		scribe.pushObject();
+		for (final Property property : properties) {
+			property.write(scribe, value);
+		}
+		scribe.pop();
+	}
+
+	/**
+	 * Returns the name of the bean property the provided method reads, or null if it is
+	 * not a public getter.
+	 */
+	private static String propertyName(final Method method) {
+		final int modifiers = method.getModifiers();
+		if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)) return null;
+		if (method.isBridge() || method.isSynthetic() || method.getParameterCount() != 0) return null;
+		final String name = method.getName();
+		final int prefix;
+		if (name.startsWith("get") && method.getReturnType() != void.class) {
+			prefix = 3;
+		} else if (name.startsWith("is") && method.getReturnType() == boolean.class) {
+			prefix = 2;
+		} else {
+			return null;
+		}
+		if (name.length() == prefix || !Character.isUpperCase(name.charAt(prefix))) return null;
+		final String property = name.substring(prefix);
+		if (property.length() > 1 && Character.isUpperCase(property.charAt(1))) return property;
+		return Character.toLowerCase(property.charAt(0)) + property.substring(1);
+	}
+
+	/**
+	 * Returns true if lambdas spun by this class can link against the provided class,
+	 * which requires it to be public and visible to this class's loader.
+	 */
+	private static boolean isVisible(final Class<?> type) {
+		if (!Modifier.isPublic(type.getModifiers())) return false;
+		try {
+			return Class.forName(type.getName(), false, JsonBeanWriter.class.getClassLoader()) == type;
+		} catch (final ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static Property property(final MethodHandles.Lookup lookup, final JsonName name, final Method method,
+			final boolean visible) {
+		final Class<?> type = method.getReturnType();
+		final MethodHandle handle = handle(lookup, method);
+		final boolean spin = visible && isVisible(method.getDeclaringClass());
+		if (type == int.class || type == short.class || type == byte.class) {
+			final ToIntFunction<Object> getter = spin ? lambda(lookup, ToIntFunction.class, "applyAsInt", int.class, handle) : null;
+			if (getter != null) return new IntProperty(name, getter);
+			final MethodHandle exact = handle.asType(MethodType.methodType(int.class, Object.class));
+			return new IntProperty(name, bean -> invokeInt(exact, bean));
+		} else if (type == long.class) {
+			final ToLongFunction<Object> getter = spin ? lambda(lookup, ToLongFunction.class, "applyAsLong", long.class, handle) : null;
+			if (getter != null) return new LongProperty(name, getter);
+			final MethodHandle exact = handle.asType(MethodType.methodType(long.class, Object.class));
+			return new LongProperty(name, bean -> invokeLong(exact, bean));
+		} else if (type == double.class) {
+			final ToDoubleFunction<Object> getter = spin ? lambda(lookup, ToDoubleFunction.class, "applyAsDouble", double.class, handle) : null;
+			if (getter != null) return new DoubleProperty(name, getter);
+			final MethodHandle exact = handle.asType(MethodType.methodType(double.class, Object.class));
+			return new DoubleProperty(name, bean -> invokeDouble(exact, bean));
+		} else if (type == float.class) {
+			final FloatGetter getter = spin ? lambda(lookup, FloatGetter.class, "get", float.class, handle) : null;
+			if (getter != null) return new FloatProperty(name, getter);
+			final MethodHandle exact = handle.asType(MethodType.methodType(float.class, Object.class));
+			return new FloatProperty(name, bean -> invokeFloat(exact, bean));
+		} else if (type == boolean.class) {
+			final Predicate<Object> getter = spin ? lambda(lookup, Predicate.class, "test", boolean.class, handle) : null;
+			if (getter != null) return new BooleanProperty(name, getter);
+			final MethodHandle exact = handle.asType(MethodType.methodType(boolean.class, Object.class));
+			return new BooleanProperty(name, bean -> invokeBoolean(exact, bean));
+		} else if (type == char.class) {
+			final CharGetter getter = spin ? lambda(lookup, CharGetter.class, "get", char.class, handle) : null;
+			if (getter != null) return new CharProperty(name, getter);
+			final MethodHandle exact = handle.asType(MethodType.methodType(char.class, Object.class));
+			return new CharProperty(name, bean -> invokeChar(exact, bean));
+		}
+		final Function<Object, Object> getter = spin ? lambda(lookup, Function.class, "apply", Object.class, handle) : null;
+		final JsonValueWriter<Object> writer = writerFor(type);
+		if (getter != null) return new ObjectProperty(name, getter, writer);
+		final MethodHandle exact = handle.asType(MethodType.methodType(Object.class, Object.class));
+		return new ObjectProperty(name, bean -> invokeObject(exact, bean), writer);
+	}
+
+	private static MethodHandle handle(final MethodHandles.Lookup lookup, final Method method) {
+		try {
+			if (!isVisible(method.getDeclaringClass())) method.setAccessible(true);
+			return lookup.unreflect(method);
+		} catch (final IllegalAccessException | RuntimeException e) {
+			throw new IllegalArgumentException("Cannot access " + method, e);
+		}
+	}
+
+	/**
+	 * Spins a lambda implementing the provided functional interface with the provided
+	 * getter, or returns null if it cannot be linked.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <F> F lambda(final MethodHandles.Lookup lookup, final Class<? super F> function, final String method,
+			final Class<?> result, final MethodHandle handle) {
+		try {
+			final CallSite site = LambdaMetafactory.metafactory(lookup, method,
+					MethodType.methodType(function),
+					MethodType.methodType(result, Object.class),
+					handle,
+					MethodType.methodType(result, handle.type().parameterType(0)));
+			return (F) site.getTarget().invoke();
+		} catch (final Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns a writer for values of the provided declared type that skips the runtime
+	 * type checks when the type is known in advance.
+	 */
+	private static JsonValueWriter<Object> writerFor(final Class<?> type) {
+		if (CharSequence.class.isAssignableFrom(type)) return (scribe, value) -> scribe.value((CharSequence) value);
+		if (type == Integer.class) return (scribe, value) -> scribe.value((int) (Integer) value);
+		if (type == Long.class) return (scribe, value) -> scribe.value((long) (Long) value);
+		if (type == Double.class) return (scribe, value) -> scribe.value((double) (Double) value);
+		if (type == Boolean.class) return (scribe, value) -> scribe.value((boolean) (Boolean) value);
+		if (type == BigDecimal.class) return (scribe, value) -> scribe.value((BigDecimal) value);
+		if (type == BigInteger.class) return (scribe, value) -> scribe.value((BigInteger) value);
+		if (type.isEnum()) return (scribe, value) -> scribe.value((Enum<?>) value);
+		return DYNAMIC;
+	}
+
+	/**
+	 * Outputs a value of any type.
+	 */
+	@SuppressWarnings("unchecked")
+	static void writeValue(final JsonScribe scribe, final Object value) throws IOException {
+		if (value == null) {
+			scribe.nullValue();
+			return;
+		}
+		final JsonValueWriter<Object> writer = JsonValueWriterRegistry.getDefault().find(value.getClass());
+		if (writer != null) {
+			writer.write(scribe, value);
+		} else if (value instanceof Enum) {
+			scribe.value((Enum<?>) value);
+		} else if (value instanceof Optional) {
+			writeValue(scribe, ((Optional<?>) value).orElse(null));
+		} else if (value instanceof OptionalInt) {
+			final OptionalInt optional = (OptionalInt) value;
+			if (optional.isPresent()) scribe.value(optional.getAsInt()); else scribe.nullValue();
+		} else if (value instanceof OptionalLong) {
+			final OptionalLong optional = (OptionalLong) value;
+			if (optional.isPresent()) scribe.value(optional.getAsLong()); else scribe.nullValue();
+		} else if (value instanceof OptionalDouble) {
+			final OptionalDouble optional = (OptionalDouble) value;
+			if (optional.isPresent()) scribe.value(optional.getAsDouble()); else scribe.nullValue();
+		} else if (value instanceof Iterable) {
+			scribe.pushArray();
+			for (final Object element : (Iterable<?>) value) {
+				writeValue(scribe, element);
+			}
+			scribe.pop();
+		} else if (value instanceof Map) {
+			scribe.pushObject();
+			for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				final Object key = entry.getKey();
+				if (key == null) continue;
+				scribe.key(key instanceof CharSequence ? (CharSequence) key : key.toString());
+				writeValue(scribe, entry.getValue());
+			}
+			scribe.pop();
+		} else if (value.getClass().isArray()) {
+			writeArray(scribe, value);
+		} else {
+			forClass((Class<Object>) value.getClass()).write(scribe, value);
+		}
+	}
+
+	/**
+	 * Returns true if the provided property value is null or an empty Optional.
+	 */
+	private static boolean isAbsent(final Object value) {
+		if (value == null) return true;
+		if (value instanceof Optional) return !((Optional<?>) value).isPresent();
+		if (value instanceof OptionalInt) return !((OptionalInt) value).isPresent();
+		if (value instanceof OptionalLong) return !((OptionalLong) value).isPresent();
+		if (value instanceof OptionalDouble) return !((OptionalDouble) value).isPresent();
+		return false;
+	}
+
+	private static void writeArray(final JsonScribe scribe, final Object array) throws IOException {
+		scribe.pushArray();
+		if (array instanceof int[]) {
+			for (final int element : (int[]) array) scribe.value(element);
+		} else if (array instanceof long[]) {
+			for (final long element : (long[]) array) scribe.value(element);
+		} else if (array instanceof double[]) {
+			for (final double element : (double[]) array) scribe.value(element);
+		} else if (array instanceof Object[]) {
+			for (final Object element : (Object[]) array) writeValue(scribe, element);
+		} else {
+			// boolean[], char[], byte[], short[] and float[]
+			final int length = Array.getLength(array);
+			for (int i = 0; i < length; i++) {
+				writeValue(scribe, Array.get(array, i));
+			}
+		}
+		scribe.pop();
+	}
+
+	private static int invokeInt(final MethodHandle handle, final Object bean) {
+		try {
+			return (int) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static long invokeLong(final MethodHandle handle, final Object bean) {
+		try {
+			return (long) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static double invokeDouble(final MethodHandle handle, final Object bean) {
+		try {
+			return (double) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static float invokeFloat(final MethodHandle handle, final Object bean) {
+		try {
+			return (float) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean invokeBoolean(final MethodHandle handle, final Object bean) {
+		try {
+			return (boolean) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static char invokeChar(final MethodHandle handle, final Object bean) {
+		try {
+			return (char) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Object invokeObject(final MethodHandle handle, final Object bean) {
+		try {
+			return (Object) handle.invokeExact(bean);
+		} catch (final RuntimeException | Error e) {
+			throw e;
+		} catch (final Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@FunctionalInterface
+	interface FloatGetter {
+		float get(Object bean);
+	}
+
+	@FunctionalInterface
+	interface CharGetter {
+		char get(Object bean);
+	}
+
+	private abstract static class Property {
+
+		final JsonName name;
+
+		Property(final JsonName name) {
+			this.name = name;
+		}
+
+		abstract void write(JsonScribe scribe, Object bean) throws IOException;
+
+	}
+
+	private static final class IntProperty extends Property {
+
+		private final ToIntFunction<Object> getter;
+
+		IntProperty(final JsonName name, final ToIntFunction<Object> getter) {
+			super(name);
+			this.getter = getter;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			scribe.key(name).value(getter.applyAsInt(bean));
+		}
+
+	}
+
+	private static final class LongProperty extends Property {
+
+		private final ToLongFunction<Object> getter;
+
+		LongProperty(final JsonName name, final ToLongFunction<Object> getter) {
+			super(name);
+			this.getter = getter;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			scribe.key(name).value(getter.applyAsLong(bean));
+		}
+
+	}
+
+	private static final class DoubleProperty extends Property {
+
+		private final ToDoubleFunction<Object> getter;
+
+		DoubleProperty(final JsonName name, final ToDoubleFunction<Object> getter) {
+			super(name);
+			this.getter = getter;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			scribe.key(name).value(getter.applyAsDouble(bean));
+		}
+
+	}
+
+	private static final class FloatProperty extends Property {
+
+		private final FloatGetter getter;
+
+		FloatProperty(final JsonName name, final FloatGetter getter) {
+			super(name);
+			this.getter = getter;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			scribe.key(name).value(getter.get(bean));
+		}
+
+	}
+
+	private static final class BooleanProperty extends Property {
+
+		private final Predicate<Object> getter;
+
+		BooleanProperty(final JsonName name, final Predicate<Object> getter) {
+			super(name);
+			this.getter = getter;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			scribe.key(name).value(getter.test(bean));
+		}
+
+	}
+
+	private static final class CharProperty extends Property {
+
+		private final CharGetter getter;
+
+		CharProperty(final JsonName name, final CharGetter getter) {
+			super(name);
+			this.getter = getter;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			scribe.key(name).value(getter.get(bean));
+		}
+
+	}
+
+	private static final class ObjectProperty extends Property {
+
+		private final Function<Object, Object> getter;
+		private final JsonValueWriter<Object> writer;
+
+		ObjectProperty(final JsonName name, final Function<Object, Object> getter, final JsonValueWriter<Object> writer) {
+			super(name);
+			this.getter = getter;
+			this.writer = writer;
+		}
+
+		@Override
+		void write(final JsonScribe scribe, final Object bean) throws IOException {
+			final Object value = getter.apply(bean);
+			if (isAbsent(value)) return;
+			writer.write(scribe.key(name), value);
+		}
+
+	}
+
+}
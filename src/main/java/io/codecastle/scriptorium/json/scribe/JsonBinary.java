@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Encodes bytes as Base64 or hexadecimal characters into caller-provided buffers
+ * without allocating.
+ *
+ * <p>
+ * Base64 is the basic alphabet of RFC 4648, with padding, as produced by
+ * {@link java.util.Base64#getEncoder()}. Hexadecimal uses lowercase digits, two for
+ * every byte. Neither contains a character that needs escaping in a JSON string.
+ *
+ * @author Doug Valenta
+ */
+final class JsonBinary {
+
+	private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+			.toCharArray();
+
+	private JsonBinary() {
+	}
+
+	/**
+	 * Returns the number of Base64 characters needed to encode the provided number of
+	 * bytes, padding included.
+	 */
+	static int base64Length(final int bytes) {
+		return (bytes + 2) / 3 * 4;
+	}
+
+	/**
+	 * Encodes the specified range of the provided bytes as Base64 starting at the provided
+	 * offset, padding the last group if the range is not a multiple of three bytes, and
+	 * returns the index after the last character.
+	 */
+	static int getBase64Chars(final byte[] bytes, final int start, final int end, final char[] buffer,
+			int offset) {
+		int i = start;
+		for (final int whole = end - (end - start) % 3; i < whole; i += 3) {
+			final int group = (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | bytes[i + 2] & 0xff;
+			buffer[offset] = BASE64[group >>> 18];
+			buffer[offset + 1] = BASE64[group >>> 12 & 0x3f];
+			buffer[offset + 2] = BASE64[group >>> 6 & 0x3f];
+			buffer[offset + 3] = BASE64[group & 0x3f];
+			offset += 4;
+		}
+		if (i < end) {
+			final int group = (bytes[i] & 0xff) << 16 | (i + 1 < end ? (bytes[i + 1] & 0xff) << 8 : 0);
+			buffer[offset] = BASE64[group >>> 18];
+			buffer[offset + 1] = BASE64[group >>> 12 & 0x3f];
+			buffer[offset + 2] = i + 1 < end ? BASE64[group >>> 6 & 0x3f] : '=';
+			buffer[offset + 3] = '=';
+			offset += 4;
+		}
+		return offset;
+	}
+
+	/**
+	 * Encodes the specified range of the provided bytes as hexadecimal starting at the
+	 * provided offset, and returns the index after the last character.
+	 */
+	static int getHexChars(final byte[] bytes, final int start, final int end, final char[] buffer, int offset) {
+		for (int i = start; i < end; i++) {
+			buffer[offset++] = JsonNumbers.HEX[bytes[i] >>> 4 & 0xf];
+			buffer[offset++] = JsonNumbers.HEX[bytes[i] & 0xf];
+		}
+		return offset;
+	}
+
+	/**
+	 * Returns the specified range of the provided bytes in hexadecimal, for callers
+	 * without a buffer.
+	 */
+	static String toHexString(final byte[] bytes, final int start, final int end) {
+		final char[] buffer = new char[(end - start) * 2];
+		getHexChars(bytes, start, end, buffer, 0);
+		return new String(buffer);
+	}
+
+	/**
+	 * Reads from the provided stream until the provided buffer is full or the stream
+	 * ends, and returns the number of bytes read.
+	 */
+	static int fill(final InputStream stream, final byte[] buffer) throws IOException {
+		int length = 0;
+		while (length < buffer.length) {
+			final int read = stream.read(buffer, length, buffer.length - length);
+			if (read < 0) break;
+			length += read;
+		}
+		return length;
+	}
+
+	/**
+	 * Reads the provided stream to its end and returns its bytes, for callers that do not
+	 * encode it a chunk at a time.
+	 */
+	static byte[] readAll(final InputStream stream) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final byte[] chunk = new byte[JsonAppender.BINARY_CHUNK_LENGTH];
+		int length;
+		while ((length = stream.read(chunk)) >= 0) {
+			bytes.write(chunk, 0, length);
+		}
+		return bytes.toByteArray();
+	}
+
+}
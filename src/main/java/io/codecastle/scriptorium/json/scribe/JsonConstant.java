@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON string literal value that is quoted and escaped once, when it is created, rather
+ * than every time it is output. Useful for enum names, status strings, and other values
+ * drawn from a small fixed set.
+ * 
+ * <p>
+ * A JsonConstant is a {@link CharSequence} of the unescaped value, so it can be passed
+ * anywhere a string value is accepted. {@link FastJsonScribe} and {@link SafeJsonScribe}
+ * recognize it, including when it is passed to {@link JsonScribe#value(CharSequence)},
+ * and output its encoded form, preceded by a comma if necessary, with a single call to
+ * the underlying {@link JsonAppender}. JsonConstants are immutable.
+ * 
+ * <p>
+ * The value is escaped with a {@link JsonEscaper}, whatever escaper the appender it is
+ * output to uses.
+ * 
+ * @author Doug Valenta
+ * @see JsonName
+ */
+public final class JsonConstant implements CharSequence {
+	
+	private static final ClassValue<JsonConstant[]> ENUM_CONSTANTS = new ClassValue<JsonConstant[]>() {
+		@Override
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		protected JsonConstant[] computeValue(final Class<?> type) {
+			return of((Class) type);
+		}
+	};
+	
+	private final String value;
+	
+	/**
+	 * The value, preceded by a comma, quoted, and escaped.
+	 */
+	final String encoded;
+	final char[] chars;
+	final byte[] bytes;
+	
+	/**
+	 * Creates a new JsonConstant for the provided value.
+	 * 
+	 * @param value the value
+	 * @throws IllegalArgumentException if {@code value} is null
+	 */
+	public JsonConstant(final CharSequence value) {
+		if (value == null) throw new IllegalArgumentException("Missing value");
+		this.value = value.toString();
+		this.encoded = JsonEscaper.encode(this.value, String.valueOf(JsonAppender.QUOTE));
+		this.chars = encoded.toCharArray();
+		this.bytes = encoded.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Returns a JsonConstant for the name of each constant of the provided enum type,
+	 * indexed by ordinal.
+	 * 
+	 * @param <E> the enum type
+	 * @param type the enum type's class
+	 * @return an array containing a JsonConstant for the {@link Enum#name()} of each
+	 * constant, at the index of its {@link Enum#ordinal()}
+	 * @throws IllegalArgumentException if {@code type} is null
+	 */
+	public static <E extends Enum<E>> JsonConstant[] of(final Class<E> type) {
+		if (type == null) throw new IllegalArgumentException("Missing type");
+		final E[] values = type.getEnumConstants();
+		final JsonConstant[] constants = new JsonConstant[values.length];
+		for (final E value : values) {
+			constants[value.ordinal()] = new JsonConstant(value.name());
+		}
+		return constants;
+	}
+	
+	/**
+	 * Returns a JsonConstant for the name of the provided enum constant. The JsonConstants
+	 * for the constants of each enum type are created when the first of them is requested,
+	 * and are cached for as long as the type is loaded.
+	 * 
+	 * @param constant the enum constant
+	 * @return a JsonConstant for the {@link Enum#name()} of the constant
+	 * @throws IllegalArgumentException if {@code constant} is null
+	 */
+	public static JsonConstant of(final Enum<?> constant) {
+		if (constant == null) throw new IllegalArgumentException("Missing constant");
+		return ENUM_CONSTANTS.get(constant.getDeclaringClass())[constant.ordinal()];
+	}
+	
+	@Override
+	public int length() {
+		return value.length();
+	}
+	
+	@Override
+	public char charAt(final int index) {
+		return value.charAt(index);
+	}
+	
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return value.subSequence(start, end);
+	}
+	
+	/**
+	 * Returns the unescaped value.
+	 */
+	@Override
+	public String toString() {
+		return value;
+	}
+	
+	@Override
+	public boolean equals(final Object object) {
+		return object instanceof JsonConstant && ((JsonConstant) object).value.equals(value);
+	}
+	
+	@Override
+	public int hashCode() {
+		return value.hashCode();
+	}
+	
+}
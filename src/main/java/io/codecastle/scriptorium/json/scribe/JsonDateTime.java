@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Formats dates and timestamps in ISO-8601 into caller-provided buffers without
+ * allocating.
+ *
+ * <p>
+ * Dates are formatted as {@code 2018-11-04}, and timestamps as
+ * {@code 2018-11-04T01:02:03Z} or {@code 2018-11-04T01:02:03.250-05:00}: always with
+ * seconds, with fractional seconds in groups of three digits when there are any, and
+ * with {@code Z} for UTC. This is the format of {@link Instant#toString()}; unlike
+ * {@link OffsetDateTime#toString()}, seconds are never omitted. Only years from 0 to 9999
+ * are formatted into a buffer; others need a sign and more digits, and are formatted by
+ * {@link #toString(OffsetDateTime)}, or by {@link LocalDate#toString()} and
+ * {@link Instant#toString()}, which use the same format.
+ *
+ * <p>
+ * A JsonDateTime is mutable and caches the characters of the last date it formatted,
+ * since consecutive timestamps in a document usually fall on the same day. It is not
+ * thread-safe; each {@link JsonAppender} owns its own.
+ *
+ * @author Doug Valenta
+ */
+final class JsonDateTime {
+
+	/**
+	 * The maximum number of characters produced by
+	 * {@link #getChars(long, int, ZoneOffset, char[], int)}.
+	 */
+	static final int MAX_LENGTH = 38;
+
+	private static final int DATE_LENGTH = 10;
+	private static final long SECONDS_PER_DAY = 86400L;
+	private static final long MIN_DAY = LocalDate.of(0, 1, 1).toEpochDay();
+	private static final long MAX_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+	private final char[] date = new char[DATE_LENGTH];
+	private long day = MIN_DAY - 1;
+
+	/**
+	 * Formats the date of the provided day, counted from 1970-01-01, starting at the
+	 * provided offset, and returns the index after its last character, or returns -1
+	 * without formatting it if its year is out of range.
+	 */
+	int getDateChars(final long epochDay, final char[] buffer, final int offset) {
+		if (epochDay < MIN_DAY || epochDay > MAX_DAY) return -1;
+		if (epochDay != day) {
+			setDate(epochDay);
+			day = epochDay;
+		}
+		System.arraycopy(date, 0, buffer, offset, DATE_LENGTH);
+		return offset + DATE_LENGTH;
+	}
+
+	/**
+	 * Formats the timestamp of the provided instant at the provided offset from UTC, or
+	 * in UTC if the offset is null, starting at the provided index. Returns the index
+	 * after its last character, or -1 without formatting it if its year is out of range.
+	 */
+	int getChars(final long epochSecond, final int nanos, final ZoneOffset zone, final char[] buffer,
+			final int offset) {
+		final long local = zone == null ? epochSecond : epochSecond + zone.getTotalSeconds();
+		final int position = getDateChars(Math.floorDiv(local, SECONDS_PER_DAY), buffer, offset);
+		if (position < 0) return -1;
+		return getTimeChars((int) Math.floorMod(local, SECONDS_PER_DAY), nanos, zone, buffer, position);
+	}
+
+	/**
+	 * Formats the provided time of day, and the offset from UTC, or {@code Z} if the
+	 * offset is null, starting at the provided index with the {@code T} that follows the
+	 * date. Returns the index after its last character.
+	 */
+	private static int getTimeChars(final int seconds, final int nanos, final ZoneOffset zone, final char[] buffer,
+			final int offset) {
+		int position = offset;
+		buffer[position] = 'T';
+		putTwoDigits(seconds / 3600, buffer, position + 1);
+		buffer[position + 3] = ':';
+		putTwoDigits(seconds / 60 % 60, buffer, position + 4);
+		buffer[position + 6] = ':';
+		putTwoDigits(seconds % 60, buffer, position + 7);
+		position += 9;
+		if (nanos != 0) {
+			buffer[position++] = '.';
+			final int digits = nanos % 1000000 == 0 ? 3 : nanos % 1000 == 0 ? 6 : 9;
+			int fraction = digits == 3 ? nanos / 1000000 : digits == 6 ? nanos / 1000 : nanos;
+			for (int i = position + digits - 1; i >= position; i--) {
+				buffer[i] = (char) ('0' + fraction % 10);
+				fraction /= 10;
+			}
+			position += digits;
+		}
+		if (zone == null) {
+			buffer[position++] = 'Z';
+		} else {
+			// the ID of a ZoneOffset is Z or its normalized form, such as +05:30
+			final String id = zone.getId();
+			id.getChars(0, id.length(), buffer, position);
+			position += id.length();
+		}
+		return position;
+	}
+
+	/**
+	 * Returns the provided timestamp in the format of this class, for years that it does
+	 * not format itself or for callers without a buffer. The date is formatted by
+	 * {@link LocalDate#toString()}, with a sign and more digits if its year needs them,
+	 * and the time as {@link #getChars(long, int, ZoneOffset, char[], int)} formats it.
+	 */
+	static String toString(final OffsetDateTime value) {
+		final String date = value.toLocalDate().toString();
+		final char[] buffer = new char[date.length() + MAX_LENGTH - DATE_LENGTH];
+		date.getChars(0, date.length(), buffer, 0);
+		final int end = getTimeChars(value.toLocalTime().toSecondOfDay(), value.getNano(), value.getOffset(), buffer,
+				date.length());
+		return new String(buffer, 0, end);
+	}
+
+	/**
+	 * Converts a day counted from 1970-01-01 to a proleptic Gregorian date, as described
+	 * by Howard Hinnant in "chrono-Compatible Low-Level Date Algorithms", and formats it
+	 * into the cached date.
+	 */
+	private void setDate(final long epochDay) {
+		final long shifted = epochDay + 719468;
+		final long era = Math.floorDiv(shifted, 146097L);
+		final int dayOfEra = (int) (shifted - era * 146097L);
+		final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+		final int dayOfMonth = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+		final int year = (int) (era * 400) + yearOfEra + (month <= 2 ? 1 : 0);
+		putTwoDigits(year / 100, date, 0);
+		putTwoDigits(year % 100, date, 2);
+		date[4] = '-';
+		putTwoDigits(month, date, 5);
+		date[7] = '-';
+		putTwoDigits(dayOfMonth, date, 8);
+	}
+
+	private static void putTwoDigits(final int value, final char[] buffer, final int position) {
+		buffer[position] = (char) ('0' + value / 10);
+		buffer[position + 1] = (char) ('0' + value % 10);
+	}
+
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.math.BigInteger;
+
+/**
+ * Converts floats and doubles to the shortest decimal that rounds back to the same value,
+ * and formats that decimal into a caller-provided buffer without allocating.
+ *
+ * <p>
+ * The conversion is the Schubfach algorithm described by Raffaello Giulietti in "The
+ * Schubfach way to render doubles", which is also the algorithm behind
+ * {@link Double#toString(double)} since Java 19. Output matches the format of
+ * {@link Double#toString(double)}: plain notation with at least one fractional digit
+ * for magnitudes from 10<sup>-3</sup> up to but excluding 10<sup>7</sup>, otherwise
+ * computerized scientific notation such as {@code 1.0E-5}. Unlike
+ * {@link Double#toString(double)} on Java 8, the digits are always the shortest that
+ * round trip.
+ *
+ * <p>
+ * A JsonDecimal is mutable and holds the last converted value as a decimal significand
+ * with no trailing zeros and a decimal exponent. It is not thread-safe; each
+ * {@link JsonAppender} owns its own.
+ *
+ * @author Doug Valenta
+ */
+final class JsonDecimal {
+
+	/**
+	 * The maximum number of characters produced by {@link #getChars(char[], int)}.
+	 */
+	static final int MAX_LENGTH = 24;
+
+	private static final int DOUBLE_PRECISION = 53;
+	private static final int DOUBLE_Q_MIN = -1074;
+	private static final long DOUBLE_C_MIN = 1L << DOUBLE_PRECISION - 1;
+	private static final long DOUBLE_C_TINY = 3;
+	private static final long DOUBLE_T_MASK = DOUBLE_C_MIN - 1;
+	private static final int DOUBLE_BQ_MASK = 0x7ff;
+
+	private static final int FLOAT_PRECISION = 24;
+	private static final int FLOAT_Q_MIN = -149;
+	private static final long FLOAT_C_MIN = 1L << FLOAT_PRECISION - 1;
+	private static final long FLOAT_C_TINY = 8;
+	private static final int FLOAT_T_MASK = (int) FLOAT_C_MIN - 1;
+	private static final int FLOAT_BQ_MASK = 0xff;
+
+	private static final int K_MIN = -324;
+	private static final int K_MAX = 292;
+	private static final long MASK_63 = Long.MAX_VALUE;
+
+	/**
+	 * For every k in [K_MIN, K_MAX], the 126-bit value g = floor(10^-k * 2^-r) + 1,
+	 * where r is chosen so that 2^125 <= g < 2^126, split into its high bits (g1) and
+	 * its low 63 bits (g0).
+	 */
+	private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+	/**
+	 * Every power of ten that fits in a long, indexed by exponent.
+	 */
+	private static final long[] POWERS_OF_TEN = new long[19];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+		final BigInteger ten = BigInteger.TEN;
+		for (int k = K_MIN; k <= K_MAX; k++) {
+			final int r = flog2pow10(-k) - 125;
+			BigInteger numerator = k < 0 ? ten.pow(-k) : BigInteger.ONE;
+			BigInteger denominator = k > 0 ? ten.pow(k) : BigInteger.ONE;
+			if (r < 0) {
+				numerator = numerator.shiftLeft(-r);
+			} else {
+				denominator = denominator.shiftLeft(r);
+			}
+			final BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+			G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+			G[2 * (k - K_MIN) + 1] = g.longValue() & MASK_63;
+		}
+	}
+
+	private boolean negative;
+	private long significand;
+	private int exponent;
+
+	/**
+	 * Converts the provided double, unless it is NaN or infinite.
+	 *
+	 * @return false if the provided double is NaN or infinite, otherwise true
+	 */
+	boolean set(final double value) {
+		final long bits = Double.doubleToRawLongBits(value);
+		final long t = bits & DOUBLE_T_MASK;
+		final int bq = (int) (bits >>> DOUBLE_PRECISION - 1) & DOUBLE_BQ_MASK;
+		if (bq == DOUBLE_BQ_MASK) return false;
+		negative = bits < 0;
+		if (bq != 0) {
+			set(DOUBLE_Q_MIN - 1 + bq, DOUBLE_C_MIN | t, DOUBLE_PRECISION, DOUBLE_C_MIN, DOUBLE_Q_MIN);
+		} else if (t < DOUBLE_C_TINY) {
+			setTiny(DOUBLE_Q_MIN, t, DOUBLE_C_MIN);
+		} else {
+			toDecimal(DOUBLE_Q_MIN, t, 0, DOUBLE_C_MIN, DOUBLE_Q_MIN);
+		}
+		return true;
+	}
+
+	/**
+	 * Converts the provided float, unless it is NaN or infinite. The result is the
+	 * shortest decimal that rounds back to the same float, which is usually shorter than
+	 * the shortest decimal for the same value as a double.
+	 *
+	 * @return false if the provided float is NaN or infinite, otherwise true
+	 */
+	boolean set(final float value) {
+		final int bits = Float.floatToRawIntBits(value);
+		final int t = bits & FLOAT_T_MASK;
+		final int bq = bits >>> FLOAT_PRECISION - 1 & FLOAT_BQ_MASK;
+		if (bq == FLOAT_BQ_MASK) return false;
+		negative = bits < 0;
+		if (bq != 0) {
+			set(FLOAT_Q_MIN - 1 + bq, FLOAT_C_MIN | t, FLOAT_PRECISION, FLOAT_C_MIN, FLOAT_Q_MIN);
+		} else if (t < FLOAT_C_TINY) {
+			setTiny(FLOAT_Q_MIN, t, FLOAT_C_MIN);
+		} else {
+			toDecimal(FLOAT_Q_MIN, t, 0, FLOAT_C_MIN, FLOAT_Q_MIN);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the last converted value was negative, including negative zero.
+	 */
+	boolean isNegative() {
+		return negative;
+	}
+
+	/**
+	 * Returns the decimal significand of the last converted value, which has no trailing
+	 * zeros, or zero if the value was zero.
+	 */
+	long getSignificand() {
+		return significand;
+	}
+
+	/**
+	 * Returns the decimal exponent of the last converted value, so that its magnitude is
+	 * {@code getSignificand() * 10^getExponent()}.
+	 */
+	int getExponent() {
+		return exponent;
+	}
+
+	/**
+	 * Formats the last converted value starting at the provided offset, and returns the
+	 * index after its last character. The buffer must have room for {@link #MAX_LENGTH}
+	 * characters after the offset.
+	 */
+	int getChars(final char[] buffer, final int offset) {
+		int position = offset;
+		if (negative) buffer[position++] = '-';
+		if (significand == 0) {
+			buffer[position++] = '0';
+			buffer[position++] = '.';
+			buffer[position++] = '0';
+			return position;
+		}
+		final int length = JsonNumbers.length(significand);
+		// The value is 0.d1...dn * 10^scale
+		final int scale = exponent + length;
+		if (0 < scale && scale <= 7) {
+			JsonNumbers.getChars(significand, buffer, position + length);
+			if (length <= scale) {
+				position += length;
+				for (int i = length; i < scale; i++) {
+					buffer[position++] = '0';
+				}
+				buffer[position++] = '.';
+				buffer[position++] = '0';
+				return position;
+			}
+			for (int i = position + length - 1; i >= position + scale; i--) {
+				buffer[i + 1] = buffer[i];
+			}
+			buffer[position + scale] = '.';
+			return position + length + 1;
+		}
+		if (-3 < scale && scale <= 0) {
+			buffer[position++] = '0';
+			buffer[position++] = '.';
+			for (int i = scale; i < 0; i++) {
+				buffer[position++] = '0';
+			}
+			JsonNumbers.getChars(significand, buffer, position + length);
+			return position + length;
+		}
+		JsonNumbers.getChars(significand, buffer, position + length + 1);
+		buffer[position] = buffer[position + 1];
+		buffer[position + 1] = '.';
+		position += length + 1;
+		if (length == 1) buffer[position++] = '0';
+		buffer[position++] = 'E';
+		final int exponentLength = JsonNumbers.length(scale - 1);
+		JsonNumbers.getChars(scale - 1, buffer, position + exponentLength);
+		return position + exponentLength;
+	}
+
+	/**
+	 * Formats the last converted value in plain notation, rounded half up to at most the
+	 * provided number of fractional digits and of significant digits, with trailing zeros
+	 * and a trailing decimal point removed, and returns the index after its last
+	 * character. Values that round to zero are formatted as {@code 0}, without a sign.
+	 * Magnitudes of 10<sup>21</sup> or more are formatted as by
+	 * {@link #getChars(char[], int)}. The buffer must have room for {@link #MAX_LENGTH}
+	 * characters after the offset.
+	 *
+	 * <p>
+	 * The value rounded is the shortest decimal, so that, for example, 1.0000005 rounds
+	 * to 1.000001 at six places even though the closest double is slightly less.
+	 */
+	int getChars(final char[] buffer, final int offset, final int decimals, final int digits) {
+		if (significand == 0) {
+			buffer[offset] = '0';
+			return offset + 1;
+		}
+		int length = JsonNumbers.length(significand);
+		if (exponent + length > 21) return getChars(buffer, offset);
+		// Round away the digits below 10^target
+		final int target = -Math.min(decimals, digits - exponent - length);
+		long rounded = significand;
+		int scale = exponent;
+		if (target > scale) {
+			final int dropped = target - scale;
+			if (dropped > length) {
+				rounded = 0;
+			} else {
+				final long power = POWERS_OF_TEN[dropped];
+				final long remainder = rounded % power;
+				rounded /= power;
+				if (remainder >= power - remainder) rounded++;
+			}
+			scale = target;
+			if (rounded == 0) {
+				buffer[offset] = '0';
+				return offset + 1;
+			}
+			while (rounded % 10 == 0) {
+				rounded /= 10;
+				scale++;
+			}
+			length = JsonNumbers.length(rounded);
+		}
+		int position = offset;
+		if (negative) buffer[position++] = '-';
+		if (scale >= 0) {
+			JsonNumbers.getChars(rounded, buffer, position + length);
+			position += length;
+			for (int i = 0; i < scale; i++) {
+				buffer[position++] = '0';
+			}
+			return position;
+		}
+		final int fraction = -scale;
+		if (length > fraction) {
+			JsonNumbers.getChars(rounded, buffer, position + length + 1);
+			final int point = position + length - fraction;
+			for (int i = position; i < point; i++) {
+				buffer[i] = buffer[i + 1];
+			}
+			buffer[point] = '.';
+			return position + length + 1;
+		}
+		buffer[position++] = '0';
+		buffer[position++] = '.';
+		for (int i = length; i < fraction; i++) {
+			buffer[position++] = '0';
+		}
+		JsonNumbers.getChars(rounded, buffer, position + length);
+		return position + length;
+	}
+
+	private void set(final int q, final long c, final int precision, final long cMin, final int qMin) {
+		// Integers with no more significant bits than the precision need no conversion
+		if (0 < -q && -q < precision) {
+			final long f = c >> -q;
+			if (f << -q == c) {
+				setStripped(f, 0);
+				return;
+			}
+		}
+		toDecimal(q, c, 0, cMin, qMin);
+	}
+
+	private void setTiny(final int q, final long c, final long cMin) {
+		if (c == 0) {
+			significand = 0;
+			exponent = 0;
+			return;
+		}
+		toDecimal(q, 10 * c, -1, cMin, q);
+	}
+
+	private void toDecimal(final int q, final long c, final int dk, final long cMin, final int qMin) {
+		final int out = (int) c & 1;
+		final long cb = c << 2;
+		final long cbr = cb + 2;
+		final long cbl;
+		final int k;
+		if (c != cMin | q == qMin) {
+			cbl = cb - 2;
+			k = flog10pow2(q);
+		} else {
+			cbl = cb - 1;
+			k = flog10threeQuartersPow2(q);
+		}
+		final int h = q + flog2pow10(-k) + 2;
+		final long g1 = G[2 * (k - K_MIN)];
+		final long g0 = G[2 * (k - K_MIN) + 1];
+		final long vb = roundToOdd(g1, g0, cb << h);
+		final long vbl = roundToOdd(g1, g0, cbl << h);
+		final long vbr = roundToOdd(g1, g0, cbr << h);
+		final long s = vb >> 2;
+		if (s >= 100) {
+			// Prefer a candidate with one digit fewer, if one is in the rounding interval
+			final long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+			final long tp10 = sp10 + 10;
+			final boolean upin = vbl + out <= sp10 << 2;
+			final boolean wpin = (tp10 << 2) + out <= vbr;
+			if (upin != wpin) {
+				setStripped(upin ? sp10 : tp10, k);
+				return;
+			}
+		}
+		final long t = s + 1;
+		final boolean uin = vbl + out <= s << 2;
+		final boolean win = (t << 2) + out <= vbr;
+		if (uin != win) {
+			setStripped(uin ? s : t, k + dk);
+			return;
+		}
+		final long cmp = vb - (s + t << 1);
+		setStripped(cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk);
+	}
+
+	private void setStripped(long f, int e) {
+		while (f % 10 == 0) {
+			f /= 10;
+			e++;
+		}
+		significand = f;
+		exponent = e;
+	}
+
+	/**
+	 * Computes the 126-bit g times cp, divided by 2^127 and rounded to odd.
+	 */
+	private static long roundToOdd(final long g1, final long g0, final long cp) {
+		final long x1 = multiplyHigh(g0, cp);
+		final long y0 = g1 * cp;
+		final long y1 = multiplyHigh(g1, cp);
+		final long z = (y0 >>> 1) + x1;
+		final long vbp = y1 + (z >>> 63);
+		return vbp | (z & MASK_63) + MASK_63 >>> 63;
+	}
+
+	/**
+	 * Returns the high 64 bits of the 128-bit product of the provided values. Equivalent to
+	 * Math.multiplyHigh, which is not available on Java 8.
+	 */
+	static long multiplyHigh(final long x, final long y) {
+		final long x1 = x >> 32;
+		final long x2 = x & 0xffffffffL;
+		final long y1 = y >> 32;
+		final long y2 = y & 0xffffffffL;
+		final long z2 = x2 * y2;
+		final long t = x1 * y2 + (z2 >>> 32);
+		final long z1 = (t & 0xffffffffL) + x2 * y1;
+		final long z0 = t >> 32;
+		return x1 * y1 + z0 + (z1 >> 32);
+	}
+
+	/**
+	 * Returns floor(e * log10(2)).
+	 */
+	private static int flog10pow2(final int e) {
+		return (int) (e * 661971961083L >> 41);
+	}
+
+	/**
+	 * Returns floor(log10(3/4 * 2^e)).
+	 */
+	private static int flog10threeQuartersPow2(final int e) {
+		return (int) (e * 661971961083L + -274743187321L >> 41);
+	}
+
+	/**
+	 * Returns floor(e * log2(10)).
+	 */
+	private static int flog2pow10(final int e) {
+		return (int) (e * 913124641741L >> 38);
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.math.BigDecimal;
+
+/**
+ * How a {@link JsonAppender} outputs floats, doubles and {@link BigDecimal}s.
+ *
+ * <p>
+ * By default, with {@link #SHORTEST}, a float or double is output as the shortest decimal
+ * that rounds back to the same value, in the format of {@link Double#toString(double)},
+ * which uses scientific notation for very large and very small magnitudes. Other formats
+ * round that decimal half up to a limited number of fractional digits, significant
+ * digits, or both, and output it in plain notation without trailing zeros, so that
+ * {@code 12.30} is output as {@code 12.3} and {@code 5.0} as {@code 5}:
+ *
+ * <pre>
+ * new JsonAppender(writer, new JsonEscaper(), JsonDecimalFormat.fixed(6))
+ * </pre>
+ *
+ * <p>
+ * Rounding and formatting use only integer arithmetic on the shortest decimal, with no
+ * {@link java.math.BigDecimal} or {@link String#format(String, Object...)}, and do not
+ * allocate. Values that round to zero are output as {@code 0}. Magnitudes of
+ * 10<sup>21</sup> or more, which plain notation is not meant for, are output as with
+ * {@link #SHORTEST}.
+ *
+ * <p>
+ * BigDecimals are never rounded, and are output in the {@link Notation} of the format,
+ * which is {@link Notation#SCIENTIFIC} unless another is chosen with
+ * {@link #withNotation(Notation)}. BigDecimals with at most 18 digits are formatted
+ * from their unscaled value without allocating a String. JsonDecimalFormats are
+ * immutable.
+ *
+ * @author Doug Valenta
+ */
+public final class JsonDecimalFormat {
+
+	/**
+	 * How a {@link BigDecimal} is output.
+	 */
+	public enum Notation {
+
+		/**
+		 * The notation of {@link BigDecimal#toString()}, which uses an exponent for negative
+		 * scales and for magnitudes below 10<sup>-6</sup>, such as {@code 1.5E+3}.
+		 */
+		SCIENTIFIC,
+
+		/**
+		 * The notation of {@link BigDecimal#toEngineeringString()}, which uses an exponent
+		 * that is a multiple of three where {@link #SCIENTIFIC} uses an exponent, such as
+		 * {@code 1.5E+3} for a scale of -2.
+		 */
+		ENGINEERING,
+
+		/**
+		 * The notation of {@link BigDecimal#toPlainString()}, which never uses an exponent,
+		 * such as {@code 1500}.
+		 */
+		PLAIN
+
+	}
+
+	/**
+	 * The largest number of fractional or significant digits a format may keep, which is
+	 * enough to output any double without loss.
+	 */
+	public static final int MAX_DIGITS = 17;
+
+	/**
+	 * The format that outputs the shortest decimal that rounds back to the same value.
+	 */
+	public static final JsonDecimalFormat SHORTEST = new JsonDecimalFormat();
+
+	private final int decimals;
+	private final int digits;
+	private final Notation notation;
+
+	private JsonDecimalFormat() {
+		this(-1, -1, Notation.SCIENTIFIC);
+	}
+
+	private JsonDecimalFormat(final int decimals, final int digits, final Notation notation) {
+		this.decimals = decimals;
+		this.digits = digits;
+		this.notation = notation;
+	}
+
+	/**
+	 * Creates a new JsonDecimalFormat that rounds to at most the provided number of
+	 * fractional digits and of significant digits, whichever keeps fewer.
+	 *
+	 * @param decimals the largest number of digits to keep after the decimal point, from
+	 * 0 to {@link #MAX_DIGITS}
+	 * @param digits the largest number of significant digits to keep, from 1 to
+	 * {@link #MAX_DIGITS}
+	 * @throws IllegalArgumentException if {@code decimals} or {@code digits} is out of
+	 * range
+	 */
+	public JsonDecimalFormat(final int decimals, final int digits) {
+		if (decimals < 0 || decimals > MAX_DIGITS) throw new IllegalArgumentException("Decimals " + decimals);
+		if (digits < 1 || digits > MAX_DIGITS) throw new IllegalArgumentException("Digits " + digits);
+		this.decimals = decimals;
+		this.digits = digits;
+		this.notation = Notation.SCIENTIFIC;
+	}
+
+	/**
+	 * Returns a format that rounds to at most the provided number of fractional digits,
+	 * such as 6 for coordinates with a precision of about ten centimeters.
+	 *
+	 * @param decimals the largest number of digits to keep after the decimal point, from
+	 * 0 to {@link #MAX_DIGITS}
+	 * @return a new JsonDecimalFormat
+	 * @throws IllegalArgumentException if {@code decimals} is out of range
+	 */
+	public static JsonDecimalFormat fixed(final int decimals) {
+		return new JsonDecimalFormat(decimals, MAX_DIGITS);
+	}
+
+	/**
+	 * Returns a format that rounds to at most the provided number of significant digits.
+	 * Digits of magnitudes below 10<sup>-17</sup> are not kept.
+	 *
+	 * @param digits the largest number of significant digits to keep, from 1 to
+	 * {@link #MAX_DIGITS}
+	 * @return a new JsonDecimalFormat
+	 * @throws IllegalArgumentException if {@code digits} is out of range
+	 */
+	public static JsonDecimalFormat significant(final int digits) {
+		return new JsonDecimalFormat(MAX_DIGITS, digits);
+	}
+
+	/**
+	 * Returns the largest number of fractional digits this format keeps, or -1 for
+	 * {@link #SHORTEST}.
+	 *
+	 * @return the number of fractional digits
+	 */
+	public int getDecimals() {
+		return decimals;
+	}
+
+	/**
+	 * Returns the largest number of significant digits this format keeps, or -1 for
+	 * {@link #SHORTEST}.
+	 *
+	 * @return the number of significant digits
+	 */
+	public int getDigits() {
+		return digits;
+	}
+
+	/**
+	 * Returns the notation this format outputs {@link BigDecimal}s in.
+	 *
+	 * @return the notation of BigDecimals
+	 */
+	public Notation getNotation() {
+		return notation;
+	}
+
+	/**
+	 * Returns a format that outputs floats and doubles as this format does, and
+	 * {@link BigDecimal}s in the provided notation.
+	 *
+	 * @param notation the notation of BigDecimals
+	 * @return a JsonDecimalFormat with the provided notation
+	 * @throws IllegalArgumentException if {@code notation} is null
+	 */
+	public JsonDecimalFormat withNotation(final Notation notation) {
+		if (notation == null) throw new IllegalArgumentException("Missing notation");
+		if (notation == this.notation) return this;
+		return new JsonDecimalFormat(decimals, digits, notation);
+	}
+
+	/**
+	 * Formats the last value converted by the provided {@link JsonDecimal} starting at the
+	 * provided offset, and returns the index after its last character.
+	 */
+	int getChars(final JsonDecimal decimal, final char[] buffer, final int offset) {
+		if (decimals < 0) return decimal.getChars(buffer, offset);
+		return decimal.getChars(buffer, offset, decimals, digits);
+	}
+
+	/**
+	 * Formats the provided BigDecimal starting at the provided offset and returns the index
+	 * after its last character, or returns -1 without formatting it if it has more than 18
+	 * digits or would not fit in the buffer.
+	 */
+	int getChars(final BigDecimal value, final char[] buffer, final int offset) {
+		if (value.precision() > JsonNumbers.MAX_COMPACT_DIGITS) return -1;
+		// the unscaled value of a BigDecimal with at most 18 digits is held in a long
+		final long unscaled = value.scaleByPowerOfTen(value.scale()).longValue();
+		return JsonNumbers.getChars(unscaled, value.scale(), notation, buffer, offset);
+	}
+
+	/**
+	 * Returns the provided BigDecimal as a String in the notation of this format.
+	 */
+	String toString(final BigDecimal value) {
+		switch (notation) {
+			case ENGINEERING:
+				return value.toEngineeringString();
+			case PLAIN:
+				return value.toPlainString();
+			default: // case SCIENTIFIC:
+				return value.toString();
+		}
+	}
+
+	@Override
+	public String toString() {
+		final String precision = decimals < 0 ? "shortest" : "decimals=" + decimals + ",digits=" + digits;
+		return notation == Notation.SCIENTIFIC ? precision : precision + "," + notation.name().toLowerCase();
+	}
+
+}
@@ -22,61 +22,197 @@ import io.codecastle.scriptorium.scribe.Escaper;
  * This implementation chooses the shorter (fewer characters) escape sequence
  * for the supplied character when multiple valid escape sequences are allowed.
  * 
+ * <p>
+ * {@link #indexOfEscaped(char[], int, int)} tests four characters per step, packed into
+ * the 16-bit lanes of a long, rather than looking each one up in turn.
+ * 
  * @author Doug Valenta
  */
 public class JsonEscaper implements Escaper {
 
-	private static final char BACKSPACE = '\b';
-	private static final char FORMFEED = '\f';
-	private static final char NEWLINE = '\n';
-	private static final char RETURN = '\r';
-	private static final char TAB = '\t';
 	private static final char QUOTE = '"';
 	private static final char BACKSLASH = '\\';
-	private static final String ESCAPED_BACKSPACE = "\\\b";
-	private static final String ESCAPED_FORMFEED = "\\\f";
-	private static final String ESCAPED_NEWLINE = "\\\n";
-	private static final String ESCAPED_RETURN = "\\\r";
-	private static final String ESCAPED_TAB = "\\\t";
-	private static final String ESCAPED_BACKSLASH = "\\\\";
-	private static final String ESCAPED_QUOTE = "\\\"";
-	private static final String ESCAPED_UNICODE = "\\u";
-	private static final String UNICODE_FORMAT = "%04x";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+	
+	private static final long LANES = 0x0001000100010001L;
+	private static final long HIGH_BITS = 0x8000800080008000L;
+	private static final long LOW_BITS = 0x7fff7fff7fff7fffL;
+	private static final long CONTROL_BITS = LANES * 0xffe0;
+	private static final long NON_ASCII_BITS = LANES * 0xff80;
+	private static final long QUOTES = LANES * QUOTE;
+	private static final long BACKSLASHES = LANES * BACKSLASH;
+	
+	/**
+	 * The escape sequence for each ASCII character, or null if the character is output
+	 * as itself.
+	 */
+	private static final String[] ESCAPES = new String[128];
+	
+	static {
+		for (int i = 0; i < 32; i++) {
+			ESCAPES[i] = new String(new char[] {BACKSLASH, 'u', '0', '0', HEX[i >> 4], HEX[i & 0xf]});
+		}
+		ESCAPES['\b'] = "\\b";
+		ESCAPES['\f'] = "\\f";
+		ESCAPES['\n'] = "\\n";
+		ESCAPES['\r'] = "\\r";
+		ESCAPES['\t'] = "\\t";
+		ESCAPES[QUOTE] = "\\\"";
+		ESCAPES[BACKSLASH] = "\\\\";
+	}
+	
+	private final boolean standard = getClass() == JsonEscaper.class;
 	
 	@Override
 	public void escape(final char character, final Appendable appendable) throws IOException {
-		if (character < 32) {
-			switch (character) {
-				case BACKSPACE:
-					appendable.append(ESCAPED_BACKSPACE);
-					return;
-				case FORMFEED:
-					appendable.append(ESCAPED_FORMFEED);
-					return;
-				case NEWLINE:
-					appendable.append(ESCAPED_NEWLINE);
-					return;
-				case RETURN:
-					appendable.append(ESCAPED_RETURN);
-					return;
-				case TAB:
-					appendable.append(ESCAPED_TAB);
-					return;
-				default:
-					appendable.append(ESCAPED_UNICODE).append(String.format(UNICODE_FORMAT, (int) character));
+		if (character < ESCAPES.length) {
+			final String escaped = ESCAPES[character];
+			if (escaped != null) {
+				appendable.append(escaped);
+				return;
 			}
-		} else {
-			switch (character) {
-				case BACKSLASH: 
-					appendable.append(ESCAPED_BACKSLASH);
-					return;
-				case QUOTE:
-					appendable.append(ESCAPED_QUOTE);
-					return;
-				default:
-					appendable.append(character);
+		}
+		appendable.append(character);
+	}
+	
+	/**
+	 * Returns true if this escaper outputs an escape sequence in place of the provided
+	 * character, or false if it outputs the character itself.
+	 * 
+	 * <p>
+	 * {@link JsonAppender} uses this method to find runs of characters that can be output
+	 * without escaping only for a plain JsonEscaper. Subclasses are always called once for
+	 * every character with {@link #escape(char, Appendable)}.
+	 * 
+	 * @param character the character to check
+	 * @return true if the character is escaped
+	 */
+	public boolean isEscaped(final char character) {
+		return character < ESCAPES.length && ESCAPES[character] != null;
+	}
+	
+	/**
+	 * Returns the index of the first character in the specified range of the provided
+	 * {@link CharSequence} for which {@link #isEscaped(char)} returns true, or {@code end}
+	 * if there is no such character.
+	 * 
+	 * @param sequence the characters to search
+	 * @param start the index of the first character to check
+	 * @param end the index after the last character to check
+	 * @return the index of the first escaped character, or {@code end}
+	 */
+	public int indexOfEscaped(final CharSequence sequence, final int start, final int end) {
+		for (int i = start; i < end; i++) {
+			if (isEscaped(sequence.charAt(i))) return i;
+		}
+		return end;
+	}
+	
+	/**
+	 * Returns the index of the first character in the specified range of the provided
+	 * array for which {@link #isEscaped(char)} returns true, or {@code end} if there is
+	 * no such character.
+	 * 
+	 * <p>
+	 * Subclasses are checked one character at a time with {@link #isEscaped(char)}.
+	 * 
+	 * @param chars the characters to search
+	 * @param start the index of the first character to check
+	 * @param end the index after the last character to check
+	 * @return the index of the first escaped character, or {@code end}
+	 */
+	public int indexOfEscaped(final char[] chars, final int start, final int end) {
+		int i = start;
+		if (standard) {
+			for (; i <= end - 4; i += 4) {
+				final long escaped = escapedLanes(word(chars, i));
+				if (escaped != 0) return i + lane(escaped);
 			}
 		}
+		for (; i < end; i++) {
+			if (isEscaped(chars[i])) return i;
+		}
+		return end;
+	}
+	
+	/**
+	 * Returns the provided text quoted and escaped as a plain JsonEscaper would, preceded
+	 * by a comma and followed by the provided suffix, for {@link JsonName} and
+	 * {@link JsonConstant}.
+	 */
+	static String encode(final String text, final String suffix) {
+		final StringBuilder builder = new StringBuilder(text.length() + suffix.length() + 2);
+		builder.append(',').append(QUOTE);
+		for (int i = 0; i < text.length(); i++) {
+			final char character = text.charAt(i);
+			final String escaped = character < ESCAPES.length ? ESCAPES[character] : null;
+			if (escaped == null) {
+				builder.append(character);
+			} else {
+				builder.append(escaped);
+			}
+		}
+		return builder.append(suffix).toString();
+	}
+	
+	/**
+	 * Returns true if the provided escaper escapes exactly the characters a plain
+	 * JsonEscaper does, so its characters may be checked with {@link #escapedLanes(long)}.
+	 */
+	static boolean isStandard(final Escaper escaper) {
+		return escaper instanceof JsonEscaper && ((JsonEscaper) escaper).standard;
+	}
+	
+	/**
+	 * Returns true if the provided character is in the ASCII range and is not escaped by
+	 * a plain JsonEscaper.
+	 */
+	static boolean isPlainAscii(final char character) {
+		return character < ESCAPES.length && ESCAPES[character] == null;
+	}
+	
+	/**
+	 * Packs four characters, starting at the provided index, into the 16-bit lanes of a
+	 * long, with the first character in the lowest lane.
+	 */
+	static long word(final char[] chars, final int index) {
+		return chars[index]
+				| (long) chars[index + 1] << 16
+				| (long) chars[index + 2] << 32
+				| (long) chars[index + 3] << 48;
+	}
+	
+	/**
+	 * Returns the high bit of every lane of the provided word holding a character that
+	 * a plain JsonEscaper escapes.
+	 */
+	static long escapedLanes(final long word) {
+		return ~(nonZeroLanes(word & CONTROL_BITS)
+				& nonZeroLanes(word ^ QUOTES)
+				& nonZeroLanes(word ^ BACKSLASHES)) & HIGH_BITS;
+	}
+	
+	/**
+	 * Returns the high bit of every lane of the provided word holding a character outside
+	 * the ASCII range.
+	 */
+	static long nonAsciiLanes(final long word) {
+		return nonZeroLanes(word & NON_ASCII_BITS);
+	}
+	
+	/**
+	 * Returns the index of the lowest lane whose high bit is set in the provided mask.
+	 */
+	static int lane(final long mask) {
+		return Long.numberOfTrailingZeros(mask) >>> 4;
+	}
+	
+	/**
+	 * Returns the high bit of every lane of the provided word that is not zero. Each lane
+	 * is tested without borrowing from or carrying into its neighbours.
+	 */
+	private static long nonZeroLanes(final long word) {
+		return ((word & LOW_BITS) + LOW_BITS | word) & HIGH_BITS;
 	}
 	
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON object key that is quoted, escaped, and followed by a colon once, when it is
+ * created, rather than every time it is output.
+ * 
+ * <p>
+ * A JsonName is a {@link CharSequence} of the unescaped key, so it can be passed
+ * anywhere a key is accepted. {@link FastJsonScribe} and {@link SafeJsonScribe} recognize
+ * it, including when it is passed to {@link JsonScribe#key(CharSequence)}, and output
+ * its encoded form, preceded by a comma if necessary, with a single call to the
+ * underlying {@link JsonAppender}. JsonNames are immutable and are meant to be created
+ * once and held in constants:
+ * 
+ * <pre>
+ * private static final JsonName TIMESTAMP = new JsonName("timestamp");
+ * ...
+ * object.with(TIMESTAMP, event.getTimestamp());
+ * </pre>
+ * 
+ * <p>
+ * The key is escaped with a {@link JsonEscaper}, whatever escaper the appender it is
+ * output to uses.
+ * 
+ * @author Doug Valenta
+ * @see JsonConstant
+ */
+public final class JsonName implements CharSequence {
+	
+	private final String name;
+	
+	/**
+	 * The key, preceded by a comma, quoted, escaped, and followed by a colon.
+	 */
+	final String encoded;
+	final char[] chars;
+	final byte[] bytes;
+	
+	/**
+	 * Creates a new JsonName for the provided key.
+	 * 
+	 * @param name the key
+	 * @throws IllegalArgumentException if {@code name} is null
+	 */
+	public JsonName(final CharSequence name) {
+		if (name == null) throw new IllegalArgumentException("Missing name");
+		this.name = name.toString();
+		this.encoded = JsonEscaper.encode(this.name, JsonAppender.CLOSE_KEY);
+		this.chars = encoded.toCharArray();
+		this.bytes = encoded.getBytes(StandardCharsets.UTF_8);
+	}
+	
+	@Override
+	public int length() {
+		return name.length();
+	}
+	
+	@Override
+	public char charAt(final int index) {
+		return name.charAt(index);
+	}
+	
+	@Override
+	public CharSequence subSequence(final int start, final int end) {
+		return name.subSequence(start, end);
+	}
+	
+	/**
+	 * Returns the unescaped key.
+	 */
+	@Override
+	public String toString() {
+		return name;
+	}
+	
+	@Override
+	public boolean equals(final Object object) {
+		return object instanceof JsonName && ((JsonName) object).name.equals(name);
+	}
+	
+	@Override
+	public int hashCode() {
+		return name.hashCode();
+	}
+	
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import io.codecastle.scriptorium.json.scribe.JsonDecimalFormat.Notation;
+
+/**
+ * Formats integral numbers, and {@link BigDecimal}s held as a long unscaled value and a
+ * scale, into caller-provided buffers without allocating.
+ *
+ * <p>
+ * Digits are produced two at a time from lookup tables, right to left, ending at a
+ * caller-provided index. Negative values are handled in the negative range so that
+ * {@link Long#MIN_VALUE} and {@link Integer#MIN_VALUE} need no special case.
+ *
+ * <p>
+ * BigIntegers too large for a long are split into chunks of {@link #CHUNK_DIGITS}
+ * digits by repeatedly halving them with powers of ten of
+ * {@link #CHUNK_DIGITS}&middot;2<sup>k</sup> digits, which are computed once and cached.
+ *
+ * @author Doug Valenta
+ */
+final class JsonNumbers {
+
+	/**
+	 * The maximum number of characters needed to format an int or a long.
+	 */
+	static final int MAX_LONG_LENGTH = 20;
+
+	/**
+	 * The maximum number of digits of a {@link BigDecimal} that can be formatted from a
+	 * long unscaled value.
+	 */
+	static final int MAX_COMPACT_DIGITS = 18;
+
+	/**
+	 * The number of digits in each chunk of a large {@link BigInteger}.
+	 */
+	static final int CHUNK_DIGITS = 18;
+
+	private static final char[] TENS = new char[100];
+	private static final char[] ONES = new char[100];
+	static final char[] HEX = "0123456789abcdef".toCharArray();
+	private static volatile BigInteger[] chunkPowers = {BigInteger.TEN.pow(CHUNK_DIGITS)};
+
+	static {
+		for (int i = 0; i < 100; i++) {
+			TENS[i] = (char) ('0' + i / 10);
+			ONES[i] = (char) ('0' + i % 10);
+		}
+	}
+
+	/**
+	 * Returns the number of characters needed to format the provided value.
+	 */
+	static int length(long value) {
+		int sign = 1;
+		if (value >= 0) {
+			sign = 0;
+			value = -value;
+		}
+		long bound = -10;
+		for (int i = 1; i < 19; i++) {
+			if (value > bound) return i + sign;
+			bound *= 10;
+		}
+		return 19 + sign;
+	}
+
+	/**
+	 * Formats the provided value so that its last character is written at {@code end - 1},
+	 * and returns the index of its first character.
+	 */
+	static int getChars(long value, final char[] buffer, final int end) {
+		int position = end;
+		final boolean negative = value < 0;
+		if (!negative) value = -value;
+		while (value <= Integer.MIN_VALUE) {
+			final long quotient = value / 100;
+			final int remainder = (int) (quotient * 100 - value);
+			value = quotient;
+			buffer[--position] = ONES[remainder];
+			buffer[--position] = TENS[remainder];
+		}
+		int small = (int) value;
+		while (small <= -100) {
+			final int quotient = small / 100;
+			final int remainder = quotient * 100 - small;
+			small = quotient;
+			buffer[--position] = ONES[remainder];
+			buffer[--position] = TENS[remainder];
+		}
+		final int quotient = small / 10;
+		buffer[--position] = (char) ('0' + quotient * 10 - small);
+		if (quotient < 0) buffer[--position] = (char) ('0' - quotient);
+		if (negative) buffer[--position] = '-';
+		return position;
+	}
+
+	/**
+	 * Formats the provided value as ASCII bytes so that its last byte is written at
+	 * {@code end - 1}, and returns the index of its first byte.
+	 */
+	static int getBytes(long value, final byte[] buffer, final int end) {
+		int position = end;
+		final boolean negative = value < 0;
+		if (!negative) value = -value;
+		while (value <= Integer.MIN_VALUE) {
+			final long quotient = value / 100;
+			final int remainder = (int) (quotient * 100 - value);
+			value = quotient;
+			buffer[--position] = (byte) ONES[remainder];
+			buffer[--position] = (byte) TENS[remainder];
+		}
+		int small = (int) value;
+		while (small <= -100) {
+			final int quotient = small / 100;
+			final int remainder = quotient * 100 - small;
+			small = quotient;
+			buffer[--position] = (byte) ONES[remainder];
+			buffer[--position] = (byte) TENS[remainder];
+		}
+		final int quotient = small / 10;
+		buffer[--position] = (byte) ('0' + quotient * 10 - small);
+		if (quotient < 0) buffer[--position] = (byte) ('0' - quotient);
+		if (negative) buffer[--position] = '-';
+		return position;
+	}
+
+	/**
+	 * Formats a {@link BigDecimal} with the provided unscaled value and scale in the
+	 * provided notation, as {@link BigDecimal#toString()},
+	 * {@link BigDecimal#toEngineeringString()} or {@link BigDecimal#toPlainString()}
+	 * would, starting at the provided offset. Returns the index after its last character,
+	 * or -1 without formatting it if it would not fit in the buffer.
+	 */
+	static int getChars(final long unscaled, final int scale, final Notation notation, final char[] buffer,
+			final int offset) {
+		final long magnitude = Math.abs(unscaled);
+		final int length = length(magnitude);
+		final long adjusted = length - 1 - (long) scale;
+		final int start = unscaled < 0 ? offset + 1 : offset;
+		int position;
+		if (scale >= 0 && (adjusted >= -6 || notation == Notation.PLAIN)) {
+			if (scale < length) {
+				if (start + length + (scale > 0 ? 1 : 0) > buffer.length) return -1;
+				position = getChars(magnitude, length, length - scale, buffer, start);
+			} else {
+				if (start + 2L + scale > buffer.length) return -1;
+				buffer[start] = '0';
+				buffer[start + 1] = '.';
+				position = start + 2 + scale - length;
+				Arrays.fill(buffer, start + 2, position, '0');
+				position = getChars(magnitude, length, length, buffer, position);
+			}
+		} else if (notation == Notation.PLAIN) {
+			if (magnitude == 0) {
+				buffer[offset] = '0';
+				return offset + 1;
+			}
+			if (start + length - (long) scale > buffer.length) return -1;
+			position = getChars(magnitude, length, length, buffer, start);
+			Arrays.fill(buffer, position, position - scale, '0');
+			position -= scale;
+		} else {
+			long exponent = adjusted;
+			int point = 1;
+			int zeros = 0;
+			if (notation == Notation.ENGINEERING) {
+				final int remainder = (int) Math.floorMod(adjusted, 3L);
+				exponent -= remainder;
+				if (magnitude != 0) {
+					point += remainder;
+				} else if (remainder > 0) {
+					// zero with an exponent that is not a multiple of three, such as 0.00E+3
+					exponent += 3;
+					zeros = 3 - remainder;
+				}
+			}
+			final int size = zeros > 0 ? zeros + 2 : point < length ? length + 1 : point;
+			final int exponentLength = exponent == 0 ? 0 : exponent > 0 ? length(exponent) + 2 : length(exponent) + 1;
+			if (start + size + exponentLength > buffer.length) return -1;
+			position = start + size;
+			if (zeros > 0) {
+				buffer[start] = '0';
+				buffer[start + 1] = '.';
+				Arrays.fill(buffer, start + 2, position, '0');
+			} else {
+				Arrays.fill(buffer, getChars(magnitude, length, point, buffer, start), position, '0');
+			}
+			if (exponent != 0) {
+				buffer[position++] = 'E';
+				if (exponent > 0) buffer[position++] = '+';
+				position += length(exponent);
+				getChars(exponent, buffer, position);
+			}
+		}
+		if (unscaled < 0) buffer[offset] = '-';
+		return position;
+	}
+
+	/**
+	 * Formats the provided digits starting at the provided index, with a decimal point
+	 * after the first {@code point} digits if there are more, and returns the index after
+	 * the last character.
+	 */
+	private static int getChars(final long magnitude, final int length, final int point, final char[] buffer,
+			final int start) {
+		if (point >= length) {
+			getChars(magnitude, buffer, start + length);
+			return start + length;
+		}
+		final int end = start + length + 1;
+		getChars(magnitude, buffer, end);
+		System.arraycopy(buffer, start + 1, buffer, start, point);
+		buffer[start + point] = '.';
+		return end;
+	}
+
+	/**
+	 * Formats a {@link java.util.UUID} with the provided most and least significant bits
+	 * as {@link java.util.UUID#toString()} would, starting at the provided offset, and
+	 * returns the index after its last character.
+	 */
+	static int getUuidChars(final long mostSignificant, final long leastSignificant, final char[] buffer,
+			final int offset) {
+		getHexChars(mostSignificant >>> 32, 8, buffer, offset);
+		buffer[offset + 8] = '-';
+		getHexChars(mostSignificant >>> 16, 4, buffer, offset + 9);
+		buffer[offset + 13] = '-';
+		getHexChars(mostSignificant, 4, buffer, offset + 14);
+		buffer[offset + 18] = '-';
+		getHexChars(leastSignificant >>> 48, 4, buffer, offset + 19);
+		buffer[offset + 23] = '-';
+		getHexChars(leastSignificant, 12, buffer, offset + 24);
+		return offset + 36;
+	}
+
+	/**
+	 * Formats the provided number of low hexadecimal digits of the provided value,
+	 * starting at the provided index.
+	 */
+	private static void getHexChars(long value, final int digits, final char[] buffer, final int start) {
+		for (int i = start + digits - 1; i >= start; i--) {
+			buffer[i] = HEX[(int) value & 0xf];
+			value >>>= 4;
+		}
+	}
+
+	/**
+	 * Returns 10 to the power of {@link #CHUNK_DIGITS}&middot;2<sup>k</sup>.
+	 */
+	static BigInteger chunkPower(final int k) {
+		BigInteger[] powers = chunkPowers;
+		if (k >= powers.length) {
+			final int length = powers.length;
+			powers = Arrays.copyOf(powers, k + 1);
+			for (int i = length; i <= k; i++) {
+				powers[i] = powers[i - 1].multiply(powers[i - 1]);
+			}
+			chunkPowers = powers;
+		}
+		return powers[k];
+	}
+
+	private JsonNumbers() {}
+
+}
@@ -7,8 +7,21 @@ package io.codecastle.scriptorium.json.scribe;
 import java.io.Closeable;
 import io.codecastle.scriptorium.FluentAppendable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
 import io.codecastle.scriptorium.FluentNode;
 
 /**
@@ -103,6 +116,28 @@ public interface JsonScribe extends FluentAppendable<JsonScribe>, Closeable {
 	 */
 	public JsonScribe value(CharSequence value) throws IOException;
 	
+	/**
+	 * Outputs the string literal represented by the provided {@link JsonConstant},
+	 * preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation is equivalent to {@link #value(CharSequence)}.
+	 * Implementations should output the constant's encoded form without escaping it again.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe value(final JsonConstant value) throws IOException {
+		return value((CharSequence) value);
+	}
+	
 	/**
 	 * Outputs a single-character string literal containing the provided value, preceded
 	 * by a comma if necessary, and returns this object.
@@ -244,13 +279,433 @@ public interface JsonScribe extends FluentAppendable<JsonScribe>, Closeable {
 	 */
 	public JsonScribe value(boolean value) throws IOException;
 	
+	/**
+	 * Outputs a string literal containing the characters of the provided {@link Reader},
+	 * read to its end, preceded by a comma if necessary, and returns this object. The
+	 * Reader is not closed.
+	 * 
+	 * <p>
+	 * The contents of the Reader will be quoted and escaped. The default implementation
+	 * reads it a chunk at a time, and outputs each chunk with
+	 * {@link #append(CharSequence, int, int)} between {@link #pushValue()} and
+	 * {@link #pop()}. Implementations should output it with
+	 * {@link JsonAppender#escape(Reader)}.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the Reader whose characters to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the Reader
+	 */
+	public default JsonScribe value(final Reader value) throws IOException {
+		pushValue();
+		final char[] chunk = new char[JsonAppender.SCRATCH_LENGTH];
+		final CharBuffer sequence = CharBuffer.wrap(chunk);
+		int length;
+		while ((length = value.read(chunk)) >= 0) {
+			append(sequence, 0, length);
+		}
+		return pop();
+	}
+	
+	/**
+	 * Outputs a string literal containing the characters of the provided stream, read to
+	 * its end and decoded with the provided {@link Charset}, preceded by a comma if
+	 * necessary, and returns this object. The stream is not closed.
+	 * 
+	 * <p>
+	 * The default implementation is equivalent to {@link #value(Reader)} with an
+	 * {@link InputStreamReader}. Implementations should output it with
+	 * {@link JsonAppender#escape(InputStream, Charset)}.
+	 * 
+	 * @param value the stream whose characters to append
+	 * @param charset the {@link Charset} the characters are encoded in
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #value(Reader)
+	 */
+	public default JsonScribe value(final InputStream value, final Charset charset) throws IOException {
+		return value(new InputStreamReader(value, charset));
+	}
+	
+	/**
+	 * Outputs a string literal containing the provided {@link Instant} in ISO-8601, in
+	 * UTC, preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The output matches {@link Instant#toString()}. The default implementation is
+	 * equivalent to {@link #value(CharSequence)} with that string. Implementations should
+	 * output it with {@link JsonAppender#appendTimestamp(Instant)}, without creating the
+	 * string or escaping it.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the timestamp to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe value(final Instant value) throws IOException {
+		return value(value.toString());
+	}
+	
+	/**
+	 * Outputs a string literal containing the provided {@link OffsetDateTime} in ISO-8601,
+	 * with its offset, preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * Seconds are always output, and fractional seconds in groups of three digits, as by
+	 * {@link JsonAppender#appendTimestamp(OffsetDateTime)}, which implementations should
+	 * use. The default implementation is equivalent to {@link #value(CharSequence)} with
+	 * the same string.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the timestamp to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe value(final OffsetDateTime value) throws IOException {
+		return value(JsonDateTime.toString(value));
+	}
+	
+	/**
+	 * Outputs a string literal containing the instant the provided number of milliseconds
+	 * after 1970-01-01T00:00:00Z in ISO-8601, in UTC, preceded by a comma if necessary,
+	 * and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation is equivalent to {@link #value(Instant)}.
+	 * Implementations should output it with {@link JsonAppender#appendTimestamp(long)}.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the timestamp to append, in milliseconds since the epoch
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #value(long)
+	 */
+	public default JsonScribe timestampValue(final long value) throws IOException {
+		return value(Instant.ofEpochMilli(value));
+	}
+	
+	/**
+	 * Outputs a string literal containing the provided {@link LocalDate} in ISO-8601,
+	 * preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The output matches {@link LocalDate#toString()}. The default implementation is
+	 * equivalent to {@link #value(CharSequence)} with that string. Implementations should
+	 * output it with {@link JsonAppender#appendDate(LocalDate)}.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the date to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe value(final LocalDate value) throws IOException {
+		return value(value.toString());
+	}
+	
+	/**
+	 * Outputs a string literal containing the provided {@link UUID}, preceded by a comma
+	 * if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The output matches {@link UUID#toString()}. The default implementation is
+	 * equivalent to {@link #value(CharSequence)} with that string. Implementations should
+	 * output it with {@link JsonAppender#appendUuid(UUID)}.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the UUID to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe value(final UUID value) throws IOException {
+		return value(value.toString());
+	}
+	
+	/**
+	 * Outputs a string literal containing the {@link Enum#name()} of the provided enum
+	 * constant, preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation outputs the cached {@link JsonConstant#of(Enum)} of the
+	 * constant with {@link #value(JsonConstant)}, so the name is escaped once per constant.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param value the enum constant to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe value(final Enum<?> value) throws IOException {
+		return value(JsonConstant.of(value));
+	}
+	
+	/**
+	 * Outputs a string literal containing the specified range of the provided bytes in
+	 * Base64, preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The bytes are encoded with the basic alphabet of RFC 4648, with padding. The default
+	 * implementation is equivalent to {@link #value(CharSequence)} with the string
+	 * returned by {@link Base64.Encoder#encodeToString(byte[])}. Implementations should
+	 * output it with {@link JsonAppender#appendBase64(byte[], int, int)}, without
+	 * creating the string or escaping it.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 * 
+	 * @param value the bytes to append
+	 * @param start the index of the first byte to append
+	 * @param end the index after the last byte to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe base64Value(final byte[] value, final int start, final int end) throws IOException {
+		return value(Base64.getEncoder().encodeToString(Arrays.copyOfRange(value, start, end)));
+	}
+	
+	/**
+	 * Outputs a string literal containing the remaining bytes of the provided buffer in
+	 * Base64, preceded by a comma if necessary, and returns this object. The position of
+	 * the buffer is not changed.
+	 * 
+	 * <p>
+	 * The default implementation encodes the bytes into a new buffer and outputs it with
+	 * {@link #value(CharSequence)}. Implementations should output them with
+	 * {@link JsonAppender#appendBase64(ByteBuffer)}.
+	 * 
+	 * @param value the buffer whose remaining bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #base64Value(byte[], int, int)
+	 */
+	public default JsonScribe base64Value(final ByteBuffer value) throws IOException {
+		return value(StandardCharsets.ISO_8859_1.decode(Base64.getEncoder().encode(value.duplicate())));
+	}
+	
+	/**
+	 * Outputs a string literal containing the bytes of the provided stream, read to its
+	 * end, in Base64, preceded by a comma if necessary, and returns this object. The
+	 * stream is not closed.
+	 * 
+	 * <p>
+	 * The default implementation reads the whole stream into memory before outputting it.
+	 * Implementations should output it with {@link JsonAppender#appendBase64(InputStream)},
+	 * which reads and encodes it a chunk at a time.
+	 * 
+	 * @param value the stream whose bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #base64Value(byte[], int, int)
+	 */
+	public default JsonScribe base64Value(final InputStream value) throws IOException {
+		final byte[] bytes = JsonBinary.readAll(value);
+		return base64Value(bytes, 0, bytes.length);
+	}
+	
+	/**
+	 * Outputs a string literal containing the specified range of the provided bytes in
+	 * hexadecimal, with two lowercase digits for every byte, preceded by a comma if
+	 * necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation is equivalent to {@link #value(CharSequence)} with that
+	 * string. Implementations should output it with
+	 * {@link JsonAppender#appendHex(byte[], int, int)}.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 * 
+	 * @param value the bytes to append
+	 * @param start the index of the first byte to append
+	 * @param end the index after the last byte to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe hexValue(final byte[] value, final int start, final int end) throws IOException {
+		return value(JsonBinary.toHexString(value, start, end));
+	}
+	
+	/**
+	 * Outputs a string literal containing the remaining bytes of the provided buffer in
+	 * hexadecimal, preceded by a comma if necessary, and returns this object. The position
+	 * of the buffer is not changed.
+	 * 
+	 * <p>
+	 * The default implementation copies the bytes into a new array and outputs them with
+	 * {@link #hexValue(byte[], int, int)}. Implementations should output them with
+	 * {@link JsonAppender#appendHex(ByteBuffer)}.
+	 * 
+	 * @param value the buffer whose remaining bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #hexValue(byte[], int, int)
+	 */
+	public default JsonScribe hexValue(final ByteBuffer value) throws IOException {
+		final byte[] bytes = new byte[value.remaining()];
+		value.duplicate().get(bytes);
+		return hexValue(bytes, 0, bytes.length);
+	}
+	
+	/**
+	 * Outputs a string literal containing the bytes of the provided stream, read to its
+	 * end, in hexadecimal, preceded by a comma if necessary, and returns this object. The
+	 * stream is not closed.
+	 * 
+	 * <p>
+	 * The default implementation reads the whole stream into memory before outputting it.
+	 * Implementations should output it with {@link JsonAppender#appendHex(InputStream)}.
+	 * 
+	 * @param value the stream whose bytes to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs, including while reading from the stream
+	 * @see #hexValue(byte[], int, int)
+	 */
+	public default JsonScribe hexValue(final InputStream value) throws IOException {
+		final byte[] bytes = JsonBinary.readAll(value);
+		return hexValue(bytes, 0, bytes.length);
+	}
+	
+	/**
+	 * Outputs the provided serialized JSON value as it is, preceded by a comma if
+	 * necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The value is not quoted or escaped, so it must contain exactly one JSON value, such
+	 * as a fragment cached from an earlier document. Implementations <b>may</b> check it
+	 * with {@link JsonValidator} and throw an {@link IllegalArgumentException} if it is
+	 * not well-formed. Implementations should output it with
+	 * {@link JsonAppender#appendRaw(CharSequence, int, int)}. The default implementation
+	 * throws {@link UnsupportedOperationException}.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state, or when in the object state immediately following a key.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * Behavior is undefined when the provided value is null.
+	 * 
+	 * @param value the serialized JSON value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @throws IllegalArgumentException if the implementation checks the value and it is
+	 * not well-formed
+	 * @throws UnsupportedOperationException if the implementation cannot output raw values
+	 */
+	public default JsonScribe rawValue(final CharSequence value) throws IOException {
+		throw new UnsupportedOperationException("Raw values");
+	}
+	
+	/**
+	 * Outputs the specified range of the provided characters, which are a serialized JSON
+	 * value, as they are, preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation is equivalent to {@link #rawValue(CharSequence)}.
+	 * Implementations should output them with
+	 * {@link JsonAppender#appendRaw(char[], int, int)}.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 * 
+	 * @param value the serialized JSON value to append
+	 * @param start the index of the first character to append
+	 * @param end the index after the last character to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #rawValue(CharSequence)
+	 */
+	public default JsonScribe rawValue(final char[] value, final int start, final int end) throws IOException {
+		return rawValue(CharBuffer.wrap(value, start, end - start));
+	}
+	
+	/**
+	 * Outputs the specified range of the provided UTF-8 bytes, which are a serialized JSON
+	 * value, as they are, preceded by a comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation decodes the bytes into a new String and outputs it with
+	 * {@link #rawValue(CharSequence)}. Implementations should output them with
+	 * {@link JsonAppender#appendRaw(byte[], int, int)}, which copies them without decoding
+	 * when the output is UTF-8.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 * 
+	 * @param value the serialized JSON value to append, encoded in UTF-8
+	 * @param start the index of the first byte to append
+	 * @param end the index after the last byte to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #rawValue(CharSequence)
+	 */
+	public default JsonScribe rawValue(final byte[] value, final int start, final int end) throws IOException {
+		return rawValue(new String(value, start, end - start, StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Outputs the remaining UTF-8 bytes of the provided buffer, which are a serialized
+	 * JSON value, as they are, preceded by a comma if necessary, and returns this object.
+	 * The position of the buffer is not changed.
+	 * 
+	 * <p>
+	 * The default implementation decodes the bytes and outputs them with
+	 * {@link #rawValue(CharSequence)}. Implementations should output them with
+	 * {@link JsonAppender#appendRaw(ByteBuffer)}.
+	 * 
+	 * @param value the buffer whose remaining bytes to append, encoded in UTF-8
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #rawValue(byte[], int, int)
+	 */
+	public default JsonScribe rawValue(final ByteBuffer value) throws IOException {
+		return rawValue(StandardCharsets.UTF_8.decode(value.duplicate()));
+	}
+	
 	/**
 	 * Outputs a value literal, preceded by a comma if necessary, and returns this
 	 * object.
 	 * 
 	 * <p>
 	 * Implementations should dispatch to type-specific overloads based on the runtime
-	 * type of the provided argument. {@link Byte}, {@link Short}, {@link Integer}, 
+	 * type of the provided argument, including {@link Instant}, {@link OffsetDateTime},
+	 * {@link LocalDate}, {@link UUID} and {@link Enum}. {@link Byte}, {@link Short}, {@link Integer}, 
 	 * {@link Float}, {@link Long}, {@link Double}, {@link Character}, and {@link Boolean}
 	 * arguments should be auto-unboxed.
 	 * 
@@ -267,25 +722,133 @@ public interface JsonScribe extends FluentAppendable<JsonScribe>, Closeable {
 	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
 	 * method is called at another time.
 	 * 
+	 * <p>
+	 * The default implementation outputs the value with the writer for its runtime class
+	 * in the default {@link JsonValueWriterRegistry}, which supports the types above
+	 * and any types registered with it.
+	 * 
 	 * @return this object
 	 * @throws IOException if an I/O error occurs
 	 * @throws IllegalArgumentException if the runtime type of a non-null argument is
 	 * not supported
 	 */
 	public default JsonScribe value(final Object value) throws IOException {
-		if (value == null) return nullValue();
-		if (value instanceof CharSequence) return value((CharSequence) value);
-		if (value instanceof Character) return value((char) value);
-		if (value instanceof BigInteger) return value((BigInteger) value);
-		if (value instanceof BigDecimal) return value((BigDecimal) value);
-		if (value instanceof Byte) return value((byte) value);
-		if (value instanceof Short) return value((short) value);
-		if (value instanceof Integer) return value((int) value);
-		if (value instanceof Float) return value((float) value);
-		if (value instanceof Long) return value((long) value);
-		if (value instanceof Double) return value((double) value);
-		if (value instanceof Boolean) return value((boolean) value);
-		throw new IllegalArgumentException("Invalid type " + value.getClass().getName());
+		JsonValueWriterRegistry.getDefault().write(this, value);
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided ints as numeric literals, each preceded
+	 * by a comma if necessary, and returns this object.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #value(int)} once for every value.
+	 * Implementations should check their state and output the leading comma once, then
+	 * output the whole range with {@link JsonAppender#appendNumbers(int[], int, int)}.
+	 *
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the array state. Implementations <b>may</b> throw an
+	 * {@link IllegalStateException} if this method is called at another time.
+	 * Behavior is undefined when the provided array is null or the range is out of bounds.
+	 *
+	 * @param values the values to append
+	 * @param start the index of the first value to append
+	 * @param end the index after the last value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe values(final int[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			value(values[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided longs as numeric literals, each
+	 * preceded by a comma if necessary, and returns this object.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #value(long)} once for every value.
+	 *
+	 * @param values the values to append
+	 * @param start the index of the first value to append
+	 * @param end the index after the last value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #values(int[], int, int)
+	 */
+	public default JsonScribe values(final long[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			value(values[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided floats as numeric literals, or as
+	 * {@code null} literals if they are NaN or infinite, each preceded by a comma if
+	 * necessary, and returns this object.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #value(float)} once for every value.
+	 *
+	 * @param values the values to append
+	 * @param start the index of the first value to append
+	 * @param end the index after the last value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #values(int[], int, int)
+	 */
+	public default JsonScribe values(final float[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			value(values[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided doubles as numeric literals, or as
+	 * {@code null} literals if they are NaN or infinite, each preceded by a comma if
+	 * necessary, and returns this object.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #value(double)} once for every value.
+	 *
+	 * @param values the values to append
+	 * @param start the index of the first value to append
+	 * @param end the index after the last value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #values(int[], int, int)
+	 */
+	public default JsonScribe values(final double[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			value(values[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Outputs the specified range of the provided booleans as Boolean value literals,
+	 * each preceded by a comma if necessary, and returns this object.
+	 *
+	 * <p>
+	 * The default implementation calls {@link #value(boolean)} once for every value.
+	 *
+	 * @param values the values to append
+	 * @param start the index of the first value to append
+	 * @param end the index after the last value to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 * @see #values(int[], int, int)
+	 */
+	public default JsonScribe values(final boolean[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			value(values[i]);
+		}
+		return this;
 	}
 	
 	/**
@@ -411,6 +974,28 @@ public interface JsonScribe extends FluentAppendable<JsonScribe>, Closeable {
 	 */
 	public JsonScribe key(CharSequence key) throws IOException;
 	
+	/**
+	 * Outputs the JSON key represented by the provided {@link JsonName}, preceded by a
+	 * comma if necessary, and returns this object.
+	 * 
+	 * <p>
+	 * The default implementation is equivalent to {@link #key(CharSequence)}.
+	 * Implementations should output the name's encoded form without escaping it again.
+	 * 
+	 * <p>
+	 * To produce a well-formed JSON document, this method should only be called when
+	 * in the object state.
+	 * Implementations <b>may</b> throw an {@link IllegalStateException} if this
+	 * method is called at another time.
+	 * 
+	 * @param key the key to append
+	 * @return this object
+	 * @throws IOException if an I/O error occurs
+	 */
+	public default JsonScribe key(final JsonName key) throws IOException {
+		return key((CharSequence) key);
+	}
+	
 	/**
 	 * Returns to the previous scribe state and returns this object.
 	 * 
@@ -556,4 +1141,20 @@ public interface JsonScribe extends FluentAppendable<JsonScribe>, Closeable {
 	 */
 	public JsonScribe pushInscription(FluentNode<?> inscription);
 	
+	/**
+	 * Discards all state, including any open objects, arrays, keys, values, and
+	 * inscriptions, without outputting anything, so that this scribe can be reused to
+	 * output another document. This method does not redirect output; see
+	 * {@link JsonAppender#reset(Appendable)}.
+	 * 
+	 * <p>
+	 * The default implementation throws {@link UnsupportedOperationException}.
+	 * 
+	 * @return this object
+	 * @throws UnsupportedOperationException if this scribe cannot be reset
+	 */
+	public default JsonScribe reset() {
+		throw new UnsupportedOperationException("Cannot reset");
+	}
+	
 }
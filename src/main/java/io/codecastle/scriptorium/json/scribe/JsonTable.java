@@ -0,0 +1,373 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * A table of values held as columns, such as parallel arrays of timestamps, readings,
+ * and host names, that is output as an array of objects with one object for each row,
+ * or in a compact form that names the columns once.
+ *
+ * <p>
+ * Each column is an array or a buffer of the same length, and is added with the key it
+ * will be output under. Keys are held as {@link JsonName}s, so that everything between
+ * two values of a row (the comma, the quoted and escaped key, and the colon) is output
+ * with a single call to the underlying {@link JsonAppender}. Primitive values are read
+ * straight from their arrays, so no object is created for a row:
+ *
+ * <pre>
+ * private static final JsonName TS = new JsonName("ts");
+ * private static final JsonName VALUE = new JsonName("value");
+ * private static final JsonName HOST = new JsonName("host");
+ * ...
+ * table.clear().withColumn(TS, ts).withColumn(VALUE, values).withColumn(HOST, hosts);
+ * table.writeObjects(scribe);
+ * </pre>
+ *
+ * <p>
+ * {@link #writeObjects(JsonScribe)} outputs {@code [{"ts":1,"value":0.5,"host":"a"},...]},
+ * and {@link #writeColumns(JsonScribe)} outputs
+ * {@code {"columns":["ts","value","host"],"rows":[[1,0.5,"a"],...]}}.
+ *
+ * <p>
+ * A JsonTable holds references to its columns rather than copies, so the columns should
+ * not be changed until the table has been output. A table may be cleared and reused for
+ * any number of outputs; once it has held as many columns as it needs, reusing it does
+ * not allocate. JsonTables are not safe for use by multiple threads.
+ *
+ * @author Doug Valenta
+ */
+public final class JsonTable {
+
+	private static final JsonName COLUMNS = new JsonName("columns");
+	private static final JsonName ROWS = new JsonName("rows");
+
+	private static final byte VALUE = 0;
+	private static final byte STRING = 1;
+	private static final byte INT = 2;
+	private static final byte LONG = 3;
+	private static final byte FLOAT = 4;
+	private static final byte DOUBLE = 5;
+	private static final byte BOOLEAN = 6;
+	private static final byte INT_BUFFER = 7;
+	private static final byte LONG_BUFFER = 8;
+	private static final byte DOUBLE_BUFFER = 9;
+
+	private JsonName[] names = new JsonName[8];
+	private byte[] types = new byte[8];
+	private Object[] columns = new Object[8];
+	private int[] offsets = new int[8];
+	private int size;
+	private int rows;
+
+	/**
+	 * Removes every column from this table and returns this table.
+	 *
+	 * @return this table
+	 */
+	public JsonTable clear() {
+		Arrays.fill(columns, 0, size, null);
+		size = 0;
+		rows = 0;
+		return this;
+	}
+
+	/**
+	 * Returns the number of columns in this table.
+	 *
+	 * @return the number of columns
+	 */
+	public int getColumnCount() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of rows in this table, which is the length of each of its
+	 * columns, or zero if it has no columns.
+	 *
+	 * @return the number of rows
+	 */
+	public int getRowCount() {
+		return rows;
+	}
+
+	/**
+	 * Returns the key of the column at the provided index.
+	 *
+	 * @param index the index of the column
+	 * @return the key of the column
+	 * @throws IndexOutOfBoundsException if {@code index} is not the index of a column
+	 */
+	public JsonName getName(final int index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Column " + index);
+		return names[index];
+	}
+
+	/**
+	 * Adds a column of values of any type {@link JsonScribe#value(Object)} accepts, and
+	 * returns this table.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final Object[] values) {
+		return add(key, VALUE, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of string values, which may include {@link JsonConstant}s, and
+	 * returns this table. Null values are output as {@code null} literals.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final CharSequence[] values) {
+		return add(key, STRING, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of int values and returns this table.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final int[] values) {
+		return add(key, INT, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of long values and returns this table.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final long[] values) {
+		return add(key, LONG, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of float values and returns this table. NaN and infinite values are
+	 * output as {@code null} literals.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final float[] values) {
+		return add(key, FLOAT, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of double values and returns this table. NaN and infinite values are
+	 * output as {@code null} literals.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final double[] values) {
+		return add(key, DOUBLE, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of Boolean values and returns this table.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its length differs from that of the other columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final boolean[] values) {
+		return add(key, BOOLEAN, values, 0, values == null ? 0 : values.length);
+	}
+
+	/**
+	 * Adds a column of the remaining int values of the provided buffer, from its position
+	 * to its limit, and returns this table. The position of the buffer is not changed.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its remaining length differs from that of the other
+	 * columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final IntBuffer values) {
+		return add(key, INT_BUFFER, values, values == null ? 0 : values.position(), values == null ? 0 : values.remaining());
+	}
+
+	/**
+	 * Adds a column of the remaining long values of the provided buffer, from its
+	 * position to its limit, and returns this table. The position of the buffer is not
+	 * changed.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its remaining length differs from that of the other
+	 * columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final LongBuffer values) {
+		return add(key, LONG_BUFFER, values, values == null ? 0 : values.position(), values == null ? 0 : values.remaining());
+	}
+
+	/**
+	 * Adds a column of the remaining double values of the provided buffer, from its
+	 * position to its limit, and returns this table. The position of the buffer is not
+	 * changed. NaN and infinite values are output as {@code null} literals.
+	 *
+	 * @param key the key of the column
+	 * @param values the values of the column, one for each row
+	 * @return this table
+	 * @throws IllegalArgumentException if {@code key} is null or already used, if
+	 * {@code values} is null, or if its remaining length differs from that of the other
+	 * columns
+	 */
+	public JsonTable withColumn(final CharSequence key, final DoubleBuffer values) {
+		return add(key, DOUBLE_BUFFER, values, values == null ? 0 : values.position(), values == null ? 0 : values.remaining());
+	}
+
+	/**
+	 * Outputs this table as an array holding an object for each row, whose keys are the
+	 * keys of the columns in the order they were added, with the provided
+	 * {@link JsonScribe}.
+	 *
+	 * @param scribe the JsonScribe to output to
+	 * @return the provided scribe
+	 * @throws IllegalArgumentException if {@code scribe} is null
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 */
+	public JsonScribe writeObjects(final JsonScribe scribe) throws IOException {
+		if (scribe == null) throw new IllegalArgumentException("Missing scribe");
+		scribe.pushArray();
+		for (int row = 0; row < rows; row++) {
+			scribe.pushObject();
+			for (int column = 0; column < size; column++) {
+				scribe.key(names[column]);
+				write(scribe, column, row);
+			}
+			scribe.pop();
+		}
+		return scribe.pop();
+	}
+
+	/**
+	 * Outputs this table as an object holding a {@code "columns"} array of the keys of
+	 * the columns, in the order they were added, and a {@code "rows"} array holding an
+	 * array of values for each row, with the provided {@link JsonScribe}.
+	 *
+	 * @param scribe the JsonScribe to output to
+	 * @return the provided scribe
+	 * @throws IllegalArgumentException if {@code scribe} is null
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 */
+	public JsonScribe writeColumns(final JsonScribe scribe) throws IOException {
+		if (scribe == null) throw new IllegalArgumentException("Missing scribe");
+		scribe.pushObject().key(COLUMNS).pushArray();
+		for (int column = 0; column < size; column++) {
+			scribe.value(names[column]);
+		}
+		scribe.pop().key(ROWS).pushArray();
+		for (int row = 0; row < rows; row++) {
+			scribe.pushArray();
+			for (int column = 0; column < size; column++) {
+				write(scribe, column, row);
+			}
+			scribe.pop();
+		}
+		return scribe.pop().pop();
+	}
+
+	private void write(final JsonScribe scribe, final int column, final int row) throws IOException {
+		final Object values = columns[column];
+		switch (types[column]) {
+			case STRING:
+				final CharSequence string = ((CharSequence[]) values)[row];
+				if (string == null) {
+					scribe.nullValue();
+				} else {
+					scribe.value(string);
+				}
+				break;
+			case INT:
+				scribe.value(((int[]) values)[row]);
+				break;
+			case LONG:
+				scribe.value(((long[]) values)[row]);
+				break;
+			case FLOAT:
+				scribe.value(((float[]) values)[row]);
+				break;
+			case DOUBLE:
+				scribe.value(((double[]) values)[row]);
+				break;
+			case BOOLEAN:
+				scribe.value(((boolean[]) values)[row]);
+				break;
+			case INT_BUFFER:
+				scribe.value(((IntBuffer) values).get(offsets[column] + row));
+				break;
+			case LONG_BUFFER:
+				scribe.value(((LongBuffer) values).get(offsets[column] + row));
+				break;
+			case DOUBLE_BUFFER:
+				scribe.value(((DoubleBuffer) values).get(offsets[column] + row));
+				break;
+			default: // case VALUE:
+				scribe.value(((Object[]) values)[row]);
+		}
+	}
+
+	private JsonTable add(final CharSequence key, final byte type, final Object values, final int offset, final int length) {
+		if (key == null) throw new IllegalArgumentException("Missing key");
+		if (values == null) throw new IllegalArgumentException("Missing values for " + key);
+		final JsonName name = key instanceof JsonName ? (JsonName) key : new JsonName(key);
+		for (int i = 0; i < size; i++) {
+			if (names[i].equals(name)) throw new IllegalArgumentException("Duplicate key " + name);
+		}
+		if (size > 0 && length != rows) {
+			throw new IllegalArgumentException("Expected " + rows + " values for " + name + ", not " + length);
+		}
+		if (size == names.length) {
+			names = Arrays.copyOf(names, size * 2);
+			types = Arrays.copyOf(types, size * 2);
+			columns = Arrays.copyOf(columns, size * 2);
+			offsets = Arrays.copyOf(offsets, size * 2);
+		}
+		names[size] = name;
+		types[size] = type;
+		columns[size] = values;
+		offsets[size] = offset;
+		size++;
+		rows = length;
+		return this;
+	}
+
+}
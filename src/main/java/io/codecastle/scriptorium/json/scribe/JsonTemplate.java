@@ -0,0 +1,428 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The shape of a JSON object whose keys are always the same, in the same order, compiled
+ * once so that only its values need to be supplied each time it is output.
+ *
+ * <p>
+ * Each key is held as a {@link JsonName}, so everything between two values (the comma,
+ * the quoted and escaped key, and the colon) is output with a single call to the
+ * underlying {@link JsonAppender}. Each value is output to a slot that accepts only the
+ * type it was declared with. A JsonTemplate is immutable and is meant to be created once
+ * and held in a constant:
+ *
+ * <pre>
+ * private static final JsonTemplate EVENT = new JsonTemplate.Builder()
+ *         .withLong("id")
+ *         .withString("type")
+ *         .withDouble("value")
+ *         .build();
+ * ...
+ * EVENT.write(scribe, event.getId(), event.getType(), event.getValue());
+ * </pre>
+ *
+ * <p>
+ * {@link #write(JsonScribe, Object...)} boxes its primitive values. To output documents
+ * without allocating, reuse a {@link Binder} from {@link #binder(JsonScribe)} instead:
+ *
+ * <pre>
+ * final JsonTemplate.Binder binder = EVENT.binder(scribe);
+ * ...
+ * binder.start().value(event.getId()).value(event.getType()).value(event.getValue()).end();
+ * </pre>
+ *
+ * <p>
+ * Templates output through {@link JsonScribe}, so they may be output anywhere the scribe
+ * accepts an object, to any {@link JsonAppender}, including inside documents written with
+ * the fluent API. A null value outputs {@code null} in a slot of any type.
+ *
+ * @author Doug Valenta
+ */
+public final class JsonTemplate {
+
+	private static final byte VALUE = 0;
+	private static final byte STRING = 1;
+	private static final byte INT = 2;
+	private static final byte LONG = 3;
+	private static final byte DOUBLE = 4;
+	private static final byte BOOLEAN = 5;
+
+	private static final String[] TYPES = { "a value", "a string", "an int", "a long", "a double", "a boolean" };
+
+	private final JsonName[] names;
+	private final byte[] types;
+
+	private JsonTemplate(final JsonName[] names, final byte[] types) {
+		this.names = names;
+		this.types = types;
+	}
+
+	/**
+	 * Returns the number of values this template holds.
+	 *
+	 * @return the number of slots
+	 */
+	public int size() {
+		return names.length;
+	}
+
+	/**
+	 * Returns the key of the slot at the provided index.
+	 *
+	 * @param index the index of the slot
+	 * @return the key of the slot
+	 * @throws IndexOutOfBoundsException if {@code index} is not the index of a slot
+	 */
+	public JsonName getName(final int index) {
+		return names[index];
+	}
+
+	/**
+	 * Outputs an object of this shape, holding the provided values in order, with the
+	 * provided {@link JsonScribe}.
+	 *
+	 * <p>
+	 * Each value must be null or of the type its slot was declared with: a
+	 * {@link CharSequence} for a string; an Integer, Short or Byte for an int; any of those
+	 * or a Long for a long; any Number other than a BigInteger or BigDecimal for a double;
+	 * and a Boolean for a boolean. A slot declared with {@link Builder#withValue(CharSequence)}
+	 * accepts anything {@link JsonScribe#value(Object)} does.
+	 *
+	 * @param scribe the JsonScribe to output to
+	 * @param values the values, in the order of their slots
+	 * @return the provided scribe
+	 * @throws IllegalArgumentException if {@code scribe} is null, if the number of values
+	 * does not match the number of slots, or if a value is of the wrong type for its slot
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 */
+	public JsonScribe write(final JsonScribe scribe, final Object... values) throws IOException {
+		if (scribe == null) throw new IllegalArgumentException("Missing scribe");
+		if (values == null || values.length != names.length) {
+			throw new IllegalArgumentException("Expected " + names.length + " values");
+		}
+		for (int i = 0; i < values.length; i++) {
+			if (!accepts(types[i], values[i])) {
+				throw new IllegalArgumentException("Invalid type " + values[i].getClass().getName()
+						+ " for " + names[i] + ", expected " + TYPES[types[i]]);
+			}
+		}
+		scribe.pushObject();
+		for (int i = 0; i < values.length; i++) {
+			scribe.key(names[i]).value(values[i]);
+		}
+		return scribe.pop();
+	}
+
+	/**
+	 * Returns a new {@link Binder} that outputs objects of this shape with the provided
+	 * {@link JsonScribe}. A Binder may be reused for any number of objects.
+	 *
+	 * @param scribe the JsonScribe the new Binder will output to
+	 * @return a new Binder
+	 * @throws IllegalArgumentException if {@code scribe} is null
+	 */
+	public Binder binder(final JsonScribe scribe) {
+		if (scribe == null) throw new IllegalArgumentException("Missing scribe");
+		return new Binder(scribe);
+	}
+
+	private static boolean accepts(final byte type, final Object value) {
+		if (value == null) return true;
+		switch (type) {
+			case STRING:
+				return value instanceof CharSequence;
+			case INT:
+				return value instanceof Integer || value instanceof Short || value instanceof Byte;
+			case LONG:
+				return value instanceof Long || accepts(INT, value);
+			case DOUBLE:
+				return value instanceof Double || value instanceof Float || accepts(LONG, value);
+			case BOOLEAN:
+				return value instanceof Boolean;
+			default: // case VALUE:
+				return true;
+		}
+	}
+
+	/**
+	 * Outputs objects of a {@link JsonTemplate}'s shape by filling its slots in order,
+	 * without boxing primitive values.
+	 *
+	 * <p>
+	 * {@link #start()} opens an object; each call to a {@code value} method outputs the
+	 * key of the next slot followed by the provided value; and {@link #end()} closes the
+	 * object once every slot has been filled. A value method that does not match the type
+	 * of the next slot throws an {@link IllegalStateException}, as does calling
+	 * {@code end()} early.
+	 */
+	public final class Binder {
+
+		private final JsonScribe scribe;
+		private int slot = -1;
+
+		private Binder(final JsonScribe scribe) {
+			this.scribe = scribe;
+		}
+
+		/**
+		 * Opens a new object and returns this Binder.
+		 *
+		 * @return this Binder
+		 * @throws IllegalStateException if the previous object has not been ended
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder start() throws IOException {
+			if (slot >= 0) throw new IllegalStateException("Already started");
+			scribe.pushObject();
+			slot = 0;
+			return this;
+		}
+
+		/**
+		 * Outputs the next slot with the provided string value, or with {@code null} if
+		 * the value is null, and returns this Binder.
+		 *
+		 * @param value the value of the next slot
+		 * @return this Binder
+		 * @throws IllegalStateException if the next slot is not a string or value slot,
+		 * or there is no next slot
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder value(final CharSequence value) throws IOException {
+			next(STRING);
+			if (value == null) {
+				scribe.nullValue();
+			} else {
+				scribe.value(value);
+			}
+			return this;
+		}
+
+		/**
+		 * Outputs the next slot with the provided value and returns this Binder.
+		 *
+		 * @param value the value of the next slot
+		 * @return this Binder
+		 * @throws IllegalStateException if the next slot is not an int, long, double or
+		 * value slot, or there is no next slot
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder value(final int value) throws IOException {
+			next(INT);
+			scribe.value(value);
+			return this;
+		}
+
+		/**
+		 * Outputs the next slot with the provided value and returns this Binder.
+		 *
+		 * @param value the value of the next slot
+		 * @return this Binder
+		 * @throws IllegalStateException if the next slot is not a long, double or value
+		 * slot, or there is no next slot
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder value(final long value) throws IOException {
+			next(LONG);
+			scribe.value(value);
+			return this;
+		}
+
+		/**
+		 * Outputs the next slot with the provided value, or with {@code null} if the value
+		 * is not finite, and returns this Binder.
+		 *
+		 * @param value the value of the next slot
+		 * @return this Binder
+		 * @throws IllegalStateException if the next slot is not a double or value slot,
+		 * or there is no next slot
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder value(final double value) throws IOException {
+			next(DOUBLE);
+			scribe.value(value);
+			return this;
+		}
+
+		/**
+		 * Outputs the next slot with the provided value and returns this Binder.
+		 *
+		 * @param value the value of the next slot
+		 * @return this Binder
+		 * @throws IllegalStateException if the next slot is not a boolean or value slot,
+		 * or there is no next slot
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder value(final boolean value) throws IOException {
+			next(BOOLEAN);
+			scribe.value(value);
+			return this;
+		}
+
+		/**
+		 * Outputs the next slot with the provided value, as {@link JsonScribe#value(Object)}
+		 * would, and returns this Binder.
+		 *
+		 * @param value the value of the next slot
+		 * @return this Binder
+		 * @throws IllegalStateException if the value is of the wrong type for the next
+		 * slot, or there is no next slot
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public Binder value(final Object value) throws IOException {
+			if (slot < 0 || slot >= names.length) next(VALUE);
+			if (!accepts(types[slot], value)) {
+				throw new IllegalStateException("Expected " + TYPES[types[slot]] + " for " + names[slot]);
+			}
+			scribe.key(names[slot++]).value(value);
+			return this;
+		}
+
+		/**
+		 * Closes the object once every slot has been filled and returns the underlying
+		 * {@link JsonScribe}.
+		 *
+		 * @return the underlying JsonScribe
+		 * @throws IllegalStateException if the object has not been started, or a slot has
+		 * not been filled
+		 * @throws IOException if an exception occurs while appending to the underlying
+		 * {@link Appendable}
+		 */
+		public JsonScribe end() throws IOException {
+			if (slot < 0) throw new IllegalStateException("Not started");
+			if (slot < names.length) throw new IllegalStateException("Missing value for " + names[slot]);
+			slot = -1;
+			return scribe.pop();
+		}
+
+		/**
+		 * Checks that the next slot accepts the provided type, then outputs its key.
+		 */
+		private void next(final byte type) throws IOException {
+			if (slot < 0) throw new IllegalStateException("Not started");
+			if (slot >= names.length) throw new IllegalStateException("No more slots");
+			final byte expected = types[slot];
+			if (expected != type && expected != VALUE && !(expected > type && type >= INT && expected <= DOUBLE)) {
+				throw new IllegalStateException("Expected " + TYPES[expected] + " for " + names[slot]);
+			}
+			scribe.key(names[slot++]);
+		}
+
+	}
+
+	/**
+	 * Declares the slots of a new {@link JsonTemplate}, in the order they will be output.
+	 */
+	public static final class Builder {
+
+		private final List<JsonName> names = new ArrayList<>();
+		private final List<Byte> types = new ArrayList<>();
+
+		/**
+		 * Adds a slot that accepts any value {@link JsonScribe#value(Object)} does, and
+		 * returns this Builder.
+		 *
+		 * @param key the key of the slot
+		 * @return this Builder
+		 * @throws IllegalArgumentException if {@code key} is null or already used
+		 */
+		public Builder withValue(final CharSequence key) {
+			return with(key, VALUE);
+		}
+
+		/**
+		 * Adds a slot that accepts a string, and returns this Builder.
+		 *
+		 * @param key the key of the slot
+		 * @return this Builder
+		 * @throws IllegalArgumentException if {@code key} is null or already used
+		 */
+		public Builder withString(final CharSequence key) {
+			return with(key, STRING);
+		}
+
+		/**
+		 * Adds a slot that accepts an int, and returns this Builder.
+		 *
+		 * @param key the key of the slot
+		 * @return this Builder
+		 * @throws IllegalArgumentException if {@code key} is null or already used
+		 */
+		public Builder withInt(final CharSequence key) {
+			return with(key, INT);
+		}
+
+		/**
+		 * Adds a slot that accepts a long or an int, and returns this Builder.
+		 *
+		 * @param key the key of the slot
+		 * @return this Builder
+		 * @throws IllegalArgumentException if {@code key} is null or already used
+		 */
+		public Builder withLong(final CharSequence key) {
+			return with(key, LONG);
+		}
+
+		/**
+		 * Adds a slot that accepts a double, a long or an int, and returns this Builder.
+		 *
+		 * @param key the key of the slot
+		 * @return this Builder
+		 * @throws IllegalArgumentException if {@code key} is null or already used
+		 */
+		public Builder withDouble(final CharSequence key) {
+			return with(key, DOUBLE);
+		}
+
+		/**
+		 * Adds a slot that accepts a boolean, and returns this Builder.
+		 *
+		 * @param key the key of the slot
+		 * @return this Builder
+		 * @throws IllegalArgumentException if {@code key} is null or already used
+		 */
+		public Builder withBoolean(final CharSequence key) {
+			return with(key, BOOLEAN);
+		}
+
+		/**
+		 * Returns a new {@link JsonTemplate} with the slots added so far.
+		 *
+		 * @return a new JsonTemplate
+		 */
+		public JsonTemplate build() {
+			final byte[] array = new byte[types.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = types.get(i);
+			}
+			return new JsonTemplate(names.toArray(new JsonName[names.size()]), array);
+		}
+
+		private Builder with(final CharSequence key, final byte type) {
+			if (key == null) throw new IllegalArgumentException("Missing key");
+			final JsonName name = key instanceof JsonName ? (JsonName) key : new JsonName(key);
+			if (names.contains(name)) throw new IllegalArgumentException("Duplicate key " + name);
+			names.add(name);
+			types.add(type);
+			return this;
+		}
+
+	}
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Checks that fragments of serialized JSON, such as those output with
+ * {@link JsonScribe#rawValue(CharSequence)}, each contain exactly one well-formed JSON
+ * value, optionally surrounded by whitespace.
+ *
+ * <p>
+ * A fragment is checked in a single pass, without building any representation of it,
+ * against the grammar of
+ * <a href="https://tools.ietf.org/html/rfc8259">IETF RFC-8259</a>. Nesting is tracked
+ * in a growable stack, so deeply nested fragments need no recursion. The check is
+ * structural: fragments of bytes are expected to be UTF-8, but bytes outside the ASCII
+ * range are accepted inside strings without checking that they are well-formed UTF-8.
+ *
+ * <p>
+ * {@link SafeJsonScribe} checks every raw value with a JsonValidator before outputting
+ * it, and {@link FastJsonScribe} does not. Callers using a FastJsonScribe can check
+ * fragments they do not trust themselves.
+ *
+ * @author Doug Valenta
+ */
+public final class JsonValidator {
+
+	private static final byte OBJECT = 1;
+	private static final byte ARRAY = 2;
+
+	private final CharSequence chars;
+	private final ByteBuffer bytes;
+	private final int end;
+	private final StateStack state = new StateStack(StateStack.DEFAULT_DEPTH);
+
+	private JsonValidator(final CharSequence chars, final ByteBuffer bytes, final int end) {
+		this.chars = chars;
+		this.bytes = bytes;
+		this.end = end;
+	}
+
+	/**
+	 * Checks that the provided fragment contains exactly one well-formed JSON value.
+	 *
+	 * @param fragment the serialized JSON to check
+	 * @throws IllegalArgumentException if {@code fragment} is null or is not well-formed
+	 */
+	public static void validate(final CharSequence fragment) {
+		if (fragment == null) throw new IllegalArgumentException("Missing fragment");
+		validate(fragment, 0, fragment.length());
+	}
+
+	/**
+	 * Checks that the specified range of the provided fragment contains exactly one
+	 * well-formed JSON value.
+	 *
+	 * @param fragment the serialized JSON to check
+	 * @param start the index of the first character to check
+	 * @param end the index after the last character to check
+	 * @throws IllegalArgumentException if {@code fragment} is null or the range is not
+	 * well-formed
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static void validate(final CharSequence fragment, final int start, final int end) {
+		if (fragment == null) throw new IllegalArgumentException("Missing fragment");
+		if (start < 0 || end > fragment.length() || start > end) throw new IndexOutOfBoundsException();
+		new JsonValidator(fragment, null, end).check(start);
+	}
+
+	/**
+	 * Checks that the specified range of the provided characters contains exactly one
+	 * well-formed JSON value.
+	 *
+	 * @param fragment the serialized JSON to check
+	 * @param start the index of the first character to check
+	 * @param end the index after the last character to check
+	 * @throws IllegalArgumentException if {@code fragment} is null or the range is not
+	 * well-formed
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static void validate(final char[] fragment, final int start, final int end) {
+		if (fragment == null) throw new IllegalArgumentException("Missing fragment");
+		validate(CharBuffer.wrap(fragment), start, end);
+	}
+
+	/**
+	 * Checks that the specified range of the provided UTF-8 bytes contains exactly one
+	 * well-formed JSON value.
+	 *
+	 * @param fragment the serialized JSON to check, encoded in UTF-8
+	 * @param start the index of the first byte to check
+	 * @param end the index after the last byte to check
+	 * @throws IllegalArgumentException if {@code fragment} is null or the range is not
+	 * well-formed
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static void validate(final byte[] fragment, final int start, final int end) {
+		if (fragment == null) throw new IllegalArgumentException("Missing fragment");
+		if (start < 0 || end > fragment.length || start > end) throw new IndexOutOfBoundsException();
+		new JsonValidator(null, ByteBuffer.wrap(fragment), end).check(start);
+	}
+
+	/**
+	 * Checks that the remaining UTF-8 bytes of the provided buffer, from its position to
+	 * its limit, contain exactly one well-formed JSON value. The position of the buffer is
+	 * not changed.
+	 *
+	 * @param fragment the serialized JSON to check, encoded in UTF-8
+	 * @throws IllegalArgumentException if {@code fragment} is null or is not well-formed
+	 */
+	public static void validate(final ByteBuffer fragment) {
+		if (fragment == null) throw new IllegalArgumentException("Missing fragment");
+		new JsonValidator(null, fragment, fragment.limit()).check(fragment.position());
+	}
+
+	private int at(final int index) {
+		return chars != null ? chars.charAt(index) : bytes.get(index) & 0xff;
+	}
+
+	private void check(int i) {
+		values: while (true) {
+			i = skipWhitespace(i);
+			if (i == end) throw invalid(i, "Missing value");
+			switch (at(i)) {
+				case '{':
+					i = skipWhitespace(i + 1);
+					if (i < end && at(i) == '}') {
+						i++;
+						break;
+					}
+					state.push(OBJECT);
+					i = key(i);
+					continue values;
+				case '[':
+					i = skipWhitespace(i + 1);
+					if (i < end && at(i) == ']') {
+						i++;
+						break;
+					}
+					state.push(ARRAY);
+					continue values;
+				case '"':
+					i = string(i);
+					break;
+				case 't':
+					i = literal(i, "true");
+					break;
+				case 'f':
+					i = literal(i, "false");
+					break;
+				case 'n':
+					i = literal(i, "null");
+					break;
+				default:
+					i = number(i);
+			}
+			while (true) {
+				i = skipWhitespace(i);
+				if (state.isEmpty()) {
+					if (i < end) throw invalid(i, "Unexpected character after value");
+					return;
+				}
+				if (i == end) throw invalid(i, state.peek() == OBJECT ? "Unterminated object" : "Unterminated array");
+				final int character = at(i);
+				if (character == ',') {
+					i = i + 1;
+					if (state.peek() == OBJECT) i = key(skipWhitespace(i));
+					continue values;
+				}
+				if (character != (state.peek() == OBJECT ? '}' : ']')) {
+					throw invalid(i, state.peek() == OBJECT ? "Expected ',' or '}'" : "Expected ',' or ']'");
+				}
+				state.pop();
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Checks a key and the colon that follows it, starting at the provided index, and
+	 * returns the index after the colon.
+	 */
+	private int key(int i) {
+		if (i == end || at(i) != '"') throw invalid(i, "Expected key");
+		i = skipWhitespace(string(i));
+		if (i == end || at(i) != ':') throw invalid(i, "Expected ':'");
+		return i + 1;
+	}
+
+	private int string(int i) {
+		i++;
+		while (i < end) {
+			final int character = at(i++);
+			if (character == '"') return i;
+			if (character < 0x20) throw invalid(i - 1, "Unescaped control character");
+			if (character == '\\') {
+				if (i == end) break;
+				switch (at(i++)) {
+					case '"':
+					case '\\':
+					case '/':
+					case 'b':
+					case 'f':
+					case 'n':
+					case 'r':
+					case 't':
+						break;
+					case 'u':
+						for (final int stop = i + 4; i < stop; i++) {
+							if (i == end || !isHexDigit(at(i))) throw invalid(i, "Invalid unicode escape");
+						}
+						break;
+					default:
+						throw invalid(i - 1, "Invalid escape");
+				}
+			}
+		}
+		throw invalid(end, "Unterminated string");
+	}
+
+	private int literal(final int i, final String literal) {
+		for (int j = 0; j < literal.length(); j++) {
+			if (i + j == end || at(i + j) != literal.charAt(j)) throw invalid(i + j, "Expected " + literal);
+		}
+		return i + literal.length();
+	}
+
+	private int number(int i) {
+		if (at(i) == '-') {
+			i++;
+		} else if (!isDigit(at(i))) {
+			throw invalid(i, "Expected value");
+		}
+		if (i < end && at(i) == '0') {
+			i++;
+		} else {
+			i = digits(i);
+		}
+		if (i < end && at(i) == '.') i = digits(i + 1);
+		if (i < end && (at(i) == 'e' || at(i) == 'E')) {
+			i++;
+			if (i < end && (at(i) == '+' || at(i) == '-')) i++;
+			i = digits(i);
+		}
+		return i;
+	}
+
+	/**
+	 * Checks that there is at least one digit at the provided index, and returns the
+	 * index after the last of them.
+	 */
+	private int digits(int i) {
+		if (i == end || !isDigit(at(i))) throw invalid(i, "Expected digit");
+		while (i < end && isDigit(at(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean isDigit(final int character) {
+		return character >= '0' && character <= '9';
+	}
+
+	private static boolean isHexDigit(final int character) {
+		return isDigit(character) || character >= 'a' && character <= 'f' || character >= 'A' && character <= 'F';
+	}
+
+	private int skipWhitespace(int i) {
+		while (i < end) {
+			final int character = at(i);
+			if (character != ' ' && character != '\t' && character != '\n' && character != '\r') break;
+			i++;
+		}
+		return i;
+	}
+
+	private static IllegalArgumentException invalid(final int index, final String reason) {
+		return new IllegalArgumentException(reason + " at index " + index);
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+
+/**
+ * Outputs values of a particular type as JSON values with a {@link JsonScribe}.
+ * 
+ * <p>
+ * A JsonValueWriter is called where the scribe expects a value: as an element of an
+ * array, after a key, or at the top level of a document. It must output exactly one
+ * value, which may be an object or array it opens and closes itself, and should output
+ * {@code null} if the provided value is null.
+ * 
+ * <p>
+ * The writers generated for classes annotated with
+ * {@link io.codecastle.scriptorium.json.JsonWritable} implement this interface.
+ * 
+ * @param <T> the type of value this writer outputs
+ * @author Doug Valenta
+ */
+@FunctionalInterface
+public interface JsonValueWriter<T> {
+	
+	/**
+	 * Outputs the provided value with the provided {@link JsonScribe}.
+	 * 
+	 * @param scribe the JsonScribe to output to
+	 * @param value the value to output, which may be null
+	 * @throws IOException if an exception occurs while appending to the underlying
+	 * {@link Appendable}
+	 */
+	public void write(JsonScribe scribe, T value) throws IOException;
+	
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import io.codecastle.scriptorium.json.JsonWritable;
+
+/**
+ * Resolves the runtime class of a value to the {@link JsonValueWriter} that outputs it,
+ * once per class, for {@link JsonScribe#value(Object)}.
+ *
+ * <p>
+ * A class resolves to the writer registered for it or, failing that, for the nearest of
+ * its superclasses, then for the first of its interfaces (searched depth-first, in
+ * declaration order). Classes annotated with {@link JsonWritable} resolve to their
+ * generated writer when no writer is registered for them. Resolutions are cached with a
+ * {@link ClassValue}, so after the first value of a class, finding its writer costs a
+ * single lookup rather than a chain of {@code instanceof} checks.
+ *
+ * <p>
+ * A new registry has writers for {@link CharSequence}, {@link Character},
+ * {@link BigInteger}, {@link BigDecimal}, {@link Byte}, {@link Short}, {@link Integer},
+ * {@link Float}, {@link Long}, {@link Double}, {@link Boolean}, {@link Instant},
+ * {@link OffsetDateTime}, {@link LocalDate}, {@link UUID}, and {@link Enum}, which call
+ * the matching JsonScribe overload. Writers for other types, such as {@link URI}, may be
+ * added with {@link #register(Class, JsonValueWriter)}:
+ *
+ * <pre>
+ * JsonValueWriterRegistry.getDefault()
+ *         .register(URI.class, (scribe, uri) -&gt; scribe.value(uri.toString()))
+ *         .register(Duration.class, (scribe, duration) -&gt; scribe.value(duration.toString()));
+ * </pre>
+ *
+ * <p>
+ * Registering a writer clears the cache, so writers should be registered at startup,
+ * before values are written. Registries are safe for use by multiple threads.
+ *
+ * @author Doug Valenta
+ */
+public final class JsonValueWriterRegistry {
+
+	private static final JsonValueWriter<Object> UNSUPPORTED = (scribe, value) -> {
+		throw new IllegalArgumentException("Invalid type " + value.getClass().getName());
+	};
+
+	private static final JsonValueWriterRegistry DEFAULT = new JsonValueWriterRegistry();
+
+	private final Map<Class<?>, JsonValueWriter<Object>> writers = new ConcurrentHashMap<>();
+	private volatile ClassValue<JsonValueWriter<Object>> resolved = cache();
+
+	/**
+	 * Creates a new JsonValueWriterRegistry with writers for the types {@link JsonScribe}
+	 * has overloads for.
+	 */
+	public JsonValueWriterRegistry() {
+		writers.put(CharSequence.class, (scribe, value) -> scribe.value((CharSequence) value));
+		writers.put(Character.class, (scribe, value) -> scribe.value((char) (Character) value));
+		writers.put(BigInteger.class, (scribe, value) -> scribe.value((BigInteger) value));
+		writers.put(BigDecimal.class, (scribe, value) -> scribe.value((BigDecimal) value));
+		writers.put(Byte.class, (scribe, value) -> scribe.value((byte) (Byte) value));
+		writers.put(Short.class, (scribe, value) -> scribe.value((short) (Short) value));
+		writers.put(Integer.class, (scribe, value) -> scribe.value((int) (Integer) value));
+		writers.put(Float.class, (scribe, value) -> scribe.value((float) (Float) value));
+		writers.put(Long.class, (scribe, value) -> scribe.value((long) (Long) value));
+		writers.put(Double.class, (scribe, value) -> scribe.value((double) (Double) value));
+		writers.put(Boolean.class, (scribe, value) -> scribe.value((boolean) (Boolean) value));
+		writers.put(Instant.class, (scribe, value) -> scribe.value((Instant) value));
+		writers.put(OffsetDateTime.class, (scribe, value) -> scribe.value((OffsetDateTime) value));
+		writers.put(LocalDate.class, (scribe, value) -> scribe.value((LocalDate) value));
+		writers.put(UUID.class, (scribe, value) -> scribe.value((UUID) value));
+		writers.put(Enum.class, (scribe, value) -> scribe.value((Enum<?>) value));
+	}
+
+	/**
+	 * Returns the registry used by {@link JsonScribe#value(Object)}.
+	 *
+	 * @return the default registry
+	 */
+	public static JsonValueWriterRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Registers a writer for values of the provided type and its subtypes, replacing any
+	 * writer already registered for exactly that type, and returns this registry.
+	 *
+	 * @param <T> the type of value
+	 * @param type the type of value the writer outputs
+	 * @param writer the writer
+	 * @return this registry
+	 * @throws IllegalArgumentException if {@code type} or {@code writer} is null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> JsonValueWriterRegistry register(final Class<T> type, final JsonValueWriter<? super T> writer) {
+		if (type == null) throw new IllegalArgumentException("Missing type");
+		if (writer == null) throw new IllegalArgumentException("Missing writer");
+		writers.put(type, (JsonValueWriter<Object>) writer);
+		resolved = cache();
+		return this;
+	}
+
+	/**
+	 * Returns the writer for values of the provided class, or null if there is none.
+	 *
+	 * @param type the runtime class of a value
+	 * @return the writer for the class, or null
+	 * @throws IllegalArgumentException if {@code type} is null
+	 */
+	public JsonValueWriter<Object> find(final Class<?> type) {
+		if (type == null) throw new IllegalArgumentException("Missing type");
+		final JsonValueWriter<Object> writer = resolved.get(type);
+		return writer == UNSUPPORTED ? null : writer;
+	}
+
+	/**
+	 * Outputs the provided value with the writer for its runtime class, or outputs a
+	 * {@code null} literal if the value is null.
+	 *
+	 * @param scribe the JsonScribe to output to
+	 * @param value the value to output
+	 * @throws IllegalArgumentException if there is no writer for the runtime class of
+	 * the value
+	 * @throws IOException if an I/O error occurs
+	 */
+	public void write(final JsonScribe scribe, final Object value) throws IOException {
+		if (value == null) {
+			scribe.nullValue();
+		} else {
+			resolved.get(value.getClass()).write(scribe, value);
+		}
+	}
+
+	private ClassValue<JsonValueWriter<Object>> cache() {
+		return new ClassValue<JsonValueWriter<Object>>() {
+			@Override
+			protected JsonValueWriter<Object> computeValue(final Class<?> type) {
+				final JsonValueWriter<Object> writer = resolve(type);
+				return writer == null ? UNSUPPORTED : writer;
+			}
+		};
+	}
+
+	private JsonValueWriter<Object> resolve(final Class<?> type) {
+		JsonValueWriter<Object> writer = writers.get(type);
+		if (writer != null) return writer;
+		if (type.isAnnotationPresent(JsonWritable.class)) {
+			writer = generated(type);
+			if (writer != null) return writer;
+		}
+		for (Class<?> superclass = type.getSuperclass(); superclass != null; superclass = superclass.getSuperclass()) {
+			writer = writers.get(superclass);
+			if (writer != null) return writer;
+		}
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			writer = resolveInterfaces(current);
+			if (writer != null) return writer;
+		}
+		return null;
+	}
+
+	private JsonValueWriter<Object> resolveInterfaces(final Class<?> type) {
+		for (final Class<?> face : type.getInterfaces()) {
+			JsonValueWriter<Object> writer = writers.get(face);
+			if (writer != null) return writer;
+			writer = resolveInterfaces(face);
+			if (writer != null) return writer;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the writer generated for the provided {@link JsonWritable} class, or null if
+	 * it was not generated.
+	 */
+	@SuppressWarnings("unchecked")
+	private static JsonValueWriter<Object> generated(final Class<?> type) {
+		final StringBuilder name = new StringBuilder(type.getSimpleName());
+		for (Class<?> enclosing = type.getEnclosingClass(); enclosing != null; enclosing = enclosing.getEnclosingClass()) {
+			name.insert(0, '_').insert(0, enclosing.getSimpleName());
+		}
+		final Package pkg = type.getPackage();
+		final String writer = (pkg == null || pkg.getName().isEmpty() ? "" : pkg.getName() + ".") + name + "JsonWriter";
+		try {
+			final Field instance = Class.forName(writer, true, type.getClassLoader()).getDeclaredField("INSTANCE");
+			// the writer generated for a class that is not public is not public either
+			if (!Modifier.isPublic(instance.getDeclaringClass().getModifiers())) instance.setAccessible(true);
+			return (JsonValueWriter<Object>) instance.get(null);
+		} catch (final ReflectiveOperationException | LinkageError e) {
+			return null;
+		} catch (final RuntimeException e) {
+			// a ClassCastException, a SecurityException, or, where the writer's module does
+			// not open its package, an InaccessibleObjectException
+			return null;
+		}
+	}
+
+}
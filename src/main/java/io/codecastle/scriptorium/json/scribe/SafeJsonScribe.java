@@ -5,35 +5,57 @@
 package io.codecastle.scriptorium.json.scribe;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 import io.codecastle.scriptorium.FluentNode;
 
 /**
  * A {@link JsonScribe} that throws {@link IllegalStateException} rather than
  * producing invalid or unexpected output.
  * 
+ * <p>
+ * Raw values are checked with a {@link JsonValidator} before they are output, and an
+ * {@link IllegalArgumentException} is thrown, without outputting anything, if they are
+ * not well-formed.
+ * 
  * @author Doug Valenta
  */
 public final class SafeJsonScribe implements JsonScribe {
 	
-	private enum State {
-		OBJECT,
-		ARRAY,
-		KEY,
-		VALUE,
-		KEYVALUE
-	}
+	private static final byte OBJECT = 0;
+	private static final byte ARRAY = 1;
+	private static final byte KEY = 2;
+	private static final byte VALUE = 3;
+	private static final byte KEYVALUE = 4;
 	
 	private final JsonAppender appender;
-	private final Deque<State> state = new LinkedList<>();
+	private final StateStack state;
 	
 	private boolean comma;
 	
 	public SafeJsonScribe(final JsonAppender appender) {
+		this(appender, StateStack.DEFAULT_DEPTH);
+	}
+	
+	/**
+	 * Creates a new SafeJsonScribe that outputs to the provided {@link JsonAppender}, with room
+	 * for the provided nesting depth before its state stack needs to grow.
+	 * 
+	 * @param appender the {@link JsonAppender} the new SafeJsonScribe will output to
+	 * @param depth the initial capacity of the state stack
+	 * @throws IllegalArgumentException if {@code depth} is less than 1
+	 */
+	public SafeJsonScribe(final JsonAppender appender, final int depth) {
 		this.appender = appender;
+		this.state = new StateStack(depth);
 	}
 	
 	private void beforeNode() throws IOException {
@@ -65,6 +87,10 @@ public final class SafeJsonScribe implements JsonScribe {
 		}
 	}
 	
+	private void beforeValues() {
+		if (state.isEmpty() || state.peek() != ARRAY) throw new IllegalStateException("Not an array");
+	}
+
 	@Override
 	public JsonScribe emptyObject() throws IOException {
 		beforeValue();
@@ -76,7 +102,7 @@ public final class SafeJsonScribe implements JsonScribe {
 	@Override
 	public JsonScribe pushObject() throws IOException {
 		beforeNode();
-		state.push(State.OBJECT);
+		state.push(OBJECT);
 		appender.appendOpenBrace();
 		comma = false;
 		return this;
@@ -84,22 +110,33 @@ public final class SafeJsonScribe implements JsonScribe {
 	
 	@Override
 	public JsonScribe key(final CharSequence key) throws IOException {
-		if (state.peek() != State.OBJECT) {
+		if (key instanceof JsonName) return key((JsonName) key);
+		if (state.peek() != OBJECT) {
 			throw new IllegalStateException("Not an object");
 		}
 		if (comma) appender.appendComma();
-		state.push(State.KEYVALUE);
+		state.push(KEYVALUE);
 		appender.appendQuote().escape(key).appendCloseKey();
 		return this;
 	}
 	
+	@Override
+	public JsonScribe key(final JsonName key) throws IOException {
+		if (state.peek() != OBJECT) {
+			throw new IllegalStateException("Not an object");
+		}
+		state.push(KEYVALUE);
+		appender.appendName(key, comma);
+		return this;
+	}
+	
 	@Override
 	public JsonScribe pushKey() throws IOException {
-		if (state.peek() != State.OBJECT) {
+		if (state.peek() != OBJECT) {
 			throw new IllegalStateException("Not an object");
 		}
 		if (comma) appender.appendComma();
-		state.push(State.KEY);
+		state.push(KEY);
 		appender.appendQuote();
 		return this;
 	}
@@ -115,7 +152,7 @@ public final class SafeJsonScribe implements JsonScribe {
 	@Override
 	public JsonScribe pushArray() throws IOException {
 		beforeNode();
-		state.push(State.ARRAY);
+		state.push(ARRAY);
 		appender.appendOpenBracket();
 		comma = false;
 		return this;
@@ -123,12 +160,37 @@ public final class SafeJsonScribe implements JsonScribe {
 	
 	@Override
 	public JsonScribe value(final CharSequence value) throws IOException {
+		if (value instanceof JsonConstant) return value((JsonConstant) value);
+		beforeValue();
+		appender.appendQuote().escape(value).appendQuote();
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final Reader value) throws IOException {
 		beforeValue();
 		appender.appendQuote().escape(value).appendQuote();
 		comma = true;
 		return this;
 	}
 	
+	@Override
+	public JsonScribe value(final InputStream value, final Charset charset) throws IOException {
+		beforeValue();
+		appender.appendQuote().escape(value, charset).appendQuote();
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final JsonConstant value) throws IOException {
+		beforeValue();
+		appender.appendConstant(value, false);
+		comma = true;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe value(final char value) throws IOException {
 		beforeValue();
@@ -153,6 +215,130 @@ public final class SafeJsonScribe implements JsonScribe {
 		return this;
 	}
 	
+	@Override
+	public JsonScribe value(final Instant value) throws IOException {
+		beforeValue();
+		appender.appendTimestamp(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final OffsetDateTime value) throws IOException {
+		beforeValue();
+		appender.appendTimestamp(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe timestampValue(final long value) throws IOException {
+		beforeValue();
+		appender.appendTimestamp(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final LocalDate value) throws IOException {
+		beforeValue();
+		appender.appendDate(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe value(final UUID value) throws IOException {
+		beforeValue();
+		appender.appendUuid(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe base64Value(final byte[] value, final int start, final int end) throws IOException {
+		beforeValue();
+		appender.appendBase64(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe base64Value(final ByteBuffer value) throws IOException {
+		beforeValue();
+		appender.appendBase64(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe base64Value(final InputStream value) throws IOException {
+		beforeValue();
+		appender.appendBase64(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe hexValue(final byte[] value, final int start, final int end) throws IOException {
+		beforeValue();
+		appender.appendHex(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe hexValue(final ByteBuffer value) throws IOException {
+		beforeValue();
+		appender.appendHex(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe hexValue(final InputStream value) throws IOException {
+		beforeValue();
+		appender.appendHex(value);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final CharSequence value) throws IOException {
+		JsonValidator.validate(value);
+		beforeValue();
+		appender.appendRaw(value, 0, value.length());
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final char[] value, final int start, final int end) throws IOException {
+		JsonValidator.validate(value, start, end);
+		beforeValue();
+		appender.appendRaw(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final byte[] value, final int start, final int end) throws IOException {
+		JsonValidator.validate(value, start, end);
+		beforeValue();
+		appender.appendRaw(value, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe rawValue(final ByteBuffer value) throws IOException {
+		JsonValidator.validate(value);
+		beforeValue();
+		appender.appendRaw(value);
+		comma = true;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe value(final int value) throws IOException {
 		beforeValue();
@@ -195,6 +381,56 @@ public final class SafeJsonScribe implements JsonScribe {
 		return this;
 	}
 	
+	@Override
+	public JsonScribe values(final int[] values, final int start, final int end) throws IOException {
+		beforeValues();
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final long[] values, final int start, final int end) throws IOException {
+		beforeValues();
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final float[] values, final int start, final int end) throws IOException {
+		beforeValues();
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final double[] values, final int start, final int end) throws IOException {
+		beforeValues();
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendNumbers(values, start, end);
+		comma = true;
+		return this;
+	}
+	
+	@Override
+	public JsonScribe values(final boolean[] values, final int start, final int end) throws IOException {
+		beforeValues();
+		if (start == end) return this;
+		if (comma) appender.appendComma();
+		appender.appendBooleans(values, start, end);
+		comma = true;
+		return this;
+	}
+	
 	@Override
 	public JsonScribe nullValue() throws IOException {
 		beforeValue();
@@ -222,7 +458,7 @@ public final class SafeJsonScribe implements JsonScribe {
 	@Override
 	public JsonScribe pushValue() throws IOException {
 		beforeValue();
-		state.push(State.VALUE);
+		state.push(VALUE);
 		appender.appendQuote();
 		return this;
 	}
@@ -253,7 +489,7 @@ public final class SafeJsonScribe implements JsonScribe {
 				break;
 			case KEY:
 				appender.appendCloseKey();
-				state.push(State.KEYVALUE);
+				state.push(KEYVALUE);
 				break;
 			default: // case VALUE:
 				appender.appendQuote();
@@ -325,4 +561,12 @@ public final class SafeJsonScribe implements JsonScribe {
 		return this;
 	}
 	
+	@Override
+	public JsonScribe reset() {
+		state.clear();
+		comma = false;
+		inscription = null;
+		return this;
+	}
+	
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A growable stack of byte-sized states, used by the scribes to track nesting without
+ * allocating on every push.
+ *
+ * @author Doug Valenta
+ */
+final class StateStack {
+
+	/**
+	 * The initial depth used when none is provided.
+	 */
+	static final int DEFAULT_DEPTH = 16;
+
+	/**
+	 * Returned by {@link #peek()} when the stack is empty.
+	 */
+	static final byte NONE = -1;
+
+	private byte[] states;
+	private int size;
+
+	StateStack(final int depth) {
+		if (depth < 1) throw new IllegalArgumentException("Depth " + depth);
+		states = new byte[depth];
+	}
+
+	void push(final byte state) {
+		if (size == states.length) states = Arrays.copyOf(states, size << 1);
+		states[size++] = state;
+	}
+
+	/**
+	 * Removes and returns the top state.
+	 *
+	 * @throws NoSuchElementException if the stack is empty
+	 */
+	byte pop() {
+		if (size == 0) throw new NoSuchElementException();
+		return states[--size];
+	}
+
+	/**
+	 * Returns the top state, or {@link #NONE} if the stack is empty.
+	 */
+	byte peek() {
+		return size == 0 ? NONE : states[size - 1];
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	int size() {
+		return size;
+	}
+
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import io.codecastle.scriptorium.scribe.Escaper;
+
+/**
+ * A {@link JsonAppender} that encodes its output as UTF-8 directly into its own byte
+ * buffer, and writes the buffer to an underlying {@link OutputStream} in whole blocks.
+ *
+ * <p>
+ * Output is not written to the underlying stream until the buffer fills or
+ * {@link #flush()} is called. Ints and longs are formatted directly into the buffer,
+ * and floats and doubles through the scratch buffer of the JsonAppender. With a plain
+ * {@link JsonEscaper}, strings and arrays of characters are copied into the buffer four
+ * at a time until a character needs escaping or encoding. Raw UTF-8 values are copied
+ * into the buffer as they are, without being decoded.
+ *
+ * @author Doug Valenta
+ */
+public class Utf8JsonAppender extends JsonAppender implements Flushable {
+
+	/**
+	 * The buffer size used by {@link #Utf8JsonAppender(OutputStream, Escaper)}.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+	
+	/**
+	 * The smallest buffer size accepted by
+	 * {@link #Utf8JsonAppender(OutputStream, Escaper, int)}.
+	 */
+	public static final int MINIMUM_BUFFER_SIZE = Utf8Sink.MINIMUM_BUFFER_SIZE;
+
+	private final Utf8Sink sink;
+
+	/**
+	 * Creates a new Utf8JsonAppender that outputs to the provided {@link OutputStream}
+	 * through a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes, and escapes string literals
+	 * using the provided {@link Escaper}.
+	 *
+	 * @param stream the {@link OutputStream} the new Utf8JsonAppender will output to
+	 * @param escaper the {@link Escaper} the new Utf8JsonAppender will use to escape
+	 * string literals
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 */
+	public Utf8JsonAppender(final OutputStream stream, final Escaper escaper) {
+		this(stream, escaper, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new Utf8JsonAppender that outputs to the provided {@link OutputStream}
+	 * through a buffer of the provided size, and escapes string literals using the
+	 * provided {@link Escaper}.
+	 *
+	 * @param stream the {@link OutputStream} the new Utf8JsonAppender will output to
+	 * @param escaper the {@link Escaper} the new Utf8JsonAppender will use to escape
+	 * string literals
+	 * @param bufferSize the size of the buffer, in bytes. Must be at least 64.
+	 * @throws IllegalArgumentException if {@code stream} is null or {@code bufferSize}
+	 * is less than 64
+	 */
+	public Utf8JsonAppender(final OutputStream stream, final Escaper escaper, final int bufferSize) {
+		this(stream, escaper, bufferSize, JsonDecimalFormat.SHORTEST);
+	}
+
+	/**
+	 * Creates a new Utf8JsonAppender that outputs to the provided {@link OutputStream}
+	 * through a buffer of the provided size, escapes string literals using the provided
+	 * {@link Escaper}, and outputs floats and doubles in the provided
+	 * {@link JsonDecimalFormat}.
+	 *
+	 * @param stream the {@link OutputStream} the new Utf8JsonAppender will output to
+	 * @param escaper the {@link Escaper} the new Utf8JsonAppender will use to escape
+	 * string literals
+	 * @param bufferSize the size of the buffer, in bytes. Must be at least 64.
+	 * @param format the format of floats and doubles
+	 * @throws IllegalArgumentException if {@code stream} or {@code format} is null, or
+	 * {@code bufferSize} is less than 64
+	 */
+	public Utf8JsonAppender(final OutputStream stream, final Escaper escaper, final int bufferSize,
+			final JsonDecimalFormat format) {
+		this(new Utf8Sink(stream, bufferSize), escaper, format);
+	}
+
+	private Utf8JsonAppender(final Utf8Sink sink, final Escaper escaper, final JsonDecimalFormat format) {
+		super(sink, escaper, format);
+		this.sink = sink;
+	}
+
+	/**
+	 * Discards any buffered output that has not been written, and redirects all further
+	 * output to the provided {@link OutputStream}, then returns this object.
+	 * 
+	 * @param stream the {@link OutputStream} this Utf8JsonAppender will output to
+	 * @return this object
+	 * @throws IllegalArgumentException if {@code stream} is null
+	 */
+	public Utf8JsonAppender reset(final OutputStream stream) {
+		sink.reset(stream);
+		return this;
+	}
+	
+	/**
+	 * Always throws {@link UnsupportedOperationException}, since a Utf8JsonAppender
+	 * can only output to an {@link OutputStream}.
+	 * 
+	 * @throws UnsupportedOperationException always
+	 * @see #reset(OutputStream)
+	 */
+	@Override
+	public JsonAppender reset(final Appendable appendable) {
+		throw new UnsupportedOperationException("Not an OutputStream");
+	}
+
+	@Override
+	public JsonAppender appendComma() throws IOException {
+		sink.writeAscii(COMMA);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendOpenBrace() throws IOException {
+		sink.writeAscii(OPEN_BRACE);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendCloseBrace() throws IOException {
+		sink.writeAscii(CLOSE_BRACE);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendOpenBracket() throws IOException {
+		sink.writeAscii(OPEN_BRACKET);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendCloseBracket() throws IOException {
+		sink.writeAscii(CLOSE_BRACKET);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendEmptyObject() throws IOException {
+		sink.writeAscii(EMPTY_OBJECT);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendEmptyArray() throws IOException {
+		sink.writeAscii(EMPTY_ARRAY);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendQuote() throws IOException {
+		sink.writeAscii(QUOTE);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendCloseKey() throws IOException {
+		sink.writeAscii(CLOSE_KEY);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNull() throws IOException {
+		sink.writeAscii(NULL);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendTrue() throws IOException {
+		sink.writeAscii(TRUE);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendFalse() throws IOException {
+		sink.writeAscii(FALSE);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumber(final int value) throws IOException {
+		sink.writeNumber(value);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumber(final float value) throws IOException {
+		if (decimal.set(value)) {
+			sink.writeAscii(scratch, 0, format.getChars(decimal, scratch, 0));
+		} else {
+			sink.writeAscii(Float.toString(value));
+		}
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumber(final long value) throws IOException {
+		sink.writeNumber(value);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumber(final double value) throws IOException {
+		if (decimal.set(value)) {
+			sink.writeAscii(scratch, 0, format.getChars(decimal, scratch, 0));
+		} else {
+			sink.writeAscii(Double.toString(value));
+		}
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumbers(final int[] values, final int start, final int end) throws IOException {
+		sink.writeNumbers(values, start, end);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumbers(final long[] values, final int start, final int end) throws IOException {
+		sink.writeNumbers(values, start, end);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumbers(final float[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			if (i > start) sink.writeAscii(COMMA);
+			if (decimal.set(values[i])) {
+				sink.writeAscii(scratch, 0, format.getChars(decimal, scratch, 0));
+			} else {
+				sink.writeAscii(NULL);
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendNumbers(final double[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			if (i > start) sink.writeAscii(COMMA);
+			if (decimal.set(values[i])) {
+				sink.writeAscii(scratch, 0, format.getChars(decimal, scratch, 0));
+			} else {
+				sink.writeAscii(NULL);
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendBooleans(final boolean[] values, final int start, final int end) throws IOException {
+		for (int i = start; i < end; i++) {
+			if (i > start) sink.writeAscii(COMMA);
+			sink.writeAscii(values[i] ? TRUE : FALSE);
+		}
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendName(final JsonName name, final boolean comma) throws IOException {
+		sink.writeBytes(name.bytes, comma ? 0 : 1, name.bytes.length);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendConstant(final JsonConstant constant, final boolean comma) throws IOException {
+		sink.writeBytes(constant.bytes, comma ? 0 : 1, constant.bytes.length);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendBoolean(final boolean value) throws IOException {
+		sink.writeAscii(value ? TRUE : FALSE);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendRaw(final char[] chars, final int start, final int end) throws IOException {
+		int i = start;
+		while (i < end) {
+			i = sink.writePlain(chars, i, end);
+			if (i < end) sink.write(chars[i++]);
+		}
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendRaw(final byte[] bytes, final int start, final int end) throws IOException {
+		sink.writeBytes(bytes, start, end);
+		return this;
+	}
+
+	@Override
+	public JsonAppender appendRaw(final ByteBuffer bytes) throws IOException {
+		if (bytes.hasArray()) {
+			final int offset = bytes.arrayOffset();
+			sink.writeBytes(bytes.array(), offset + bytes.position(), offset + bytes.limit());
+		} else {
+			sink.writeBytes(bytes, bytes.position(), bytes.limit());
+		}
+		return this;
+	}
+
+	@Override
+	void appendAscii(final char[] chars, final int start, final int end) throws IOException {
+		sink.writeAscii(chars, start, end);
+	}
+
+	@Override
+	void appendAscii(final String string) throws IOException {
+		sink.writeAscii(string);
+	}
+
+	@Override
+	public JsonAppender escape(final CharSequence sequence, final int start, final int end) throws IOException {
+		if (plainEscaper != null && sequence instanceof String) return escapeChunks((String) sequence, start, end);
+		return super.escape(sequence, start, end);
+	}
+
+	@Override
+	public JsonAppender escape(final char[] chars, final int start, final int end) throws IOException {
+		if (plainEscaper == null) return super.escape(chars, start, end);
+		int i = start;
+		while (i < end) {
+			i = sink.writePlain(chars, i, end);
+			if (i == end) break;
+			final char character = chars[i++];
+			if (plainEscaper.isEscaped(character)) {
+				plainEscaper.escape(character, sink);
+			} else {
+				sink.write(character);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Writes any buffered output to the underlying {@link OutputStream}, then flushes
+	 * the stream.
+	 *
+	 * @throws IOException if an exception occurs while writing to or flushing the
+	 * underlying {@link OutputStream}
+	 */
+	@Override
+	public void flush() throws IOException {
+		sink.flush();
+	}
+
+}
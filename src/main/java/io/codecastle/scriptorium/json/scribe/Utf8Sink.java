@@ -0,0 +1,302 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Appendable} that encodes characters as UTF-8 into its own byte buffer and
+ * writes the buffer to an underlying {@link OutputStream} in whole blocks.
+ *
+ * <p>
+ * A high surrogate is held until the next character arrives, so surrogate pairs may be
+ * split across calls to {@link #append(char)}. Unpaired surrogates are encoded as
+ * {@code '?'}, as they would be by an {@link java.io.OutputStreamWriter}.
+ *
+ * @author Doug Valenta
+ */
+final class Utf8Sink implements Appendable, Flushable {
+
+	static final int MINIMUM_BUFFER_SIZE = 64;
+
+	private static final byte REPLACEMENT = '?';
+	private static final String NULL = "null";
+
+	private OutputStream stream;
+	private final byte[] buffer;
+	private int position;
+	private char highSurrogate;
+
+	Utf8Sink(final OutputStream stream, final int bufferSize) {
+		if (stream == null) throw new IllegalArgumentException("Missing stream");
+		if (bufferSize < MINIMUM_BUFFER_SIZE) throw new IllegalArgumentException("Buffer size " + bufferSize);
+		this.stream = stream;
+		this.buffer = new byte[bufferSize];
+	}
+
+	/**
+	 * Discards any buffered output and redirects further output to the provided stream.
+	 */
+	void reset(final OutputStream stream) {
+		if (stream == null) throw new IllegalArgumentException("Missing stream");
+		this.stream = stream;
+		position = 0;
+		highSurrogate = 0;
+	}
+
+	@Override
+	public Utf8Sink append(final CharSequence sequence) throws IOException {
+		if (sequence == null) return append(NULL, 0, NULL.length());
+		return append(sequence, 0, sequence.length());
+	}
+
+	@Override
+	public Utf8Sink append(final CharSequence sequence, final int start, final int end) throws IOException {
+		if (sequence == null) return append(NULL, start, end);
+		for (int i = start; i < end; i++) {
+			write(sequence.charAt(i));
+		}
+		return this;
+	}
+
+	@Override
+	public Utf8Sink append(final char character) throws IOException {
+		write(character);
+		return this;
+	}
+
+	/**
+	 * Encodes a single character, pairing it with a pending high surrogate if there is one.
+	 */
+	void write(final char character) throws IOException {
+		if (highSurrogate != 0) {
+			final char high = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(character)) {
+				writeCodePoint(Character.toCodePoint(high, character));
+				return;
+			}
+			writeByte(REPLACEMENT);
+		}
+		if (character < 0x80) {
+			if (position == buffer.length) flushBuffer();
+			buffer[position++] = (byte) character;
+		} else if (character < 0x800) {
+			require(2);
+			buffer[position++] = (byte) (0xc0 | character >> 6);
+			buffer[position++] = (byte) (0x80 | character & 0x3f);
+		} else if (Character.isHighSurrogate(character)) {
+			highSurrogate = character;
+		} else if (Character.isLowSurrogate(character)) {
+			writeByte(REPLACEMENT);
+		} else {
+			require(3);
+			buffer[position++] = (byte) (0xe0 | character >> 12);
+			buffer[position++] = (byte) (0x80 | character >> 6 & 0x3f);
+			buffer[position++] = (byte) (0x80 | character & 0x3f);
+		}
+	}
+
+	/**
+	 * Writes a character known to be in the ASCII range, such as a JSON token.
+	 */
+	void writeAscii(final char character) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		if (position == buffer.length) flushBuffer();
+		buffer[position++] = (byte) character;
+	}
+
+	/**
+	 * Writes a string known to contain only ASCII characters, such as a JSON token or a
+	 * formatted number.
+	 */
+	void writeAscii(final String string) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		final int length = string.length();
+		int i = 0;
+		while (i < length) {
+			if (position == buffer.length) flushBuffer();
+			final int end = Math.min(length, i + buffer.length - position);
+			while (i < end) {
+				buffer[position++] = (byte) string.charAt(i++);
+			}
+		}
+	}
+
+	/**
+	 * Writes characters known to be in the ASCII range, such as a formatted number.
+	 */
+	void writeAscii(final char[] characters, final int start, final int end) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		int i = start;
+		while (i < end) {
+			if (position == buffer.length) flushBuffer();
+			final int stop = Math.min(end, i + buffer.length - position);
+			while (i < stop) {
+				buffer[position++] = (byte) characters[i++];
+			}
+		}
+	}
+
+	/**
+	 * Writes bytes that are already encoded, such as a {@link JsonName}. Bytes that do
+	 * not fit in the buffer are written directly to the underlying stream.
+	 */
+	void writeBytes(final byte[] bytes, final int start, final int end) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		final int length = end - start;
+		if (length > buffer.length - position) {
+			flushBuffer();
+			if (length > buffer.length) {
+				stream.write(bytes, start, length);
+				return;
+			}
+		}
+		System.arraycopy(bytes, start, buffer, position, length);
+		position += length;
+	}
+
+	/**
+	 * Writes the specified range of the provided buffer, which is already encoded, a block
+	 * at a time. The bytes are read with absolute gets, which leave the position of the
+	 * buffer alone, so it is never changed, even if writing fails, and other threads may
+	 * read the buffer at the same time.
+	 */
+	void writeBytes(final ByteBuffer bytes, final int start, final int end) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		int i = start;
+		while (i < end) {
+			if (position == buffer.length) flushBuffer();
+			final int stop = Math.min(end, i + buffer.length - position);
+			while (i < stop) {
+				buffer[position++] = bytes.get(i++);
+			}
+		}
+	}
+
+	/**
+	 * Copies characters that are ASCII and not escaped by a plain {@link JsonEscaper},
+	 * four at a time where possible, and returns the index of the first character not
+	 * copied. Copies nothing while a high surrogate is pending, so that the next
+	 * character is paired with it by {@link #write(char)}.
+	 */
+	int writePlain(final char[] characters, final int start, final int end) throws IOException {
+		if (highSurrogate != 0) return start;
+		int i = start;
+		while (i < end) {
+			if (position == buffer.length) flushBuffer();
+			final int limit = Math.min(end, i + buffer.length - position);
+			for (; i <= limit - 4; i += 4) {
+				final long word = JsonEscaper.word(characters, i);
+				final long stop = JsonEscaper.escapedLanes(word) | JsonEscaper.nonAsciiLanes(word);
+				if (stop != 0) {
+					final int plain = JsonEscaper.lane(stop);
+					for (int j = 0; j < plain; j++) {
+						buffer[position++] = (byte) characters[i + j];
+					}
+					return i + plain;
+				}
+				buffer[position] = (byte) word;
+				buffer[position + 1] = (byte) (word >>> 16);
+				buffer[position + 2] = (byte) (word >>> 32);
+				buffer[position + 3] = (byte) (word >>> 48);
+				position += 4;
+			}
+			for (; i < limit; i++) {
+				final char character = characters[i];
+				if (!JsonEscaper.isPlainAscii(character)) return i;
+				buffer[position++] = (byte) character;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Formats the provided value directly into the buffer.
+	 */
+	void writeNumber(final long value) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		require(JsonNumbers.MAX_LONG_LENGTH);
+		final int end = position + JsonNumbers.length(value);
+		JsonNumbers.getBytes(value, buffer, end);
+		position = end;
+	}
+
+	/**
+	 * Formats the specified range of the provided values directly into the buffer,
+	 * separated by commas.
+	 */
+	void writeNumbers(final int[] values, final int start, final int end) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		for (int i = start; i < end; i++) {
+			require(JsonNumbers.MAX_LONG_LENGTH + 1);
+			if (i > start) buffer[position++] = JsonAppender.COMMA;
+			position += JsonNumbers.length(values[i]);
+			JsonNumbers.getBytes(values[i], buffer, position);
+		}
+	}
+
+	/**
+	 * Formats the specified range of the provided values directly into the buffer,
+	 * separated by commas.
+	 */
+	void writeNumbers(final long[] values, final int start, final int end) throws IOException {
+		if (highSurrogate != 0) releaseSurrogate();
+		for (int i = start; i < end; i++) {
+			require(JsonNumbers.MAX_LONG_LENGTH + 1);
+			if (i > start) buffer[position++] = JsonAppender.COMMA;
+			position += JsonNumbers.length(values[i]);
+			JsonNumbers.getBytes(values[i], buffer, position);
+		}
+	}
+
+	/**
+	 * Writes any buffered bytes to the underlying stream without flushing the stream.
+	 */
+	void flushBuffer() throws IOException {
+		if (position > 0) {
+			stream.write(buffer, 0, position);
+			position = 0;
+		}
+	}
+
+	/**
+	 * Writes any buffered bytes to the underlying stream, then flushes the stream.
+	 *
+	 * <p>
+	 * A pending high surrogate is kept, since its low surrogate may still be appended.
+	 */
+	@Override
+	public void flush() throws IOException {
+		flushBuffer();
+		stream.flush();
+	}
+
+	private void releaseSurrogate() throws IOException {
+		highSurrogate = 0;
+		writeByte(REPLACEMENT);
+	}
+
+	private void writeByte(final byte value) throws IOException {
+		if (position == buffer.length) flushBuffer();
+		buffer[position++] = value;
+	}
+
+	private void writeCodePoint(final int codePoint) throws IOException {
+		require(4);
+		buffer[position++] = (byte) (0xf0 | codePoint >> 18);
+		buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+		buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+		buffer[position++] = (byte) (0x80 | codePoint & 0x3f);
+	}
+
+	private void require(final int length) throws IOException {
+		if (position + length > buffer.length) flushBuffer();
+	}
+
+}
@@ -4,15 +4,37 @@
  */
 package io.codecastle.scriptorium.json;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import io.codecastle.scriptorium.FluentNode;
 import io.codecastle.scriptorium.function.IOFunction;
 import org.junit.Assert;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
 import io.codecastle.scriptorium.json.scribe.MockJsonScribe;
 import org.junit.Test;
@@ -149,6 +171,121 @@ public abstract class AbstractJsonArrayTest<A extends JsonArray<A>> {
 		Mockito.verifyNoMoreInteractions(scribe);
 	}
 	
+	@Test
+	public void testWithTemporalsUuidAndEnum() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		final Instant instant = Instant.ofEpochSecond(1541293323L);
+		final OffsetDateTime dateTime = OffsetDateTime.ofInstant(instant, ZoneOffset.ofHours(-5));
+		final LocalDate date = LocalDate.of(2018, 11, 4);
+		final UUID uuid = new UUID(1, 2);
+		final A result = array.with(instant).with(dateTime).with(date).with(uuid).with(TimeUnit.DAYS)
+				.withTimestamp(1541293323000L);
+		Assert.assertEquals(array, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).value(instant);
+		inOrder.verify(scribe).value(dateTime);
+		inOrder.verify(scribe).value(date);
+		inOrder.verify(scribe).value(uuid);
+		inOrder.verify(scribe).value(TimeUnit.DAYS);
+		inOrder.verify(scribe).timestampValue(1541293323000L);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithNullTemporalsUuidAndEnum() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		array.with((Instant) null).with((OffsetDateTime) null).with((LocalDate) null).with((UUID) null)
+				.with((Enum<?>) null);
+		Mockito.verify(scribe, Mockito.times(5)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithReaderAndInputStream() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		final Reader reader = new StringReader("text");
+		final InputStream stream = new ByteArrayInputStream(new byte[] {'t'});
+		final A result = array.with(reader).with(stream, StandardCharsets.UTF_8)
+				.with((Reader) null).with((InputStream) null, StandardCharsets.UTF_8);
+		Assert.assertEquals(array, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).value(reader);
+		inOrder.verify(scribe).value(stream, StandardCharsets.UTF_8);
+		inOrder.verify(scribe, Mockito.times(2)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithInputStreamAndNullCharset() throws IOException {
+		getJsonArray(Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF)).with(new ByteArrayInputStream(new byte[0]), (Charset) null);
+	}
+	
+	@Test
+	public void testWithBase64AndHex() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		final byte[] bytes = new byte[] {1, 2, 3};
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final InputStream stream = new ByteArrayInputStream(bytes);
+		final A result = array.withBase64(bytes).withBase64(buffer).withBase64(stream)
+				.withHex(bytes).withHex(buffer).withHex(stream);
+		Assert.assertEquals(array, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).base64Value(bytes, 0, 3);
+		inOrder.verify(scribe).base64Value(buffer);
+		inOrder.verify(scribe).base64Value(stream);
+		inOrder.verify(scribe).hexValue(bytes, 0, 3);
+		inOrder.verify(scribe).hexValue(buffer);
+		inOrder.verify(scribe).hexValue(stream);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithNullBase64AndHex() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		array.withBase64((byte[]) null).withBase64((ByteBuffer) null).withBase64((InputStream) null)
+				.withHex((byte[]) null).withHex((ByteBuffer) null).withHex((InputStream) null);
+		Mockito.verify(scribe, Mockito.times(6)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithRaw() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		final char[] chars = "[1]".toCharArray();
+		final byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final A result = array.withRaw("true").withRaw(chars).withRaw(bytes).withRaw(buffer);
+		Assert.assertEquals(array, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).rawValue("true");
+		inOrder.verify(scribe).rawValue(chars, 0, 3);
+		inOrder.verify(scribe).rawValue(bytes, 0, 2);
+		inOrder.verify(scribe).rawValue(buffer);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithNullRaw() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		array.withRaw((CharSequence) null).withRaw((char[]) null).withRaw((byte[]) null).withRaw((ByteBuffer) null);
+		Mockito.verify(scribe, Mockito.times(4)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
 	@Test
 	public void testWithNullBigDecimal() throws IOException {
 		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
@@ -428,6 +565,108 @@ public abstract class AbstractJsonArrayTest<A extends JsonArray<A>> {
 		Mockito.verifyZeroInteractions(scribe);
 	}
 	
+	@Test
+	public void testWithAllWithPrimitiveArrays() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		final int[] ints = new int[] {1, 2, 3};
+		final long[] longs = new long[] {4L};
+		final float[] floats = new float[] {5f, 6f};
+		final double[] doubles = new double[0];
+		final boolean[] booleans = new boolean[] {true};
+		Assert.assertEquals(array, array.withAll(ints));
+		Assert.assertEquals(array, array.withAll(longs));
+		Assert.assertEquals(array, array.withAll(floats));
+		Assert.assertEquals(array, array.withAll(doubles));
+		Assert.assertEquals(array, array.withAll(booleans));
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).values(ints, 0, 3);
+		inOrder.verify(scribe).values(longs, 0, 1);
+		inOrder.verify(scribe).values(floats, 0, 2);
+		inOrder.verify(scribe).values(doubles, 0, 0);
+		inOrder.verify(scribe).values(booleans, 0, 1);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+
+	@Test
+	public void testWithAllWithNullPrimitiveArrays() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		array.withAll((int[]) null).withAll((long[]) null).withAll((float[]) null)
+				.withAll((double[]) null).withAll((boolean[]) null);
+		Mockito.verifyZeroInteractions(scribe);
+	}
+
+	@Test
+	public void testWithAllWithHeapBuffers() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		final int[] ints = new int[] {1, 2, 3, 4, 5};
+		final IntBuffer intBuffer = IntBuffer.wrap(ints, 1, 3).slice();
+		intBuffer.position(1);
+		final long[] longs = new long[] {6L, 7L};
+		final double[] doubles = new double[] {8.0};
+		Assert.assertEquals(array, array.withAll(intBuffer));
+		Assert.assertEquals(array, array.withAll(LongBuffer.wrap(longs)));
+		Assert.assertEquals(array, array.withAll(DoubleBuffer.wrap(doubles)));
+		Assert.assertEquals(1, intBuffer.position());
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).values(ints, 2, 4);
+		inOrder.verify(scribe).values(longs, 0, 2);
+		inOrder.verify(scribe).values(doubles, 0, 1);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+
+	@Test
+	public void testWithAllWithEmptyBuffers() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final A array = getJsonArray(scribe);
+		Mockito.clearInvocations(scribe);
+		array.withAll((IntBuffer) null).withAll(LongBuffer.allocate(0))
+				.withAll(ByteBuffer.allocateDirect(0).asDoubleBuffer());
+		Mockito.verifyZeroInteractions(scribe);
+	}
+
+	@Test
+	public void testWithAllWithDirectBuffers() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushArray();
+		final A array = getJsonArray(scribe);
+		final int count = AbstractJsonArray.CHUNK_LENGTH * 2 + 1;
+		final LongBuffer longs = ByteBuffer.allocateDirect(count * Long.BYTES).asLongBuffer();
+		final StringBuilder expected = new StringBuilder("[");
+		for (int i = 0; i < count; i++) {
+			longs.put(i, -i * 1000000000L);
+			expected.append(-i * 1000000000L).append(',');
+		}
+		longs.position(1);
+		expected.deleteCharAt(1).deleteCharAt(1);
+		final DoubleBuffer doubles = DoubleBuffer.wrap(new double[] {0.5, Double.NaN}).asReadOnlyBuffer();
+		array.withAll(longs).withAll(doubles);
+		scribe.pop();
+		Assert.assertEquals(1, longs.position());
+		Assert.assertEquals(expected.append("0.5,null]").toString(), builder.toString());
+	}
+
+	@Test
+	public void testWithAllWithStreams() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushArray();
+		final A array = getJsonArray(scribe);
+		final int count = AbstractJsonArray.CHUNK_LENGTH + 3;
+		array.withAll(IntStream.range(0, count)).withAll(LongStream.empty())
+				.withAll(DoubleStream.of(1.5, Double.POSITIVE_INFINITY)).withAll((IntStream) null);
+		scribe.pop();
+		final StringBuilder expected = new StringBuilder("[");
+		for (int i = 0; i < count; i++) {
+			expected.append(i).append(',');
+		}
+		Assert.assertEquals(expected.append("1.5,null]").toString(), builder.toString());
+	}
+
 	@Test
 	public void testWithEmptyArray() throws IOException {
 		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
@@ -602,4 +841,69 @@ public abstract class AbstractJsonArrayTest<A extends JsonArray<A>> {
 		Mockito.verifyNoMoreInteractions(scribe);
 	}
 	
+	@Test
+	public void testClosingClosedNodesHasNoEffect() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushArray();
+		final A array = getJsonArray(scribe);
+		final JsonArrayNode<A> first = array.array();
+		first.with(1);
+		final JsonArrayNode<A> second = first.then().array();
+		Assert.assertNotSame(first, second);
+		second.with(2);
+		first.close();
+		second.with(3).then();
+		final JsonObjectNode<A> object = array.object();
+		final JsonObjectNode<A> next = object.then().object();
+		Assert.assertNotSame(object, next);
+		object.close();
+		next.with("a", 1).then();
+		final JsonValue<A> value = array.element("a");
+		value.close();
+		final JsonValue<A> nextValue = array.element("b");
+		Assert.assertNotSame(value, nextValue);
+		value.close();
+		nextValue.append('c').then();
+		scribe.pop();
+		Assert.assertEquals("[[1],[2,3],{},{\"a\":1},\"a\",\"bc\"]", builder.toString());
+	}
+	
+	@Test
+	public void testDoesNotReuseOpenNodes() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushArray();
+		final A array = getJsonArray(scribe);
+		final JsonArrayNode<A> outer = array.array();
+		final JsonArrayNode<A> inner = array.array();
+		Assert.assertNotSame(outer, inner);
+		inner.with(1).then();
+		outer.with(2).then();
+		scribe.pop();
+		Assert.assertEquals("[[[1],2]]", builder.toString());
+	}
+	
+	@Test
+	public void testNestedConsumersOnSameArray() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushArray();
+		final A array = getJsonArray(scribe);
+		final List<JsonArray<?>> inscriptions = new ArrayList<>();
+		array.with(outer -> {
+			inscriptions.add(outer);
+			outer.array();
+			array.with(inner -> {
+				inscriptions.add(inner);
+				inner.with(1);
+			});
+			outer.with(2);
+		});
+		array.with(next -> {
+			inscriptions.add(next);
+			next.with(3);
+		});
+		scribe.pop();
+		Assert.assertEquals("[[1],2,3]", builder.toString());
+		Assert.assertNotSame(inscriptions.get(0), inscriptions.get(1));
+	}
+	
 }
@@ -4,13 +4,31 @@
  */
 package io.codecastle.scriptorium.json;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import io.codecastle.scriptorium.FluentNode;
 import io.codecastle.scriptorium.function.IOFunction;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonConstant;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonName;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
 import io.codecastle.scriptorium.json.scribe.MockJsonScribe;
 import org.junit.Assert;
@@ -239,6 +257,154 @@ public abstract class AbstractJsonObjectTest<O extends JsonObject<O>> {
 		Mockito.verifyNoMoreInteractions(scribe);
 	}
 	
+	@Test
+	public void testWithTemporalsUuidAndEnum() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		final Instant instant = Instant.ofEpochSecond(1541293323L);
+		final OffsetDateTime dateTime = OffsetDateTime.ofInstant(instant, ZoneOffset.ofHours(-5));
+		final LocalDate date = LocalDate.of(2018, 11, 4);
+		final UUID uuid = new UUID(1, 2);
+		final O result = object.with("a", instant).with("b", dateTime).with("c", date).with("d", uuid)
+				.with("e", TimeUnit.DAYS).withTimestamp("f", 1541293323000L);
+		Assert.assertEquals(object, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).key("a");
+		inOrder.verify(scribe).value(instant);
+		inOrder.verify(scribe).key("b");
+		inOrder.verify(scribe).value(dateTime);
+		inOrder.verify(scribe).key("c");
+		inOrder.verify(scribe).value(date);
+		inOrder.verify(scribe).key("d");
+		inOrder.verify(scribe).value(uuid);
+		inOrder.verify(scribe).key("e");
+		inOrder.verify(scribe).value(TimeUnit.DAYS);
+		inOrder.verify(scribe).key("f");
+		inOrder.verify(scribe).timestampValue(1541293323000L);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithNullTemporalsUuidAndEnum() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		object.with("a", (Instant) null).with("b", (OffsetDateTime) null).with("c", (LocalDate) null)
+				.with("d", (UUID) null).with("e", (Enum<?>) null);
+		Mockito.verify(scribe, Mockito.times(5)).nullValue();
+		object.with(null, Instant.EPOCH).with(null, TimeUnit.DAYS).withTimestamp(null, 0L);
+		Mockito.verify(scribe, Mockito.never()).key(null);
+		Mockito.verify(scribe, Mockito.never()).value(Mockito.any(Instant.class));
+		Mockito.verify(scribe, Mockito.never()).timestampValue(Mockito.anyLong());
+	}
+	
+	@Test
+	public void testWithReaderAndInputStream() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		final Reader reader = new StringReader("text");
+		final InputStream stream = new ByteArrayInputStream(new byte[] {'t'});
+		final O result = object.with("a", reader).with("b", stream, StandardCharsets.UTF_8)
+				.with("c", (Reader) null).with("d", (InputStream) null, StandardCharsets.UTF_8)
+				.with(null, reader).with(null, stream, StandardCharsets.UTF_8);
+		Assert.assertEquals(object, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).key("a");
+		inOrder.verify(scribe).value(reader);
+		inOrder.verify(scribe).key("b");
+		inOrder.verify(scribe).value(stream, StandardCharsets.UTF_8);
+		inOrder.verify(scribe).key("c");
+		inOrder.verify(scribe).nullValue();
+		inOrder.verify(scribe).key("d");
+		inOrder.verify(scribe).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testWithInputStreamAndNullCharset() throws IOException {
+		getJsonObject(Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF)).with("a", new ByteArrayInputStream(new byte[0]), (Charset) null);
+	}
+	
+	@Test
+	public void testWithBase64AndHex() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		final byte[] bytes = new byte[] {1, 2, 3};
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final InputStream stream = new ByteArrayInputStream(bytes);
+		final O result = object.withBase64("a", bytes).withBase64("b", buffer).withBase64("c", stream)
+				.withHex("d", bytes).withHex("e", buffer).withHex("f", stream);
+		Assert.assertEquals(object, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).key("a");
+		inOrder.verify(scribe).base64Value(bytes, 0, 3);
+		inOrder.verify(scribe).key("b");
+		inOrder.verify(scribe).base64Value(buffer);
+		inOrder.verify(scribe).key("c");
+		inOrder.verify(scribe).base64Value(stream);
+		inOrder.verify(scribe).key("d");
+		inOrder.verify(scribe).hexValue(bytes, 0, 3);
+		inOrder.verify(scribe).key("e");
+		inOrder.verify(scribe).hexValue(buffer);
+		inOrder.verify(scribe).key("f");
+		inOrder.verify(scribe).hexValue(stream);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithNullBase64AndHex() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		object.withBase64("a", (byte[]) null).withBase64("b", (ByteBuffer) null).withBase64("c", (InputStream) null)
+				.withHex("d", (byte[]) null).withHex("e", (ByteBuffer) null).withHex("f", (InputStream) null);
+		Mockito.verify(scribe, Mockito.times(6)).nullValue();
+		final InputStream stream = Mockito.mock(InputStream.class);
+		object.withBase64(null, new byte[1]).withBase64(null, stream).withHex(null, stream);
+		Mockito.verify(scribe, Mockito.never()).key(null);
+		Mockito.verify(scribe, Mockito.never()).base64Value(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+		Mockito.verifyZeroInteractions(stream);
+	}
+	
+	@Test
+	public void testWithRaw() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		final char[] chars = "[1]".toCharArray();
+		final byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final O result = object.withRaw("a", "true").withRaw("b", chars).withRaw("c", bytes).withRaw("d", buffer);
+		Assert.assertEquals(object, result);
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).key("a");
+		inOrder.verify(scribe).rawValue("true");
+		inOrder.verify(scribe).key("b");
+		inOrder.verify(scribe).rawValue(chars, 0, 3);
+		inOrder.verify(scribe).key("c");
+		inOrder.verify(scribe).rawValue(bytes, 0, 2);
+		inOrder.verify(scribe).key("d");
+		inOrder.verify(scribe).rawValue(buffer);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testWithNullRaw() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final O object = getJsonObject(scribe);
+		Mockito.clearInvocations(scribe);
+		object.withRaw("a", (CharSequence) null).withRaw("b", (char[]) null).withRaw("c", (byte[]) null)
+				.withRaw("d", (ByteBuffer) null);
+		Mockito.verify(scribe, Mockito.times(4)).nullValue();
+		object.withRaw(null, "1").withRaw(null, new byte[] {'1'});
+		Mockito.verify(scribe, Mockito.never()).key(null);
+		Mockito.verify(scribe, Mockito.never()).rawValue(Mockito.any(CharSequence.class));
+		Mockito.verify(scribe, Mockito.never()).rawValue(Mockito.any(byte[].class), Mockito.anyInt(), Mockito.anyInt());
+	}
+	
 	@Test
 	public void testWithNullBigDecimal() throws IOException {
 		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
@@ -1283,4 +1449,60 @@ public abstract class AbstractJsonObjectTest<O extends JsonObject<O>> {
 		Mockito.verifyZeroInteractions(scribe);
 	}
 	
+	@Test
+	public void testReusesKeysButNotClosedNodes() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushObject();
+		final O object = getJsonObject(scribe);
+		final JsonKey<O> key = object.key("a");
+		final JsonArrayNode<O> array = key.array();
+		Assert.assertEquals(object, array.with(1).then());
+		Assert.assertSame(key, object.key("b"));
+		final JsonArrayNode<O> nextArray = key.array();
+		Assert.assertNotSame(array, nextArray);
+		array.close();
+		nextArray.with(2).then();
+		final JsonObjectNode<O> node = object.key("c").object();
+		node.then();
+		final JsonObjectNode<O> nextNode = object.key("d").object();
+		Assert.assertNotSame(node, nextNode);
+		node.close();
+		nextNode.with("e", 3).then();
+		final JsonValue<O> value = object.key("f").value("x");
+		value.close();
+		final JsonValue<O> nextValue = object.key("g").value("y");
+		Assert.assertNotSame(value, nextValue);
+		value.close();
+		nextValue.append("z").then();
+		scribe.pop();
+		Assert.assertEquals("{\"a\":[1],\"b\":[2],\"c\":{},\"d\":{\"e\":3},\"f\":\"x\",\"g\":\"yz\"}", builder.toString());
+	}
+	
+	@Test
+	public void testNestedConsumersOnSameObject() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushObject();
+		final O object = getJsonObject(scribe);
+		object.with(outer -> {
+			outer.key("a").object();
+			object.with(inner -> inner.with("b", 1));
+			outer.with("c", 2);
+		});
+		object.with(next -> next.with("d", 3));
+		scribe.pop();
+		Assert.assertEquals("{\"a\":{\"b\":1},\"c\":2,\"d\":3}", builder.toString());
+	}
+	
+	@Test
+	public void testNamesAndConstants() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushObject();
+		final O object = getJsonObject(scribe);
+		final JsonName name = new JsonName("na\"me");
+		final JsonConstant constant = new JsonConstant("ACTIVE");
+		object.with(name, constant).with(name, 1).key(name).array().with(constant).then().withNull(name);
+		scribe.pop();
+		Assert.assertEquals("{\"na\\\"me\":\"ACTIVE\",\"na\\\"me\":1,\"na\\\"me\":[\"ACTIVE\"],\"na\\\"me\":null}", builder.toString());
+	}
+	
 }
@@ -0,0 +1,384 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.scribe.FastJsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonAppender;
+import io.codecastle.scriptorium.json.scribe.JsonDecimalFormat;
+import io.codecastle.scriptorium.json.scribe.JsonEscaper;
+import io.codecastle.scriptorium.json.scribe.JsonName;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonTable;
+import io.codecastle.scriptorium.json.scribe.JsonTemplate;
+import io.codecastle.scriptorium.json.scribe.SafeJsonScribe;
+import io.codecastle.scriptorium.json.scribe.Utf8JsonAppender;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Writes representative documents and fails if the bytes allocated per document exceed
+ * the budget for the scenario in {@code allocation-budget.properties}.
+ * 
+ * <p>
+ * These tests only run in the {@code allocation} profile ({@code mvn test -Dallocation}),
+ * since they take a few seconds each to warm up the JIT compiler. Each scenario is run
+ * until compiled, then measured with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ *
+ * @author Doug Valenta
+ */
+public class JsonAllocationTest {
+	
+	private static final int WARMUP_DOCUMENTS = 100_000;
+	private static final int MEASURED_DOCUMENTS = 10_000;
+	
+	private static final String NAME = "Ada Lovelace";
+	private static final String NOTE = "Line one\nLine \"two\"\tend é東";
+	private static final String[] TAGS = { "alpha", "beta", "gamma", "delta" };
+	
+	private static final JsonTemplate RECORD = new JsonTemplate.Builder()
+			.withInt("id")
+			.withString("name")
+			.withBoolean("active")
+			.withDouble("score")
+			.withLong("created")
+			.withString("note")
+			.build();
+	
+	private static final JsonName TS = new JsonName("ts");
+	private static final JsonName VALUE = new JsonName("value");
+	private static final JsonName HOST = new JsonName("host");
+	
+	private static final OutputStream NULL_STREAM = new OutputStream() {
+		@Override
+		public void write(final int b) {}
+		@Override
+		public void write(final byte[] bytes, final int offset, final int length) {}
+	};
+	
+	private static com.sun.management.ThreadMXBean threads;
+	private static Properties budget;
+	
+	@BeforeClass
+	public static void setUpClass() throws IOException {
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+		threads.setThreadAllocatedMemoryEnabled(true);
+		budget = new Properties();
+		try (final InputStream stream = JsonAllocationTest.class.getResourceAsStream("/allocation-budget.properties")) {
+			Assert.assertNotNull("Missing allocation-budget.properties", stream);
+			budget.load(stream);
+		}
+	}
+	
+	@Test
+	public void testFastScribe() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		assertWithinBudget("scribe.fast", i -> {
+			builder.setLength(0);
+			write(scribe.reset(), i);
+		});
+	}
+	
+	@Test
+	public void testSafeScribe() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new SafeJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		assertWithinBudget("scribe.safe", i -> {
+			builder.setLength(0);
+			write(scribe.reset(), i);
+		});
+	}
+	
+	@Test
+	public void testUtf8Scribe() throws IOException {
+		final Utf8JsonAppender appender = new Utf8JsonAppender(NULL_STREAM, new JsonEscaper());
+		final JsonScribe scribe = new FastJsonScribe(appender);
+		assertWithinBudget("scribe.utf8", i -> {
+			write(scribe.reset(), i);
+			appender.flush();
+		});
+	}
+	
+	@Test
+	public void testNumbers() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		assertWithinBudget("scribe.numbers", i -> {
+			builder.setLength(0);
+			scribe.reset().pushArray();
+			for (int j = 0; j < 16; j++) {
+				scribe.value(i * j).value(i * 31L * j).value(i * 0.1f * j).value(i / 7.0 * j);
+			}
+			scribe.pop();
+		});
+	}
+	
+	@Test
+	public void testBigNumbers() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper(),
+				JsonDecimalFormat.SHORTEST.withNotation(JsonDecimalFormat.Notation.PLAIN)));
+		final BigDecimal[] amounts = new BigDecimal[64];
+		final BigInteger[] counts = new BigInteger[64];
+		for (int j = 0; j < 64; j++) {
+			amounts[j] = BigDecimal.valueOf(j * 123457L - 4000000L, j % 5);
+			counts[j] = BigInteger.valueOf(j * 1234567890123L);
+		}
+		assertWithinBudget("scribe.big", i -> {
+			builder.setLength(0);
+			scribe.reset().pushArray();
+			for (int j = 0; j < 64; j++) {
+				scribe.value(amounts[j]).value(counts[j]);
+			}
+			scribe.pop();
+		});
+	}
+	
+	@Test
+	public void testTemporalsAndUuids() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		final Instant[] instants = new Instant[16];
+		final OffsetDateTime[] times = new OffsetDateTime[16];
+		final LocalDate[] dates = new LocalDate[16];
+		final UUID[] ids = new UUID[16];
+		for (int j = 0; j < 16; j++) {
+			instants[j] = Instant.ofEpochSecond(1541300000L + j * 3000L, j * 1000000);
+			times[j] = instants[j].atOffset(ZoneOffset.ofHours(j - 8));
+			dates[j] = LocalDate.ofEpochDay(17000 + j);
+			ids[j] = new UUID(j * 0x123456789abcdefL, ~j);
+		}
+		assertWithinBudget("scribe.time", i -> {
+			builder.setLength(0);
+			scribe.reset().pushArray();
+			for (int j = 0; j < 16; j++) {
+				scribe.value(instants[j]).value(times[j]).value(dates[j]).value(ids[j])
+						.timestampValue(1541300000000L + i * 1000L + j).value(TimeUnit.SECONDS);
+			}
+			scribe.pop();
+		});
+	}
+	
+	@Test
+	public void testBinary() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		final byte[] bytes = new byte[1000];
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final ByteArrayInputStream stream = new ByteArrayInputStream(bytes);
+		assertWithinBudget("scribe.binary", i -> {
+			builder.setLength(0);
+			bytes[i % bytes.length] = (byte) i;
+			stream.reset();
+			scribe.reset().pushArray().base64Value(bytes, 0, bytes.length).hexValue(buffer).base64Value(stream).pop();
+		});
+	}
+	
+	@Test
+	public void testRaw() throws IOException {
+		final Utf8JsonAppender appender = new Utf8JsonAppender(NULL_STREAM, new JsonEscaper());
+		final JsonScribe scribe = new FastJsonScribe(appender);
+		final String string = "{\"a\":[1,2,3],\"b\":\"caf\u00e9\"}";
+		final char[] chars = string.toCharArray();
+		final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe decoding = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		assertWithinBudget("scribe.raw", i -> {
+			scribe.reset().pushArray().rawValue(string).rawValue(chars, 0, chars.length)
+					.rawValue(bytes, 0, bytes.length).rawValue(direct).pop();
+			appender.flush();
+			builder.setLength(0);
+			decoding.reset().pushArray().rawValue(bytes, 0, bytes.length).rawValue(direct).pop();
+		});
+	}
+	
+	@Test
+	public void testBulkNumbers() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		final int[] ints = new int[64];
+		final double[] doubles = new double[64];
+		assertWithinBudget("scribe.bulk", i -> {
+			builder.setLength(0);
+			for (int j = 0; j < 64; j++) {
+				ints[j] = i * j;
+				doubles[j] = i / 7.0 * j;
+			}
+			scribe.reset().pushArray().values(ints, 0, 64).values(doubles, 0, 64).pop();
+		});
+	}
+	
+	@Test
+	public void testDecimalFormat() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper(), JsonDecimalFormat.fixed(6)));
+		final double[] doubles = new double[64];
+		assertWithinBudget("scribe.decimal", i -> {
+			builder.setLength(0);
+			for (int j = 0; j < 64; j++) {
+				doubles[j] = i / 7.0 * j;
+			}
+			scribe.reset().pushArray().value(i * 0.1f).value(i / 3.0).values(doubles, 0, 64).pop();
+		});
+	}
+	
+	@Test
+	public void testTemplate() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		final JsonTemplate.Binder binder = RECORD.binder(scribe);
+		assertWithinBudget("scribe.template", i -> {
+			builder.setLength(0);
+			scribe.reset();
+			binder.start().value(i).value(NAME).value(true).value(i * 0.25).value(1541300000000L + i).value(NOTE).end();
+		});
+	}
+	
+	@Test
+	public void testTable() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		final JsonTable table = new JsonTable();
+		final long[] ts = new long[16];
+		final double[] values = new double[16];
+		final String[] hosts = new String[16];
+		for (int j = 0; j < 16; j++) {
+			hosts[j] = TAGS[j % TAGS.length];
+		}
+		assertWithinBudget("scribe.table", i -> {
+			builder.setLength(0);
+			for (int j = 0; j < 16; j++) {
+				ts[j] = 1541300000000L + i * 16 + j;
+				values[j] = i / 7.0 * j;
+			}
+			table.clear().withColumn(TS, ts).withColumn(VALUE, values).withColumn(HOST, hosts);
+			table.writeObjects(scribe.reset());
+		});
+	}
+	
+	@Test
+	public void testPooledAppendable() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final StringBuilder builder = new StringBuilder();
+		assertWithinBudget("pool.appendable", i -> {
+			builder.setLength(0);
+			try (final JsonArrayDocument document = pool.array(builder)) {
+				write(document.object(), i).then();
+			}
+		});
+	}
+	
+	@Test
+	public void testPooledStream() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		assertWithinBudget("pool.stream", i -> {
+			try (final JsonArrayDocument document = pool.array(NULL_STREAM)) {
+				write(document.object(), i).then();
+			}
+		});
+	}
+	
+	@Test
+	public void testAppendable() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		assertWithinBudget("json.appendable", i -> {
+			builder.setLength(0);
+			try (final JsonArrayDocument document = Json.array(builder)) {
+				write(document.object(), i).then();
+			}
+		});
+	}
+	
+	@Test
+	public void testStream() throws IOException {
+		assertWithinBudget("json.stream", i -> {
+			try (final JsonArrayDocument document = Json.array(NULL_STREAM)) {
+				write(document.object(), i).then();
+			}
+		});
+	}
+	
+	private static void assertWithinBudget(final String scenario, final Scenario documents) throws IOException {
+		final String limit = budget.getProperty(scenario);
+		Assert.assertNotNull("No allocation budget for " + scenario, limit);
+		for (int i = 0; i < WARMUP_DOCUMENTS; i++) {
+			documents.write(i);
+		}
+		final long thread = Thread.currentThread().getId();
+		final long before = threads.getThreadAllocatedBytes(thread);
+		for (int i = 0; i < MEASURED_DOCUMENTS; i++) {
+			documents.write(i);
+		}
+		final long perDocument = (threads.getThreadAllocatedBytes(thread) - before) / MEASURED_DOCUMENTS;
+		if (perDocument > Long.parseLong(limit.trim())) {
+			Assert.fail(scenario + " allocated " + perDocument + " bytes per document, over its budget of " + limit);
+		}
+	}
+	
+	private static void write(final JsonScribe scribe, final int id) throws IOException {
+		scribe.pushObject()
+				.key("id").value(id)
+				.key("name").value(NAME)
+				.key("active").value(true)
+				.key("score").value(id * 0.25)
+				.key("created").value(1541300000000L + id)
+				.key("note").value(NOTE)
+				.key("tags").pushArray();
+		for (final String tag : TAGS) {
+			scribe.value(tag);
+		}
+		scribe.pop()
+				.key("address").pushObject()
+						.key("street").value("12 Analytical Way")
+						.key("zip").value(12345)
+				.pop()
+		.pop();
+	}
+	
+	private static <O extends JsonObject<O>> O write(final O object, final int id) throws IOException {
+		return object
+				.with("id", id)
+				.with("name", NAME)
+				.with("active", true)
+				.with("score", id * 0.25)
+				.with("created", 1541300000000L + id)
+				.with("note", NOTE)
+				.key("tags").array().with(TAGS[0]).with(TAGS[1]).with(TAGS[2]).with(TAGS[3]).then()
+				.key("address").object()
+						.with("street", "12 Analytical Way")
+						.with("zip", 12345)
+				.then();
+	}
+	
+	private interface Scenario {
+		
+		void write(int i) throws IOException;
+		
+	}
+	
+}
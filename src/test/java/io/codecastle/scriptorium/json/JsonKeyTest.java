@@ -4,9 +4,21 @@
  */
 package io.codecastle.scriptorium.json;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
 import org.junit.Assert;
 import org.junit.Test;
@@ -257,6 +269,152 @@ public class JsonKeyTest extends AbstractJsonAppendableTest<JsonKey<Object>> {
 		Mockito.verifyNoMoreInteractions(scribe);
 	}
 	
+	@Test
+	public void testThenTemporalsUuidAndEnum() throws IOException {
+		final Instant instant = Instant.ofEpochSecond(1541293323L);
+		final OffsetDateTime dateTime = OffsetDateTime.ofInstant(instant, ZoneOffset.ofHours(-5));
+		final LocalDate date = LocalDate.of(2018, 11, 4);
+		final UUID uuid = new UUID(1, 2);
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		Assert.assertEquals(PARENT, key.then(instant));
+		Assert.assertEquals(PARENT, key.then(dateTime));
+		Assert.assertEquals(PARENT, key.then(date));
+		Assert.assertEquals(PARENT, key.then(uuid));
+		Assert.assertEquals(PARENT, key.then(TimeUnit.DAYS));
+		Assert.assertEquals(PARENT, key.thenTimestamp(1541293323000L));
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(instant);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(dateTime);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(date);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(uuid);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(TimeUnit.DAYS);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).timestampValue(1541293323000L);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testThenNullTemporalsUuidAndEnum() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		key.then((Instant) null);
+		key.then((OffsetDateTime) null);
+		key.then((LocalDate) null);
+		key.then((UUID) null);
+		key.then((Enum<?>) null);
+		Mockito.verify(scribe, Mockito.times(5)).pop();
+		Mockito.verify(scribe, Mockito.times(5)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testThenReaderAndInputStream() throws IOException {
+		final Reader reader = new StringReader("text");
+		final InputStream stream = new ByteArrayInputStream(new byte[] {'t'});
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		Assert.assertEquals(PARENT, key.then(reader));
+		Assert.assertEquals(PARENT, key.then(stream, StandardCharsets.UTF_8));
+		Assert.assertEquals(PARENT, key.then((Reader) null));
+		Assert.assertEquals(PARENT, key.then((InputStream) null, StandardCharsets.UTF_8));
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(reader);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).value(stream, StandardCharsets.UTF_8);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).nullValue();
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testThenBase64AndHex() throws IOException {
+		final byte[] bytes = new byte[] {1, 2, 3};
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final InputStream stream = new ByteArrayInputStream(bytes);
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		Assert.assertEquals(PARENT, key.thenBase64(bytes));
+		Assert.assertEquals(PARENT, key.thenBase64(buffer));
+		Assert.assertEquals(PARENT, key.thenBase64(stream));
+		Assert.assertEquals(PARENT, key.thenHex(bytes));
+		Assert.assertEquals(PARENT, key.thenHex(buffer));
+		Assert.assertEquals(PARENT, key.thenHex(stream));
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).base64Value(bytes, 0, 3);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).base64Value(buffer);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).base64Value(stream);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).hexValue(bytes, 0, 3);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).hexValue(buffer);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).hexValue(stream);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testThenNullBase64AndHex() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		key.thenBase64((byte[]) null);
+		key.thenBase64((ByteBuffer) null);
+		key.thenBase64((InputStream) null);
+		key.thenHex((byte[]) null);
+		key.thenHex((ByteBuffer) null);
+		key.thenHex((InputStream) null);
+		Mockito.verify(scribe, Mockito.times(6)).pop();
+		Mockito.verify(scribe, Mockito.times(6)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testThenRaw() throws IOException {
+		final char[] chars = "[1]".toCharArray();
+		final byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		Assert.assertEquals(PARENT, key.thenRaw("true"));
+		Assert.assertEquals(PARENT, key.thenRaw(chars));
+		Assert.assertEquals(PARENT, key.thenRaw(bytes));
+		Assert.assertEquals(PARENT, key.thenRaw(buffer));
+		final InOrder inOrder = Mockito.inOrder(scribe);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).rawValue("true");
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).rawValue(chars, 0, 3);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).rawValue(bytes, 0, 2);
+		inOrder.verify(scribe).pop();
+		inOrder.verify(scribe).rawValue(buffer);
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
+	@Test
+	public void testThenNullRaw() throws IOException {
+		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
+		final JsonKey<Object> key = getJsonAppendable(scribe);
+		key.thenRaw((CharSequence) null);
+		key.thenRaw((char[]) null);
+		key.thenRaw((byte[]) null);
+		key.thenRaw((ByteBuffer) null);
+		Mockito.verify(scribe, Mockito.times(4)).pop();
+		Mockito.verify(scribe, Mockito.times(4)).nullValue();
+		Mockito.verifyNoMoreInteractions(scribe);
+	}
+	
 	@Test
 	public void testThenNullBigDecimal() throws IOException {
 		final JsonScribe scribe = Mockito.mock(JsonScribe.class, Mockito.RETURNS_SELF);
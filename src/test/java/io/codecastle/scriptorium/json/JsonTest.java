@@ -4,7 +4,12 @@
  */
 package io.codecastle.scriptorium.json;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import io.codecastle.scriptorium.json.scribe.JsonScribe;
 import io.codecastle.scriptorium.json.scribe.MockJsonScribe;
 import org.junit.Assert;
@@ -34,6 +39,35 @@ public class JsonTest {
 		Json.object((Appendable) null);
 	}
 	
+	@Test
+	public void testObjectWithOutputStream() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final JsonObjectDocument document = Json.object(stream);
+		document
+				.with("key1", "value1")
+				.with("key2", "\u00e9\u20ac")
+				.with("key3", 3);
+		Assert.assertEquals(0, stream.size());
+		document.close();
+		Assert.assertEquals("{\"key1\":\"value1\",\"key2\":\"\u00e9\u20ac\",\"key3\":3}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+		final int size = stream.size();
+		document.close();
+		Assert.assertEquals(size, stream.size());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testObjectWithNullOutputStream() throws IOException {
+		Json.object((OutputStream) null);
+	}
+	
+	@Test
+	public void testObjectWithPrintStream() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final PrintStream printStream = new PrintStream(stream, true, "UTF-8");
+		Json.object(printStream).with("key1", "value1").close();
+		Assert.assertEquals("{\"key1\":\"value1\"}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
 	@Test
 	public void testObjectWithScribe() throws IOException {
 		final JsonScribe scribe = Mockito.spy(new MockJsonScribe());
@@ -67,6 +101,32 @@ public class JsonTest {
 		Json.array((Appendable) null);
 	}
 	
+	@Test
+	public void testArrayWithOutputStream() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final JsonArrayDocument document = Json.array(stream);
+		document
+				.with("element1")
+				.with("\u00e9\u20ac")
+				.with(3);
+		Assert.assertEquals(0, stream.size());
+		document.close();
+		Assert.assertEquals("[\"element1\",\"\u00e9\u20ac\",3]", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testArrayWithNullOutputStream() throws IOException {
+		Json.array((OutputStream) null);
+	}
+	
+	@Test
+	public void testArrayWithPrintStream() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final PrintStream printStream = new PrintStream(stream, true, "UTF-8");
+		Json.array(printStream).with("element1").close();
+		Assert.assertEquals("[\"element1\"]", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
 	@Test
 	public void testArrayWithScribe() throws IOException {
 		final JsonScribe scribe = Mockito.spy(new MockJsonScribe());
@@ -83,4 +143,16 @@ public class JsonTest {
 		Json.array((JsonScribe) null);
 	}
 	
+	@Test
+	public void testGeneratedWriterForPackagePrivateClass() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		Json.array(builder).withAll(Collections.singletonList(new Bean())).close();
+		Assert.assertEquals("[{\"bean\":true}]", builder.toString());
+	}
+	
+	@JsonWritable
+	static class Bean {
+		
+	}
+	
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json;
+
+import java.io.IOException;
+import io.codecastle.scriptorium.json.scribe.JsonName;
+import io.codecastle.scriptorium.json.scribe.JsonScribe;
+import io.codecastle.scriptorium.json.scribe.JsonValueWriter;
+
+/**
+ * Stands in for the writer the annotation processor would generate for
+ * {@link JsonTest.Bean}, which, like the class it writes, is not public.
+ *
+ * @author Doug Valenta
+ */
+final class JsonTest_BeanJsonWriter implements JsonValueWriter<JsonTest.Bean> {
+	
+	public static final JsonTest_BeanJsonWriter INSTANCE = new JsonTest_BeanJsonWriter();
+	
+	private static final JsonName BEAN = new JsonName("bean");
+	
+	private JsonTest_BeanJsonWriter() {
+	}
+	
+	@Override
+	public void write(final JsonScribe scribe, final JsonTest.Bean value) throws IOException {
+		scribe.pushObject().key(BEAN).value(true).pop();
+	}
+	
+}
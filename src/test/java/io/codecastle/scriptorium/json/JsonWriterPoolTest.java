@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonWriterPoolTest {
+	
+	@Test
+	public void testObject() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final StringBuilder builder = new StringBuilder();
+		pool.object(builder).with("key1", "value1").key("key2").array().with(1).then().close();
+		Assert.assertEquals("{\"key1\":\"value1\",\"key2\":[1]}", builder.toString());
+	}
+	
+	@Test
+	public void testArray() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final StringBuilder builder = new StringBuilder();
+		pool.array(builder).with(1).object().with("key", true).then().close();
+		Assert.assertEquals("[1,{\"key\":true}]", builder.toString());
+	}
+	
+	@Test
+	public void testReusesClosedDocuments() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final StringBuilder first = new StringBuilder();
+		final JsonObjectDocument document = pool.object(first).with("key", 1);
+		document.close();
+		final StringBuilder second = new StringBuilder();
+		final JsonObjectDocument reused = pool.object(second).with("other", 2);
+		Assert.assertSame(document, reused);
+		reused.close();
+		Assert.assertEquals("{\"key\":1}", first.toString());
+		Assert.assertEquals("{\"other\":2}", second.toString());
+		final StringBuilder third = new StringBuilder();
+		pool.array(third).with(3).close();
+		Assert.assertEquals("[3]", third.toString());
+	}
+	
+	@Test
+	public void testDoesNotReuseOpenDocuments() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final StringBuilder first = new StringBuilder();
+		final StringBuilder second = new StringBuilder();
+		final JsonObjectDocument outer = pool.object(first);
+		final JsonObjectDocument inner = pool.object(second);
+		Assert.assertNotSame(outer, inner);
+		inner.with("inner", true).close();
+		outer.with("outer", true).close();
+		Assert.assertEquals("{\"outer\":true}", first.toString());
+		Assert.assertEquals("{\"inner\":true}", second.toString());
+	}
+	
+	@Test
+	public void testDocumentLeftOpenIsDiscarded() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final JsonArrayDocument abandoned = pool.array(new StringBuilder()).with(1);
+		final StringBuilder builder = new StringBuilder();
+		final JsonArrayDocument document = pool.array(builder);
+		Assert.assertNotSame(abandoned, document);
+		document.with(2).close();
+		Assert.assertEquals("[2]", builder.toString());
+	}
+	
+	@Test
+	public void testOutputStream() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool(1, 64);
+		for (int i = 0; i < 3; i++) {
+			final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			final JsonObjectDocument document = pool.object(stream).with("é", i);
+			Assert.assertEquals(0, stream.size());
+			document.close();
+			Assert.assertEquals("{\"é\":" + i + "}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+		}
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		pool.array(stream).with("a").close();
+		Assert.assertEquals("[\"a\"]", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testCloseReturnsDocumentWhenFlushFails() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final OutputStream failing = new OutputStream() {
+			@Override
+			public void write(final int b) throws IOException {
+				throw new IOException();
+			}
+		};
+		final JsonObjectDocument document = pool.object(failing);
+		try {
+			document.close();
+			Assert.fail();
+		} catch (final IOException e) {
+			// expected
+		}
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final JsonObjectDocument reused = pool.object(stream);
+		Assert.assertSame(document, reused);
+		reused.close();
+		Assert.assertEquals("{}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+	@Test
+	public void testReusesNodesOfClosedDocuments() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool(1, 8192);
+		final StringBuilder first = new StringBuilder();
+		final JsonArrayDocument document = pool.array(first);
+		final JsonObjectNode<JsonArrayDocument> object = document.object();
+		final JsonArrayNode<JsonArrayDocument> array = object.then().array();
+		array.then().close();
+		final StringBuilder second = new StringBuilder();
+		final JsonArrayDocument reused = pool.array(second);
+		Assert.assertSame(document, reused);
+		Assert.assertSame(object, reused.object());
+		Assert.assertSame(array, object.then().array());
+		reused.close();
+		Assert.assertEquals("[{},[]]", first.toString());
+		Assert.assertEquals("[{},[]]", second.toString());
+	}
+	
+	@Test
+	public void testReleasesDestination() throws IOException {
+		final JsonWriterPool pool = new JsonWriterPool();
+		final WeakReference<StringBuilder> builder = closeObject(pool, new StringBuilder());
+		final WeakReference<ByteArrayOutputStream> stream = closeObject(pool, new ByteArrayOutputStream());
+		for (int i = 0; i < 100 && (builder.get() != null || stream.get() != null); i++) {
+			System.gc();
+		}
+		Assert.assertNull(builder.get());
+		Assert.assertNull(stream.get());
+		final StringBuilder reused = new StringBuilder();
+		pool.object(reused).close();
+		Assert.assertEquals("{}", reused.toString());
+	}
+	
+	private static <T extends Appendable> WeakReference<T> closeObject(final JsonWriterPool pool, final T appendable) throws IOException {
+		pool.object(appendable).with("key", "value").close();
+		return new WeakReference<>(appendable);
+	}
+	
+	private static <T extends OutputStream> WeakReference<T> closeObject(final JsonWriterPool pool, final T stream) throws IOException {
+		pool.object(stream).with("key", "value").close();
+		return new WeakReference<>(stream);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testObjectWithNullAppendable() throws IOException {
+		new JsonWriterPool().object((Appendable) null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testArrayWithNullStream() throws IOException {
+		new JsonWriterPool().array((OutputStream) null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidCapacity() {
+		new JsonWriterPool(0, 8192);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidBufferSize() {
+		new JsonWriterPool(1, 63);
+	}
+	
+}
@@ -4,9 +4,21 @@
  */
 package io.codecastle.scriptorium.json.scribe;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import io.codecastle.scriptorium.FluentNode;
 import org.junit.Assert;
 import org.junit.Test;
@@ -132,6 +144,126 @@ public abstract class AbstractJsonScribeTest {
 		Mockito.verifyNoMoreInteractions(appender);
 	}
 	
+	@Test
+	public void testPushArrayAndTemporalsAndPop() throws IOException {
+		final Instant instant = Instant.ofEpochSecond(1541293323L);
+		final OffsetDateTime dateTime = OffsetDateTime.ofInstant(instant, ZoneOffset.ofHours(-5));
+		final LocalDate date = LocalDate.of(2018, 11, 4);
+		final UUID uuid = new UUID(1, 2);
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		JsonScribe result = scribe.pushArray().value(instant).value(dateTime).timestampValue(1541293323000L)
+				.value(date).value(uuid).value((Object) instant).value((Object) uuid).pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendTimestamp(instant);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendTimestamp(dateTime);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendTimestamp(1541293323000L);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendDate(date);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendUuid(uuid);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendTimestamp(instant);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendUuid(uuid);
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testPushObjectAndEnumsAndPop() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		final JsonName name1 = new JsonName("key1");
+		final JsonName name2 = new JsonName("key2");
+		JsonScribe result = scribe.pushObject().key(name1).value(TimeUnit.DAYS).key(name2).value((Object) TimeUnit.HOURS).pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBrace();
+		inOrder.verify(appender).appendName(name1, false);
+		inOrder.verify(appender).appendConstant(JsonConstant.of(TimeUnit.DAYS), false);
+		inOrder.verify(appender).appendName(name2, true);
+		inOrder.verify(appender).appendConstant(JsonConstant.of(TimeUnit.HOURS), false);
+		inOrder.verify(appender).appendCloseBrace();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testPushArrayAndTextAndPop() throws IOException {
+		final Reader reader = new StringReader("text");
+		final InputStream stream = new ByteArrayInputStream(new byte[] {'t'});
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		JsonScribe result = scribe.pushArray().value(reader).value(stream, StandardCharsets.UTF_8).pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendQuote();
+		inOrder.verify(appender).escape(reader);
+		inOrder.verify(appender).appendQuote();
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendQuote();
+		inOrder.verify(appender).escape(stream, StandardCharsets.UTF_8);
+		inOrder.verify(appender).appendQuote();
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testPushArrayAndBinaryAndPop() throws IOException {
+		final byte[] bytes = new byte[] {1, 2, 3};
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final InputStream stream = new ByteArrayInputStream(bytes);
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		JsonScribe result = scribe.pushArray().base64Value(bytes, 0, 2).base64Value(buffer).base64Value(stream)
+				.hexValue(bytes, 1, 3).hexValue(buffer).hexValue(stream).pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendBase64(bytes, 0, 2);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendBase64(buffer);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendBase64(stream);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendHex(bytes, 1, 3);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendHex(buffer);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendHex(stream);
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testPushArrayAndRawValuesAndPop() throws IOException {
+		final String string = "{\"a\":[1,2]}";
+		final char[] chars = "[true]".toCharArray();
+		final byte[] bytes = "\"\u00e9\"".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		JsonScribe result = scribe.pushArray().rawValue(string).rawValue(chars, 0, 6).rawValue(bytes, 0, 4)
+				.rawValue(buffer).pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendRaw(string, 0, string.length());
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendRaw(chars, 0, 6);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendRaw(bytes, 0, 4);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendRaw(buffer);
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
 	@Test
 	public void testPushArrayAndIntsAndPop() throws IOException {
 		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
@@ -149,6 +281,35 @@ public abstract class AbstractJsonScribeTest {
 		Mockito.verifyNoMoreInteractions(appender);
 	}
 	
+	@Test
+	public void testPushArrayAndBulkValuesAndPop() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		final int[] ints = new int[] {1, 2, 3};
+		final long[] longs = new long[] {4L};
+		final float[] floats = new float[] {5f};
+		final double[] doubles = new double[] {6.0, 7.0};
+		final boolean[] booleans = new boolean[] {true, false};
+		JsonScribe result = scribe.pushArray().values(ints, 0, 3).values(longs, 0, 0).values(longs, 0, 1)
+				.values(floats, 0, 1).value(8).values(doubles, 1, 2).values(booleans, 0, 2).pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendNumbers(ints, 0, 3);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendNumbers(longs, 0, 1);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendNumbers(floats, 0, 1);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendNumber(8);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendNumbers(doubles, 1, 2);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendBooleans(booleans, 0, 2);
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
 	@Test
 	public void testPushArrayAndLongsAndPop() throws IOException {
 		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
@@ -473,6 +634,39 @@ public abstract class AbstractJsonScribeTest {
 		Mockito.verifyNoMoreInteractions(appender);
 	}
 	
+	@Test
+	public void testPushObjectAndNamesAndConstantsAndPop() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender);
+		final JsonName name1 = new JsonName("key1");
+		final JsonName name2 = new JsonName("key2");
+		final JsonConstant constant = new JsonConstant("value");
+		JsonScribe result = scribe.pushObject()
+				.key(name1)
+				.value(constant)
+				.key((CharSequence) name2)
+				.value((CharSequence) constant)
+				.key("key3")
+				.pushArray().value(constant).pop()
+				.pop();
+		Assert.assertEquals(scribe, result);
+		InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBrace();
+		inOrder.verify(appender).appendName(name1, false);
+		inOrder.verify(appender).appendConstant(constant, false);
+		inOrder.verify(appender).appendName(name2, true);
+		inOrder.verify(appender).appendConstant(constant, false);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendQuote();
+		inOrder.verify(appender).escape("key3");
+		inOrder.verify(appender).appendCloseKey();
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendConstant(constant, false);
+		inOrder.verify(appender).appendCloseBracket();
+		inOrder.verify(appender).appendCloseBrace();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
 	@Test
 	public void testPushObjectAndPushKeysAndValuesAndPop() throws IOException {
 		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
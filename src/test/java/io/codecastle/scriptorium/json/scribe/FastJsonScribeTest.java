@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.util.NoSuchElementException;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 /**
@@ -59,4 +60,60 @@ public class FastJsonScribeTest extends AbstractJsonScribeTest {
 		getScribe(appender).pop();
 	}
 	
+	@Test
+	public void testGrowsPastInitialDepth() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = new FastJsonScribe(appender, 1);
+		for (int i = 0; i < 40; i++) {
+			scribe.pushArray();
+		}
+		Assert.assertEquals(40, scribe.getCursor());
+		scribe.pop(0);
+		Assert.assertEquals(0, scribe.getCursor());
+		Mockito.verify(appender, Mockito.times(40)).appendOpenBracket();
+		Mockito.verify(appender, Mockito.times(40)).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidDepth() {
+		new FastJsonScribe(Mockito.mock(JsonAppender.class), 0);
+	}
+	
+	@Test
+	public void testReset() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender).pushArray().pushArray().nullValue();
+		final JsonScribe result = scribe.reset();
+		Assert.assertEquals(scribe, result);
+		Assert.assertEquals(0, scribe.getCursor());
+		scribe.pushObject().pop();
+		final InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender, Mockito.times(2)).appendOpenBracket();
+		inOrder.verify(appender).appendNull();
+		inOrder.verify(appender).appendOpenBrace();
+		inOrder.verify(appender).appendCloseBrace();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testPushArrayAndConstantsAndPop() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonConstant constant = new JsonConstant("value");
+		getScribe(appender).pushArray().value(constant).value(constant).pop();
+		final InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendConstant(constant, false);
+		inOrder.verify(appender).appendConstant(constant, true);
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testRawValueIsNotChecked() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		getScribe(new JsonAppender(builder, new JsonEscaper())).pushArray().rawValue("[1,").rawValue("2]").pop();
+		Assert.assertEquals("[[1,,2]]", builder.toString());
+	}
+	
 }
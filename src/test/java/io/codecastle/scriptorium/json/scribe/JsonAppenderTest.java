@@ -4,9 +4,24 @@
  */
 package io.codecastle.scriptorium.json.scribe;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.UUID;
 import io.codecastle.scriptorium.scribe.Escaper;
 import org.junit.Assert;
 import org.junit.Test;
@@ -195,6 +210,42 @@ public class JsonAppenderTest {
 		Mockito.verifyZeroInteractions(escaper);
 	}
 	
+	@Test
+	public void testAppendNumberWithLargeBigIntegers() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final BigInteger[] values = {
+			BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+			BigInteger.ONE.shiftLeft(JsonAppender.STREAMED_BIG_INTEGER_BITS - 1),
+			BigInteger.ONE.shiftLeft(JsonAppender.STREAMED_BIG_INTEGER_BITS).subtract(BigInteger.ONE).negate(),
+			BigInteger.TEN.pow(5000), BigInteger.TEN.pow(5000).subtract(BigInteger.ONE),
+			BigInteger.TEN.pow(JsonNumbers.CHUNK_DIGITS * 256).add(BigInteger.valueOf(7)),
+			new BigInteger(100000, new java.util.Random(12345)).negate()
+		};
+		for (final BigInteger value : values) {
+			builder.setLength(0);
+			appender.appendNumber(value);
+			Assert.assertEquals(value.toString(), builder.toString());
+		}
+	}
+	
+	@Test
+	public void testAppendNumberWithBigDecimalNotations() throws IOException {
+		final String[] values = {"1.50", "-0.000000120", "1.5E+3", "0E-9", "0E+2", "123456789012345678E-40",
+			"1234567890123456789.5", "-1E+200", "1E-200"};
+		for (final JsonDecimalFormat.Notation notation : JsonDecimalFormat.Notation.values()) {
+			final StringBuilder builder = new StringBuilder();
+			final JsonDecimalFormat format = JsonDecimalFormat.SHORTEST.withNotation(notation);
+			final JsonAppender appender = new JsonAppender(builder, new JsonEscaper(), format);
+			final StringBuilder expected = new StringBuilder();
+			for (final String value : values) {
+				appender.appendComma(builder.length() > 0).appendNumber(new BigDecimal(value));
+				expected.append(expected.length() > 0 ? "," : "").append(format.toString(new BigDecimal(value)));
+			}
+			Assert.assertEquals(expected.toString(), builder.toString());
+		}
+	}
+	
 	@Test
 	public void testAppendNumberWithInt() throws IOException {
 		final StringBuilder builder = new StringBuilder();
@@ -217,6 +268,137 @@ public class JsonAppenderTest {
 		Mockito.verifyZeroInteractions(escaper);
 	}
 	
+	@Test
+	public void testAppendNumberWithExtremes() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final Escaper escaper = Mockito.mock(Escaper.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(builder, escaper);
+		appender.appendNumber(Integer.MIN_VALUE).appendComma().appendNumber(Integer.MAX_VALUE).appendComma()
+				.appendNumber(Long.MIN_VALUE).appendComma().appendNumber(Long.MAX_VALUE).appendComma()
+				.appendNumber(0).appendComma().appendNumber(-7L);
+		Assert.assertEquals("-2147483648,2147483647,-9223372036854775808,9223372036854775807,0,-7", builder.toString());
+		Mockito.verifyZeroInteractions(escaper);
+	}
+	
+	@Test
+	public void testAppendNumbers() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonAppender result = appender.appendNumbers(new int[] {9, Integer.MIN_VALUE, 0, 12}, 1, 4).appendComma()
+				.appendNumbers(new long[] {Long.MIN_VALUE, 7L}, 0, 2).appendComma()
+				.appendNumbers(new float[] {0.1f, Float.NaN}, 0, 2).appendComma()
+				.appendNumbers(new double[] {1.0E-10, Double.NEGATIVE_INFINITY, -0.0}, 0, 3).appendComma()
+				.appendBooleans(new boolean[] {true, false}, 0, 2).appendNumbers(new int[0], 0, 0);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("-2147483648,0,12,-9223372036854775808,7,0.1,null,1.0E-10,null,-0.0,true,false",
+				builder.toString());
+	}
+	
+	@Test
+	public void testAppendNumberWithDecimalFormat() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper(), JsonDecimalFormat.fixed(6));
+		Assert.assertSame(JsonDecimalFormat.SHORTEST, new JsonAppender(builder, new JsonEscaper()).getDecimalFormat());
+		Assert.assertEquals(6, appender.getDecimalFormat().getDecimals());
+		appender.appendNumber(37.7749295).appendComma().appendNumber(-122.4194155f).appendComma()
+				.appendNumber(1.0E-9).appendComma().appendNumber(Double.NaN).appendComma()
+				.appendNumbers(new double[] {0.1 + 0.2, 5.0, Double.POSITIVE_INFINITY}, 0, 3).appendComma()
+				.appendNumbers(new float[] {1.25f, 2.0E-7f}, 0, 2);
+		Assert.assertEquals("37.77493,-122.41942,0,NaN,0.3,5,null,1.25,0", builder.toString());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNullDecimalFormat() {
+		new JsonAppender(new StringBuilder(), new JsonEscaper(), null);
+	}
+
+	@Test
+	public void testAppendNumbersPastScratch() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final StringBuilder expected = new StringBuilder();
+		final JsonAppender single = new JsonAppender(expected, new JsonEscaper());
+		final long[] longs = new long[100];
+		final double[] doubles = new double[100];
+		final boolean[] booleans = new boolean[100];
+		for (int i = 0; i < 100; i++) {
+			longs[i] = Long.MIN_VALUE + i;
+			doubles[i] = -Double.MIN_NORMAL * i;
+			booleans[i] = i % 3 == 0;
+		}
+		for (int i = 0; i < 100; i++) {
+			single.appendComma(i > 0).appendNumber(longs[i]);
+		}
+		for (int i = 0; i < 100; i++) {
+			single.appendComma().appendNumber(doubles[i]);
+		}
+		for (int i = 0; i < 100; i++) {
+			single.appendComma().appendBoolean(booleans[i]);
+		}
+		appender.appendNumbers(longs, 0, 100).appendComma().appendNumbers(doubles, 0, 100).appendComma()
+				.appendBooleans(booleans, 0, 100);
+		Assert.assertEquals(expected.toString(), builder.toString());
+	}
+	
+	@Test
+	public void testAppendNumbersToWriter() throws IOException {
+		final Writer writer = Mockito.mock(Writer.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(writer, new JsonEscaper());
+		appender.appendNumbers(new int[] {1, 23, 456}, 0, 3);
+		Mockito.verify(writer).write(Mockito.any(char[].class), Mockito.eq(0), Mockito.eq(8));
+		Mockito.verifyNoMoreInteractions(writer);
+	}
+	
+	@Test
+	public void testAppendNumberToWriter() throws IOException {
+		final Writer writer = Mockito.mock(Writer.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(writer, new JsonEscaper());
+		appender.appendNumber(-12345L);
+		Mockito.verify(writer).write(Mockito.any(char[].class), Mockito.anyInt(), Mockito.eq(6));
+		Mockito.verifyNoMoreInteractions(writer);
+	}
+	
+	@Test
+	public void testAppendShortestDoubles() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		appender.appendNumber(2.82879384806159E17).appendComma().appendNumber(1.0E-10f).appendComma()
+				.appendNumber(-0.0).appendComma().appendNumber(Double.NaN);
+		Assert.assertEquals("2.82879384806159E17,1.0E-10,-0.0,NaN", builder.toString());
+	}
+	
+	@Test
+	public void testAppendDoubleToWriter() throws IOException {
+		final Writer writer = Mockito.mock(Writer.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(writer, new JsonEscaper());
+		appender.appendNumber(-1.25E-7);
+		Mockito.verify(writer).write(Mockito.any(char[].class), Mockito.eq(0), Mockito.eq(8));
+		Mockito.verifyNoMoreInteractions(writer);
+	}
+	
+	@Test
+	public void testAppendNumberToAppendable() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final Appendable appendable = new Appendable() {
+			@Override
+			public Appendable append(final CharSequence sequence) {
+				throw new UnsupportedOperationException();
+			}
+			@Override
+			public Appendable append(final CharSequence sequence, final int start, final int end) {
+				builder.append(sequence, start, end);
+				return this;
+			}
+			@Override
+			public Appendable append(final char character) {
+				throw new UnsupportedOperationException();
+			}
+		};
+		final JsonAppender appender = new JsonAppender(appendable, new JsonEscaper());
+		appender.appendNumber(12345).appendNumber(Long.MIN_VALUE);
+		Assert.assertEquals("12345-9223372036854775808", builder.toString());
+	}
+	
 	@Test
 	public void testAppendNumberWithFloat() throws IOException {
 		final StringBuilder builder = new StringBuilder();
@@ -239,6 +421,174 @@ public class JsonAppenderTest {
 		Mockito.verifyZeroInteractions(escaper);
 	}
 	
+	@Test
+	public void testAppendTemporalsAndUuids() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final Escaper escaper = Mockito.mock(Escaper.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(builder, escaper);
+		final UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426655440000");
+		final JsonAppender result = appender.appendTimestamp(Instant.parse("2018-11-04T01:02:03Z")).appendComma()
+				.appendTimestamp(1541293323250L).appendComma()
+				.appendTimestamp(-1L).appendComma()
+				.appendTimestamp(OffsetDateTime.of(2018, 11, 4, 1, 2, 0, 120000, ZoneOffset.ofHoursMinutes(-5, -30)))
+				.appendComma().appendDate(LocalDate.of(2018, 11, 4)).appendComma()
+				.appendUuid(uuid);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("\"2018-11-04T01:02:03Z\",\"2018-11-04T01:02:03.250Z\",\"1969-12-31T23:59:59.999Z\","
+				+ "\"2018-11-04T01:02:00.000120-05:30\",\"2018-11-04\",\"123e4567-e89b-12d3-a456-426655440000\"",
+				builder.toString());
+		Mockito.verifyZeroInteractions(escaper);
+	}
+	
+	@Test
+	public void testAppendTemporalsOutOfRange() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		appender.appendTimestamp(Instant.parse("+10000-01-01T00:00:00Z")).appendComma()
+				.appendTimestamp(Instant.parse("-0001-12-31T23:59:59Z").toEpochMilli()).appendComma()
+				.appendTimestamp(OffsetDateTime.of(-1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)).appendComma()
+				.appendTimestamp(OffsetDateTime.of(12020, 1, 1, 0, 0, 0, 350000000, ZoneOffset.UTC)).appendComma()
+				.appendDate(LocalDate.of(12345, 6, 7)).appendComma()
+				.appendTimestamp(Instant.EPOCH);
+		Assert.assertEquals("\"+10000-01-01T00:00:00Z\",\"-0001-12-31T23:59:59Z\",\"-0001-01-01T00:00:00Z\","
+				+ "\"+12020-01-01T00:00:00.350Z\",\"+12345-06-07\",\"1970-01-01T00:00:00Z\"", builder.toString());
+	}
+	
+	@Test
+	public void testAppendBase64AndHex() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final Escaper escaper = Mockito.mock(Escaper.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(builder, escaper);
+		final byte[] bytes = new byte[] {0, 1, 2, 3, (byte) 0xfb, (byte) 0xff};
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 4).slice();
+		buffer.position(1);
+		final JsonAppender result = appender.appendBase64(bytes, 0, 6).appendComma()
+				.appendBase64(bytes, 1, 5).appendComma()
+				.appendBase64(bytes, 2, 2).appendComma()
+				.appendBase64(buffer).appendComma()
+				.appendBase64(new ByteArrayInputStream(bytes, 4, 2)).appendComma()
+				.appendHex(bytes, 0, 6).appendComma()
+				.appendHex(buffer).appendComma()
+				.appendHex(new ByteArrayInputStream(bytes, 0, 0));
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("\"AAECA/v/\",\"AQID+w==\",\"\",\"AgP7\",\"+/8=\",\"00010203fbff\",\"0203fb\",\"\"",
+				builder.toString());
+		Assert.assertEquals(1, buffer.position());
+		Mockito.verifyZeroInteractions(escaper);
+	}
+	
+	@Test
+	public void testAppendBase64AndHexAcrossChunks() throws IOException {
+		final byte[] bytes = new byte[JsonAppender.BINARY_CHUNK_LENGTH * 3 + 1];
+		new Random(12345).nextBytes(bytes);
+		final String base64 = Base64.getEncoder().encodeToString(bytes);
+		final String hex = JsonBinary.toHexString(bytes, 0, bytes.length);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		appender.appendBase64(direct).appendComma().appendBase64(new ByteArrayInputStream(bytes)).appendComma()
+				.appendHex(direct).appendComma().appendHex(new ByteArrayInputStream(bytes));
+		Assert.assertEquals("\"" + base64 + "\",\"" + base64 + "\",\"" + hex + "\",\"" + hex + "\"", builder.toString());
+		Assert.assertEquals(0, direct.position());
+		builder.setLength(0);
+		final byte[] whole = Arrays.copyOf(bytes, JsonAppender.BINARY_CHUNK_LENGTH * 2);
+		appender.appendBase64(new ByteArrayInputStream(whole));
+		Assert.assertEquals("\"" + Base64.getEncoder().encodeToString(whole) + "\"", builder.toString());
+	}
+	
+	@Test
+	public void testAppendRaw() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final byte[] bytes = "[\"caf\u00e9\",\"\ud83d\ude00\"]".getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, 8).slice();
+		buffer.position(1);
+		final JsonAppender result = appender.appendRaw("x{\"a\":\"\\n\"}x", 1, 11).appendComma()
+				.appendRaw("[1, 2]".toCharArray(), 0, 6).appendComma()
+				.appendRaw(bytes, 0, bytes.length).appendComma()
+				.appendRaw(buffer).appendComma()
+				.appendRaw(new byte[] {'"', (byte) 0xff, '"'}, 0, 3);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("{\"a\":\"\\n\"},[1, 2],[\"caf\u00e9\",\"\ud83d\ude00\"],caf\u00e9\",,\"\ufffd\"",
+				builder.toString());
+		Assert.assertEquals(1, buffer.position());
+	}
+	
+	@Test
+	public void testAppendRawAcrossChunks() throws IOException {
+		final StringBuilder text = new StringBuilder("[");
+		for (int i = 0; i < 1000; i++) {
+			text.append("\"\u00e9\u20ac\ud83d\ude00\",").append(i).append(',');
+		}
+		text.append("null]");
+		final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		final StringWriter writer = new StringWriter();
+		new JsonAppender(writer, new JsonEscaper()).appendRaw(bytes, 0, bytes.length).appendComma().appendRaw(direct);
+		Assert.assertEquals(text + "," + text, writer.toString());
+		Assert.assertEquals(0, direct.position());
+	}
+	
+	@Test
+	public void testEscapeReader() throws IOException {
+		final StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			text.append("line ").append(i).append(":\t\"quoted\" \\ caf\u00e9 \ud83d\ude00\n");
+		}
+		final StringBuilder expected = new StringBuilder();
+		new JsonAppender(expected, new JsonEscaper()).escape(text);
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonAppender result = appender.escape(new StringReader(text.toString()));
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals(expected.toString(), builder.toString());
+		builder.setLength(0);
+		appender.escape(new StringReader(""));
+		Assert.assertEquals("", builder.toString());
+	}
+	
+	@Test
+	public void testEscapeInputStream() throws IOException {
+		final StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			text.append("\u00e9\u20ac\ud83d\ude00\"x").append(i);
+		}
+		final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+		final StringBuilder expected = new StringBuilder();
+		new JsonAppender(expected, new JsonEscaper()).escape(text);
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonAppender result = appender.escape(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals(expected.toString(), builder.toString());
+		// reads that end in the middle of every multi-byte sequence
+		for (final int step : new int[] {1, 2, 3, 5}) {
+			builder.setLength(0);
+			final InputStream trickle = new ByteArrayInputStream(bytes) {
+				@Override
+				public synchronized int read(final byte[] buffer, final int offset, final int length) {
+					return super.read(buffer, offset, Math.min(length, step));
+				}
+			};
+			appender.escape(trickle, StandardCharsets.UTF_8);
+			Assert.assertEquals(expected.toString(), builder.toString());
+		}
+	}
+	
+	@Test
+	public void testEscapeInputStreamWithMalformedInput() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		appender.escape(new ByteArrayInputStream(new byte[] {'a', (byte) 0xff, 'b', (byte) 0xe2, (byte) 0x82}),
+				StandardCharsets.UTF_8);
+		Assert.assertEquals("a\ufffdb\ufffd", builder.toString());
+		builder.setLength(0);
+		appender.escape(new ByteArrayInputStream(new byte[] {'"', (byte) 0xe9}), StandardCharsets.ISO_8859_1);
+		Assert.assertEquals("\\\"\u00e9", builder.toString());
+	}
+	
 	@Test
 	public void testAppendBooleanWithTrue() throws IOException {
 		final StringBuilder builder = new StringBuilder();
@@ -303,4 +653,156 @@ public class JsonAppenderTest {
 		Mockito.verifyNoMoreInteractions(escaper);
 	}
 	
+	@Test
+	public void testEscapeCharSequenceInRuns() throws IOException {
+		final Appendable appendable = Mockito.mock(Appendable.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(appendable, new JsonEscaper());
+		final String sequence = "abc\"def\n\\";
+		final JsonAppender result = appender.escape(sequence);
+		Assert.assertEquals(appender, result);
+		final InOrder inOrder = Mockito.inOrder(appendable);
+		inOrder.verify(appendable).append(sequence, 0, 3);
+		inOrder.verify(appendable).append("\\\"");
+		inOrder.verify(appendable).append(sequence, 4, 7);
+		inOrder.verify(appendable, Mockito.times(2)).append(Mockito.anyString());
+		Mockito.verifyNoMoreInteractions(appendable);
+	}
+	
+	@Test
+	public void testEscapeCharSequenceWithIndexInRuns() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonAppender result = appender.escape("a\"bcde\"f", 1, 7);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("\\\"bcde\\\"", builder.toString());
+	}
+	
+	@Test
+	public void testEscapeStringInRunsToWriter() throws IOException {
+		final Writer writer = Mockito.mock(Writer.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(writer, new JsonEscaper());
+		final String sequence = "abc\"def";
+		appender.escape(sequence);
+		final InOrder inOrder = Mockito.inOrder(writer);
+		inOrder.verify(writer).write(sequence, 0, 3);
+		inOrder.verify(writer).append("\\\"");
+		inOrder.verify(writer).write(sequence, 4, 3);
+		Mockito.verifyNoMoreInteractions(writer);
+	}
+	
+	@Test
+	public void testEscapeCharArray() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final Escaper escaper = Mockito.mock(Escaper.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(builder, escaper);
+		final JsonAppender result = appender.escape("abcde".toCharArray(), 1, 3);
+		Assert.assertEquals(appender, result);
+		InOrder inOrder = Mockito.inOrder(escaper);
+		inOrder.verify(escaper).escape('b', builder);
+		inOrder.verify(escaper).escape('c', builder);
+		Mockito.verifyNoMoreInteractions(escaper);
+	}
+	
+	@Test
+	public void testEscapeCharArrayInRuns() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonAppender result = appender.escape("x\"abcdefgh\n\u0001ijk\\lmnopq\"x".toCharArray(), 1, 23);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("\\\"abcdefgh\\n\\u0001ijk\\\\lmnopq\\\"", builder.toString());
+	}
+	
+	@Test
+	public void testEscapeCharArrayInRunsToWriter() throws IOException {
+		final Writer writer = Mockito.mock(Writer.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(writer, new JsonEscaper());
+		final char[] chars = "abcdef\"g".toCharArray();
+		appender.escape(chars, 0, chars.length);
+		final InOrder inOrder = Mockito.inOrder(writer);
+		inOrder.verify(writer).write(chars, 0, 6);
+		inOrder.verify(writer).append("\\\"");
+		inOrder.verify(writer).write(chars, 7, 1);
+		Mockito.verifyNoMoreInteractions(writer);
+	}
+	
+	@Test
+	public void testEscapeCharArrayInRunsToAppendable() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final Appendable appendable = new Appendable() {
+			@Override
+			public Appendable append(final CharSequence sequence) {
+				builder.append(sequence);
+				return this;
+			}
+			@Override
+			public Appendable append(final CharSequence sequence, final int start, final int end) {
+				builder.append(sequence, start, end);
+				return this;
+			}
+			@Override
+			public Appendable append(final char character) {
+				builder.append(character);
+				return this;
+			}
+		};
+		final JsonAppender appender = new JsonAppender(appendable, new JsonEscaper());
+		appender.escape("abc\tdéfgh\"".toCharArray(), 0, 10);
+		Assert.assertEquals("abc\\tdéfgh\\\"", builder.toString());
+	}
+	
+	@Test
+	public void testEscapeWithSubclassOverridingOnlyEscape() throws IOException {
+		final JsonEscaper escaper = new JsonEscaper() {
+			@Override
+			public void escape(final char character, final Appendable appendable) throws IOException {
+				if (character == '/') {
+					appendable.append("\\/");
+				} else {
+					super.escape(character, appendable);
+				}
+			}
+		};
+		final StringBuilder builder = new StringBuilder();
+		new JsonAppender(builder, escaper)
+				.escape("</script>")
+				.escape(new StringBuilder("</script>"))
+				.escape("</script>".toCharArray(), 0, 9);
+		Assert.assertEquals("<\\/script><\\/script><\\/script>", builder.toString());
+		final StringWriter writer = new StringWriter();
+		new JsonAppender(writer, escaper).escape("</script>").escape("</script>".toCharArray(), 0, 9);
+		Assert.assertEquals("<\\/script><\\/script>", writer.toString());
+		final StringBuilder array = new StringBuilder();
+		new FastJsonScribe(new JsonAppender(array, escaper)).pushArray().value("</script>").pop();
+		Assert.assertEquals("[\"<\\/script>\"]", array.toString());
+	}
+	
+	@Test
+	public void testEscapeLongStringInChunks() throws IOException {
+		final StringBuilder text = new StringBuilder();
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < JsonAppender.SCRATCH_LENGTH * 3; i++) {
+			final char character = i % (JsonAppender.SCRATCH_LENGTH - 1) == 0 ? '"' : (char) ('a' + i % 26);
+			text.append(character);
+			if (character == '"') expected.append('\\');
+			expected.append(character);
+		}
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		appender.escape(text.toString(), 1, text.length()).escape(text.toString(), 0, 1);
+		Assert.assertEquals(expected.substring(2) + "\\\"", builder.toString());
+	}
+	
+	@Test
+	public void testReset() throws IOException {
+		final StringBuilder first = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(first, new JsonEscaper());
+		appender.appendNumber(1).escape("a\n");
+		final StringBuilder second = new StringBuilder();
+		final JsonAppender result = appender.reset(second);
+		Assert.assertEquals(appender, result);
+		appender.appendNumber(2).escape("b\t");
+		Assert.assertEquals("1a\\n", first.toString());
+		Assert.assertEquals("2b\\t", second.toString());
+	}
+	
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonBeanWriterTest {
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	
+	@Before
+	public void setUp() {
+		builder = new StringBuilder();
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+	}
+	
+	@Test
+	public void testWrite() throws IOException {
+		JsonBeanWriter.forClass(Event.class).write(scribe, new Event());
+		Assert.assertEquals("{\"id\":42,\"name\":\"Ada\\n\",\"URL\":\"u\",\"active\":true,\"age\":36,\"amount\":1.50,"
+				+ "\"code\":\"c\",\"count\":3,\"level\":\"SECONDS\",\"ratio\":0.1,\"scores\":[1.0,2.5],"
+				+ "\"sizes\":{\"s\":1},\"small\":7,\"tags\":[{\"label\":\"t\"},null],\"total\":7}", builder.toString());
+	}
+	
+	@Test
+	public void testWriteNull() throws IOException {
+		scribe.pushArray();
+		JsonBeanWriter.forClass(Event.class).write(scribe, null);
+		scribe.pop();
+		Assert.assertEquals("[null]", builder.toString());
+	}
+	
+	@Test
+	public void testWriteNonPublicClass() throws IOException {
+		JsonBeanWriter.forClass(Hidden.class).write(scribe, new Hidden());
+		Assert.assertEquals("{\"number\":1,\"on\":true,\"text\":\"x\"}", builder.toString());
+	}
+	
+	@Test
+	public void testForClassIsCached() {
+		Assert.assertSame(JsonBeanWriter.forClass(Tag.class), JsonBeanWriter.forClass(Tag.class));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testForMissingClass() {
+		JsonBeanWriter.forClass(null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testForInterface() {
+		JsonBeanWriter.forClass(List.class);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testForPrimitive() {
+		JsonBeanWriter.forClass(int.class);
+	}
+	
+	public static class Base {
+		
+		public long getId() {
+			return 42L;
+		}
+		
+		public String getName() {
+			return "base";
+		}
+		
+	}
+	
+	public static class Event extends Base {
+		
+		@Override
+		public String getName() {
+			return "Ada\n";
+		}
+		
+		public String getURL() {
+			return "u";
+		}
+		
+		public boolean isActive() {
+			return true;
+		}
+		
+		public OptionalInt getAge() {
+			return OptionalInt.of(36);
+		}
+		
+		public BigDecimal getAmount() {
+			return new BigDecimal("1.50");
+		}
+		
+		public char getCode() {
+			return 'c';
+		}
+		
+		public int getCount() {
+			return 3;
+		}
+		
+		public TimeUnit getLevel() {
+			return TimeUnit.SECONDS;
+		}
+		
+		public Optional<String> getNickname() {
+			return Optional.empty();
+		}
+		
+		public float getRatio() {
+			return 0.1f;
+		}
+		
+		public Double getScore() {
+			return null;
+		}
+		
+		public double[] getScores() {
+			return new double[] {1, 2.5};
+		}
+		
+		public Map<String, Integer> getSizes() {
+			return Collections.singletonMap("s", 1);
+		}
+		
+		public short getSmall() {
+			return 7;
+		}
+		
+		public List<Tag> getTags() {
+			return Arrays.asList(new Tag(), null);
+		}
+		
+		public Long getTotal() {
+			return 7L;
+		}
+		
+		public static int getStatic() {
+			return 0;
+		}
+		
+		public int getWithArgument(final int i) {
+			return i;
+		}
+		
+		int getHidden() {
+			return 0;
+		}
+		
+	}
+	
+	public static final class Tag {
+		
+		public String getLabel() {
+			return "t";
+		}
+		
+	}
+	
+	static class Hidden {
+		
+		public int getNumber() {
+			return 1;
+		}
+		
+		public boolean isOn() {
+			return true;
+		}
+		
+		public String getText() {
+			return "x";
+		}
+		
+	}
+	
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonBinaryTest {
+
+	private static String hex(final byte[] bytes) {
+		final StringBuilder builder = new StringBuilder();
+		for (final byte value : bytes) {
+			builder.append(String.format("%02x", value));
+		}
+		return builder.toString();
+	}
+
+	@Test
+	public void testBase64() {
+		final Random random = new Random(12345);
+		final char[] buffer = new char[JsonBinary.base64Length(64) + 3];
+		for (int length = 0; length <= 64; length++) {
+			final byte[] bytes = new byte[length + 2];
+			random.nextBytes(bytes);
+			final int end = JsonBinary.getBase64Chars(bytes, 1, length + 1, buffer, 3);
+			Assert.assertEquals(JsonBinary.base64Length(length), end - 3);
+			Assert.assertEquals(Base64.getEncoder().encodeToString(Arrays.copyOfRange(bytes, 1, length + 1)),
+					new String(buffer, 3, end - 3));
+		}
+	}
+
+	@Test
+	public void testHex() {
+		final byte[] bytes = new byte[256];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte) i;
+		}
+		final char[] buffer = new char[514];
+		Assert.assertEquals(514, JsonBinary.getHexChars(bytes, 0, 256, buffer, 2));
+		Assert.assertEquals(hex(bytes), new String(buffer, 2, 512));
+		Assert.assertEquals("7f80ff", JsonBinary.toHexString(bytes, 127, 129) + "ff");
+		Assert.assertEquals("", JsonBinary.toHexString(bytes, 5, 5));
+	}
+
+	@Test
+	public void testFillAndReadAll() throws IOException {
+		final byte[] bytes = new byte[10000];
+		new Random(12345).nextBytes(bytes);
+		final InputStream stream = new ByteArrayInputStream(bytes) {
+			@Override
+			public synchronized int read(final byte[] buffer, final int offset, final int length) {
+				return super.read(buffer, offset, Math.min(length, 7));
+			}
+		};
+		final byte[] chunk = new byte[4000];
+		Assert.assertEquals(4000, JsonBinary.fill(stream, chunk));
+		Assert.assertArrayEquals(Arrays.copyOf(bytes, 4000), chunk);
+		Assert.assertArrayEquals(Arrays.copyOfRange(bytes, 4000, 10000), JsonBinary.readAll(stream));
+		Assert.assertEquals(0, JsonBinary.fill(stream, chunk));
+	}
+
+}
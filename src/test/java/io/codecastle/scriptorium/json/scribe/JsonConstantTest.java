@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonConstantTest {
+	
+	@Test
+	public void testCharSequence() {
+		final JsonConstant constant = new JsonConstant("va\\lue");
+		Assert.assertEquals(6, constant.length());
+		Assert.assertEquals('\\', constant.charAt(2));
+		Assert.assertEquals("va\\lue", constant.toString());
+		Assert.assertEquals(new JsonConstant("va\\lue"), constant);
+		Assert.assertEquals(new JsonConstant("va\\lue").hashCode(), constant.hashCode());
+		Assert.assertNotEquals(new JsonName("va\\lue"), constant);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testMissingValue() {
+		new JsonConstant(null);
+	}
+	
+	@Test
+	public void testOfEnum() {
+		final JsonConstant[] constants = JsonConstant.of(TimeUnit.class);
+		Assert.assertEquals(TimeUnit.values().length, constants.length);
+		for (final TimeUnit unit : TimeUnit.values()) {
+			Assert.assertEquals(unit.name(), constants[unit.ordinal()].toString());
+		}
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testOfMissingEnum() {
+		JsonConstant.of((Class<TimeUnit>) null);
+	}
+	
+	@Test
+	public void testOfEnumConstant() {
+		final JsonConstant constant = JsonConstant.of(TimeUnit.HOURS);
+		Assert.assertEquals("HOURS", constant.toString());
+		Assert.assertSame(constant, JsonConstant.of(TimeUnit.HOURS));
+		// TimeUnit's constants have class bodies, so their classes are not TimeUnit itself
+		Assert.assertEquals("DAYS", JsonConstant.of(TimeUnit.DAYS).toString());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testOfMissingEnumConstant() {
+		JsonConstant.of((Enum<?>) null);
+	}
+	
+	@Test
+	public void testAppendConstant() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonConstant constant = new JsonConstant("a\"b");
+		final JsonAppender result = appender.appendConstant(constant, false).appendConstant(constant, true);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("\"a\\\"b\",\"a\\\"b\"", builder.toString());
+	}
+	
+	@Test
+	public void testAppendConstantAsUtf8() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		final JsonConstant constant = new JsonConstant("Д\n");
+		appender.appendOpenBracket().appendConstant(constant, false).appendConstant(constant, true).appendCloseBracket();
+		appender.flush();
+		Assert.assertEquals("[\"Д\\n\",\"Д\\n\"]", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonDateTimeTest {
+
+	private static final long MIN_SECOND = LocalDate.of(0, 1, 1).toEpochDay() * 86400;
+	private static final long MAX_SECOND = LocalDate.of(10000, 1, 1).toEpochDay() * 86400 - 1;
+
+	private final JsonDateTime dateTime = new JsonDateTime();
+	private final char[] buffer = new char[JsonDateTime.MAX_LENGTH + 2];
+
+	private String format(final long epochSecond, final int nanos, final ZoneOffset zone) {
+		final int end = dateTime.getChars(epochSecond, nanos, zone, buffer, 2);
+		Assert.assertTrue(end - 2 <= JsonDateTime.MAX_LENGTH);
+		return new String(buffer, 2, end - 2);
+	}
+
+	private static int randomNanos(final Random random) {
+		switch (random.nextInt(4)) {
+			case 0:
+				return 0;
+			case 1:
+				return random.nextInt(1000) * 1000000;
+			case 2:
+				return random.nextInt(1000000) * 1000;
+			default:
+				return random.nextInt(1000000000);
+		}
+	}
+
+	@Test
+	public void testInstants() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < 10000; i++) {
+			final long second = MIN_SECOND + (long) (random.nextDouble() * (MAX_SECOND - MIN_SECOND));
+			final Instant instant = Instant.ofEpochSecond(second, randomNanos(random));
+			Assert.assertEquals(instant.toString(), format(instant.getEpochSecond(), instant.getNano(), null));
+		}
+	}
+
+	@Test
+	public void testInstantEdges() {
+		for (final Instant instant : new Instant[] {Instant.EPOCH, Instant.ofEpochSecond(-1), Instant.ofEpochSecond(MIN_SECOND),
+				Instant.ofEpochSecond(MAX_SECOND, 999999999), Instant.parse("2000-02-29T23:59:59.000000001Z"),
+				Instant.parse("1900-03-01T00:00:00.100Z")}) {
+			Assert.assertEquals(instant.toString(), format(instant.getEpochSecond(), instant.getNano(), null));
+		}
+	}
+
+	@Test
+	public void testOffsets() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < 10000; i++) {
+			final ZoneOffset zone = ZoneOffset.ofTotalSeconds((random.nextInt(36 * 4 + 1) - 18 * 4) * 900);
+			final long second = MIN_SECOND + 86400 + (long) (random.nextDouble() * (MAX_SECOND - MIN_SECOND - 2 * 86400));
+			final int nanos = randomNanos(random);
+			final String local = Instant.ofEpochSecond(second + zone.getTotalSeconds(), nanos).toString();
+			final String expected = local.substring(0, local.length() - 1) + zone.getId();
+			Assert.assertEquals(expected, format(second, nanos, zone));
+			Assert.assertEquals(expected, JsonDateTime.toString(Instant.ofEpochSecond(second, nanos).atOffset(zone)));
+		}
+	}
+
+	@Test
+	public void testDates() {
+		final long[] days = {0, -1, LocalDate.of(0, 1, 1).toEpochDay(), LocalDate.of(9999, 12, 31).toEpochDay(),
+				LocalDate.of(2000, 2, 29).toEpochDay(), LocalDate.of(2100, 3, 1).toEpochDay()};
+		for (final long day : days) {
+			Assert.assertEquals(12, dateTime.getDateChars(day, buffer, 2));
+			Assert.assertEquals(LocalDate.ofEpochDay(day).toString(), new String(buffer, 2, 10));
+		}
+	}
+
+	@Test
+	public void testCachedDate() {
+		final long day = LocalDate.of(2018, 11, 4).toEpochDay();
+		for (int i = 0; i < 4; i++) {
+			final long second = (day + i % 2) * 86400 + i * 3600;
+			Assert.assertEquals(Instant.ofEpochSecond(second).toString(), format(second, 0, null));
+		}
+	}
+
+	@Test
+	public void testOutOfRange() {
+		final long before = LocalDate.of(-1, 12, 31).toEpochDay();
+		final long after = LocalDate.of(10000, 1, 1).toEpochDay();
+		Assert.assertEquals(-1, dateTime.getDateChars(before, buffer, 0));
+		Assert.assertEquals(-1, dateTime.getDateChars(after, buffer, 0));
+		Assert.assertEquals(-1, dateTime.getChars(MIN_SECOND - 1, 0, null, buffer, 0));
+		Assert.assertEquals(-1, dateTime.getChars(MAX_SECOND + 1, 0, null, buffer, 0));
+		Assert.assertEquals(-1, dateTime.getChars(MAX_SECOND, 0, ZoneOffset.ofHours(1), buffer, 0));
+	}
+
+	@Test
+	public void testOutOfRangeToString() {
+		final OffsetDateTime value = OffsetDateTime.of(10000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		Assert.assertEquals("+10000-01-01T00:00:00Z", JsonDateTime.toString(value));
+		Assert.assertEquals("+12020-01-01T00:00:00.350Z",
+				JsonDateTime.toString(OffsetDateTime.of(12020, 1, 1, 0, 0, 0, 350000000, ZoneOffset.UTC)));
+		Assert.assertEquals("-0001-12-31T23:59:59.120500+05:30",
+				JsonDateTime.toString(OffsetDateTime.of(-1, 12, 31, 23, 59, 59, 120500000, ZoneOffset.ofHoursMinutes(5, 30))));
+		Assert.assertEquals("+12020-06-07T08:09:10.000000001-01:00",
+				JsonDateTime.toString(OffsetDateTime.of(12020, 6, 7, 8, 9, 10, 1, ZoneOffset.ofHours(-1))));
+	}
+
+	@Test
+	public void testInRangeToString() {
+		final OffsetDateTime value = OffsetDateTime.of(2020, 1, 1, 0, 0, 0, 350000000, ZoneOffset.ofHours(2));
+		final int end = dateTime.getChars(value.toEpochSecond(), value.getNano(), value.getOffset(), buffer, 0);
+		Assert.assertEquals("2020-01-01T00:00:00.350+02:00", new String(buffer, 0, end));
+		Assert.assertEquals("2020-01-01T00:00:00.350+02:00", JsonDateTime.toString(value));
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.math.BigDecimal;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonDecimalFormatTest {
+
+	private static String format(final JsonDecimalFormat format, final double value) {
+		final JsonDecimal decimal = new JsonDecimal();
+		decimal.set(value);
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH + 2];
+		buffer[0] = '[';
+		final int end = format.getChars(decimal, buffer, 1);
+		return new String(buffer, 1, end - 1);
+	}
+
+	@Test
+	public void testShortest() {
+		Assert.assertEquals(-1, JsonDecimalFormat.SHORTEST.getDecimals());
+		Assert.assertEquals(-1, JsonDecimalFormat.SHORTEST.getDigits());
+		Assert.assertEquals("1.0E-7", format(JsonDecimalFormat.SHORTEST, 1.0E-7));
+		Assert.assertEquals("12.3", format(JsonDecimalFormat.SHORTEST, 12.30));
+	}
+
+	@Test
+	public void testFixed() {
+		final JsonDecimalFormat format = JsonDecimalFormat.fixed(2);
+		Assert.assertEquals(2, format.getDecimals());
+		Assert.assertEquals(JsonDecimalFormat.MAX_DIGITS, format.getDigits());
+		Assert.assertEquals("0", format(format, 1.0E-7));
+		Assert.assertEquals("12.35", format(format, 12.345));
+		Assert.assertEquals("5", format(format, 5.0));
+	}
+
+	@Test
+	public void testSignificant() {
+		final JsonDecimalFormat format = JsonDecimalFormat.significant(2);
+		Assert.assertEquals(JsonDecimalFormat.MAX_DIGITS, format.getDecimals());
+		Assert.assertEquals(2, format.getDigits());
+		Assert.assertEquals("0.0000001", format(format, 1.0E-7));
+		Assert.assertEquals("12", format(format, 12.345));
+		Assert.assertEquals("-0.0035", format(format, -0.00345));
+	}
+
+	@Test
+	public void testDecimalsAndDigits() {
+		final JsonDecimalFormat format = new JsonDecimalFormat(3, 4);
+		Assert.assertEquals("1.235", format(format, 1.23456));
+		Assert.assertEquals("123.5", format(format, 123.456));
+		Assert.assertEquals("0.001", format(format, 0.00123));
+		Assert.assertEquals("decimals=3,digits=4", format.toString());
+	}
+
+	@Test
+	public void testNotation() {
+		Assert.assertEquals(JsonDecimalFormat.Notation.SCIENTIFIC, JsonDecimalFormat.SHORTEST.getNotation());
+		Assert.assertSame(JsonDecimalFormat.SHORTEST, JsonDecimalFormat.SHORTEST.withNotation(JsonDecimalFormat.Notation.SCIENTIFIC));
+		final JsonDecimalFormat format = JsonDecimalFormat.fixed(2).withNotation(JsonDecimalFormat.Notation.PLAIN);
+		Assert.assertEquals(JsonDecimalFormat.Notation.PLAIN, format.getNotation());
+		Assert.assertEquals(2, format.getDecimals());
+		Assert.assertEquals("12.35", format(format, 12.345));
+		Assert.assertEquals("decimals=2,digits=17,plain", format.toString());
+		final BigDecimal value = new BigDecimal("1.5E+3");
+		final char[] buffer = new char[JsonAppender.SCRATCH_LENGTH];
+		Assert.assertEquals("1500", new String(buffer, 0, format.getChars(value, buffer, 0)));
+		Assert.assertEquals("1500", format.toString(value));
+		Assert.assertEquals("1.5E+3", JsonDecimalFormat.SHORTEST.toString(value));
+		Assert.assertEquals("1.5E+3", JsonDecimalFormat.SHORTEST.withNotation(JsonDecimalFormat.Notation.ENGINEERING).toString(value));
+		Assert.assertEquals(-1, format.getChars(new BigDecimal("1234567890.123456789"), buffer, 0));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNullNotation() {
+		JsonDecimalFormat.SHORTEST.withNotation(null);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNegativeDecimals() {
+		JsonDecimalFormat.fixed(-1);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testTooManyDecimals() {
+		JsonDecimalFormat.fixed(JsonDecimalFormat.MAX_DIGITS + 1);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testZeroDigits() {
+		JsonDecimalFormat.significant(0);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testTooManyDigits() {
+		new JsonDecimalFormat(2, JsonDecimalFormat.MAX_DIGITS + 1);
+	}
+
+}
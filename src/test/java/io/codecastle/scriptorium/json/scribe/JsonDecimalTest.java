@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonDecimalTest {
+
+	private static String format(final double value) {
+		final JsonDecimal decimal = new JsonDecimal();
+		Assert.assertTrue(decimal.set(value));
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH];
+		return new String(buffer, 0, decimal.getChars(buffer, 0));
+	}
+
+	private static String format(final float value) {
+		final JsonDecimal decimal = new JsonDecimal();
+		Assert.assertTrue(decimal.set(value));
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH];
+		return new String(buffer, 0, decimal.getChars(buffer, 0));
+	}
+
+	private static String format(final double value, final int decimals, final int digits) {
+		final JsonDecimal decimal = new JsonDecimal();
+		Assert.assertTrue(decimal.set(value));
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH];
+		return new String(buffer, 0, decimal.getChars(buffer, 0, decimals, digits));
+	}
+
+	@Test
+	public void testPlainNotation() {
+		Assert.assertEquals("0.0", format(0.0));
+		Assert.assertEquals("-0.0", format(-0.0));
+		Assert.assertEquals("1.0", format(1.0));
+		Assert.assertEquals("-1.5", format(-1.5));
+		Assert.assertEquals("100.0", format(100.0));
+		Assert.assertEquals("1.2345", format(1.2345));
+		Assert.assertEquals("0.1", format(0.1));
+		Assert.assertEquals("0.001", format(0.001));
+		Assert.assertEquals("0.0012345", format(0.0012345));
+		Assert.assertEquals("9999999.0", format(9999999.0));
+		Assert.assertEquals("1234567.125", format(1234567.125));
+	}
+
+	@Test
+	public void testScientificNotation() {
+		Assert.assertEquals("1.0E7", format(1.0E7));
+		Assert.assertEquals("1.0E-4", format(1.0E-4));
+		Assert.assertEquals("9.99E-4", format(9.99E-4));
+		Assert.assertEquals("-1.2345E10", format(-1.2345E10));
+		Assert.assertEquals("1.0E23", format(1.0E23));
+		Assert.assertEquals("4.9E-324", format(Double.MIN_VALUE));
+		Assert.assertEquals("2.2250738585072014E-308", format(Double.MIN_NORMAL));
+		Assert.assertEquals("1.7976931348623157E308", format(Double.MAX_VALUE));
+		Assert.assertEquals("-1.7976931348623157E308", format(-Double.MAX_VALUE));
+	}
+
+	@Test
+	public void testShortest() {
+		// Double.toString prints 2.82879384806159008E17 on Java 8
+		Assert.assertEquals("2.82879384806159E17", format(2.82879384806159E17));
+		Assert.assertEquals("0.30000000000000004", format(0.1 + 0.2));
+		Assert.assertEquals("1.0E-10", format(1.0E-10f));
+		Assert.assertEquals("0.1", format(0.1f));
+		Assert.assertEquals("1.4E-45", format(Float.MIN_VALUE));
+		Assert.assertEquals("3.4028235E38", format(Float.MAX_VALUE));
+		Assert.assertEquals("1.6777216E7", format(16777216f));
+	}
+
+	@Test
+	public void testDecomposition() {
+		final JsonDecimal decimal = new JsonDecimal();
+		decimal.set(-1200.0);
+		Assert.assertTrue(decimal.isNegative());
+		Assert.assertEquals(12, decimal.getSignificand());
+		Assert.assertEquals(2, decimal.getExponent());
+		decimal.set(0.0125f);
+		Assert.assertFalse(decimal.isNegative());
+		Assert.assertEquals(125, decimal.getSignificand());
+		Assert.assertEquals(-4, decimal.getExponent());
+	}
+
+	@Test
+	public void testNonFinite() {
+		final JsonDecimal decimal = new JsonDecimal();
+		Assert.assertFalse(decimal.set(Double.NaN));
+		Assert.assertFalse(decimal.set(Double.POSITIVE_INFINITY));
+		Assert.assertFalse(decimal.set(Float.NEGATIVE_INFINITY));
+	}
+
+	@Test
+	public void testDoubleRoundTrip() {
+		final Random random = new Random(12345);
+		final JsonDecimal decimal = new JsonDecimal();
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH];
+		for (int i = 0; i < 200000; i++) {
+			final double value = i % 2 == 0
+					? Double.longBitsToDouble(random.nextLong())
+					: random.nextInt(100000000) / 1000.0;
+			if (!decimal.set(value)) continue;
+			final String formatted = new String(buffer, 0, decimal.getChars(buffer, 0));
+			Assert.assertEquals(formatted, Double.doubleToLongBits(value), Double.doubleToLongBits(Double.parseDouble(formatted)));
+			Assert.assertTrue(formatted, formatted.length() <= Double.toString(value).length());
+		}
+	}
+
+	@Test
+	public void testFloatRoundTrip() {
+		final Random random = new Random(12345);
+		final JsonDecimal decimal = new JsonDecimal();
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH];
+		for (int i = 0; i < 200000; i++) {
+			final float value = Float.intBitsToFloat(random.nextInt());
+			if (!decimal.set(value)) continue;
+			final String formatted = new String(buffer, 0, decimal.getChars(buffer, 0));
+			Assert.assertEquals(formatted, Float.floatToIntBits(value), Float.floatToIntBits(Float.parseFloat(formatted)));
+		}
+	}
+
+	@Test
+	public void testFixedDecimals() {
+		Assert.assertEquals("0", format(0.0, 6, 17));
+		Assert.assertEquals("0", format(-0.0, 6, 17));
+		Assert.assertEquals("5", format(5.0, 6, 17));
+		Assert.assertEquals("1200", format(1200.0, 6, 17));
+		Assert.assertEquals("-122.419416", format(-122.4194155, 6, 17));
+		Assert.assertEquals("37.77493", format(37.7749295, 6, 17));
+		Assert.assertEquals("37.774929", format(37.7749294, 6, 17));
+		Assert.assertEquals("0.3", format(0.1 + 0.2, 6, 17));
+		Assert.assertEquals("1.000001", format(1.0000005, 6, 17));
+		Assert.assertEquals("1", format(0.9999996, 6, 17));
+		Assert.assertEquals("0.000001", format(5.0E-7, 6, 17));
+		Assert.assertEquals("0", format(4.9E-7, 6, 17));
+		Assert.assertEquals("0", format(-1.0E-300, 6, 17));
+		Assert.assertEquals("3", format(2.5, 0, 17));
+		Assert.assertEquals("-3", format(-2.5, 0, 17));
+		Assert.assertEquals("10000000", format(1.0E7, 2, 17));
+		Assert.assertEquals("123456789012345680000", format(1.2345678901234568E20, 2, 17));
+		Assert.assertEquals("1.0E21", format(1.0E21, 2, 17));
+		Assert.assertEquals("0.00000000000000001", format(1.0E-17, 17, 17));
+	}
+
+	@Test
+	public void testSignificantDigits() {
+		Assert.assertEquals("123000", format(123456.0, 17, 3));
+		Assert.assertEquals("124000", format(123500.0, 17, 3));
+		Assert.assertEquals("10", format(9.99, 17, 2));
+		Assert.assertEquals("0.0000123", format(1.23449E-5, 17, 3));
+		Assert.assertEquals("-0.5", format(-0.5, 17, 1));
+		Assert.assertEquals("1.23", format(1.23456, 2, 6));
+		Assert.assertEquals("1.2346", format(1.23456, 6, 5));
+		Assert.assertEquals("0", format(1.0E-18, 17, 3));
+	}
+
+	@Test
+	public void testFixedMatchesBigDecimal() {
+		final Random random = new Random(12345);
+		final JsonDecimal decimal = new JsonDecimal();
+		final char[] buffer = new char[JsonDecimal.MAX_LENGTH];
+		for (int i = 0; i < 100000; i++) {
+			final double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(30) - 12);
+			final int decimals = random.nextInt(18);
+			final int digits = 1 + random.nextInt(17);
+			decimal.set(value);
+			final String formatted = new String(buffer, 0, decimal.getChars(buffer, 0, decimals, digits));
+			BigDecimal expected = BigDecimal.valueOf(decimal.getSignificand(), -decimal.getExponent());
+			if (decimal.isNegative()) expected = expected.negate();
+			if (expected.abs().compareTo(BigDecimal.TEN.pow(21)) >= 0) continue;
+			final int scale = Math.min(decimals, digits - expected.precision() + expected.scale());
+			expected = expected.setScale(scale, RoundingMode.HALF_UP);
+			final String plain = expected.signum() == 0 ? "0" : expected.stripTrailingZeros().toPlainString();
+			Assert.assertEquals(value + " " + decimals + " " + digits, plain, formatted);
+		}
+	}
+
+	@Test
+	public void testMultiplyHigh() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < 10000; i++) {
+			final long x = random.nextLong();
+			final long y = random.nextLong();
+			final long expected = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)).shiftRight(64).longValue();
+			Assert.assertEquals(expected, JsonDecimal.multiplyHigh(x, y));
+		}
+	}
+
+}
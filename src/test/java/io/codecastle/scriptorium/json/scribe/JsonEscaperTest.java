@@ -5,6 +5,7 @@
 package io.codecastle.scriptorium.json.scribe;
 
 import java.io.IOException;
+import java.util.Arrays;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -37,7 +38,16 @@ public class JsonEscaperTest {
 		for (char i = 0; i < 32; i++) {
 			escaper.escape(i, builder);
 		}
-		Assert.assertEquals("\\u0000\\u0001\\u0002\\u0003\\u0004\\u0005\\u0006\\u0007\\\b\\\t\\\n\\u000b\\\f\\\r\\u000e\\u000f\\u0010\\u0011\\u0012\\u0013\\u0014\\u0015\\u0016\\u0017\\u0018\\u0019\\u001a\\u001b\\u001c\\u001d\\u001e\\u001f", builder.toString());
+		Assert.assertEquals("\\u0000\\u0001\\u0002\\u0003\\u0004\\u0005\\u0006\\u0007\\b\\t\\n\\u000b\\f\\r\\u000e\\u000f\\u0010\\u0011\\u0012\\u0013\\u0014\\u0015\\u0016\\u0017\\u0018\\u0019\\u001a\\u001b\\u001c\\u001d\\u001e\\u001f", builder.toString());
+	}
+	
+	@Test
+	public void testEscapeUnescapedCharacterAfterControlCode() throws IOException {
+		final JsonEscaper escaper = new JsonEscaper();
+		final StringBuilder builder = new StringBuilder();
+		escaper.escape('\u007f', builder);
+		escaper.escape('/', builder);
+		Assert.assertEquals("\u007f/", builder.toString());
 	}
 	
 	@Test
@@ -50,4 +60,62 @@ public class JsonEscaperTest {
 		Assert.assertEquals("A Д", builder.toString());
 	}
 	
+	@Test
+	public void testIsEscaped() {
+		final JsonEscaper escaper = new JsonEscaper();
+		for (char i = 0; i < 32; i++) {
+			Assert.assertTrue(escaper.isEscaped(i));
+		}
+		Assert.assertTrue(escaper.isEscaped('"'));
+		Assert.assertTrue(escaper.isEscaped('\\'));
+		Assert.assertFalse(escaper.isEscaped(' '));
+		Assert.assertFalse(escaper.isEscaped('A'));
+		Assert.assertFalse(escaper.isEscaped('/'));
+		Assert.assertFalse(escaper.isEscaped('Д'));
+	}
+	
+	@Test
+	public void testIndexOfEscaped() {
+		final JsonEscaper escaper = new JsonEscaper();
+		Assert.assertEquals(3, escaper.indexOfEscaped("abc\"def", 0, 7));
+		Assert.assertEquals(3, escaper.indexOfEscaped("abc\"def", 3, 7));
+		Assert.assertEquals(7, escaper.indexOfEscaped("abc\"def", 4, 7));
+		Assert.assertEquals(2, escaper.indexOfEscaped("abc\"def", 1, 2));
+	}
+	
+	@Test
+	public void testIndexOfEscapedCharArray() {
+		final JsonEscaper escaper = new JsonEscaper();
+		final char[] chars = "abcdefgh\"ijk\\lmn\u001fopqrstuvwxyz".toCharArray();
+		Assert.assertEquals(8, escaper.indexOfEscaped(chars, 0, chars.length));
+		Assert.assertEquals(12, escaper.indexOfEscaped(chars, 9, chars.length));
+		Assert.assertEquals(16, escaper.indexOfEscaped(chars, 13, chars.length));
+		Assert.assertEquals(chars.length, escaper.indexOfEscaped(chars, 17, chars.length));
+		Assert.assertEquals(8, escaper.indexOfEscaped(chars, 1, 8));
+	}
+	
+	@Test
+	public void testIndexOfEscapedCharArrayMatchesIsEscaped() {
+		final JsonEscaper escaper = new JsonEscaper();
+		final char[] chars = new char[5];
+		for (int c = 0; c <= Character.MAX_VALUE; c++) {
+			final int lane = c % 5;
+			Arrays.fill(chars, 'a');
+			chars[lane] = (char) c;
+			final int expected = escaper.isEscaped((char) c) ? lane : chars.length;
+			Assert.assertEquals("U+" + Integer.toHexString(c), expected, escaper.indexOfEscaped(chars, 0, chars.length));
+		}
+	}
+	
+	@Test
+	public void testIndexOfEscapedCharArrayUsesSubclassIsEscaped() {
+		final JsonEscaper escaper = new JsonEscaper() {
+			@Override
+			public boolean isEscaped(final char character) {
+				return character == '/' || super.isEscaped(character);
+			}
+		};
+		Assert.assertEquals(5, escaper.indexOfEscaped("abcde/fgh".toCharArray(), 0, 9));
+	}
+	
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonNameTest {
+	
+	@Test
+	public void testCharSequence() {
+		final JsonName name = new JsonName(new StringBuilder("na\"me"));
+		Assert.assertEquals(5, name.length());
+		Assert.assertEquals('"', name.charAt(2));
+		Assert.assertEquals("a\"m", name.subSequence(1, 4).toString());
+		Assert.assertEquals("na\"me", name.toString());
+		Assert.assertEquals(new JsonName("na\"me"), name);
+		Assert.assertEquals(new JsonName("na\"me").hashCode(), name.hashCode());
+		Assert.assertNotEquals(new JsonName("name"), name);
+		Assert.assertNotEquals(new JsonConstant("na\"me"), name);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testMissingName() {
+		new JsonName(null);
+	}
+	
+	@Test
+	public void testAppendName() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonAppender appender = new JsonAppender(builder, new JsonEscaper());
+		final JsonName name = new JsonName("a\tb");
+		final JsonAppender result = appender.appendName(name, false).appendName(name, true);
+		Assert.assertEquals(appender, result);
+		Assert.assertEquals("\"a\\tb\":,\"a\\tb\":", builder.toString());
+	}
+	
+	@Test
+	public void testAppendNameToWriter() throws IOException {
+		final Writer writer = Mockito.mock(Writer.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(writer, new JsonEscaper());
+		final JsonName name = new JsonName("key");
+		appender.appendName(name, true).appendName(name, false);
+		Mockito.verify(writer).write(Mockito.any(char[].class), Mockito.eq(0), Mockito.eq(7));
+		Mockito.verify(writer).write(Mockito.any(char[].class), Mockito.eq(1), Mockito.eq(6));
+		Mockito.verifyNoMoreInteractions(writer);
+	}
+	
+	@Test
+	public void testAppendNameToAppendable() throws IOException {
+		final Appendable appendable = Mockito.mock(Appendable.class, Mockito.RETURNS_SELF);
+		final JsonAppender appender = new JsonAppender(appendable, new JsonEscaper());
+		appender.appendName(new JsonName("key"), false);
+		Mockito.verify(appendable).append(",\"key\":", 1, 7);
+		Mockito.verifyNoMoreInteractions(appendable);
+	}
+	
+	@Test
+	public void testAppendNameAsUtf8() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final StringBuilder longName = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			longName.append("Größe");
+		}
+		appender.appendOpenBrace().appendName(new JsonName("é"), false).appendNumber(1)
+				.appendName(new JsonName(longName), true).appendNumber(2).appendCloseBrace();
+		appender.flush();
+		Assert.assertEquals("{\"é\":1,\"" + longName + "\":2}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+}
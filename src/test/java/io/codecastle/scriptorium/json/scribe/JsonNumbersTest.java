@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import io.codecastle.scriptorium.json.scribe.JsonDecimalFormat.Notation;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonNumbersTest {
+
+	private static final long[] EDGES = {
+		0, 1, -1, 9, -9, 10, -10, 99, -99, 100, -100, 999, 1000,
+		Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L,
+		999999999999999999L, 1000000000000000000L, -1000000000000000000L,
+		Long.MAX_VALUE, Long.MIN_VALUE
+	};
+
+	private static void assertFormats(final long value) {
+		final String expected = Long.toString(value);
+		Assert.assertEquals(expected.length(), JsonNumbers.length(value));
+		final char[] chars = new char[JsonNumbers.MAX_LONG_LENGTH + 2];
+		final int start = JsonNumbers.getChars(value, chars, chars.length - 1);
+		Assert.assertEquals(expected, new String(chars, start, chars.length - 1 - start));
+		final byte[] bytes = new byte[JsonNumbers.MAX_LONG_LENGTH];
+		final int byteStart = JsonNumbers.getBytes(value, bytes, bytes.length);
+		Assert.assertEquals(expected, new String(bytes, byteStart, bytes.length - byteStart, StandardCharsets.US_ASCII));
+	}
+
+	@Test
+	public void testEdges() {
+		for (final long value : EDGES) {
+			assertFormats(value);
+		}
+	}
+
+	@Test
+	public void testPowersOfTen() {
+		long power = 1;
+		for (int i = 0; i < 19; i++) {
+			assertFormats(power - 1);
+			assertFormats(power);
+			assertFormats(-power);
+			assertFormats(1 - power);
+			power *= 10;
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < 10000; i++) {
+			assertFormats(random.nextLong());
+			assertFormats(random.nextInt());
+			assertFormats(random.nextInt() >> random.nextInt(32));
+		}
+	}
+
+	private static void assertFormats(final long unscaled, final int scale) {
+		final BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+		assertFormats(value.toString(), unscaled, scale, Notation.SCIENTIFIC);
+		assertFormats(value.toEngineeringString(), unscaled, scale, Notation.ENGINEERING);
+		assertFormats(value.toPlainString(), unscaled, scale, Notation.PLAIN);
+	}
+
+	private static void assertFormats(final String expected, final long unscaled, final int scale,
+			final Notation notation) {
+		final char[] chars = new char[JsonAppender.SCRATCH_LENGTH];
+		chars[0] = '[';
+		final int end = JsonNumbers.getChars(unscaled, scale, notation, chars, 1);
+		if (expected.length() + 1 > chars.length) {
+			Assert.assertEquals(expected, -1, end);
+		} else {
+			Assert.assertEquals('[', chars[0]);
+			Assert.assertEquals(unscaled + "E" + -scale + " " + notation, expected, new String(chars, 1, end - 1));
+		}
+	}
+
+	@Test
+	public void testBigDecimalEdges() {
+		final long[] unscaled = {0, 1, -1, 12, -123, 1234, 120, 100000, 999999999999999999L, -999999999999999999L};
+		for (final long value : unscaled) {
+			for (int scale = -30; scale <= 30; scale++) {
+				assertFormats(value, scale);
+			}
+			assertFormats(value, 200);
+			assertFormats(value, -200);
+			for (final int scale : new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE + 1}) {
+				final BigDecimal extreme = BigDecimal.valueOf(value, scale);
+				assertFormats(extreme.toString(), value, scale, Notation.SCIENTIFIC);
+				assertFormats(extreme.toEngineeringString(), value, scale, Notation.ENGINEERING);
+				final int end = JsonNumbers.getChars(value, scale, Notation.PLAIN, new char[JsonAppender.SCRATCH_LENGTH], 0);
+				Assert.assertEquals(value == 0 && scale < 0 ? 1 : -1, end);
+			}
+		}
+	}
+
+	@Test
+	public void testBigDecimalRandomValues() {
+		final Random random = new Random(12345);
+		for (int i = 0; i < 10000; i++) {
+			final long unscaled = random.nextLong() % 1000000000000000000L >> random.nextInt(60);
+			assertFormats(unscaled, random.nextInt(60) - 30);
+		}
+	}
+
+	@Test
+	public void testChunkPowers() {
+		BigInteger expected = BigInteger.TEN.pow(JsonNumbers.CHUNK_DIGITS);
+		for (int k = 0; k < 6; k++) {
+			Assert.assertEquals(expected, JsonNumbers.chunkPower(k));
+			expected = expected.multiply(expected);
+		}
+		Assert.assertSame(JsonNumbers.chunkPower(3), JsonNumbers.chunkPower(3));
+	}
+
+	@Test
+	public void testUuids() {
+		final Random random = new Random(12345);
+		final char[] chars = new char[40];
+		for (int i = 0; i < 1000; i++) {
+			final UUID uuid = i == 0 ? new UUID(0, 0) : i == 1 ? new UUID(-1, -1) : new UUID(random.nextLong(), random.nextLong());
+			Assert.assertEquals(38, JsonNumbers.getUuidChars(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 2));
+			Assert.assertEquals(uuid.toString(), new String(chars, 2, 36));
+		}
+	}
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonTableTest {
+
+	private static final JsonName TS = new JsonName("ts");
+	private static final JsonName VALUE = new JsonName("value");
+
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	private JsonTable table;
+
+	@Before
+	public void setUp() {
+		builder = new StringBuilder();
+		scribe = new SafeJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+		table = new JsonTable()
+				.withColumn(TS, new long[] {1L, 2L})
+				.withColumn(VALUE, new double[] {0.5, Double.NaN})
+				.withColumn("ho\"st", new String[] {"a", null})
+				.withColumn("level", new CharSequence[] {new JsonConstant("HIGH"), "low"});
+	}
+
+	@Test
+	public void testWriteObjects() throws IOException {
+		final JsonScribe result = table.writeObjects(scribe);
+		Assert.assertEquals(scribe, result);
+		Assert.assertEquals("[{\"ts\":1,\"value\":0.5,\"ho\\\"st\":\"a\",\"level\":\"HIGH\"},"
+				+ "{\"ts\":2,\"value\":null,\"ho\\\"st\":null,\"level\":\"low\"}]", builder.toString());
+	}
+
+	@Test
+	public void testWriteColumns() throws IOException {
+		final JsonScribe result = table.writeColumns(scribe);
+		Assert.assertEquals(scribe, result);
+		Assert.assertEquals("{\"columns\":[\"ts\",\"value\",\"ho\\\"st\",\"level\"],"
+				+ "\"rows\":[[1,0.5,\"a\",\"HIGH\"],[2,null,null,\"low\"]]}", builder.toString());
+	}
+
+	@Test
+	public void testWriteOtherColumnTypes() throws IOException {
+		final LongBuffer longs = ByteBuffer.allocateDirect(3 * Long.BYTES).asLongBuffer();
+		longs.put(0, 7L).put(1, 8L).put(2, 9L).position(1);
+		new JsonTable()
+				.withColumn("i", new int[] {1, -2})
+				.withColumn("f", new float[] {0.1f, Float.POSITIVE_INFINITY})
+				.withColumn("b", new boolean[] {true, false})
+				.withColumn("o", new Object[] {new BigDecimal("1.50"), null})
+				.withColumn("ib", IntBuffer.wrap(new int[] {3, 4, 5}, 1, 2))
+				.withColumn("lb", longs)
+				.withColumn("db", DoubleBuffer.wrap(new double[] {2.5, 3.5}))
+				.writeObjects(scribe);
+		Assert.assertEquals(1, longs.position());
+		Assert.assertEquals("[{\"i\":1,\"f\":0.1,\"b\":true,\"o\":1.50,\"ib\":4,\"lb\":8,\"db\":2.5},"
+				+ "{\"i\":-2,\"f\":null,\"b\":false,\"o\":null,\"ib\":5,\"lb\":9,\"db\":3.5}]", builder.toString());
+	}
+
+	@Test
+	public void testWriteInArray() throws IOException {
+		scribe.pushArray();
+		table.writeObjects(scribe);
+		table.writeColumns(scribe);
+		scribe.pop();
+		Assert.assertTrue(builder.toString(), builder.toString().startsWith("[[{\"ts\":1,"));
+		Assert.assertTrue(builder.toString(), builder.toString().endsWith("}],{\"columns\":[\"ts\",\"value\",\"ho\\\"st\",\"level\"],"
+				+ "\"rows\":[[1,0.5,\"a\",\"HIGH\"],[2,null,null,\"low\"]]}]"));
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		table.clear();
+		Assert.assertEquals(0, table.getColumnCount());
+		Assert.assertEquals(0, table.getRowCount());
+		scribe.pushArray();
+		table.writeObjects(scribe);
+		table.writeColumns(scribe);
+		table.withColumn(TS, new long[0]).writeObjects(scribe);
+		scribe.pop();
+		Assert.assertEquals("[[],{\"columns\":[],\"rows\":[]},[]]", builder.toString());
+	}
+
+	@Test
+	public void testClearAndReuse() throws IOException {
+		Assert.assertEquals(4, table.getColumnCount());
+		Assert.assertEquals(2, table.getRowCount());
+		Assert.assertSame(TS, table.getName(0));
+		Assert.assertEquals(new JsonName("level"), table.getName(3));
+		table.clear().withColumn(VALUE, new int[] {1, 2, 3}).withColumn(TS, new long[] {4L, 5L, 6L});
+		Assert.assertEquals(3, table.getRowCount());
+		table.writeColumns(scribe);
+		Assert.assertEquals("{\"columns\":[\"value\",\"ts\"],\"rows\":[[1,4],[2,5],[3,6]]}", builder.toString());
+	}
+
+	@Test
+	public void testManyColumns() throws IOException {
+		final JsonTable wide = new JsonTable();
+		final StringBuilder expected = new StringBuilder("[{");
+		for (int i = 0; i < 20; i++) {
+			wide.withColumn("c" + i, new int[] {i});
+			expected.append(i > 0 ? "," : "").append("\"c").append(i).append("\":").append(i);
+		}
+		wide.writeObjects(scribe);
+		Assert.assertEquals(expected.append("}]").toString(), builder.toString());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testWrongLength() {
+		table.withColumn("extra", new int[] {1, 2, 3});
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testWrongBufferLength() {
+		table.withColumn("extra", IntBuffer.allocate(1));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testDuplicateKey() {
+		table.withColumn("ts", new int[] {1, 2});
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNullKey() {
+		table.withColumn(null, new int[] {1, 2});
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNullValues() {
+		table.withColumn("extra", (int[]) null);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNullScribe() throws IOException {
+		table.writeObjects(null);
+	}
+
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void testGetNameOutOfBounds() {
+		table.getName(4);
+	}
+
+}
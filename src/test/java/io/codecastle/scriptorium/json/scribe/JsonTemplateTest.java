@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonTemplateTest {
+	
+	private static final JsonTemplate EVENT = new JsonTemplate.Builder()
+			.withInt("id")
+			.withString("na\"me")
+			.withLong("created")
+			.withDouble("score")
+			.withBoolean("active")
+			.withValue("extra")
+			.build();
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	
+	@Before
+	public void setUp() {
+		builder = new StringBuilder();
+		scribe = new SafeJsonScribe(new JsonAppender(builder, new JsonEscaper()));
+	}
+	
+	@Test
+	public void testWrite() throws IOException {
+		final JsonScribe result = EVENT.write(scribe, 1, "Ada", 2L, 0.5, true, new BigDecimal("1.50"));
+		Assert.assertEquals(scribe, result);
+		Assert.assertEquals("{\"id\":1,\"na\\\"me\":\"Ada\",\"created\":2,\"score\":0.5,\"active\":true,\"extra\":1.50}", builder.toString());
+	}
+	
+	@Test
+	public void testWriteWidensAndNulls() throws IOException {
+		EVENT.write(scribe, (short) 1, null, 2, 3L, null, null);
+		Assert.assertEquals("{\"id\":1,\"na\\\"me\":null,\"created\":2,\"score\":3,\"active\":null,\"extra\":null}", builder.toString());
+	}
+	
+	@Test
+	public void testWriteInArray() throws IOException {
+		scribe.pushArray();
+		EVENT.write(scribe, 1, "a", 2L, 0.5, true, "b");
+		EVENT.write(scribe, 3, "c", 4L, 1.5, false, 'd');
+		scribe.pop();
+		Assert.assertEquals("[{\"id\":1,\"na\\\"me\":\"a\",\"created\":2,\"score\":0.5,\"active\":true,\"extra\":\"b\"},"
+				+ "{\"id\":3,\"na\\\"me\":\"c\",\"created\":4,\"score\":1.5,\"active\":false,\"extra\":\"d\"}]", builder.toString());
+	}
+	
+	@Test
+	public void testWriteEmpty() throws IOException {
+		new JsonTemplate.Builder().build().write(scribe);
+		Assert.assertEquals("{}", builder.toString());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testWriteWrongCount() throws IOException {
+		EVENT.write(scribe, 1, "Ada");
+	}
+	
+	@Test
+	public void testWriteWrongType() throws IOException {
+		try {
+			EVENT.write(scribe, 1L, "Ada", 2L, 0.5, true, null);
+			Assert.fail();
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("", builder.toString());
+		}
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testWriteMissingScribe() throws IOException {
+		EVENT.write(null, 1, "Ada", 2L, 0.5, true, null);
+	}
+	
+	@Test
+	public void testBinder() throws IOException {
+		final JsonTemplate.Binder binder = EVENT.binder(scribe);
+		scribe.pushArray();
+		binder.start().value(1).value("Ada").value(2L).value(0.5).value(true).value((Object) null).end();
+		binder.start().value(3).value((CharSequence) null).value(4).value(5L).value(false).value(6).end();
+		scribe.pop();
+		Assert.assertEquals("[{\"id\":1,\"na\\\"me\":\"Ada\",\"created\":2,\"score\":0.5,\"active\":true,\"extra\":null},"
+				+ "{\"id\":3,\"na\\\"me\":null,\"created\":4,\"score\":5,\"active\":false,\"extra\":6}]", builder.toString());
+	}
+	
+	@Test
+	public void testBinderAsUtf8() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		final JsonTemplate template = new JsonTemplate.Builder().withString("é").withInt("n").build();
+		template.binder(new FastJsonScribe(appender)).start().value("東").value(1).end();
+		appender.flush();
+		Assert.assertEquals("{\"é\":\"東\",\"n\":1}", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderWrongType() throws IOException {
+		EVENT.binder(scribe).start().value("Ada");
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderNarrowing() throws IOException {
+		EVENT.binder(scribe).start().value(1).value("Ada").value(0.5);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderWrongObjectType() throws IOException {
+		EVENT.binder(scribe).start().value(1).value((Object) 2);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderNotStarted() throws IOException {
+		EVENT.binder(scribe).value(1);
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderStartedTwice() throws IOException {
+		EVENT.binder(scribe).start().start();
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderEndedEarly() throws IOException {
+		EVENT.binder(scribe).start().value(1).end();
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testBinderTooManyValues() throws IOException {
+		new JsonTemplate.Builder().withInt("a").build().binder(scribe).start().value(1).value(2);
+	}
+	
+	@Test
+	public void testBuilder() {
+		final JsonName name = new JsonName("b");
+		final JsonTemplate template = new JsonTemplate.Builder().withInt("a").withString(name).build();
+		Assert.assertEquals(2, template.size());
+		Assert.assertEquals(new JsonName("a"), template.getName(0));
+		Assert.assertSame(name, template.getName(1));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBuilderMissingKey() {
+		new JsonTemplate.Builder().withInt(null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBuilderDuplicateKey() {
+		new JsonTemplate.Builder().withInt("a").withString(new StringBuilder("a"));
+	}
+	
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonValidatorTest {
+
+	private static final String[] VALID = new String[] {
+		"0", "-0", "12", "-1.5", "0.25e10", "1E-7", "3e+2", "true", "false", "null", "\"\"",
+		"\"caf\u00e9 \ud83d\ude00\"", "\"\\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u00aF\"", "[]", "{}", " \t\r\n[ 1 , \"a\" ] \n",
+		"{\"a\":{\"b\":[true,{}]},\"c\" : null}", "[[[[[[[[[[[[[[[[[[[[]]]]]]]]]]]]]]]]]]]]"
+	};
+
+	private static final String[] INVALID = new String[] {
+		"", " ", "01", "-", "1.", ".5", "1e", "+1", "tru", "True", "nulll", "\"a", "\"\\x\"", "\"\\u12g4\"",
+		"\"\\u12\"", "\"\t\"", "[", "]", "[1,]", "[,1]", "[1 2]", "{", "{\"a\"}", "{\"a\":}", "{\"a\":1,}",
+		"{a:1}", "{1:1}", "{\"a\":1]", "[1}", "1 2", "[] []", "'a'", "NaN"
+	};
+
+	private static void assertInvalid(final Runnable validation, final String fragment) {
+		try {
+			validation.run();
+		} catch (IllegalArgumentException e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains(" at index "));
+			return;
+		}
+		Assert.fail("Did not throw for " + fragment);
+	}
+
+	@Test
+	public void testValid() {
+		for (final String fragment : VALID) {
+			JsonValidator.validate(fragment);
+			JsonValidator.validate("x" + fragment + "x", 1, fragment.length() + 1);
+			JsonValidator.validate(fragment.toCharArray(), 0, fragment.length());
+			final byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+			JsonValidator.validate(bytes, 0, bytes.length);
+			final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 1);
+			direct.put(bytes).put((byte) ']').flip();
+			direct.limit(bytes.length);
+			JsonValidator.validate(direct);
+			Assert.assertEquals(0, direct.position());
+		}
+	}
+
+	@Test
+	public void testInvalid() {
+		for (final String fragment : INVALID) {
+			final byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+			assertInvalid(() -> JsonValidator.validate(fragment), fragment);
+			assertInvalid(() -> JsonValidator.validate(fragment.toCharArray(), 0, fragment.length()), fragment);
+			assertInvalid(() -> JsonValidator.validate(bytes, 0, bytes.length), fragment);
+			assertInvalid(() -> JsonValidator.validate(ByteBuffer.wrap(bytes)), fragment);
+		}
+	}
+
+	@Test
+	public void testNonAsciiHexDigits() {
+		for (final String fragment : new String[] {"\"\\u\u0663\u0663\u0663\u0663\"", "\"\\u00\uff21\uff21\"", "\"\\u00\uff41a\""}) {
+			assertInvalid(() -> JsonValidator.validate(fragment), fragment);
+			assertInvalid(() -> JsonValidator.validate(fragment.toCharArray(), 0, fragment.length()), fragment);
+			final byte[] bytes = fragment.getBytes(StandardCharsets.UTF_8);
+			assertInvalid(() -> JsonValidator.validate(bytes, 0, bytes.length), fragment);
+		}
+	}
+	
+	@Test
+	public void testIndex() {
+		try {
+			JsonValidator.validate("{\"a\":[1,2,]}");
+			Assert.fail("Did not throw");
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("Expected value at index 10", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testDeepNesting() {
+		final StringBuilder fragment = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			fragment.append(i % 2 == 0 ? "[" : "{\"a\":");
+		}
+		fragment.append('0');
+		for (int i = 9999; i >= 0; i--) {
+			fragment.append(i % 2 == 0 ? "]" : "}");
+		}
+		JsonValidator.validate(fragment);
+		fragment.setLength(fragment.length() - 1);
+		assertInvalid(() -> JsonValidator.validate(fragment), "unterminated");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNull() {
+		JsonValidator.validate((CharSequence) null);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testOutOfBounds() {
+		JsonValidator.validate(new byte[] {'1'}, 0, 2);
+	}
+
+}
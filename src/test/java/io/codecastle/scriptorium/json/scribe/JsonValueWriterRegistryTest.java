@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import io.codecastle.scriptorium.json.Json;
+import io.codecastle.scriptorium.json.JsonWritable;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class JsonValueWriterRegistryTest {
+	
+	private StringBuilder builder;
+	private JsonScribe scribe;
+	private JsonValueWriterRegistry registry;
+	
+	@Before
+	public void setUp() throws IOException {
+		builder = new StringBuilder();
+		scribe = new FastJsonScribe(new JsonAppender(builder, new JsonEscaper())).pushArray();
+		registry = new JsonValueWriterRegistry();
+	}
+	
+	@Test
+	public void testBuiltInWriters() throws IOException {
+		for (final Object value : Arrays.asList("a", 'b', new StringBuilder("c"), 1, 2L, 1.5f, 2.5, (byte) 3, (short) 4, true,
+				BigDecimal.TEN, null)) {
+			registry.write(scribe, value);
+		}
+		scribe.pop();
+		Assert.assertEquals("[\"a\",\"b\",\"c\",1,2,1.5,2.5,3,4,true,10,null]", builder.toString());
+	}
+	
+	@Test
+	public void testTemporalUuidAndEnumWriters() throws IOException {
+		for (final Object value : Arrays.asList(Instant.ofEpochSecond(1500000000L, 120000000),
+				OffsetDateTime.of(2017, 7, 14, 4, 40, 0, 0, ZoneOffset.ofHours(2)), LocalDate.of(2017, 7, 14), new UUID(1, 2),
+				TimeUnit.DAYS)) {
+			registry.write(scribe, value);
+		}
+		scribe.pop();
+		Assert.assertEquals("[\"2017-07-14T02:40:00.120Z\",\"2017-07-14T04:40:00+02:00\",\"2017-07-14\","
+				+ "\"00000000-0000-0001-0000-000000000002\",\"DAYS\"]", builder.toString());
+	}
+	
+	@Test
+	public void testRegister() throws IOException {
+		final UUID uuid = new UUID(1, 2);
+		final JsonValueWriterRegistry result = registry.register(UUID.class, (scribe, value) -> scribe.value(value.toString()));
+		Assert.assertSame(registry, result);
+		registry.write(scribe, uuid);
+		scribe.pop();
+		Assert.assertEquals("[\"" + uuid + "\"]", builder.toString());
+	}
+	
+	@Test
+	public void testRegisterSuperclass() throws IOException {
+		registry.register(Enum.class, (scribe, value) -> scribe.value(value.name()));
+		registry.write(scribe, TimeUnit.DAYS);
+		scribe.pop();
+		Assert.assertEquals("[\"DAYS\"]", builder.toString());
+	}
+	
+	@Test
+	public void testRegisterInterface() throws IOException {
+		registry.register(Shape.class, (scribe, value) -> scribe.value(value.sides()));
+		registry.write(scribe, new Square());
+		scribe.pop();
+		Assert.assertEquals("[4]", builder.toString());
+	}
+	
+	@Test
+	public void testRegisterReplacesResolvedWriter() throws IOException {
+		registry.write(scribe, 1);
+		registry.register(Integer.class, (scribe, value) -> scribe.value(-value));
+		registry.write(scribe, 1);
+		scribe.pop();
+		Assert.assertEquals("[1,-1]", builder.toString());
+	}
+	
+	@Test
+	public void testNearestWriterWins() throws IOException {
+		registry.register(Shape.class, (scribe, value) -> scribe.value("shape"));
+		registry.register(Square.class, (scribe, value) -> scribe.value("square"));
+		registry.write(scribe, new Square());
+		registry.write(scribe, new Square() {});
+		scribe.pop();
+		Assert.assertEquals("[\"square\",\"square\"]", builder.toString());
+	}
+	
+	@Test
+	public void testFind() {
+		Assert.assertNotNull(registry.find(String.class));
+		Assert.assertNull(registry.find(Object.class));
+		Assert.assertNotNull(registry.find(UUID.class));
+		Assert.assertNull(registry.find(URI.class));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testFindMissingType() {
+		registry.find(null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testWriteUnsupported() throws IOException {
+		registry.write(scribe, new Object());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testRegisterMissingType() {
+		registry.register(null, (scribe, value) -> scribe.nullValue());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testRegisterMissingWriter() {
+		registry.register(UUID.class, null);
+	}
+	
+	@Test
+	public void testGeneratedWriter() throws IOException {
+		registry.write(scribe, new Point());
+		scribe.pop();
+		Assert.assertEquals("[{\"x\":1}]", builder.toString());
+	}
+	
+	@Test
+	public void testDefaultRegistry() throws IOException {
+		JsonValueWriterRegistry.getDefault().register(Circle.class, (scribe, value) -> scribe.value("circle"));
+		final StringBuilder output = new StringBuilder();
+		Json.array(output).withAll(Arrays.asList(new Circle(), 1, "a")).close();
+		Assert.assertEquals("[\"circle\",1,\"a\"]", output.toString());
+	}
+	
+	interface Shape {
+		
+		int sides();
+		
+	}
+	
+	static class Square implements Shape {
+		
+		@Override
+		public int sides() {
+			return 4;
+		}
+		
+	}
+	
+	static class Circle {
+		
+	}
+	
+	@JsonWritable
+	static class Point {
+		
+	}
+	
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.IOException;
+
+/**
+ * Stands in for the writer the annotation processor would generate for
+ * {@link JsonValueWriterRegistryTest.Point}.
+ *
+ * @author Doug Valenta
+ */
+public final class JsonValueWriterRegistryTest_PointJsonWriter implements JsonValueWriter<JsonValueWriterRegistryTest.Point> {
+	
+	public static final JsonValueWriterRegistryTest_PointJsonWriter INSTANCE = new JsonValueWriterRegistryTest_PointJsonWriter();
+	
+	private static final JsonName X = new JsonName("x");
+	
+	@Override
+	public void write(final JsonScribe scribe, final JsonValueWriterRegistryTest.Point value) throws IOException {
+		scribe.pushObject().key(X).value(1).pop();
+	}
+	
+}
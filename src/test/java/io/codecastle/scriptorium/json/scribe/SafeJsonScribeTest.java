@@ -7,9 +7,11 @@ package io.codecastle.scriptorium.json.scribe;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import io.codecastle.scriptorium.FluentNode;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 /**
@@ -688,6 +690,22 @@ public class SafeJsonScribeTest extends AbstractJsonScribeTest {
 		Assert.fail("Did not throw");
 	}
 	
+	@Test
+	public void testValuesInObject() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender).pushObject().key("abc");
+		Mockito.clearInvocations(appender);
+		try {
+			scribe.values(new int[] {1}, 0, 1);
+		} catch (IllegalStateException e) {
+			Mockito.verifyZeroInteractions(appender);
+			return;
+		} catch (Throwable t) {
+			Assert.fail("Threw " + t.getClass().getName());
+		}
+		Assert.fail("Did not throw");
+	}
+	
 	@Test
 	public void testPushKeyInArray() throws IOException {
 		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
@@ -933,4 +951,91 @@ public class SafeJsonScribeTest extends AbstractJsonScribeTest {
 		scribe.pushInscription(inscriptionB);
 	}
 	
+	@Test
+	public void testGrowsPastInitialDepth() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = new SafeJsonScribe(appender, 1);
+		for (int i = 0; i < 40; i++) {
+			scribe.pushArray();
+		}
+		Assert.assertEquals(40, scribe.getCursor());
+		scribe.pop(0);
+		Assert.assertEquals(0, scribe.getCursor());
+		Mockito.verify(appender, Mockito.times(40)).appendOpenBracket();
+		Mockito.verify(appender, Mockito.times(40)).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidDepth() {
+		new SafeJsonScribe(Mockito.mock(JsonAppender.class), 0);
+	}
+	
+	@Test
+	public void testReset() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender).pushArray().pushArray().nullValue();
+		final JsonScribe result = scribe.reset();
+		Assert.assertEquals(scribe, result);
+		Assert.assertEquals(0, scribe.getCursor());
+		scribe.pushObject().pop();
+		final InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender, Mockito.times(2)).appendOpenBracket();
+		inOrder.verify(appender).appendNull();
+		inOrder.verify(appender).appendOpenBrace();
+		inOrder.verify(appender).appendCloseBrace();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testPushArrayAndConstantsAndPop() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonConstant constant = new JsonConstant("value");
+		getScribe(appender).pushArray().value(constant).value(constant).pop();
+		final InOrder inOrder = Mockito.inOrder(appender);
+		inOrder.verify(appender).appendOpenBracket();
+		inOrder.verify(appender).appendConstant(constant, false);
+		inOrder.verify(appender).appendComma();
+		inOrder.verify(appender).appendConstant(constant, false);
+		inOrder.verify(appender).appendCloseBracket();
+		Mockito.verifyNoMoreInteractions(appender);
+	}
+	
+	@Test
+	public void testNameInArray() throws IOException {
+		final JsonAppender appender = Mockito.mock(JsonAppender.class, Mockito.RETURNS_SELF);
+		final JsonScribe scribe = getScribe(appender).pushArray();
+		Mockito.verify(appender).appendOpenBracket();
+		try {
+			scribe.key(new JsonName("abc"));
+		} catch (IllegalStateException e) {
+			Mockito.verifyNoMoreInteractions(appender);
+			return;
+		}
+		Assert.fail("Did not throw");
+	}
+	
+	@Test
+	public void testInvalidRawValue() throws IOException {
+		final StringBuilder builder = new StringBuilder();
+		final JsonScribe scribe = getScribe(new JsonAppender(builder, new JsonEscaper())).pushArray()
+				.rawValue("{\"a\":1}");
+		for (final String invalid : new String[] {"", "{\"a\":1", "[1,]", "01", "\"a\" \"b\"", "nul", "\"\\u\u0663\u0663\u0663\u0663\""}) {
+			try {
+				scribe.rawValue(invalid);
+				Assert.fail("Did not throw for " + invalid);
+			} catch (IllegalArgumentException e) {
+				Assert.assertEquals("[{\"a\":1}", builder.toString());
+			}
+		}
+		try {
+			scribe.rawValue("x]".getBytes(StandardCharsets.UTF_8), 0, 2);
+			Assert.fail("Did not throw");
+		} catch (IllegalArgumentException e) {
+			Assert.assertEquals("[{\"a\":1}", builder.toString());
+		}
+		scribe.rawValue(" 2 ".toCharArray(), 0, 3).pop();
+		Assert.assertEquals("[{\"a\":1}, 2 ]", builder.toString());
+	}
+	
 }
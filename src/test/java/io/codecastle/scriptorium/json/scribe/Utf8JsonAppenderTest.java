@@ -0,0 +1,391 @@
+/*
+ * Copyright 2018 Doug Valenta.
+ * Licensed under the terms of the MIT License.
+ */
+package io.codecastle.scriptorium.json.scribe;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Doug Valenta
+ */
+public class Utf8JsonAppenderTest {
+
+	private static String toString(final ByteArrayOutputStream stream) {
+		return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testTokens() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.appendOpenBracket().appendOpenBrace().appendQuote().appendCloseKey()
+				.appendEmptyObject().appendComma().appendEmptyArray().appendComma()
+				.appendNull().appendComma().appendTrue().appendComma().appendFalse().appendComma()
+				.appendBoolean(true).appendCloseBrace().appendCloseBracket();
+		appender.flush();
+		Assert.assertEquals("[{\"\":{},[],null,true,false,true}]", toString(stream));
+	}
+
+	@Test
+	public void testNumbers() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.appendNumber(12345).appendComma()
+				.appendNumber(-12345L).appendComma()
+				.appendNumber(1.2345f).appendComma()
+				.appendNumber(1.2345).appendComma()
+				.appendNumber(new BigInteger("12345")).appendComma()
+				.appendNumber(new BigDecimal("1.2345"));
+		appender.flush();
+		Assert.assertEquals("12345,-12345,1.2345,1.2345,12345,1.2345", toString(stream));
+	}
+
+	@Test
+	public void testNumberExtremesAcrossBlocks() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			appender.appendNumber(Long.MIN_VALUE).appendComma().appendNumber(Integer.MAX_VALUE).appendComma();
+			expected.append(Long.MIN_VALUE).append(',').append(Integer.MAX_VALUE).append(',');
+		}
+		appender.appendNumber(0);
+		expected.append(0);
+		appender.flush();
+		Assert.assertEquals(expected.toString(), toString(stream));
+	}
+
+	@Test
+	public void testBulkNumbersAcrossBlocks() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final int[] ints = new int[] {Integer.MIN_VALUE, 0, 7, Integer.MAX_VALUE};
+		final long[] longs = new long[] {Long.MIN_VALUE, Long.MAX_VALUE, -1L, Long.MIN_VALUE};
+		final float[] floats = new float[] {0.1f, Float.NaN};
+		final double[] doubles = new double[] {Double.MIN_VALUE, Double.POSITIVE_INFINITY, 2.5};
+		final boolean[] booleans = new boolean[] {false, true};
+		appender.appendNumbers(ints, 0, 4).appendComma().appendNumbers(longs, 1, 4).appendComma()
+				.appendNumbers(floats, 0, 2).appendComma().appendNumbers(doubles, 0, 3).appendComma()
+				.appendBooleans(booleans, 0, 2).appendNumbers(ints, 0, 0);
+		appender.flush();
+		Assert.assertEquals("-2147483648,0,7,2147483647,9223372036854775807,-1,-9223372036854775808,"
+				+ "0.1,null,4.9E-324,null,2.5,false,true", toString(stream));
+	}
+
+	@Test
+	public void testBigNumbersAcrossBlocks() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64,
+				JsonDecimalFormat.SHORTEST.withNotation(JsonDecimalFormat.Notation.PLAIN));
+		final BigInteger huge = BigInteger.TEN.pow(2000).subtract(BigInteger.valueOf(3));
+		appender.appendNumber(new BigDecimal("-1.5E+3")).appendComma().appendNumber(new BigDecimal("0.000000120"))
+				.appendComma().appendNumber(new BigDecimal("1E+100")).appendComma().appendNumber(huge);
+		appender.flush();
+		Assert.assertEquals("-1500,0.000000120,1" + new String(new char[100]).replace('\0', '0') + "," + huge,
+				toString(stream));
+	}
+
+	@Test
+	public void testTemporalsAndUuidsAcrossBlocks() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			final Instant instant = Instant.ofEpochSecond(1541293323L + i * 40000L, i * 1000);
+			final UUID uuid = new UUID(i * 0x123456789abcdefL, -i);
+			appender.appendTimestamp(instant).appendComma()
+					.appendTimestamp(instant.atOffset(ZoneOffset.ofHours(i - 5))).appendComma()
+					.appendDate(LocalDate.ofEpochDay(i * 1000)).appendComma()
+					.appendUuid(uuid).appendComma();
+			expected.append('"').append(instant).append("\",\"")
+					.append(JsonDateTime.toString(instant.atOffset(ZoneOffset.ofHours(i - 5)))).append("\",\"")
+					.append(LocalDate.ofEpochDay(i * 1000)).append("\",\"").append(uuid).append("\",");
+		}
+		appender.appendTimestamp(OffsetDateTime.of(10000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC));
+		appender.flush();
+		Assert.assertEquals(expected + "\"+10000-01-01T00:00:00Z\"", toString(stream));
+	}
+
+	@Test
+	public void testBinaryAcrossBlocks() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final byte[] bytes = new byte[JsonAppender.BINARY_CHUNK_LENGTH + 100];
+		new Random(12345).nextBytes(bytes);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		appender.appendBase64(bytes, 0, bytes.length).appendComma().appendBase64(new ByteArrayInputStream(bytes))
+				.appendComma().appendHex(direct);
+		appender.flush();
+		final String base64 = Base64.getEncoder().encodeToString(bytes);
+		Assert.assertEquals("\"" + base64 + "\",\"" + base64 + "\",\"" + JsonBinary.toHexString(bytes, 0, bytes.length)
+				+ "\"", toString(stream));
+	}
+
+	@Test
+	public void testRawAcrossBlocks() throws IOException {
+		final StringBuilder text = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			text.append("\"\u00e9\ud83d\ude00\\n\",").append(i).append(',');
+		}
+		text.append("null]");
+		final byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes).flip();
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		appender.appendRaw(bytes, 0, bytes.length).appendComma().appendRaw(direct).appendComma()
+				.appendRaw(text.toString().toCharArray(), 0, text.length()).appendComma()
+				.appendRaw(text, 0, text.length());
+		appender.flush();
+		Assert.assertEquals(text + "," + text + "," + text + "," + text, toString(stream));
+		Assert.assertEquals(0, direct.position());
+	}
+
+	@Test
+	public void testRawBytesAreNotDecoded() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final byte[] bytes = new byte[] {'"', (byte) 0xc3, (byte) 0xa9, (byte) 0xff, '"'};
+		appender.appendRaw(bytes, 0, bytes.length).appendComma().appendRaw(ByteBuffer.wrap(bytes, 1, 2));
+		appender.flush();
+		Assert.assertArrayEquals(new byte[] {'"', (byte) 0xc3, (byte) 0xa9, (byte) 0xff, '"', ',', (byte) 0xc3,
+				(byte) 0xa9}, stream.toByteArray());
+	}
+
+	@Test
+	public void testRawBufferPositionWhenWriteFails() throws IOException {
+		final OutputStream stream = new OutputStream() {
+			@Override
+			public void write(final int b) throws IOException {
+				throw new IOException("closed");
+			}
+		};
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(200);
+		direct.position(10);
+		try {
+			appender.appendRaw(direct);
+			Assert.fail("Did not throw");
+		} catch (IOException e) {
+			Assert.assertEquals(10, direct.position());
+			Assert.assertEquals(200, direct.limit());
+		}
+	}
+
+	@Test
+	public void testTextAcrossBlocks() throws IOException {
+		final StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			text.append("\u00e9\ud83d\ude00\"\n").append(i);
+		}
+		final String escaped = text.toString().replace("\"", "\\\"").replace("\n", "\\n");
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		appender.escape(new StringReader(text.toString())).appendComma()
+				.escape(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+		appender.flush();
+		Assert.assertEquals(escaped + "," + escaped, toString(stream));
+	}
+
+	@Test
+	public void testFloatingPointNumbers() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.appendNumber(2.82879384806159E17).appendComma().appendNumber(0.1f).appendComma()
+				.appendNumber(Double.MIN_VALUE).appendComma().appendNumber(Float.POSITIVE_INFINITY);
+		appender.flush();
+		Assert.assertEquals("2.82879384806159E17,0.1,4.9E-324,Infinity", toString(stream));
+	}
+
+	@Test
+	public void testFloatingPointNumbersWithDecimalFormat() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64, JsonDecimalFormat.significant(3));
+		appender.appendNumber(2.82879384806159E17).appendComma().appendNumber(0.1f).appendComma()
+				.appendNumber(Double.MIN_VALUE).appendComma().appendNumber(-0.0012345).appendComma()
+				.appendNumbers(new double[] {123456.0, Double.NaN}, 0, 2).appendComma()
+				.appendNumbers(new float[] {9.999f}, 0, 1);
+		appender.flush();
+		Assert.assertEquals("283000000000000000,0.1,0,-0.00123,123000,null,10", toString(stream));
+	}
+
+	@Test
+	public void testEscapeMultiByteCharacters() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.escape("aéД€😀\"");
+		appender.flush();
+		Assert.assertArrayEquals("aéД€😀\\\"".getBytes(StandardCharsets.UTF_8), stream.toByteArray());
+	}
+
+	@Test
+	public void testEscapeSurrogatePairAcrossCalls() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.escape('\ud83d').escape('\ude00');
+		appender.flush();
+		Assert.assertArrayEquals("😀".getBytes(StandardCharsets.UTF_8), stream.toByteArray());
+	}
+
+	@Test
+	public void testEscapeUnpairedSurrogates() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.escape("a\ude00b\ud83dc").escape('\ud83d').appendQuote();
+		appender.flush();
+		Assert.assertEquals("a?b?c?\"", toString(stream));
+	}
+
+	@Test
+	public void testEscapeCharArray() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			text.append("plain text éД€😀 \"quoted\"\n");
+		}
+		final char[] chars = text.toString().toCharArray();
+		final JsonAppender result = appender.escape(chars, 0, chars.length);
+		Assert.assertEquals(appender, result);
+		appender.flush();
+		Assert.assertEquals(text.toString().replace("\"", "\\\"").replace("\n", "\\n"), toString(stream));
+	}
+
+	@Test
+	public void testEscapeCharArrayAfterHighSurrogate() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.escape('\ud83d').escape(new char[] { '\ude00', 'a' }, 0, 2);
+		appender.escape('\ud83d').escape("abcdef".toCharArray(), 0, 6);
+		appender.flush();
+		Assert.assertEquals("😀a?abcdef", toString(stream));
+	}
+
+	@Test
+	public void testEscapeLongStringWithSurrogatePairAcrossChunks() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final StringBuilder text = new StringBuilder();
+		while (text.length() < JsonAppender.SCRATCH_LENGTH - 1) {
+			text.append('a');
+		}
+		text.append("😀\"é");
+		while (text.length() < JsonAppender.SCRATCH_LENGTH * 2 + 5) {
+			text.append('b');
+		}
+		appender.escape(text.toString());
+		appender.flush();
+		Assert.assertEquals(text.toString().replace("\"", "\\\""), toString(stream));
+	}
+
+	@Test
+	public void testEscapeCharArrayWithOtherEscaper() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper() {
+			@Override
+			public void escape(final char character, final Appendable appendable) throws IOException {
+				if (character == '/') {
+					appendable.append("\\/");
+				} else {
+					super.escape(character, appendable);
+				}
+			}
+			@Override
+			public boolean isEscaped(final char character) {
+				return character == '/' || super.isEscaped(character);
+			}
+		});
+		appender.escape("a/b\"c/d".toCharArray(), 0, 7);
+		appender.flush();
+		Assert.assertEquals("a\\/b\\\"c\\/d", toString(stream));
+	}
+
+	@Test
+	public void testWritesWholeBlocks() throws IOException {
+		final List<Integer> writes = new ArrayList<>();
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(final byte[] bytes, final int offset, final int length) {
+				writes.add(length);
+				super.write(bytes, offset, length);
+			}
+		};
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper(), 64);
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			appender.appendNull().appendComma();
+			expected.append("null,");
+		}
+		Assert.assertEquals(3, writes.size());
+		Assert.assertEquals(Integer.valueOf(64), writes.get(0));
+		appender.flush();
+		Assert.assertEquals(expected.toString(), toString(stream));
+	}
+
+	@Test
+	public void testNoOutputUntilFlush() throws IOException {
+		final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(stream, new JsonEscaper());
+		appender.appendOpenBrace().appendCloseBrace();
+		Assert.assertEquals(0, stream.size());
+		appender.flush();
+		Assert.assertEquals("{}", toString(stream));
+	}
+
+	@Test
+	public void testReset() throws IOException {
+		final ByteArrayOutputStream first = new ByteArrayOutputStream();
+		final Utf8JsonAppender appender = new Utf8JsonAppender(first, new JsonEscaper());
+		appender.appendNumber(1).escape('\ud83d');
+		final ByteArrayOutputStream second = new ByteArrayOutputStream();
+		final Utf8JsonAppender result = appender.reset(second);
+		Assert.assertEquals(appender, result);
+		appender.escape("a").appendNumber(2);
+		appender.flush();
+		Assert.assertEquals(0, first.size());
+		Assert.assertEquals("a2", toString(second));
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testResetWithAppendable() {
+		new Utf8JsonAppender(new ByteArrayOutputStream(), new JsonEscaper()).reset(new StringBuilder());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testResetWithNullStream() {
+		new Utf8JsonAppender(new ByteArrayOutputStream(), new JsonEscaper()).reset((OutputStream) null);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testNullStream() {
+		new Utf8JsonAppender(null, new JsonEscaper());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBufferTooSmall() {
+		new Utf8JsonAppender(new ByteArrayOutputStream(), new JsonEscaper(), 63);
+	}
+
+}